@@ -5,6 +5,7 @@ import xyz.firestige.deploy.domain.task.CheckpointRepository;
 import xyz.firestige.deploy.domain.task.TaskAggregate;
 import xyz.firestige.deploy.domain.task.TaskCheckpoint;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -52,6 +53,21 @@ public class CheckpointService {
         }
     }
 
+    /**
+     * 保存检查点（基于已完成 Stage 集合，Stage 可并行完成）
+     *
+     * @param task 任务聚合
+     * @param completedStageNames 已完成的 Stage 名称集合（含从检查点恢复的 Stage）
+     */
+    public void saveCheckpoint(TaskAggregate task, Collection<String> completedStageNames) {
+        task.recordCheckpoint(completedStageNames);
+
+        TaskCheckpoint checkpoint = task.getCheckpoint();
+        if (checkpoint != null) {
+            store.put(task.getTaskId(), checkpoint);
+        }
+    }
+
     /**
      * 加载检查点（用于 retry 恢复）
      * <p>
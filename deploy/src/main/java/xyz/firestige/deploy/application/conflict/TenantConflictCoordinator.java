@@ -1,6 +1,11 @@
 package xyz.firestige.deploy.application.conflict;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -14,6 +19,7 @@ import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.task.TaskAggregate;
+import xyz.firestige.deploy.infrastructure.lock.TenantLockManager;
 import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
 
 /**
@@ -23,9 +29,11 @@ import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
  * 1. 检查租户冲突（创建 Plan 前）
  * 2. 注册租户锁（执行 Task 前）
  * 3. 释放租户锁（Task 完成后）
+ * 4. 预占 Plan 的租户集合（多实例间的分布式锁，粗粒度策略下同时批量注册本实例租户锁，每个 Plan 一次调用），按任务释放
  * <p>
- * 依赖（1个）：
- * - TenantConflictManager：租户冲突管理器
+ * 依赖：
+ * - TenantConflictManager：租户冲突管理器（本实例内）
+ * - TenantLockManager：分布式租户锁（可选，跨实例）
  * <p>
  * 设计说明：
  * - 聚焦于租户级别的冲突检测和协调
@@ -39,11 +47,26 @@ public class TenantConflictCoordinator {
     private static final Logger logger = LoggerFactory.getLogger(TenantConflictCoordinator.class);
 
     private final TenantConflictManager conflictManager;
+    private final TenantLockManager distributedLock;
+    private final Duration lockTtl;
 
     public TenantConflictCoordinator(TenantConflictManager conflictManager) {
+        this(conflictManager, null, null);
+    }
+
+    /**
+     * @param distributedLock 分布式租户锁（为 null 时只做本实例内冲突检测）
+     * @param lockTtl         分布式锁 TTL
+     */
+    public TenantConflictCoordinator(TenantConflictManager conflictManager,
+                                     TenantLockManager distributedLock,
+                                     Duration lockTtl) {
         this.conflictManager = conflictManager;
-        
-        logger.info("[TenantConflictCoordinator] 初始化完成");
+        this.distributedLock = distributedLock;
+        this.lockTtl = lockTtl;
+
+        logger.info("[TenantConflictCoordinator] 初始化完成，分布式锁: {}",
+            distributedLock != null ? distributedLock.getClass().getSimpleName() : "无");
     }
 
     /**
@@ -114,4 +137,75 @@ public class TenantConflictCoordinator {
     public TaskId getConflictingTaskId(TenantId tenantId) {
         return conflictManager.getConflictingTaskId(tenantId);
     }
+
+    /**
+     * 预占 Plan 的租户集合（分布式锁 + 本实例租户锁，一次调用）
+     * <p>
+     * COARSE_GRAINED 策略全有或全无：任一租户被其他实例或本实例的其他任务占用则不预占任何租户，
+     * 本实例内通过 {@link TenantConflictManager#tryRegisterAll} 一次性注册，不会出现前面的任务已开始执行、
+     * 后面的任务才发现冲突的部分执行；FINE_GRAINED 策略只预占未被占用的分布式锁，本实例租户锁在任务执行前逐个注册。
+     * 同一任务重复预占（恢复/重试）视为成功。
+     *
+     * @param tasks Plan 中待执行的任务
+     * @return 未能预占的租户（这些租户的任务应跳过）
+     */
+    public Set<TenantId> reservePlanTenants(List<TaskAggregate> tasks) {
+        if (tasks.isEmpty()) {
+            return Set.of();
+        }
+        Map<TenantId, TaskId> owners = owners(tasks);
+        boolean allOrNothing = conflictManager.getPolicy() == TenantConflictManager.ConflictPolicy.COARSE_GRAINED;
+        if (distributedLock != null) {
+            List<TenantId> conflicts = distributedLock.tryAcquireAll(owners, lockTtl, allOrNothing);
+            if (!conflicts.isEmpty()) {
+                logger.warn("[TenantConflictCoordinator] 租户已被其他实例占用: {}", conflicts);
+                return allOrNothing ? owners.keySet() : new HashSet<>(conflicts);
+            }
+        }
+        if (allOrNothing) {
+            List<TenantId> conflicts = conflictManager.tryRegisterAll(owners);
+            if (!conflicts.isEmpty()) {
+                logger.warn("[TenantConflictCoordinator] 租户已被本实例其他任务占用: {}", conflicts);
+                releasePlanTenants(tasks);
+                return owners.keySet();
+            }
+        }
+        logger.debug("[TenantConflictCoordinator] 已预占 Plan 租户: {}", owners.size());
+        return Set.of();
+    }
+
+    /**
+     * 释放单个任务预占的分布式租户锁（任务结束、失败、取消或未能执行后调用，只释放仍由该任务持有的锁）
+     *
+     * @param task 任务聚合
+     */
+    public void releaseTaskTenant(TaskAggregate task) {
+        if (distributedLock == null) {
+            return;
+        }
+        distributedLock.releaseAll(Map.of(task.getTenantId(), task.getTaskId()));
+        logger.debug("[TenantConflictCoordinator] 已释放任务租户: taskId={}, tenantId={}",
+            task.getTaskId(), task.getTenantId());
+    }
+
+    /**
+     * 释放 Plan 预占的租户集合（只释放仍由对应任务持有的锁）
+     *
+     * @param tasks Plan 的任务
+     */
+    public void releasePlanTenants(List<TaskAggregate> tasks) {
+        if (distributedLock == null || tasks.isEmpty()) {
+            return;
+        }
+        distributedLock.releaseAll(owners(tasks));
+        logger.debug("[TenantConflictCoordinator] 已释放 Plan 租户: {}", tasks.size());
+    }
+
+    private static Map<TenantId, TaskId> owners(List<TaskAggregate> tasks) {
+        Map<TenantId, TaskId> owners = new LinkedHashMap<>(tasks.size() * 4 / 3 + 1);
+        for (TaskAggregate task : tasks) {
+            owners.put(task.getTenantId(), task.getTaskId());
+        }
+        return owners;
+    }
 }
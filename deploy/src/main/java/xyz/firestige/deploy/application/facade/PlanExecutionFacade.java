@@ -1,6 +1,7 @@
 package xyz.firestige.deploy.application.facade;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
@@ -11,7 +12,10 @@ import xyz.firestige.deploy.application.lifecycle.PlanLifecycleService;
 import xyz.firestige.deploy.application.orchestration.TaskExecutionOrchestrator;
 import xyz.firestige.deploy.application.task.TaskOperationService;
 import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.task.TaskAggregate;
+import xyz.firestige.deploy.domain.task.TaskStatus;
 import xyz.firestige.deploy.infrastructure.execution.TaskExecutor;
 
 /**
@@ -74,12 +78,41 @@ public class PlanExecutionFacade {
         List<TaskAggregate> tasks = taskOperationService.getTasksByPlanId(planId);
 
         // 3. 编排执行
+        Set<TenantId> unreserved = conflictCoordinator.reservePlanTenants(tasks);
         orchestrator.orchestrate(
             planId,
             tasks,
             createExecuteAction(),
             "执行",
-            this::checkAndRegisterConflict
+            task -> checkAndRegisterConflict(task, unreserved)
+        );
+    }
+
+    /**
+     * 执行运行中追加的任务（给 PlanTasksAppendedListener 使用）
+     * <p>
+     * 流式接收时 Plan 启动后继续追加的任务，不重复调度启动时已提交的任务
+     *
+     * @param planId  Plan ID
+     * @param taskIds 追加的 Task ID
+     */
+    public void executeAppendedTasks(PlanId planId, List<TaskId> taskIds) {
+        logger.info("[PlanExecutionFacade] 执行追加任务: {}, 数量: {}", planId, taskIds.size());
+
+        // 1. 验证 Plan
+        planLifecycleService.getAndValidatePlan(planId);
+
+        // 2. 查询追加的 Task
+        List<TaskAggregate> tasks = taskOperationService.getTasks(taskIds);
+
+        // 3. 编排执行
+        Set<TenantId> unreserved = conflictCoordinator.reservePlanTenants(tasks);
+        orchestrator.orchestrate(
+            planId,
+            tasks,
+            createExecuteAction(),
+            "执行",
+            task -> checkAndRegisterConflict(task, unreserved)
         );
     }
 
@@ -100,12 +133,13 @@ public class PlanExecutionFacade {
         List<TaskAggregate> tasks = taskOperationService.getTasksByPlanId(planId);
 
         // 3. 编排恢复（实际调用 retry(fromCheckpoint=true)）
+        Set<TenantId> unreserved = conflictCoordinator.reservePlanTenants(tasks);
         orchestrator.orchestrate(
             planId,
             tasks,
             createResumeAction(),
             "恢复",
-            this::checkAndRegisterConflict
+            task -> checkAndRegisterConflict(task, unreserved)
         );
     }
 
@@ -125,12 +159,13 @@ public class PlanExecutionFacade {
         List<TaskAggregate> tasks = taskOperationService.getTasksByPlanId(planId);
 
         // 3. 编排重试
+        Set<TenantId> unreserved = conflictCoordinator.reservePlanTenants(tasks);
         orchestrator.orchestrate(
             planId,
             tasks,
             createRetryAction(fromCheckpoint),
             "重试",
-            this::checkAndRegisterConflict
+            task -> checkAndRegisterConflict(task, unreserved)
         );
     }
 
@@ -149,12 +184,13 @@ public class PlanExecutionFacade {
         List<TaskAggregate> tasks = taskOperationService.getTasksByPlanId(planId);
 
         // 3. 编排回滚
+        Set<TenantId> unreserved = conflictCoordinator.reservePlanTenants(tasks);
         orchestrator.orchestrate(
             planId,
             tasks,
             createRollbackAction(),
             "回滚",
-            this::checkAndRegisterConflict
+            task -> checkAndRegisterConflict(task, unreserved)
         );
     }
 
@@ -164,43 +200,69 @@ public class PlanExecutionFacade {
      * 创建执行动作（策略模式）
      */
     private BiConsumer<TaskExecutor, TaskAggregate> createExecuteAction() {
-        return (executor, task) -> executor.execute();
+        return releasingTenantWhenDone((executor, task) -> executor.execute());
     }
 
     /**
      * 创建恢复动作（策略模式）
      */
     private BiConsumer<TaskExecutor, TaskAggregate> createResumeAction() {
-        return (executor, task) -> executor.retry(true);
+        return releasingTenantWhenDone((executor, task) -> executor.retry(true));
     }
 
     /**
      * 创建重试动作（策略模式）
      */
     private BiConsumer<TaskExecutor, TaskAggregate> createRetryAction(boolean fromCheckpoint) {
-        return (executor, task) -> executor.retry(fromCheckpoint);
+        return releasingTenantWhenDone((executor, task) -> executor.retry(fromCheckpoint));
     }
 
     /**
      * 创建回滚动作（策略模式）
      */
     private BiConsumer<TaskExecutor, TaskAggregate> createRollbackAction() {
-        return (executor, task) -> executor.invokeRollback();
+        return releasingTenantWhenDone((executor, task) -> executor.invokeRollback());
+    }
+
+    /**
+     * 动作结束后释放该任务预占的分布式租户锁
+     * <p>
+     * 本实例租户锁由 TaskExecutor 在终态时释放；分布式锁按 Plan 预占，需在每个任务结束时单独释放，
+     * 否则同一租户的后续 Plan 一直无法获取。暂停的任务保留租户锁，恢复时重新预占视为续期
+     */
+    private BiConsumer<TaskExecutor, TaskAggregate> releasingTenantWhenDone(BiConsumer<TaskExecutor, TaskAggregate> action) {
+        return (executor, task) -> {
+            try {
+                action.accept(executor, task);
+            } finally {
+                if (task.getStatus() != TaskStatus.PAUSED) {
+                    conflictCoordinator.releaseTaskTenant(task);
+                }
+            }
+        };
     }
 
     /**
      * 检查并注册冲突（冲突回调）
      * <p>
+     * 先排除未能预占分布式锁的租户，再注册本实例内的租户锁
+     * <p>
      * 返回 true 表示无冲突，允许执行
      * 返回 false 表示有冲突，跳过执行
      */
-    private Boolean checkAndRegisterConflict(TaskAggregate task) {
+    private Boolean checkAndRegisterConflict(TaskAggregate task, Set<TenantId> unreserved) {
+        if (unreserved.contains(task.getTenantId())) {
+            logger.warn("[PlanExecutionFacade] Task {} 租户未能预占: {}",
+                task.getTaskId(), task.getTenantId());
+            return false;
+        }
         boolean success = conflictCoordinator.checkAndRegisterTask(task);
         
-        // 注册失败时需要释放（orchestrator 的 finally 会处理）
+        // 注册失败时任务不会执行，释放为其预占的分布式锁
         if (!success) {
             logger.warn("[PlanExecutionFacade] Task {} 租户冲突: {}", 
                 task.getTaskId(), task.getTenantId());
+            conflictCoordinator.releaseTaskTenant(task);
         }
         
         return success;
@@ -1,5 +1,6 @@
 package xyz.firestige.deploy.application.lifecycle;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -92,6 +93,43 @@ public class PlanLifecycleService {
         }
     }
 
+    /**
+     * 流式创建部署计划（超大计划，边接收边执行）
+     * <p>
+     * 不开启方法级事务：Plan 在接收过程中已启动，已接收的批次不随后续失败回滚
+     *
+     * @param configs 租户配置迭代器
+     * @return Plan 创建结果（PlanInfo 不含 Task 列表）
+     */
+    public PlanCreationResult createDeploymentPlan(@NotNull Iterator<TenantConfig> configs) {
+        logger.info("[PlanLifecycleService] 流式创建部署计划");
+
+        try {
+            PlanCreationContext context = deploymentPlanCreator.createPlan(configs);
+
+            if (context.hasValidationErrors()) {
+                if (context.getPlanId() != null) {
+                    logger.warn("[PlanLifecycleService] 流式接收中止，已接收的租户继续执行，planId: {}", context.getPlanId());
+                }
+                return PlanCreationResult.validationFailure(context.getValidationSummary());
+            }
+            return PlanCreationResult.success(context.getPlanInfo());
+
+        } catch (PlanCreationException e) {
+            logger.error("[PlanLifecycleService] 流式创建部署计划失败", e);
+            return PlanCreationResult.failure(
+                    FailureInfo.of(ErrorType.SYSTEM_ERROR, e.getMessage()),
+                    "创建失败: " + e.getMessage()
+            );
+        } catch (Exception e) {
+            logger.error("[PlanLifecycleService] 流式创建部署计划发生未知错误", e);
+            return PlanCreationResult.failure(
+                    FailureInfo.of(ErrorType.SYSTEM_ERROR, e.getMessage()),
+                    "系统错误: " + e.getMessage()
+            );
+        }
+    }
+
     /**
      * 暂停部署计划
      *
@@ -138,7 +138,8 @@ public class TaskExecutionOrchestrator {
 
         logger.info("[TaskExecutionOrchestrator] Task {} 已通过冲突检查，准备提交 {}", taskId, actionName);
 
-        // 2. 异步提交执行
+        // 2. 异步提交执行（记录入队时间，用于排队等待指标）
+        long queuedAt = System.nanoTime();
         executorService.submit(() -> {
             try {
                 // 2.1 获取并发许可（阻塞直到有可用许可）
@@ -146,11 +147,12 @@ public class TaskExecutionOrchestrator {
                 concurrencyLimit.acquire();
                 logger.info("[TaskExecutionOrchestrator] Task {} 获得并发许可，开始 {}", taskId, actionName);
 
-                // 2.2 准备执行上下文
+                // 2.2 准备执行上下文（租户锁租约由 TaskExecutor 在开始执行时刷新，排队期间过期的租约在此重新获取）
                 TaskWorkerCreationContext context = createExecutionContext(planId, task);
 
                 // 2.3 创建 TaskExecutor
                 TaskExecutor executor = taskWorkerFactory.create(context);
+                executor.markQueued(queuedAt);
 
                 // 2.4 执行传入的策略（execute/resume/retry/rollback）
                 executorAction.accept(executor, task);
@@ -10,6 +10,7 @@ import xyz.firestige.deploy.domain.task.TaskAggregate;
 import xyz.firestige.deploy.domain.task.TaskRepository;
 import xyz.firestige.deploy.domain.plan.event.PlanCompletedEvent;
 import xyz.firestige.deploy.domain.plan.event.PlanFailedEvent;
+import xyz.firestige.deploy.application.conflict.TenantConflictCoordinator;
 import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
 
 import java.util.List;
@@ -34,12 +35,15 @@ public class PlanCompletionListener {
     private static final Logger logger = LoggerFactory.getLogger(PlanCompletionListener.class);
 
     private final TenantConflictManager conflictManager;
+    private final TenantConflictCoordinator conflictCoordinator;
     private final TaskRepository taskRepository;
 
     public PlanCompletionListener(
             TenantConflictManager conflictManager,
+            TenantConflictCoordinator conflictCoordinator,
             TaskRepository taskRepository) {
         this.conflictManager = conflictManager;
+        this.conflictCoordinator = conflictCoordinator;
         this.taskRepository = taskRepository;
     }
 
@@ -70,10 +74,11 @@ public class PlanCompletionListener {
             logger.info("[PlanCompletionListener] Plan {} 包含 {} 个租户: {}",
                     planId, tenantIds.size(), tenantIds);
 
-            // 2. 释放所有租户锁
-            for (TenantId tenantId : tenantIds) {
-                conflictManager.releaseTask(tenantId);
+            // 2. 兜底释放仍由本 Plan 任务持有的租户锁（本实例 + 分布式；正常情况下任务结束时已逐个释放）
+            for (TaskAggregate task : tasks) {
+                conflictManager.releaseTask(task.getTenantId(), task.getTaskId());
             }
+            conflictCoordinator.releasePlanTenants(tasks);
 
             logger.info("[PlanCompletionListener] Plan {} 的所有租户锁已释放", planId);
 
@@ -110,10 +115,11 @@ public class PlanCompletionListener {
             logger.info("[PlanCompletionListener] Plan {} 失败，包含 {} 个租户: {}",
                     planId, tenantIds.size(), tenantIds);
 
-            // 2. 释放所有租户锁
-            for (TenantId tenantId : tenantIds) {
-                conflictManager.releaseTask(tenantId);
+            // 2. 兜底释放仍由本 Plan 任务持有的租户锁（本实例 + 分布式；正常情况下任务结束时已逐个释放）
+            for (TaskAggregate task : tasks) {
+                conflictManager.releaseTask(task.getTenantId(), task.getTaskId());
             }
+            conflictCoordinator.releasePlanTenants(tasks);
 
             logger.info("[PlanCompletionListener] Plan {} 的所有租户锁已释放", planId);
 
@@ -0,0 +1,49 @@
+package xyz.firestige.deploy.application.orchestration.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import xyz.firestige.deploy.application.facade.PlanExecutionFacade;
+import xyz.firestige.deploy.domain.plan.event.PlanTasksAppendedEvent;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+
+/**
+ * Plan 追加任务事件监听器
+ * <p>
+ * 职责：
+ * 1. 监听 PlanTasksAppendedEvent（流式接收时 Plan 启动后追加的任务）
+ * 2. 委托给 PlanExecutionFacade 调度这批任务
+ * <p>
+ * 调用链：
+ * PlanAggregate.addTasks() → PlanDomainService.addTasksToPlan() [发布事件]
+ *   → PlanTasksAppendedListener.onTasksAppended() [监听器委托]
+ *   → PlanExecutionFacade.executeAppendedTasks() [编排执行]
+ */
+@Component
+public class PlanTasksAppendedListener {
+    private static final Logger logger = LoggerFactory.getLogger(PlanTasksAppendedListener.class);
+
+    private final PlanExecutionFacade planExecutionFacade;
+
+    public PlanTasksAppendedListener(PlanExecutionFacade planExecutionFacade) {
+        this.planExecutionFacade = planExecutionFacade;
+    }
+
+    /**
+     * 处理 Plan 追加任务事件
+     *
+     * @param event Plan 追加任务事件
+     */
+    @EventListener
+    public void onTasksAppended(PlanTasksAppendedEvent event) {
+        PlanId planId = event.getPlanId();
+        logger.info("[PlanTasksAppendedListener] 收到 Plan 追加任务事件: {}, 数量: {}", planId, event.getTaskIds().size());
+
+        try {
+            planExecutionFacade.executeAppendedTasks(planId, event.getTaskIds());
+        } catch (Exception e) {
+            logger.error("[PlanTasksAppendedListener] 委托执行追加任务失败: {}", planId, e);
+        }
+    }
+}
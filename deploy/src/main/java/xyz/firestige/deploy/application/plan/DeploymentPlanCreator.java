@@ -9,6 +9,8 @@ import xyz.firestige.deploy.domain.plan.PlanAggregate;
 import xyz.firestige.deploy.domain.plan.PlanDomainService;
 import xyz.firestige.deploy.domain.plan.PlanInfo;
 import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageFactory;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.domain.task.TaskAggregate;
@@ -16,9 +18,18 @@ import xyz.firestige.deploy.domain.task.TaskDomainService;
 import xyz.firestige.deploy.domain.task.TaskInfo;
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
 import xyz.firestige.deploy.domain.task.TaskRuntimeRepository;
+import xyz.firestige.deploy.domain.shared.validation.ValidationError;
 import xyz.firestige.deploy.domain.shared.validation.ValidationSummary;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Component;
 
 /**
@@ -42,6 +53,9 @@ public class DeploymentPlanCreator {
 
     private static final Logger logger = LoggerFactory.getLogger(DeploymentPlanCreator.class);
 
+    /** 租户数达到该值时并行构建 Task，小计划串行避免并行调度开销 */
+    static final int PARALLEL_THRESHOLD = 64;
+
     private final PlanDomainService planDomainService;
     private final TaskDomainService taskDomainService;
     private final StageFactory stageFactory;
@@ -91,8 +105,8 @@ public class DeploymentPlanCreator {
             // Step 3: 创建 Plan
             PlanAggregate plan = planDomainService.createPlan(planId, configs.size(), executorProperties.getMaxConcurrency());
 
-            // Step 4: 为每个租户创建 Task
-            List<TaskInfo> tasks = configs.stream().map(this::createAndLinkTask).map(TaskInfo::from).toList();
+            // Step 4: 为每个租户创建 Task（并行构建，批量登记）
+            List<TaskInfo> tasks = createAndLinkTasks(planId, configs).stream().map(TaskInfo::from).toList();
 
             // Step 5: 标记 Plan 为 READY
             planDomainService.markPlanAsReady(planId);
@@ -113,15 +127,155 @@ public class DeploymentPlanCreator {
         }
     }
 
+    /**
+     * 流式创建部署计划（超大计划）
+     * <p>
+     * 按 {@link ExecutorProperties#getIngestBatchSize()} 分批读取配置：每批校验后立即创建 Task，
+     * 第一批创建完即启动 Plan，后续批次在运行中追加（PlanTasksAppendedEvent 驱动调度），
+     * 早期租户在后续配置仍在接收时就开始执行。内存只持有当前批次与已接收的租户 ID。
+     * <p>
+     * 后续批次校验失败时中止接收（Plan 记录中止原因），返回带 PlanInfo 的校验失败，已接收的租户继续执行。
+     *
+     * @param configs 租户配置迭代器（可为惰性数据源）
+     * @return PlanCreationContext（PlanInfo 不含 Task 列表）
+     * @throws PlanCreationException 如果创建失败
+     */
+    public PlanCreationContext createPlan(Iterator<TenantConfig> configs) {
+        int batchSize = Math.max(1, executorProperties.getIngestBatchSize());
+        List<TenantConfig> batch = nextBatch(configs, batchSize);
+
+        // Step 1: 首批校验通过才创建 Plan
+        ValidationSummary businessValidation = businessValidator.validate(batch);
+        if (businessValidation.hasErrors()) {
+            logger.warn("[DeploymentPlanCreator] 业务规则校验失败，无效配置数: {}",
+                    businessValidation.getInvalidCount());
+            return PlanCreationContext.validationFailure(businessValidation);
+        }
+
+        PlanId planId = extractPlanId(batch);
+        logger.info("[DeploymentPlanCreator] 开始流式创建部署计划，planId: {}, 批大小: {}", planId, batchSize);
+
+        Set<TenantId> accepted = new HashSet<>();
+        try {
+            // 总数未知，接收结束时由 closeIngestion 记录实际任务数
+            planDomainService.createPlan(planId, 0, executorProperties.getMaxConcurrency());
+            planDomainService.openIngestion(planId);
+            try {
+                boolean started = false;
+                while (!batch.isEmpty()) {
+                    ValidationSummary validation = started ? validateBatch(planId, batch, accepted) : businessValidation;
+                    if (validation.hasErrors()) {
+                        logger.warn("[DeploymentPlanCreator] 批次校验失败，中止接收，planId: {}, 已接收租户: {}",
+                                planId, accepted.size());
+                        planDomainService.abortIngestion(planId,
+                                String.format("第 %d 个租户之后的批次校验失败，无效配置数: %d",
+                                        accepted.size(), validation.getInvalidCount()));
+                        return PlanCreationContext.ingestionAborted(
+                                PlanInfo.from(planDomainService.getPlan(planId)), validation);
+                    }
+                    batch.forEach(config -> accepted.add(config.getTenantId()));
+
+                    // 创建并关联本批 Task（运行中追加会触发调度）
+                    createAndLinkTasks(planId, batch);
+
+                    if (!started) {
+                        planDomainService.markPlanAsReady(planId);
+                        planDomainService.startPlan(planId);
+                        started = true;
+                    }
+                    logger.debug("[DeploymentPlanCreator] 批次接收完成，planId: {}, 已接收租户: {}", planId, accepted.size());
+                    batch = nextBatch(configs, batchSize);
+                }
+            } catch (RuntimeException e) {
+                planDomainService.abortIngestion(planId, "接收异常: " + e.getMessage());
+                throw e;
+            }
+            planDomainService.closeIngestion(planId);
+
+            PlanInfo planInfo = PlanInfo.from(planDomainService.getPlan(planId));
+            logger.info("[DeploymentPlanCreator] 部署计划流式创建成功，planId: {}, 租户数量: {}", planId, accepted.size());
+            return PlanCreationContext.success(planInfo);
+
+        } catch (Exception e) {
+            logger.error("[DeploymentPlanCreator] 流式创建部署计划失败，planId: {}, 已接收租户: {}", planId, accepted.size(), e);
+            throw new PlanCreationException("创建部署计划失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 后续批次校验：批内业务规则 + 跨批次租户去重 + Plan ID 一致
+     */
+    private ValidationSummary validateBatch(PlanId planId, List<TenantConfig> batch, Set<TenantId> accepted) {
+        ValidationSummary summary = businessValidator.validate(batch);
+        if (summary.hasErrors()) {
+            return summary;
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        for (TenantConfig config : batch) {
+            if (accepted.contains(config.getTenantId())) {
+                errors.add(new ValidationError("tenantId", "租户ID重复: " + config.getTenantId()));
+            }
+            if (!planId.equals(config.getPlanId())) {
+                errors.add(new ValidationError("planId", "Plan ID 不一致: " + config.getPlanId() + ", 期望: " + planId));
+            }
+        }
+        if (!errors.isEmpty()) {
+            summary.addInvalidConfig(null, errors);
+        }
+        return summary;
+    }
+
+    private static List<TenantConfig> nextBatch(Iterator<TenantConfig> configs, int batchSize) {
+        List<TenantConfig> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && configs.hasNext()) {
+            batch.add(configs.next());
+        }
+        return batch;
+    }
+
     /**
      * 创建并关联 Task 到 Plan
+     * <p>
+     * 两阶段：
+     * 1. 构建：每个租户的聚合、运行时上下文、Stages 互不依赖，租户数达到阈值时在 ForkJoin 公共池并行构建
+     * 2. 登记：聚合与 Stages 批量保存，Plan 只保存一次，TaskCreated 合并为一个批量事件
+     *
+     * @param planId  Plan ID
+     * @param configs 租户配置列表
+     * @return 按配置顺序排列的 Task 聚合
+     */
+    private List<TaskAggregate> createAndLinkTasks(PlanId planId, List<TenantConfig> configs) {
+        Stream<TenantConfig> source = configs.size() >= PARALLEL_THRESHOLD
+                ? configs.parallelStream()
+                : configs.stream();
+        List<PreparedTask> prepared = source.map(this::prepareTask).toList();
+
+        List<TaskAggregate> tasks = new ArrayList<>(prepared.size());
+        Map<TaskId, List<TaskStage>> stages = new HashMap<>(prepared.size() * 2);
+        for (PreparedTask p : prepared) {
+            tasks.add(p.task());
+            stages.put(p.task().getTaskId(), p.stages());
+        }
+
+        taskDomainService.registerTasks(planId, tasks, stages);
+
+        // 关联 Task 到 Plan（聚合间通过 ID 引用）
+        planDomainService.addTasksToPlan(planId, tasks.stream().map(TaskAggregate::getTaskId).toList());
+
+        logger.debug("[DeploymentPlanCreator] Task 创建并关联成功: planId={}, 数量={}", planId, tasks.size());
+        return tasks;
+    }
+
+    /**
+     * 构建单个 Task（聚合 + 运行时上下文 + Stages），不触碰 Plan，可并行调用
      *
      * @param config 租户配置
      */
-    private TaskAggregate createAndLinkTask(TenantConfig config) {
+    private PreparedTask prepareTask(TenantConfig config) {
         PlanId planId = config.getPlanId();
         // 创建 Task 聚合
-        TaskAggregate task = taskDomainService.createTask(planId, config);
+        TaskAggregate task = taskDomainService.newTask(planId, config);
 
         // 创建并保存 TaskRuntimeContext（包含 planVersion）
         TaskRuntimeContext runtimeContext = new TaskRuntimeContext(
@@ -134,15 +288,7 @@ public class DeploymentPlanCreator {
         taskRuntimeRepository.saveContext(task.getTaskId(), runtimeContext);
 
         // 构建 Task 的 Stages
-        List<TaskStage> stages = buildStagesForTask(task, config);
-        taskDomainService.attacheStages(task, stages);
-
-        // 关联 Task 到 Plan（聚合间通过 ID 引用）
-        planDomainService.addTaskToPlan(planId, task.getTaskId());
-
-        logger.debug("[DeploymentPlanCreator] Task 创建并关联成功: {}", task.getTaskId());
-
-        return task;
+        return new PreparedTask(task, buildStagesForTask(task, config));
     }
 
     private List<TaskStage> buildStagesForTask(TaskAggregate task, TenantConfig config) {
@@ -166,4 +312,7 @@ public class DeploymentPlanCreator {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("配置列表为空或缺少 Plan ID"));
     }
+
+    private record PreparedTask(TaskAggregate task, List<TaskStage> stages) {
+    }
 }
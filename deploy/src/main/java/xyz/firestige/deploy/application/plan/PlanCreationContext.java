@@ -43,6 +43,17 @@ public class PlanCreationContext {
         return new PlanCreationContext(false, null, validationSummary);
     }
 
+    /**
+     * 创建流式接收中止的上下文：Plan 已启动并接收了部分租户，后续批次校验失败
+     *
+     * @param planInfo Plan 信息（已接收部分）
+     * @param validationSummary 失败批次的验证摘要
+     * @return PlanCreationContext
+     */
+    public static PlanCreationContext ingestionAborted(PlanInfo planInfo, ValidationSummary validationSummary) {
+        return new PlanCreationContext(false, planInfo, validationSummary);
+    }
+
     public boolean isSuccess() {
         return success;
     }
@@ -4,12 +4,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.task.TaskStatus;
 import xyz.firestige.deploy.domain.task.event.*;
 import xyz.firestige.deploy.infrastructure.persistence.projection.TaskStateProjection;
 import xyz.firestige.deploy.infrastructure.persistence.projection.TaskStateProjectionStore;
 import xyz.firestige.deploy.infrastructure.persistence.projection.TenantTaskIndexStore;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Task 状态投影更新器（事件监听器）
  * 职责：监听任务领域事件并更新查询侧投影（CQRS）
@@ -29,7 +36,26 @@ public class TaskStateProjectionUpdater {
     @EventListener
     public void onTaskCreated(TaskCreatedEvent event) {
         logger.debug("[投影] TaskCreated: taskId={}, tenantId={}", event.getTaskId(), event.getTenantId());
-        TaskStateProjection projection = TaskStateProjection.builder()
+        projectionStore.save(initialProjection(event));
+        indexStore.put(event.getTenantId(), event.getTaskId());
+        logger.info("[投影] TaskCreated persisted: taskId={}, stages={}", event.getTaskId(), event.getStageNames().size());
+    }
+
+    @EventListener
+    public void onTasksCreated(TasksCreatedEvent event) {
+        List<TaskStateProjection> projections = new ArrayList<>(event.size());
+        Map<TenantId, TaskId> index = new LinkedHashMap<>();
+        for (TaskCreatedEvent created : event.getEvents()) {
+            projections.add(initialProjection(created));
+            index.put(created.getTenantId(), created.getTaskId());
+        }
+        projectionStore.saveAll(projections);
+        indexStore.putAll(index);
+        logger.info("[投影] TasksCreated persisted: planId={}, tasks={}", event.getPlanId(), event.size());
+    }
+
+    private TaskStateProjection initialProjection(TaskCreatedEvent event) {
+        return TaskStateProjection.builder()
                 .taskId(event.getTaskId())
                 .tenantId(event.getTenantId())
                 .planId(event.getPlanId())
@@ -38,9 +64,6 @@ public class TaskStateProjectionUpdater {
                 .stageNames(event.getStageNames())
                 .lastCompletedStageIndex(-1)
                 .build();
-        projectionStore.save(projection);
-        indexStore.put(event.getTenantId(), event.getTaskId());
-        logger.info("[投影] TaskCreated persisted: taskId={}, stages={}", event.getTaskId(), event.getStageNames().size());
     }
 
     @EventListener
@@ -21,6 +21,7 @@ import xyz.firestige.deploy.infrastructure.execution.TaskWorkerCreationContext;
 import xyz.firestige.deploy.infrastructure.execution.TaskWorkerFactory;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -236,4 +237,17 @@ public class TaskOperationService {
         logger.debug("[TaskOperationService] 查询 Plan 任务: {}", planId);
         return taskRepository.findByPlanId(planId);
     }
+
+    /**
+     * 根据 Task ID 批量查询任务（不存在的 ID 忽略）
+     *
+     * @param taskIds Task ID 列表
+     * @return 任务列表
+     */
+    public List<TaskAggregate> getTasks(List<TaskId> taskIds) {
+        return taskIds.stream()
+                .map(taskRepository::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
 }
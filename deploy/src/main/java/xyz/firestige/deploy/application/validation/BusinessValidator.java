@@ -9,7 +9,6 @@ import xyz.firestige.deploy.domain.shared.validation.ValidationSummary;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 业务规则校验器
@@ -90,29 +89,25 @@ public class BusinessValidator {
      * 检查租户ID重复
      */
     private List<ValidationError> checkDuplicateTenantIds(List<TenantConfig> configs) {
-        List<ValidationError> errors = new ArrayList<>();
-
-        // 统计租户ID出现次数
-        Map<TenantId, Long> tenantIdCounts = configs.stream()
-                .map(TenantConfig::getTenantId)
-                .collect(Collectors.groupingBy(id -> id, Collectors.counting()));
-
-        // 找出重复的租户ID
-        Set<TenantId> duplicates = tenantIdCounts.entrySet().stream()
-                .filter(entry -> entry.getValue() > 1)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
-
-        if (!duplicates.isEmpty()) {
-            for (TenantId tenantId : duplicates) {
-                errors.add(new ValidationError(
-                        "tenantId",
-                        tenantId.getValue(),
-                        "租户ID重复: " + tenantId
-                ));
+        // 单趟扫描：第二次出现即记为重复（不构建计数 Map）
+        Set<TenantId> seen = new HashSet<>(configs.size() * 4 / 3 + 1);
+        Set<TenantId> duplicates = new LinkedHashSet<>();
+        for (TenantConfig config : configs) {
+            TenantId tenantId = config.getTenantId();
+            if (!seen.add(tenantId)) {
+                duplicates.add(tenantId);
             }
         }
 
+        List<ValidationError> errors = new ArrayList<>(duplicates.size());
+        for (TenantId tenantId : duplicates) {
+            errors.add(new ValidationError(
+                    "tenantId",
+                    tenantId.getValue(),
+                    "租户ID重复: " + tenantId
+            ));
+        }
+
         return errors;
     }
 
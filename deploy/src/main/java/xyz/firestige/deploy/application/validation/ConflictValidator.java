@@ -111,6 +111,24 @@ public class ConflictValidator implements ConfigValidator {
         runningTenants.clear();
     }
 
+    /**
+     * 同批次去重依赖校验顺序与线程本地状态，不能并发
+     */
+    @Override
+    public boolean isConcurrent() {
+        return false;
+    }
+
+    @Override
+    public void beforeBatch() {
+        startBatch();
+    }
+
+    @Override
+    public void afterBatch() {
+        endBatch();
+    }
+
     @Override
     public String getValidatorName() {
         return "ConflictValidator";
@@ -2,6 +2,7 @@ package xyz.firestige.deploy.autoconfigure;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -18,9 +19,11 @@ import xyz.firestige.deploy.infrastructure.persistence.projection.redis.*;
 import xyz.firestige.deploy.infrastructure.persistence.projection.memory.*;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.redis.renewal.KeyRenewalService;
 
 /**
  * 执行器持久化自动配置
@@ -152,9 +155,10 @@ public class ExecutorPersistenceAutoConfiguration {
     @ConditionalOnMissingBean(TenantLockManager.class)
     @ConditionalOnProperty(prefix = "executor.persistence", name = "store-type", havingValue = "redis")
     public TenantLockManager redisTenantLockManager(
-            RedisTemplate<String, String> executorProjectionRedisTemplate) {
+            RedisTemplate<String, String> executorProjectionRedisTemplate,
+            ObjectProvider<KeyRenewalService> keyRenewalService) {
         logger.info("[AutoConfig] 装配 Redis 租户锁管理器（分布式锁）");
-        return new RedisTenantLockManager(executorProjectionRedisTemplate);
+        return new RedisTenantLockManager(executorProjectionRedisTemplate, keyRenewalService.getIfAvailable());
     }
 
     /**
@@ -180,7 +184,13 @@ public class ExecutorPersistenceAutoConfiguration {
             }
             String key = tenantId.getValue();
             String value = taskId.getValue();
-            return locks.putIfAbsent(key, value) == null;
+            String holder = locks.putIfAbsent(key, value);
+            return holder == null || holder.equals(value);
+        }
+
+        @Override
+        public void releaseAll(Map<TenantId, TaskId> owners) {
+            owners.forEach((tenantId, taskId) -> locks.remove(tenantId.getValue(), taskId.getValue()));
         }
 
         @Override
@@ -1,5 +1,6 @@
 package xyz.firestige.deploy.autoconfigure;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -7,25 +8,61 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import xyz.firestige.deploy.config.properties.InfrastructureProperties;
+import xyz.firestige.deploy.infrastructure.discovery.InstanceLatencyTracker;
 import xyz.firestige.deploy.infrastructure.discovery.NacosServiceDiscovery;
 import xyz.firestige.deploy.infrastructure.discovery.ServiceDiscoveryHelper;
+import xyz.firestige.deploy.infrastructure.metrics.MicrometerMetricsRegistry;
+import xyz.firestige.redis.ack.spring.autoconfigure.RedisAckAutoConfiguration;
+import xyz.firestige.redis.ack.spring.http.JdkHttpClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * 基础设施自动装配（Phase1 新增）
  * @updated T-027 完全迁移至 InfrastructureProperties
  */
-@AutoConfiguration
+@AutoConfiguration(before = RedisAckAutoConfiguration.class)
 @EnableConfigurationProperties(InfrastructureProperties.class)
 public class InfrastructureAutoConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(InfrastructureAutoConfiguration.class);
 
+    /**
+     * 共享 JDK HttpClient（Stage 调用与 ACK Verify 复用同一连接池）
+     */
     @Bean
     @ConditionalOnMissingBean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient deployHttpClient(InfrastructureProperties props) {
+        InfrastructureProperties.HttpProperties http = props.getHttp();
+        log.info("[Infrastructure] Building shared HttpClient: connectTimeout={}ms, requestTimeout={}ms, http2={}",
+                http.getConnectTimeoutMillis(), http.getRequestTimeoutMillis(), http.isHttp2Enabled());
+        return JdkHttpClient.newClient(Duration.ofMillis(http.getConnectTimeoutMillis()), http.isHttp2Enabled());
+    }
+
+    /**
+     * RestTemplate 底层使用共享 JDK HttpClient：按 host 复用 keep-alive 连接，优先 HTTP/2，
+     * Stage 调用不必每次重新建立 TCP/TLS 连接
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RestTemplate restTemplate(HttpClient deployHttpClient, InfrastructureProperties props) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(deployHttpClient);
+        requestFactory.setReadTimeout(props.getHttp().getRequestTimeoutMillis());
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * ACK HttpClient：覆盖 redis-ack 默认实现，复用共享 JDK HttpClient 的连接
+     */
+    @Bean(name = "ackHttpClient")
+    @ConditionalOnMissingBean(name = "ackHttpClient")
+    public xyz.firestige.redis.ack.api.HttpClient ackHttpClient(HttpClient deployHttpClient,
+                                                                 InfrastructureProperties props) {
+        return new JdkHttpClient(deployHttpClient, Duration.ofMillis(props.getHttp().getRequestTimeoutMillis()));
     }
 
     @Bean(destroyMethod = "shutdown")  // ✅ 确保 Spring 容器关闭时调用 shutdown()
@@ -65,8 +102,13 @@ public class InfrastructureAutoConfiguration {
     @ConditionalOnMissingBean
     public ServiceDiscoveryHelper serviceDiscoveryHelper(InfrastructureProperties props,
                                                          RestTemplate restTemplate,
-                                                         @org.springframework.beans.factory.annotation.Autowired(required = false) NacosServiceDiscovery nacosServiceDiscovery) {
+                                                         @org.springframework.beans.factory.annotation.Autowired(required = false) NacosServiceDiscovery nacosServiceDiscovery,
+                                                         @org.springframework.beans.factory.annotation.Autowired(required = false) MeterRegistry meterRegistry) {
         log.info("[Infrastructure] Building ServiceDiscoveryHelper (nacosEnabled={})", props.getNacos().isEnabled());
-        return new ServiceDiscoveryHelper(props, nacosServiceDiscovery, restTemplate);
+        InfrastructureProperties.SelectionProperties selection = props.getSelection();
+        InstanceLatencyTracker latencyTracker = new InstanceLatencyTracker(
+                selection.getEwmaAlpha(), selection.getErrorPenalty(), selection.getStatsTtlSeconds(),
+                meterRegistry != null ? new MicrometerMetricsRegistry(meterRegistry) : null);
+        return new ServiceDiscoveryHelper(props, nacosServiceDiscovery, restTemplate, latencyTracker);
     }
 }
@@ -1,13 +1,26 @@
 package xyz.firestige.deploy.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import xyz.firestige.deploy.autoconfigure.ExecutorPersistenceProperties;
 import xyz.firestige.deploy.config.properties.InfrastructureProperties;
 import xyz.firestige.deploy.application.conflict.TenantConflictCoordinator;
 import xyz.firestige.deploy.application.facade.PlanExecutionFacade;
@@ -30,10 +43,12 @@ import xyz.firestige.deploy.facade.converter.TenantConfigConverter;
 import xyz.firestige.deploy.infrastructure.execution.DefaultTaskWorkerFactory;
 import xyz.firestige.deploy.infrastructure.execution.TaskWorkerFactory;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageFactory;
+import xyz.firestige.deploy.infrastructure.metrics.MicrometerMetricsRegistry;
 import xyz.firestige.deploy.infrastructure.persistence.checkpoint.InMemoryCheckpointRepository;
 import xyz.firestige.deploy.infrastructure.persistence.plan.InMemoryPlanRepository;
 import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
 import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+import xyz.firestige.deploy.infrastructure.lock.TenantLockManager;
 import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
 import xyz.firestige.deploy.infrastructure.state.TaskStateManager;
 import xyz.firestige.deploy.infrastructure.validation.ValidationChain;
@@ -89,10 +104,13 @@ public class ExecutorConfiguration {
     // No manual bean creation needed
 
 
-    @Bean
-    public TenantConflictManager conflictManager() {
-        // TODO 按配置来，不要写死
-        return new TenantConflictManager(TenantConflictManager.ConflictPolicy.FINE_GRAINED);
+    @Bean(destroyMethod = "shutdown")
+    public TenantConflictManager conflictManager(ExecutorProperties executorProperties) {
+        TenantConflictManager manager = new TenantConflictManager(
+                executorProperties.getConflictPolicy(),
+                Duration.ofSeconds(executorProperties.getTenantLeaseTtlSeconds()));
+        manager.startReclaimer(Duration.ofSeconds(executorProperties.getTenantLeaseReclaimIntervalSeconds()));
+        return manager;
     }
 
     @Bean
@@ -117,7 +135,10 @@ public class ExecutorConfiguration {
             ApplicationEventPublisher applicationEventPublisher,
             CheckpointService checkpointService,
             TenantConflictManager conflictManager,
-            ExecutorProperties executorProperties) {
+            ExecutorProperties executorProperties,
+            @Qualifier("stageExecutor") ExecutorService stageExecutor,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
         return new DefaultTaskWorkerFactory(
                 taskDomainService,
                 stateTransitionService,
@@ -125,10 +146,90 @@ public class ExecutorConfiguration {
                 checkpointService,
                 conflictManager,
                 executorProperties.getTaskProgressIntervalSeconds(),
-                null  // metrics: 使用默认的 NoopMetricsRegistry
+                registry != null ? new MicrometerMetricsRegistry(registry) : null,  // 无 MeterRegistry 时使用 Noop
+                stageExecutor,
+                executorProperties.getMaxParallelStages()
         );
     }
 
+    /**
+     * 并行 Step 组执行线程池（Stage 内部使用）
+     * <p>
+     * 与 stageExecutor 分离：Stage 线程会等待组内 Step，共用线程池可能互相等待导致饥饿。
+     * 线程数与队列有界（executor.step-executor-*），空闲线程回收；
+     * 队列满时由提交的 Stage 线程自己执行该 Step（CallerRuns），组退化为部分串行而不是无限创建线程
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService stepExecutor(ExecutorProperties executorProperties) {
+        int threads = Math.max(1, executorProperties.getStepExecutorThreads());
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, executorProperties.getStepExecutorQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "stage-step-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 轮询定时器（PollingStep 共享）
+     * <p>
+     * 轮询等待期间不占用 Stage/Step 线程；定时器线程只负责触发，检查在 pollingCheckExecutor 上执行
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService pollingTimer() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "polling-timer-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 轮询条件检查线程池（PollingStep / AgentReadinessCoordinator 共享）
+     * <p>
+     * 定时器线程只负责按间隔触发，检查（通常是远程调用）在这里执行，避免一次慢检查拖住所有轮询的计时；
+     * 队列满时拒绝，由轮询方推迟到下一个间隔再检查
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pollingCheckExecutor(ExecutorProperties executorProperties) {
+        int threads = Math.max(1, executorProperties.getPollingCheckThreads());
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, executorProperties.getPollingCheckQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "polling-check-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Stage 并行执行线程池（所有 Task 共享）
+     * <p>
+     * 单个 Task 的并行度由 executor.max-parallel-stages 限制；
+     * Stage 大部分时间阻塞在 HTTP/Redis 等待上，线程数按 Plan 并发 × Stage 并行度预留
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService stageExecutor(ExecutorProperties executorProperties) {
+        int threads = Math.max(1, executorProperties.getMaxConcurrency() * executorProperties.getMaxParallelStages());
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "stage-executor-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
     // ========== Repository Bean (DDD 重构新增) ==========
 
     @Bean
@@ -249,8 +350,11 @@ public class ExecutorConfiguration {
 
     @Bean
     public TenantConflictCoordinator tenantConflictCoordinator(
-            TenantConflictManager conflictManager) {
-        return new TenantConflictCoordinator(conflictManager);
+            TenantConflictManager conflictManager,
+            ObjectProvider<TenantLockManager> tenantLockManager,
+            ObjectProvider<ExecutorPersistenceProperties> persistenceProperties) {
+        Duration lockTtl = persistenceProperties.getIfAvailable(ExecutorPersistenceProperties::new).getLockTtl();
+        return new TenantConflictCoordinator(conflictManager, tenantLockManager.getIfAvailable(), lockTtl);
     }
 
     @Bean
@@ -30,6 +30,14 @@ public class ExecutorProperties {
     private int healthCheckIntervalSeconds = 3;
     private int healthCheckMaxAttempts = 10;
     private int taskProgressIntervalSeconds = 10;
+    private int maxParallelStages = 4; // 单个 Task 内同时运行的最大 Stage 数（1 = 串行）
+    private int stepExecutorThreads = 16; // 并行 Step 组线程池大小（所有 Stage 共享）
+    private int stepExecutorQueueCapacity = 256; // 并行 Step 组排队上限（满时由提交线程执行，形成背压）
+    private int pollingCheckThreads = 8; // 轮询条件检查线程池大小（定时器只负责触发）
+    private int pollingCheckQueueCapacity = 1024; // 轮询检查排队上限（满时该次检查推迟一个间隔）
+    private int ingestBatchSize = 500; // 流式创建 Plan 时每批接收的租户数
+    private int tenantLeaseTtlSeconds = 1800; // 租户锁租约时长（心跳停止超过该时长视为泄漏）
+    private int tenantLeaseReclaimIntervalSeconds = 60; // 过期租约回收扫描间隔
     private String healthCheckPath = "/health"; // 新增：健康检查路径（可覆盖）
     private String healthCheckVersionKey = "version"; // 新增：健康检查版本键（可覆盖）
 
@@ -48,6 +56,30 @@ public class ExecutorProperties {
     public int getTaskProgressIntervalSeconds() { return taskProgressIntervalSeconds; }
     public void setTaskProgressIntervalSeconds(int v) { this.taskProgressIntervalSeconds = v; }
 
+    public int getMaxParallelStages() { return maxParallelStages; }
+    public void setMaxParallelStages(int maxParallelStages) { this.maxParallelStages = maxParallelStages; }
+
+    public int getStepExecutorThreads() { return stepExecutorThreads; }
+    public void setStepExecutorThreads(int stepExecutorThreads) { this.stepExecutorThreads = stepExecutorThreads; }
+
+    public int getStepExecutorQueueCapacity() { return stepExecutorQueueCapacity; }
+    public void setStepExecutorQueueCapacity(int v) { this.stepExecutorQueueCapacity = v; }
+
+    public int getPollingCheckThreads() { return pollingCheckThreads; }
+    public void setPollingCheckThreads(int pollingCheckThreads) { this.pollingCheckThreads = pollingCheckThreads; }
+
+    public int getPollingCheckQueueCapacity() { return pollingCheckQueueCapacity; }
+    public void setPollingCheckQueueCapacity(int v) { this.pollingCheckQueueCapacity = v; }
+
+    public int getIngestBatchSize() { return ingestBatchSize; }
+    public void setIngestBatchSize(int ingestBatchSize) { this.ingestBatchSize = ingestBatchSize; }
+
+    public int getTenantLeaseTtlSeconds() { return tenantLeaseTtlSeconds; }
+    public void setTenantLeaseTtlSeconds(int v) { this.tenantLeaseTtlSeconds = v; }
+
+    public int getTenantLeaseReclaimIntervalSeconds() { return tenantLeaseReclaimIntervalSeconds; }
+    public void setTenantLeaseReclaimIntervalSeconds(int v) { this.tenantLeaseReclaimIntervalSeconds = v; }
+
     public String getHealthCheckPath() { return healthCheckPath; }
     public void setHealthCheckPath(String healthCheckPath) { this.healthCheckPath = healthCheckPath; }
 
@@ -1,19 +0,0 @@
-package xyz.firestige.deploy.config;
-
-import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-/**
- * HTTP 客户端配置
- */
-@Configuration
-public class RestTemplateConfiguration {
-    
-    @Bean
-    @ConditionalOnMissingBean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-}
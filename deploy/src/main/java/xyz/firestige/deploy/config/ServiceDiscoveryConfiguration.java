@@ -1,6 +1,7 @@
 package xyz.firestige.deploy.config;
 
 import com.alibaba.nacos.api.exception.NacosException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +10,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import xyz.firestige.deploy.config.properties.InfrastructureProperties;
+import xyz.firestige.deploy.infrastructure.discovery.InstanceLatencyTracker;
 import xyz.firestige.deploy.infrastructure.discovery.NacosServiceDiscovery;
 import xyz.firestige.deploy.infrastructure.discovery.ServiceDiscoveryHelper;
+import xyz.firestige.deploy.infrastructure.metrics.MicrometerMetricsRegistry;
 
 /**
  * 服务发现配置
@@ -68,14 +71,24 @@ public class ServiceDiscoveryConfiguration {
     public ServiceDiscoveryHelper serviceDiscoveryHelper(
             InfrastructureProperties infrastructureProperties,
             RestTemplate restTemplate,
-            @Autowired(required = false) NacosServiceDiscovery nacosDiscovery) {
+            @Autowired(required = false) NacosServiceDiscovery nacosDiscovery,
+            @Autowired(required = false) MeterRegistry meterRegistry) {
 
         log.info("创建 ServiceDiscoveryHelper: nacosEnabled={}", nacosDiscovery != null);
 
+        InfrastructureProperties.SelectionProperties selection = infrastructureProperties.getSelection();
+        InstanceLatencyTracker latencyTracker = new InstanceLatencyTracker(
+            selection.getEwmaAlpha(),
+            selection.getErrorPenalty(),
+            selection.getStatsTtlSeconds(),
+            meterRegistry != null ? new MicrometerMetricsRegistry(meterRegistry) : null
+        );
+
         return new ServiceDiscoveryHelper(
             infrastructureProperties,
             nacosDiscovery,  // 可能为 null
-            restTemplate
+            restTemplate,
+            latencyTracker
         );
     }
 }
@@ -13,7 +13,7 @@ import java.util.Map;
 /**
  * 基础设施配置属性 (Phase1 新增)
  * prefix: executor.infrastructure
- * 包含 redis / nacos / verify / fallbackInstances / auth
+ * 包含 redis / nacos / verify / selection / http / fallbackInstances / auth
  * 仅用于配置绑定与防腐层访问，不直接暴露给业务代码（通过 SharedStageResources 封装）
  */
 @ConfigurationProperties(prefix = "executor.infrastructure")
@@ -26,6 +26,10 @@ public class InfrastructureProperties {
     private NacosProperties nacos = new NacosProperties();
     @NotNull
     private VerifyProperties verify = new VerifyProperties();
+    @NotNull
+    private SelectionProperties selection = new SelectionProperties();
+    @NotNull
+    private HttpProperties http = new HttpProperties();
 
     /** Nacos 不可用时的降级实例列表 serviceKey -> [host:port] */
     private Map<String, List<String>> fallbackInstances = new HashMap<>();
@@ -111,6 +115,41 @@ public class InfrastructureProperties {
         public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
     }
 
+    // ========== Selection (LEAST_LATENCY 实例选择) ==========
+    public static class SelectionProperties {
+        /** EWMA 平滑系数 (0, 1]，越大越偏向最近样本 */
+        private double ewmaAlpha = 0.2;
+        /** 错误率惩罚系数：score = latencyEwma × (1 + errorPenalty × errorRate) */
+        private double errorPenalty = 4.0;
+        /** 统计过期时间（秒），过期实例视为冷启动以便重新探测 */
+        @Min(1)
+        private long statsTtlSeconds = 300;
+        public double getEwmaAlpha() { return ewmaAlpha; }
+        public void setEwmaAlpha(double ewmaAlpha) { this.ewmaAlpha = ewmaAlpha; }
+        public double getErrorPenalty() { return errorPenalty; }
+        public void setErrorPenalty(double errorPenalty) { this.errorPenalty = errorPenalty; }
+        public long getStatsTtlSeconds() { return statsTtlSeconds; }
+        public void setStatsTtlSeconds(long statsTtlSeconds) { this.statsTtlSeconds = statsTtlSeconds; }
+    }
+
+    // ========== Http (共享 JDK HttpClient) ==========
+    public static class HttpProperties {
+        /** 建连超时（毫秒） */
+        @Min(1)
+        private int connectTimeoutMillis = 3000;
+        /** 单次请求超时（毫秒），从发送请求到收到响应头 */
+        @Min(1)
+        private int requestTimeoutMillis = 10000;
+        /** 是否优先协商 HTTP/2（不支持时自动降级 HTTP/1.1） */
+        private boolean http2Enabled = true;
+        public int getConnectTimeoutMillis() { return connectTimeoutMillis; }
+        public void setConnectTimeoutMillis(int connectTimeoutMillis) { this.connectTimeoutMillis = connectTimeoutMillis; }
+        public int getRequestTimeoutMillis() { return requestTimeoutMillis; }
+        public void setRequestTimeoutMillis(int requestTimeoutMillis) { this.requestTimeoutMillis = requestTimeoutMillis; }
+        public boolean isHttp2Enabled() { return http2Enabled; }
+        public void setHttp2Enabled(boolean http2Enabled) { this.http2Enabled = http2Enabled; }
+    }
+
     // ========== Auth ==========
     public static class AuthProperties {
         private boolean enabled = false;
@@ -127,6 +166,10 @@ public class InfrastructureProperties {
     public void setNacos(NacosProperties nacos) { this.nacos = nacos; }
     public VerifyProperties getVerify() { return verify; }
     public void setVerify(VerifyProperties verify) { this.verify = verify; }
+    public SelectionProperties getSelection() { return selection; }
+    public void setSelection(SelectionProperties selection) { this.selection = selection; }
+    public HttpProperties getHttp() { return http; }
+    public void setHttp(HttpProperties http) { this.http = http; }
     public Map<String, List<String>> getFallbackInstances() { return fallbackInstances; }
     public void setFallbackInstances(Map<String, List<String>> fallbackInstances) { this.fallbackInstances = fallbackInstances; }
     public Map<String, AuthProperties> getAuth() { return auth; }
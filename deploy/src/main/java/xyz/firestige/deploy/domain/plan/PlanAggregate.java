@@ -7,13 +7,17 @@ import xyz.firestige.deploy.domain.plan.event.PlanReadyEvent;
 import xyz.firestige.deploy.domain.plan.event.PlanResumedEvent;
 import xyz.firestige.deploy.domain.plan.event.PlanStartedEvent;
 import xyz.firestige.deploy.domain.plan.event.PlanStatusEvent;
+import xyz.firestige.deploy.domain.plan.event.PlanTasksAppendedEvent;
 import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 计划聚合（Plan）- DDD 重构：充血模型 + 修正聚合边界 + 领域事件（RF-11）
@@ -35,6 +39,12 @@ public class PlanAggregate {
 
     // ✅ DDD 重构：改为持有 Task ID 列表，而非 Task 对象
     private final List<TaskId> taskIds = new ArrayList<>();
+    private final Set<TaskId> taskIdIndex = new HashSet<>(); // 去重索引，与 taskIds 同步维护
+
+    // 流式接收中：允许在 RUNNING 状态继续追加任务
+    private boolean ingesting;
+    // 流式接收被中止的原因（已接收的任务继续执行，任务集合不完整）
+    private String ingestionFailure;
 
     private final LocalDateTime createdAt;
     private LocalDateTime startedAt;
@@ -101,7 +111,7 @@ public class PlanAggregate {
         }
 
         // ✅ 检查是否已存在（通过 ID）
-        if (taskIds.contains(taskId)) {
+        if (!taskIdIndex.add(taskId)) {
             throw new IllegalArgumentException(
                 String.format("任务已存在: %s, planId: %s", taskId, planId)
             );
@@ -111,6 +121,94 @@ public class PlanAggregate {
         this.taskIds.add(taskId);
     }
 
+    /**
+     * 批量添加任务到 Plan（不变式同 {@link #addTask}，整批校验通过后才写入）
+     * <p>
+     * 流式接收中（{@link #openIngestion()}）允许在 RUNNING 状态追加，并产生 {@link PlanTasksAppendedEvent}
+     *
+     * @param ids Task ID 列表
+     */
+    public void addTasks(Collection<TaskId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        boolean appending = ingesting && status == PlanStatus.RUNNING;
+        if (status != PlanStatus.CREATED && status != PlanStatus.READY && !appending) {
+            throw new IllegalStateException(
+                String.format("Plan 已启动，无法添加任务，当前状态: %s, planId: %s", status, planId)
+            );
+        }
+
+        Set<TaskId> batch = new HashSet<>(ids.size() * 2);
+        for (TaskId taskId : ids) {
+            if (taskId == null) {
+                throw new IllegalArgumentException("Task ID 不能为空");
+            }
+            if (taskIdIndex.contains(taskId) || !batch.add(taskId)) {
+                throw new IllegalArgumentException(
+                    String.format("任务已存在: %s, planId: %s", taskId, planId)
+                );
+            }
+        }
+        this.taskIdIndex.addAll(batch);
+        this.taskIds.addAll(ids);
+
+        if (appending) {
+            // ✅ RF-11: 产生领域事件（运行中追加的任务需单独调度）
+            addDomainEvent(new PlanTasksAppendedEvent(PlanInfo.from(this), List.copyOf(ids)));
+        }
+    }
+
+    /**
+     * 开启流式接收：Plan 启动后仍可追加任务，直到 {@link #closeIngestion()}
+     * 不变式：只有 CREATED 状态可以开启
+     */
+    public void openIngestion() {
+        if (status != PlanStatus.CREATED) {
+            throw new IllegalStateException(
+                String.format("只有 CREATED 状态可以开启流式接收，当前状态: %s, planId: %s", status, planId)
+            );
+        }
+        this.ingesting = true;
+    }
+
+    /**
+     * 结束流式接收，此后 Plan 的任务集合固定
+     */
+    public void closeIngestion() {
+        this.ingesting = false;
+    }
+
+    /**
+     * 中止流式接收：后续配置不再接收，记录原因，已接收的任务继续执行
+     *
+     * @param reason 中止原因
+     */
+    public void abortIngestion(String reason) {
+        if (!ingesting) {
+            throw new IllegalStateException(
+                String.format("Plan 未处于流式接收中，无法中止，planId: %s", planId)
+            );
+        }
+        this.ingesting = false;
+        this.ingestionFailure = reason;
+    }
+
+    public boolean isIngesting() {
+        return ingesting;
+    }
+
+    /**
+     * 流式接收是否被中止（任务集合不完整）
+     */
+    public boolean isIngestionAborted() {
+        return ingestionFailure != null;
+    }
+
+    public String getIngestionFailure() {
+        return ingestionFailure;
+    }
+
     /**
      * 标记 Plan 为 READY（准备启动）
      * 不变式：必须有至少一个任务
@@ -10,6 +10,8 @@ import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.task.TaskStatus;
 import xyz.firestige.deploy.infrastructure.state.TaskStateManager;
 
+import java.util.List;
+
 /**
  * Plan 领域服务（DDD 重构完成版）
  *
@@ -47,7 +49,7 @@ public class PlanDomainService {
      * DDD 重构：简化为查询和持久化
      *
      * @param planId Plan ID
-     * @param tenantCount 租户数量（暂未使用，保留接口兼容）
+     * @param tenantCount 租户数量（仅用于日志；流式创建时总数未知传 0，接收结束时记录实际任务数）
      * @return Plan 聚合
      */
     public PlanAggregate createPlan(PlanId planId, int tenantCount, int maxConcurrency) {
@@ -87,6 +89,73 @@ public class PlanDomainService {
         logger.debug("[PlanDomainService] Task 添加成功: {} -> {}", planId, taskId);
     }
 
+    /**
+     * 批量添加 Task 到 Plan（只加载、保存 Plan 一次）
+     *
+     * @param planId  Plan ID
+     * @param taskIds Task ID 列表
+     */
+    public void addTasksToPlan(PlanId planId, List<TaskId> taskIds) {
+        logger.debug("[PlanDomainService] 批量添加 Task 到 Plan: {}, 数量: {}", planId, taskIds.size());
+
+        PlanAggregate plan = planRepository.findById(planId)
+                .orElseThrow(() -> new IllegalArgumentException("Plan 不存在: " + planId));
+
+        plan.addTasks(taskIds);
+
+        // 运行中追加（流式接收）会产生 PlanTasksAppendedEvent
+        updatePlanStateAndPublishEvent(plan);
+
+        logger.debug("[PlanDomainService] Task 批量添加成功: {}, 数量: {}", planId, taskIds.size());
+    }
+
+    /**
+     * 开启 Plan 流式接收（启动后仍可追加任务）
+     *
+     * @param planId Plan ID
+     */
+    public void openIngestion(PlanId planId) {
+        logger.info("[PlanDomainService] 开启流式接收: {}", planId);
+
+        PlanAggregate plan = planRepository.findById(planId)
+                .orElseThrow(() -> new IllegalArgumentException("Plan 不存在: " + planId));
+
+        plan.openIngestion();
+        planRepository.save(plan);
+    }
+
+    /**
+     * 结束 Plan 流式接收
+     *
+     * @param planId Plan ID
+     */
+    public void closeIngestion(PlanId planId) {
+        PlanAggregate plan = planRepository.findById(planId)
+                .orElseThrow(() -> new IllegalArgumentException("Plan 不存在: " + planId));
+
+        plan.closeIngestion();
+        planRepository.save(plan);
+
+        logger.info("[PlanDomainService] 流式接收结束: {}, 任务总数: {}", planId, plan.getTaskCount());
+    }
+
+    /**
+     * 中止 Plan 流式接收（后续批次校验失败等）
+     *
+     * @param planId Plan ID
+     * @param reason 中止原因
+     */
+    public void abortIngestion(PlanId planId, String reason) {
+        PlanAggregate plan = planRepository.findById(planId)
+                .orElseThrow(() -> new IllegalArgumentException("Plan 不存在: " + planId));
+
+        plan.abortIngestion(reason);
+        planRepository.save(plan);
+
+        logger.warn("[PlanDomainService] 流式接收中止: {}, 已接收任务数: {}, 原因: {}",
+                planId, plan.getTaskCount(), reason);
+    }
+
     /**
      * 标记 Plan 为 READY
      * DDD 重构：新增方法，调用聚合业务方法
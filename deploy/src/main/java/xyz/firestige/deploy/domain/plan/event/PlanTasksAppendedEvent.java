@@ -0,0 +1,24 @@
+package xyz.firestige.deploy.domain.plan.event;
+
+import xyz.firestige.deploy.domain.plan.PlanInfo;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+
+import java.util.List;
+
+/**
+ * Plan 追加任务事件
+ * 流式接收时，Plan 已启动后追加的一批任务（启动时的任务由 PlanStartedEvent 调度）
+ */
+public class PlanTasksAppendedEvent extends PlanStatusEvent {
+
+    private final List<TaskId> taskIds;
+
+    public PlanTasksAppendedEvent(PlanInfo info, List<TaskId> taskIds) {
+        super(info, String.format("Plan 运行中追加 %d 个任务", taskIds.size()));
+        this.taskIds = taskIds;
+    }
+
+    public List<TaskId> getTaskIds() {
+        return taskIds;
+    }
+}
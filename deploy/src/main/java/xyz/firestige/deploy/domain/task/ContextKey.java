@@ -0,0 +1,100 @@
+package xyz.firestige.deploy.domain.task;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TaskRuntimeContext 的类型化 Key
+ * <p>
+ * 每个名称在进程内分配一个固定槽位（index），TaskRuntimeContext 以数组槽位存取，
+ * 读写无需哈希与类型检查。Key 应在类加载或 Stage 装配时创建并复用（如 static final 常量），
+ * 不要在热路径上反复调用 {@link #of}。
+ * <p>
+ * 同名 Key 共享同一槽位，与字符串 API（addVariable / getAdditionalData）互通。
+ *
+ * @param <T> 值类型
+ */
+public final class ContextKey<T> {
+
+    /** 槽位上限（每个不同的 Key 名称占用一个槽位） */
+    static final int MAX_KEYS = 4096;
+
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final String name;
+    private final Class<? super T> type;
+    private final int index;
+
+    private ContextKey(String name, Class<? super T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * 创建（或复用同名槽位的）类型化 Key
+     *
+     * @param name Key 名称（与字符串 API 的 key 一致）
+     * @param type 值类型（泛型类型传原始类型，如 {@code Map.class}）
+     */
+    public static <T> ContextKey<T> of(String name, Class<? super T> type) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(type, "type");
+        return new ContextKey<>(name, type, indexOf(name));
+    }
+
+    /**
+     * 字符串 API 使用的无类型 Key
+     */
+    static ContextKey<Object> untyped(String name) {
+        return new ContextKey<>(name, Object.class, indexOf(name));
+    }
+
+    /**
+     * 已分配的槽位，未分配返回 -1（只读路径不分配槽位）
+     */
+    static int existingIndex(String name) {
+        Integer index = INDEXES.get(name);
+        return index != null ? index : -1;
+    }
+
+    private static int indexOf(String name) {
+        return INDEXES.computeIfAbsent(name, n -> {
+            int index = NEXT_INDEX.getAndIncrement();
+            if (index >= MAX_KEYS) {
+                throw new IllegalStateException("ContextKey 数量超过上限 " + MAX_KEYS + ": " + n);
+            }
+            return index;
+        });
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<? super T> type() {
+        return type;
+    }
+
+    int index() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ContextKey<?> other && other.index == index);
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "ContextKey[" + name + ":" + type.getSimpleName() + "]";
+    }
+}
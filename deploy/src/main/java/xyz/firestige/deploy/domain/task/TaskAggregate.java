@@ -28,7 +28,9 @@ import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -648,6 +650,27 @@ public class TaskAggregate {
         this.checkpoint = newCheckpoint;
     }
     
+    /**
+     * 记录检查点（基于已完成 Stage 集合，支持 Stage 并行完成）
+     * <p>
+     * 业务规则：
+     * 1. 只有 RUNNING 状态才能记录检查点
+     * 2. 已完成数量不能超过总 Stage 数
+     * 3. lastCompletedStageIndex 记为已完成数量 - 1（兼容进度展示）
+     *
+     * @param completedStageNames 已完成的 Stage 名称集合
+     */
+    public void recordCheckpoint(Collection<String> completedStageNames) {
+        if (completedStageNames == null || completedStageNames.isEmpty()
+                || completedStageNames.size() > getTotalStages()) {
+            throw new IllegalArgumentException(
+                String.format("无效的已完成 Stage 集合: %s, 总 Stage 数: %d", completedStageNames, getTotalStages())
+            );
+        }
+        List<String> distinctNames = new ArrayList<>(new LinkedHashSet<>(completedStageNames));
+        recordCheckpoint(distinctNames, distinctNames.size() - 1);
+    }
+
     /**
      * 恢复到检查点
      * <p>
@@ -2,12 +2,17 @@ package xyz.firestige.deploy.domain.task;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Task 检查点
+ * <p>
+ * 以已完成 Stage 的集合为准（Stage 可能并行完成，完成顺序不等于装配顺序）；
+ * lastCompletedStageIndex 保留为已完成数量 - 1，用于兼容进度展示
  */
 public class TaskCheckpoint {
     private int lastCompletedStageIndex;
@@ -27,6 +32,17 @@ public class TaskCheckpoint {
         return completedStageNames;
     }
 
+    /**
+     * 已完成的 Stage 集合（保持完成顺序）
+     */
+    public Set<String> getCompletedStageSet() {
+        return new LinkedHashSet<>(completedStageNames);
+    }
+
+    public boolean isStageCompleted(String stageName) {
+        return completedStageNames.contains(stageName);
+    }
+
     public Map<String, Object> getCustomData() {
         return customData;
     }
@@ -1,6 +1,8 @@
 package xyz.firestige.deploy.domain.task;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,7 @@ import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.domain.task.event.TaskCreatedEvent;
 import xyz.firestige.deploy.domain.task.event.TaskRetryStartedEvent;
+import xyz.firestige.deploy.domain.task.event.TasksCreatedEvent;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.domain.shared.event.DomainEventPublisher;
 import xyz.firestige.deploy.domain.shared.exception.ErrorType;
@@ -72,6 +75,29 @@ public class TaskDomainService {
     public TaskAggregate createTask(PlanId planId, TenantConfig config) {
         logger.info("[TaskDomainService] 创建 Task: planId={}, tenantId={}", planId, config.getTenantId());
 
+        TaskAggregate task = newTask(planId, config);
+
+        // 保存到仓储
+        taskRepository.save(task);
+
+        // ✅ RF-11: 提取并发布聚合产生的领域事件
+        domainEventPublisher.publishAll(task.getDomainEvents());
+        task.clearDomainEvents();
+
+        logger.info("[TaskDomainService] Task 创建成功: {}", task.getTaskId());
+        return task;
+    }
+
+    /**
+     * 构造 PENDING 状态的 Task 聚合（不保存、不发布事件）
+     * <p>
+     * 无共享状态，可在多个线程上并行调用；构造结果需经 {@link #registerTasks} 统一登记
+     *
+     * @param planId Plan ID
+     * @param config 租户配置（内部 DTO）
+     * @return Task 聚合
+     */
+    public TaskAggregate newTask(PlanId planId, TenantConfig config) {
         // 生成 Task ID
         TaskId taskId = generateTaskId(planId, config.getTenantId());
 
@@ -87,15 +113,6 @@ public class TaskDomainService {
 
         // ✅ 调用聚合的业务方法
         task.markAsPending();
-
-        // 保存到仓储
-        taskRepository.save(task);
-
-        // ✅ RF-11: 提取并发布聚合产生的领域事件
-        domainEventPublisher.publishAll(task.getDomainEvents());
-        task.clearDomainEvents();
-
-        logger.info("[TaskDomainService] Task 创建成功: {}", taskId);
         return task;
     }
 
@@ -122,6 +139,39 @@ public class TaskDomainService {
         logger.debug("[TaskDomainService] Task Stages 构建完成: {}, stage数量: {}", task.getTaskId(), stages.size());
     }
 
+    /**
+     * 批量登记 Task（{@link #createTask} + {@link #attacheStages} 的批量版本）
+     * <p>
+     * 一次性保存聚合与 Stages，聚合事件照常发布，TaskCreated 合并为一个 {@link TasksCreatedEvent}，
+     * 投影侧可整批写入
+     *
+     * @param planId Plan ID
+     * @param tasks  由 {@link #newTask} 构造的 Task 聚合（按创建顺序）
+     * @param stages 各 Task 的 Stage 列表
+     */
+    public void registerTasks(PlanId planId, List<TaskAggregate> tasks, Map<TaskId, List<TaskStage>> stages) {
+        logger.info("[TaskDomainService] 批量登记 Task: planId={}, 数量={}", planId, tasks.size());
+
+        List<TaskCreatedEvent> createdEvents = new ArrayList<>(tasks.size());
+        for (TaskAggregate task : tasks) {
+            List<TaskStage> taskStages = stages.getOrDefault(task.getTaskId(), List.of());
+            task.setTotalStages(taskStages);
+            taskRuntimeRepository.saveStages(task.getTaskId(), taskStages);
+            List<String> names = taskStages.stream().map(TaskStage::getName).toList();
+            createdEvents.add(new TaskCreatedEvent(TaskInfo.from(task), names));
+        }
+
+        taskRepository.saveAll(tasks);
+
+        for (TaskAggregate task : tasks) {
+            domainEventPublisher.publishAll(task.getDomainEvents());
+            task.clearDomainEvents();
+        }
+        domainEventPublisher.publish(new TasksCreatedEvent(planId, createdEvents));
+
+        logger.info("[TaskDomainService] Task 批量登记完成: planId={}, 数量={}", planId, tasks.size());
+    }
+
     // ========== 方案C: 执行生命周期方法（封装save+publish逻辑）==========
 
     /**
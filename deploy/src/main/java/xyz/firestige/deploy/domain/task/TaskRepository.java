@@ -4,6 +4,7 @@ import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,17 @@ public interface TaskRepository {
      */
     void save(TaskAggregate task);
 
+    /**
+     * 批量保存 Task 聚合（性能优化，可选）
+     *
+     * @param tasks Task 聚合列表
+     */
+    default void saveAll(Collection<TaskAggregate> tasks) {
+        if (tasks != null) {
+            tasks.forEach(this::save);
+        }
+    }
+
     /**
      * 删除 Task 聚合
      *
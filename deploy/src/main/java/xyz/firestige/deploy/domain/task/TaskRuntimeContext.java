@@ -5,17 +5,30 @@ import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Task runtime context: MDC, pause/cancel flags, and pipeline context bridge.
+ * <p>
+ * 变量存储：按 {@link ContextKey} 槽位索引的分段数组（每段 64 个槽位，按需 CAS 创建），
+ * 读写无锁、线程安全，可被并行 Step 直接共享。推荐使用类型化 API（{@link #get}/{@link #put}），
+ * 字符串 API（addVariable/getAdditionalData）保留兼容，两者共享同名槽位。
  */
 public class TaskRuntimeContext {
+
+    private static final int SEGMENT_SHIFT = 6;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int SEGMENT_COUNT = ContextKey.MAX_KEYS >>> SEGMENT_SHIFT;
+
     private final PlanId planId;
     private final TaskId taskId;
     private final TenantId tenantId;
-    private final Map<String, Object> context;
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> segments;
+    private final TaskRuntimeContext parent;
+    private final Set<Integer> writtenSlots;
     private volatile boolean pauseRequested;
     private volatile boolean cancelRequested;
 
@@ -23,7 +36,52 @@ public class TaskRuntimeContext {
         this.planId = planId;
         this.taskId = taskId;
         this.tenantId = tenantId;
-        this.context = new HashMap<>();
+        this.segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+        this.parent = null;
+        this.writtenSlots = null;
+    }
+
+    private TaskRuntimeContext(TaskRuntimeContext source, TaskRuntimeContext root) {
+        this.planId = source.planId;
+        this.taskId = source.taskId;
+        this.tenantId = source.tenantId;
+        this.segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            AtomicReferenceArray<Object> segment = source.segments.get(i);
+            if (segment != null) {
+                AtomicReferenceArray<Object> copy = new AtomicReferenceArray<>(SEGMENT_SIZE);
+                for (int j = 0; j < SEGMENT_SIZE; j++) {
+                    copy.lazySet(j, segment.get(j));
+                }
+                segments.set(i, copy);
+            }
+        }
+        this.parent = root;
+        this.writtenSlots = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * 派生 Stage 私有上下文（用于并行 Stage）
+     * <p>
+     * 复制当前变量快照，之后的写入互不可见，避免并行 Stage 覆盖彼此的 url/body 等变量；
+     * 暂停/取消标志委托给父上下文
+     */
+    public TaskRuntimeContext fork() {
+        return new TaskRuntimeContext(this, parent != null ? parent : this);
+    }
+
+    /**
+     * 合并 fork 出的上下文在 fork 之后写入的变量（用于并行 Step 组汇合）
+     *
+     * @param forked 由当前上下文 fork 出的上下文
+     */
+    public void mergeFrom(TaskRuntimeContext forked) {
+        if (forked.writtenSlots == null) {
+            throw new IllegalArgumentException("只能合并 fork 出的上下文");
+        }
+        for (int slot : forked.writtenSlots) {
+            write(slot, forked.read(slot));
+        }
     }
 
     public void injectMdc(String stageName) {
@@ -37,34 +95,96 @@ public class TaskRuntimeContext {
 
     public void clearMdc() { MDC.clear(); }
 
-    public boolean isPauseRequested() { return pauseRequested; }
-    public void requestPause() { this.pauseRequested = true; }
-    public void clearPause() { this.pauseRequested = false; }
+    public boolean isPauseRequested() { return parent != null ? parent.isPauseRequested() : pauseRequested; }
+    public void requestPause() { if (parent != null) parent.requestPause(); else this.pauseRequested = true; }
+    public void clearPause() { if (parent != null) parent.clearPause(); else this.pauseRequested = false; }
 
-    public boolean isCancelRequested() { return cancelRequested; }
-    public void requestCancel() { this.cancelRequested = true; }
-    public void clearCancel() { this.cancelRequested = false; }
+    public boolean isCancelRequested() { return parent != null ? parent.isCancelRequested() : cancelRequested; }
+    public void requestCancel() { if (parent != null) parent.requestCancel(); else this.cancelRequested = true; }
+    public void clearCancel() { if (parent != null) parent.clearCancel(); else this.cancelRequested = false; }
 
     public PlanId getPlanId() { return planId; }
     public TaskId getTaskId() { return taskId; }
     public TenantId getTenantId() { return tenantId; }
 
+    // ========== 类型化 API ==========
+
+    /**
+     * 读取变量（无哈希、无类型检查）
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ContextKey<T> key) {
+        return (T) read(key.index());
+    }
+
+    public <T> T get(ContextKey<T> key, T defaultValue) {
+        T value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 读取必需变量
+     *
+     * @throws IllegalArgumentException 变量不存在
+     */
+    public <T> T require(ContextKey<T> key) {
+        T value = get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(key.name() + " is required in TaskRuntimeContext");
+        }
+        return value;
+    }
+
+    /**
+     * 写入变量（value 为 null 等价于删除）
+     */
+    public <T> void put(ContextKey<T> key, T value) {
+        write(key.index(), value);
+    }
+
+    // ========== 字符串 API（兼容） ==========
+
     public Object getAdditionalData(String key) {
-        return context.get(key);
+        int slot = ContextKey.existingIndex(key);
+        return slot >= 0 ? read(slot) : null;
     }
 
     public <T> T getAdditionalData(String key, Class<T> clazz) {
-        Object v = context.get(key);
+        Object v = getAdditionalData(key);
         return clazz.isInstance(v) ? clazz.cast(v) : null;
     }
 
     @SuppressWarnings("unchecked")
     public <T> T getAdditionalData(String key, T defaultValue) {
-        Object v = context.get(key);
+        Object v = getAdditionalData(key);
         Class<?> clazz = defaultValue.getClass();
         return clazz.isInstance(v) ? (T) v : defaultValue;
     }
 
-    public void addVariable(String key, Object value) { context.put(key, value); }
-}
+    public void addVariable(String key, Object value) {
+        put(ContextKey.untyped(key), value);
+    }
+
+    // ========== 槽位存取 ==========
+
+    private Object read(int slot) {
+        AtomicReferenceArray<Object> segment = segments.get(slot >>> SEGMENT_SHIFT);
+        return segment != null ? segment.get(slot & SEGMENT_MASK) : null;
+    }
 
+    private void write(int slot, Object value) {
+        int segmentIndex = slot >>> SEGMENT_SHIFT;
+        AtomicReferenceArray<Object> segment = segments.get(segmentIndex);
+        if (segment == null) {
+            if (value == null) {
+                return;
+            }
+            segments.compareAndSet(segmentIndex, null, new AtomicReferenceArray<>(SEGMENT_SIZE));
+            segment = segments.get(segmentIndex);
+        }
+        segment.set(slot & SEGMENT_MASK, value);
+        if (writtenSlots != null) {
+            writtenSlots.add(slot);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package xyz.firestige.deploy.domain.task.event;
+
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+
+import java.util.List;
+
+/**
+ * Task 批量创建事件
+ * <p>
+ * 触发时机：
+ * - TaskDomainService.registerTasks() 批量登记一个 Plan 的 Task 后（替代逐个发布 TaskCreatedEvent）
+ * <p>
+ * 用途：
+ * - 驱动投影批量写入（TaskStateProjectionUpdater），一次往返写完整个 Plan 的初始投影与索引
+ *
+ * @since T-016 投影型持久化
+ */
+public class TasksCreatedEvent {
+
+    private final PlanId planId;
+    private final List<TaskCreatedEvent> events;
+
+    public TasksCreatedEvent(PlanId planId, List<TaskCreatedEvent> events) {
+        this.planId = planId;
+        this.events = events != null ? List.copyOf(events) : List.of();
+    }
+
+    public PlanId getPlanId() {
+        return planId;
+    }
+
+    /**
+     * 每个 Task 对应的创建事件（按创建顺序）
+     */
+    public List<TaskCreatedEvent> getEvents() {
+        return events;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    @Override
+    public String toString() {
+        return "TasksCreatedEvent{" +
+                "planId=" + planId +
+                ", taskCount=" + events.size() +
+                '}';
+    }
+}
@@ -18,6 +18,7 @@ import xyz.firestige.deploy.domain.plan.PlanOperationResult;
 import xyz.firestige.deploy.domain.task.TaskOperationResult;
 import xyz.firestige.deploy.domain.shared.exception.FailureInfo;
 import xyz.firestige.deploy.facade.converter.TenantConfigConverter;
+import xyz.firestige.deploy.facade.converter.TenantDeployConfigReader;
 import xyz.firestige.deploy.facade.exception.PlanNotFoundException;
 import xyz.firestige.deploy.facade.exception.TaskCreationException;
 import xyz.firestige.deploy.facade.exception.TaskNotFoundException;
@@ -25,6 +26,7 @@ import xyz.firestige.deploy.facade.exception.TaskOperationException;
 import xyz.firestige.deploy.application.query.TaskQueryService;
 import xyz.firestige.deploy.infrastructure.persistence.projection.PlanStateProjection;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -86,17 +88,7 @@ public class DeploymentTaskFacade {
 
         // Step 3: 字段格式校验（对转换后的 TenantConfig 使用 Spring Validator）
         for (int i = 0; i < internalConfigs.size(); i++) {
-            TenantConfig config = internalConfigs.get(i);
-            Set<ConstraintViolation<TenantConfig>> violations = validator.validate(config);
-
-            if (!violations.isEmpty()) {
-                String errorDetail = violations.stream()
-                        .map(v -> String.format("[%s] %s", v.getPropertyPath(), v.getMessage()))
-                        .collect(Collectors.joining("; "));
-
-                logger.warn("[Facade] TenantConfig 格式校验失败 (索引 {}): {}", i, errorDetail);
-                throw new IllegalArgumentException("TenantConfig 格式校验失败: " + errorDetail);
-            }
+            validateFormat(internalConfigs.get(i), i);
         }
 
         // Step 4: 调用应用服务（使用内部 DTO）
@@ -104,20 +96,57 @@ public class DeploymentTaskFacade {
         PlanCreationResult result = planLifecycleService.createDeploymentPlan(internalConfigs);
 
         // Step 5: 处理结果
-        if (!result.isSuccess()) {
-
-            FailureInfo failureInfo = result.getFailureInfo();
-            throw new TaskCreationException(
-                failureInfo != null ? failureInfo.getErrorMessage() : "任务创建失败",
-                failureInfo
-            );
-        }
+        handlePlanCreationResult(result);
 
         PlanInfo planInfo = result.getPlanInfo();
         logger.info("[Facade] Plan 创建成功，planId: {}, tasks: {}",
                     planInfo.getPlanId(), planInfo.getTasks().size());
     }
 
+    /**
+     * 流式创建切换任务（超大计划）
+     * <p>
+     * 配置逐条转换、校验，按批创建 Task；第一批创建后 Plan 即启动，后续租户边接收边执行，
+     * 整个过程不持有完整配置列表。JSON/YAML 数据源可用 {@link TenantDeployConfigReader} 包装为迭代器。
+     * <p>
+     * 注意：Plan 启动后出现的格式/业务校验失败会停止接收并抛出异常，已接收的租户继续执行。
+     *
+     * @param configs 外部配置迭代器（可为惰性数据源）
+     */
+    public void createSwitchTask(Iterator<TenantDeployConfig> configs) {
+        logger.info("[Facade] 流式创建切换任务");
+
+        // Step 1: 参数校验（快速失败）
+        if (configs == null || !configs.hasNext()) {
+            throw new IllegalArgumentException("配置列表不能为空");
+        }
+
+        // Step 2 & 3: 逐条 DTO 转换 + 字段格式校验（惰性，随应用服务读取进行）
+        Iterator<TenantConfig> internalConfigs = new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return configs.hasNext();
+            }
+
+            @Override
+            public TenantConfig next() {
+                TenantConfig config = tenantConfigConverter.convert(configs.next());
+                validateFormat(config, index++);
+                return config;
+            }
+        };
+
+        // Step 4: 调用应用服务
+        PlanCreationResult result = planLifecycleService.createDeploymentPlan(internalConfigs);
+
+        // Step 5: 处理结果
+        handlePlanCreationResult(result);
+
+        logger.info("[Facade] Plan 流式创建成功，planId: {}", result.getPlanInfo().getPlanId());
+    }
+
     /**
      * 根据租户 ID 暂停任务
      */
@@ -236,6 +265,29 @@ public class DeploymentTaskFacade {
 
     // ========== 私有辅助方法 ==========
 
+    private void validateFormat(TenantConfig config, int index) {
+        Set<ConstraintViolation<TenantConfig>> violations = validator.validate(config);
+
+        if (!violations.isEmpty()) {
+            String errorDetail = violations.stream()
+                    .map(v -> String.format("[%s] %s", v.getPropertyPath(), v.getMessage()))
+                    .collect(Collectors.joining("; "));
+
+            logger.warn("[Facade] TenantConfig 格式校验失败 (索引 {}): {}", index, errorDetail);
+            throw new IllegalArgumentException("TenantConfig 格式校验失败: " + errorDetail);
+        }
+    }
+
+    private void handlePlanCreationResult(PlanCreationResult result) {
+        if (!result.isSuccess()) {
+            FailureInfo failureInfo = result.getFailureInfo();
+            throw new TaskCreationException(
+                failureInfo != null ? failureInfo.getErrorMessage() : "任务创建失败",
+                failureInfo
+            );
+        }
+    }
+
     private void handleTaskOperationResult(TaskOperationResult result, String operation) {
         if (!result.isSuccess()) {
             FailureInfo failureInfo = result.getFailureInfo();
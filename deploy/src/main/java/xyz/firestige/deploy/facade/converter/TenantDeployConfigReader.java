@@ -0,0 +1,56 @@
+package xyz.firestige.deploy.facade.converter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import xyz.firestige.dto.deploy.TenantDeployConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * 租户配置流式读取器
+ * <p>
+ * 将 JSON 数组 / YAML 序列逐条解析为 {@link TenantDeployConfig} 迭代器，配合
+ * {@code DeploymentTaskFacade.createSwitchTask(Iterator)} 使用，无需把整份配置读入内存。
+ * <p>
+ * 迭代器读到末尾时关闭输入流；解析错误在 hasNext/next 时以 RuntimeJsonMappingException 抛出。
+ */
+public final class TenantDeployConfigReader {
+
+    private static final ObjectReader JSON_READER = reader(new ObjectMapper());
+    private static final ObjectReader YAML_READER = reader(new ObjectMapper(new YAMLFactory()));
+
+    private TenantDeployConfigReader() {
+    }
+
+    /**
+     * 读取 JSON 数组（或连续的 JSON 对象）
+     */
+    public static Iterator<TenantDeployConfig> json(InputStream in) {
+        return read(JSON_READER, in);
+    }
+
+    /**
+     * 读取 YAML 序列
+     */
+    public static Iterator<TenantDeployConfig> yaml(InputStream in) {
+        return read(YAML_READER, in);
+    }
+
+    private static Iterator<TenantDeployConfig> read(ObjectReader reader, InputStream in) {
+        try {
+            return reader.readValues(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取租户配置失败", e);
+        }
+    }
+
+    private static ObjectReader reader(ObjectMapper mapper) {
+        return mapper.readerFor(TenantDeployConfig.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
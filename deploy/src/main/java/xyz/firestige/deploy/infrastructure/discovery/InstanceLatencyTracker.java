@@ -0,0 +1,203 @@
+package xyz.firestige.deploy.infrastructure.discovery;
+
+import xyz.firestige.deploy.infrastructure.metrics.MetricCounter;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTags;
+import xyz.firestige.deploy.infrastructure.metrics.MetricsRegistry;
+import xyz.firestige.deploy.infrastructure.metrics.NoopMetricsRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实例延迟跟踪器（LEAST_LATENCY 策略的数据来源）
+ *
+ * <p>核心功能：
+ * <ul>
+ *   <li>按实例维护 EWMA 延迟与 EWMA 错误率（由 HttpRequestStep 的调用结果回写）</li>
+ *   <li>Power-of-Two-Choices：随机取两个候选，选择得分更低者</li>
+ *   <li>冷启动/过期实例得分为 0，保证新实例和长期未调用的实例能被重新探测</li>
+ *   <li>统计数据通过 MetricsRegistry 导出（固定指标名，按 pool/instance 打标签），实例下线时移除</li>
+ * </ul>
+ *
+ * <p>得分公式：{@code latencyEwmaMs × (1 + errorPenalty × errorRateEwma)}
+ */
+public class InstanceLatencyTracker {
+
+    static final String LATENCY_GAUGE = "discovery_instance_latency_ewma_ms";
+    static final String ERROR_RATE_GAUGE = "discovery_instance_error_rate_ewma";
+    static final String CALLS_COUNTER = "discovery_instance_calls";
+
+    private final double ewmaAlpha;
+    private final double errorPenalty;
+    private final long statsTtlMillis;
+    private final MetricsRegistry metrics;
+
+    /**
+     * poolKey（serviceKey:namespace）→ instance（host:port）→ 统计
+     */
+    private final Map<String, Map<String, InstanceStats>> pools = new ConcurrentHashMap<>();
+
+    public InstanceLatencyTracker(double ewmaAlpha, double errorPenalty, long statsTtlSeconds, MetricsRegistry metrics) {
+        if (ewmaAlpha <= 0 || ewmaAlpha > 1) {
+            throw new IllegalArgumentException("ewmaAlpha must be in (0, 1]");
+        }
+        if (errorPenalty < 0) {
+            throw new IllegalArgumentException("errorPenalty must not be negative");
+        }
+        if (statsTtlSeconds <= 0) {
+            throw new IllegalArgumentException("statsTtlSeconds must be positive");
+        }
+        this.ewmaAlpha = ewmaAlpha;
+        this.errorPenalty = errorPenalty;
+        this.statsTtlMillis = TimeUnit.SECONDS.toMillis(statsTtlSeconds);
+        this.metrics = metrics != null ? metrics : new NoopMetricsRegistry();
+    }
+
+    /**
+     * 使用默认参数创建（alpha=0.2, errorPenalty=4.0, ttl=300s, 不导出指标）
+     */
+    public static InstanceLatencyTracker withDefaults() {
+        return new InstanceLatencyTracker(0.2, 4.0, 300, null);
+    }
+
+    /**
+     * Power-of-Two-Choices 选择实例
+     *
+     * @param poolKey   实例池标识
+     * @param instances 候选实例（非空）
+     * @return 选中的实例
+     */
+    public String select(String poolKey, List<String> instances) {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        Map<String, InstanceStats> pool = pools.getOrDefault(poolKey, Collections.emptyMap());
+        long now = System.currentTimeMillis();
+        String a = instances.get(first);
+        String b = instances.get(second);
+        return score(pool.get(a), now) <= score(pool.get(b), now) ? a : b;
+    }
+
+    /**
+     * 回写一次调用结果
+     *
+     * @param poolKey   实例池标识
+     * @param instance  实例（host:port）
+     * @param latencyMs 调用耗时
+     * @param success   是否成功（异常或 5xx 视为失败）
+     */
+    public void record(String poolKey, String instance, long latencyMs, boolean success) {
+        InstanceStats stats = pools
+            .computeIfAbsent(poolKey, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(instance, k -> new InstanceStats(poolKey, instance, metrics));
+        stats.update(latencyMs, success, ewmaAlpha);
+
+        metrics.setGauge(LATENCY_GAUGE, stats.tags, stats.latencyEwmaMs);
+        metrics.setGauge(ERROR_RATE_GAUGE, stats.tags, stats.errorRateEwma);
+        (success ? stats.successCounter : stats.failureCounter).increment();
+    }
+
+    /**
+     * 获取统计快照（用于监控/调试）
+     */
+    public Map<String, Map<String, InstanceSnapshot>> getStats() {
+        Map<String, Map<String, InstanceSnapshot>> result = new HashMap<>();
+        pools.forEach((poolKey, pool) -> {
+            Map<String, InstanceSnapshot> snapshots = new HashMap<>();
+            pool.forEach((instance, stats) -> snapshots.put(instance, stats.snapshot()));
+            result.put(poolKey, snapshots);
+        });
+        return result;
+    }
+
+    /**
+     * 同步实例池：移除已下线实例的统计与指标（实例列表刷新时调用）
+     *
+     * @param poolKey   实例池标识
+     * @param instances 当前在线实例
+     */
+    public void retainInstances(String poolKey, Collection<String> instances) {
+        Map<String, InstanceStats> pool = pools.get(poolKey);
+        if (pool == null) {
+            return;
+        }
+        pool.entrySet().removeIf(entry -> {
+            if (instances.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().removeMeters(metrics);
+            return true;
+        });
+    }
+
+    private double score(InstanceStats stats, long now) {
+        if (stats == null || now - stats.lastUpdateMillis > statsTtlMillis) {
+            return 0.0;
+        }
+        return stats.latencyEwmaMs * (1.0 + errorPenalty * stats.errorRateEwma);
+    }
+
+    /**
+     * 单实例统计（写入加锁，读取容忍短暂不一致）
+     */
+    private static class InstanceStats {
+        private final MetricTags tags;
+        private final MetricCounter successCounter;
+        private final MetricCounter failureCounter;
+        private volatile double latencyEwmaMs;
+        private volatile double errorRateEwma;
+        private volatile long lastUpdateMillis;
+        private long samples;
+
+        InstanceStats(String poolKey, String instance, MetricsRegistry metrics) {
+            this.tags = MetricTags.of("pool", poolKey, "instance", instance);
+            this.successCounter = metrics.counter(CALLS_COUNTER, tags.and("outcome", "success"));
+            this.failureCounter = metrics.counter(CALLS_COUNTER, tags.and("outcome", "failure"));
+        }
+
+        void removeMeters(MetricsRegistry metrics) {
+            metrics.remove(LATENCY_GAUGE, tags);
+            metrics.remove(ERROR_RATE_GAUGE, tags);
+            metrics.remove(CALLS_COUNTER, tags.and("outcome", "success"));
+            metrics.remove(CALLS_COUNTER, tags.and("outcome", "failure"));
+        }
+
+        synchronized void update(long latencyMs, boolean success, double alpha) {
+            double error = success ? 0.0 : 1.0;
+            if (samples == 0) {
+                latencyEwmaMs = latencyMs;
+                errorRateEwma = error;
+            } else {
+                latencyEwmaMs = alpha * latencyMs + (1 - alpha) * latencyEwmaMs;
+                errorRateEwma = alpha * error + (1 - alpha) * errorRateEwma;
+            }
+            samples++;
+            lastUpdateMillis = System.currentTimeMillis();
+        }
+
+        synchronized InstanceSnapshot snapshot() {
+            return new InstanceSnapshot(latencyEwmaMs, errorRateEwma, samples, lastUpdateMillis);
+        }
+    }
+
+    /**
+     * 实例统计快照
+     */
+    public record InstanceSnapshot(double latencyEwmaMs, double errorRateEwma, long samples, long lastUpdateMillis) {
+    }
+}
@@ -0,0 +1,14 @@
+package xyz.firestige.deploy.infrastructure.discovery;
+
+/**
+ * 通过服务发现选中的单个实例
+ *
+ * <p>由 DataPreparer 放入 TaskRuntimeContext（key: "selectedInstance"），
+ * HttpRequestStep 执行完成后据此回写调用结果到 ServiceDiscoveryHelper。
+ *
+ * @param serviceKey 服务标识（如 "asbcService"）
+ * @param namespace  Nacos 命名空间
+ * @param instance   实例（host:port）
+ */
+public record SelectedInstance(String serviceKey, String namespace, String instance) {
+}
@@ -22,6 +22,12 @@ public enum SelectionStrategy {
      * 轮询选择一个实例（有状态负载均衡）
      * 使用场景：未来扩展
      */
-    ROUND_ROBIN
+    ROUND_ROBIN,
+
+    /**
+     * 加权最低延迟选择一个实例（基于 EWMA 延迟与错误率的 Power-of-Two-Choices）
+     * 使用场景：ASBC, Portal 等单实例调用
+     */
+    LEAST_LATENCY
 }
 
@@ -17,7 +17,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>从 Nacos 获取服务实例（支持动态 namespace）</li>
  *   <li>降级到 fallbackInstances</li>
- *   <li>实例选择策略（ALL/RANDOM/ROUND_ROBIN）</li>
+ *   <li>实例选择策略（ALL/RANDOM/ROUND_ROBIN/LEAST_LATENCY）</li>
  *   <li>缓存与 Failback 机制</li>
  *   <li>可选健康检查</li>
  * </ul>
@@ -33,6 +33,7 @@ public class ServiceDiscoveryHelper {
     private final NacosServiceDiscovery nacosDiscovery;  // nullable
     private final RestTemplate restTemplate;
     private final Map<String, AtomicInteger> roundRobinCounters = new ConcurrentHashMap<>();
+    private final InstanceLatencyTracker latencyTracker;
 
     // 缓存相关
     private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
@@ -48,9 +49,25 @@ public class ServiceDiscoveryHelper {
     public ServiceDiscoveryHelper(InfrastructureProperties config,
                                    NacosServiceDiscovery nacosDiscovery,
                                    RestTemplate restTemplate) {
+        this(config, nacosDiscovery, restTemplate, InstanceLatencyTracker.withDefaults());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param config 基础设施配置
+     * @param nacosDiscovery Nacos 服务发现（可选）
+     * @param restTemplate HTTP 客户端（用于健康检查）
+     * @param latencyTracker 实例延迟跟踪器（LEAST_LATENCY 策略使用）
+     */
+    public ServiceDiscoveryHelper(InfrastructureProperties config,
+                                   NacosServiceDiscovery nacosDiscovery,
+                                   RestTemplate restTemplate,
+                                   InstanceLatencyTracker latencyTracker) {
         this.config = config;
         this.nacosDiscovery = nacosDiscovery;
         this.restTemplate = restTemplate;
+        this.latencyTracker = latencyTracker != null ? latencyTracker : InstanceLatencyTracker.withDefaults();
     }
 
     /**
@@ -89,6 +106,7 @@ public class ServiceDiscoveryHelper {
 
                     // 更新缓存
                     cache.put(cacheKey, new CacheEntry(instances, cacheTtlMillis));
+                    latencyTracker.retainInstances(cacheKey, instances);
                     return instances;
                 }
 
@@ -146,7 +164,7 @@ public class ServiceDiscoveryHelper {
                 if (allInstances.size() == 1) {
                     return allInstances;
                 }
-                int randomIndex = new Random().nextInt(allInstances.size());
+                int randomIndex = ThreadLocalRandom.current().nextInt(allInstances.size());
                 return Collections.singletonList(allInstances.get(randomIndex));
 
             case ROUND_ROBIN:
@@ -157,6 +175,10 @@ public class ServiceDiscoveryHelper {
                 int index = counter.getAndIncrement() % allInstances.size();
                 return Collections.singletonList(allInstances.get(index));
 
+            case LEAST_LATENCY:
+                String poolKey = buildCacheKey(serviceKey, namespace);
+                return Collections.singletonList(latencyTracker.select(poolKey, allInstances));
+
             default:
                 throw new IllegalArgumentException("Unsupported strategy: " + strategy);
         }
@@ -180,6 +202,25 @@ public class ServiceDiscoveryHelper {
         }
     }
 
+    /**
+     * 回写实例调用结果（供 LEAST_LATENCY 策略使用）
+     *
+     * @param selected 选中的实例
+     * @param latencyMs 调用耗时
+     * @param success 是否成功
+     */
+    public void recordInstanceOutcome(SelectedInstance selected, long latencyMs, boolean success) {
+        String poolKey = buildCacheKey(selected.serviceKey(), selected.namespace());
+        latencyTracker.record(poolKey, selected.instance(), latencyMs, success);
+    }
+
+    /**
+     * 获取实例延迟统计（用于监控）
+     */
+    public Map<String, Map<String, InstanceLatencyTracker.InstanceSnapshot>> getInstanceLatencyStats() {
+        return latencyTracker.getStats();
+    }
+
     /**
      * 清除缓存
      */
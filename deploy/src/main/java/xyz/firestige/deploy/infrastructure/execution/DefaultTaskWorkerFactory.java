@@ -2,12 +2,18 @@ package xyz.firestige.deploy.infrastructure.execution;
 
 import org.springframework.context.ApplicationEventPublisher;
 import xyz.firestige.deploy.application.checkpoint.CheckpointService;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.task.TaskDomainService;
 import xyz.firestige.deploy.domain.task.StateTransitionService;
 import xyz.firestige.deploy.infrastructure.metrics.MetricsRegistry;
 import xyz.firestige.deploy.infrastructure.metrics.NoopMetricsRegistry;
+import xyz.firestige.deploy.infrastructure.metrics.TrackingMetricsRegistry;
 import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Default implementation of TaskWorkerFactory
  * <p>
@@ -23,6 +29,10 @@ public class DefaultTaskWorkerFactory implements TaskWorkerFactory {
     private final TenantConflictManager conflictManager;
     private final int progressIntervalSeconds;
     private final MetricsRegistry metrics;
+    private final ExecutorService stageExecutor;
+    private final int maxParallelStages;
+    // 按 Plan 记录带 plan 标签的计量及引用它的 TaskExecutor 数，最后一个 TaskExecutor 结束时统一移除
+    private final Map<PlanId, PlanMetrics> planMetrics = new ConcurrentHashMap<>();
 
     /**
      * RF-18: 构造函数（方案C架构）
@@ -43,6 +53,26 @@ public class DefaultTaskWorkerFactory implements TaskWorkerFactory {
             TenantConflictManager conflictManager,
             int progressIntervalSeconds,
             MetricsRegistry metrics) {
+        this(taskDomainService, stateTransitionService, technicalEventPublisher, checkpointService,
+            conflictManager, progressIntervalSeconds, metrics, null, 1);
+    }
+
+    /**
+     * 构造函数（支持 Stage 并行执行）
+     *
+     * @param stageExecutor Shared executor for running independent stages (null = sequential)
+     * @param maxParallelStages Max stages running concurrently within one task
+     */
+    public DefaultTaskWorkerFactory(
+            TaskDomainService taskDomainService,
+            StateTransitionService stateTransitionService,
+            ApplicationEventPublisher technicalEventPublisher,
+            CheckpointService checkpointService,
+            TenantConflictManager conflictManager,
+            int progressIntervalSeconds,
+            MetricsRegistry metrics,
+            ExecutorService stageExecutor,
+            int maxParallelStages) {
         this.taskDomainService = taskDomainService;
         this.stateTransitionService = stateTransitionService;
         this.technicalEventPublisher = technicalEventPublisher;
@@ -50,6 +80,8 @@ public class DefaultTaskWorkerFactory implements TaskWorkerFactory {
         this.conflictManager = conflictManager;
         this.progressIntervalSeconds = progressIntervalSeconds;
         this.metrics = metrics != null ? metrics : new NoopMetricsRegistry();
+        this.stageExecutor = stageExecutor;
+        this.maxParallelStages = maxParallelStages;
     }
 
     /**
@@ -64,6 +96,8 @@ public class DefaultTaskWorkerFactory implements TaskWorkerFactory {
      */
     @Override
     public TaskExecutor create(TaskWorkerCreationContext context) {
+        PlanId planId = context.getPlanId();
+        TrackingMetricsRegistry metrics = acquirePlanMetrics(planId);
         TaskExecutor executor = new TaskExecutor(
             context.getPlanId(),
             context.getTask(),
@@ -87,6 +121,41 @@ public class DefaultTaskWorkerFactory implements TaskWorkerFactory {
         );
 
         executor.setHeartbeatScheduler(heartbeat);
+        executor.setStageExecutor(stageExecutor, maxParallelStages);
+        executor.setFinishedCallback(() -> releasePlanMetrics(planId));
         return executor;
     }
+
+    /**
+     * 增加 Plan 计量的引用计数（与释放在同一个 compute 内互斥，不会拿到正在移除的计量）
+     */
+    private TrackingMetricsRegistry acquirePlanMetrics(PlanId planId) {
+        return planMetrics.compute(planId, (id, current) -> {
+            PlanMetrics entry = current != null ? current : new PlanMetrics(new TrackingMetricsRegistry(metrics));
+            entry.executors++;
+            return entry;
+        }).registry;
+    }
+
+    /**
+     * TaskExecutor 结束：该 Plan 的最后一个 TaskExecutor 结束时移除其带 plan 标签的计量
+     */
+    private void releasePlanMetrics(PlanId planId) {
+        planMetrics.computeIfPresent(planId, (id, entry) -> {
+            if (--entry.executors > 0) {
+                return entry;
+            }
+            entry.registry.removeAll();
+            return null;
+        });
+    }
+
+    private static final class PlanMetrics {
+        private final TrackingMetricsRegistry registry;
+        private int executors;
+
+        private PlanMetrics(TrackingMetricsRegistry registry) {
+            this.registry = registry;
+        }
+    }
 }
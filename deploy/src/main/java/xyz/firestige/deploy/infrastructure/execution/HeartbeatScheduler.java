@@ -10,6 +10,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import xyz.firestige.deploy.domain.task.TaskAggregate;
 import xyz.firestige.deploy.domain.task.StageProgress;
 import xyz.firestige.deploy.infrastructure.event.monitoring.TaskProgressMonitoringEvent;
+import xyz.firestige.deploy.infrastructure.metrics.MetricHistogram;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTags;
 import xyz.firestige.deploy.infrastructure.metrics.MetricsRegistry;
 import xyz.firestige.deploy.infrastructure.metrics.NoopMetricsRegistry;
 
@@ -35,7 +37,8 @@ public class HeartbeatScheduler {
     private ScheduledFuture<?> future;
     private volatile boolean started;
     private final MetricsRegistry metrics;
-    private final String gaugeName;
+    private final MetricHistogram lagHistogram;
+    private final Runnable beatListener;
 
     /**
      * RF-18: 新构造函数（基于 TaskAggregate）
@@ -45,11 +48,28 @@ public class HeartbeatScheduler {
             ApplicationEventPublisher eventPublisher,
             int intervalSeconds,
             MetricsRegistry metrics) {
+        this(task, eventPublisher, intervalSeconds, metrics, null);
+    }
+
+    /**
+     * @param beatListener 每次心跳时回调（如续期租户锁租约），可为 null
+     */
+    public HeartbeatScheduler(
+            TaskAggregate task,
+            ApplicationEventPublisher eventPublisher,
+            int intervalSeconds,
+            MetricsRegistry metrics,
+            Runnable beatListener) {
         this.task = task;
         this.eventPublisher = eventPublisher;
         this.intervalSeconds = intervalSeconds;
         this.metrics = metrics != null ? metrics : new NoopMetricsRegistry();
-        this.gaugeName = "task_heartbeat_lag";
+        // 按 Plan 打标签，避免所有任务覆盖同一个全局 gauge
+        MetricTags tags = task.getPlanId() != null
+                ? MetricTags.of("plan", task.getPlanId().getValue().toString())
+                : MetricTags.EMPTY;
+        this.lagHistogram = this.metrics.histogram("executor.task.heartbeat.lag", tags);
+        this.beatListener = beatListener;
     }
 
     public synchronized void start() {
@@ -62,6 +82,10 @@ public class HeartbeatScheduler {
         future = scheduler.scheduleAtFixedRate(() -> {
             if (stopped) return;
             try {
+                if (beatListener != null) {
+                    beatListener.run();
+                }
+
                 // ✅ 只读取聚合状态
                 StageProgress progress = task.getStageProgress();
                 if (progress == null) {
@@ -82,7 +106,7 @@ public class HeartbeatScheduler {
                 
                 // 更新 metrics
                 int lag = Math.max(0, progress.getTotalStages() - progress.getCurrentStageIndex());
-                metrics.setGauge(gaugeName, lag);
+                lagHistogram.record(lag);
                 
             } catch (Exception e) {
                 // 心跳失败不影响主流程
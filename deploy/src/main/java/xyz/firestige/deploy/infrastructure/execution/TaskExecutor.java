@@ -3,7 +3,19 @@ package xyz.firestige.deploy.infrastructure.execution;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,10 +31,16 @@ import xyz.firestige.deploy.domain.task.TaskAggregate;
 import xyz.firestige.deploy.domain.task.TaskDomainService;
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
 import xyz.firestige.deploy.domain.task.TaskStatus;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageGraph;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.metrics.MetricHistogram;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTags;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTimer;
 import xyz.firestige.deploy.infrastructure.metrics.MetricsRegistry;
 import xyz.firestige.deploy.infrastructure.metrics.NoopMetricsRegistry;
 import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
+import xyz.firestige.redis.ack.api.AckResult;
 
 /**
  * TaskExecutor（RF-18: 基于方案C的事件驱动架构重构）
@@ -40,11 +58,11 @@ import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
  * 
  * <p>职责：
  * <ul>
- *   <li>编排 Stage 执行流程</li>
+ *   <li>编排 Stage 执行流程（按依赖图调度，无依赖的 Stage 可并行）</li>
  *   <li>通过 StateTransitionService 进行低成本前置检查</li>
  *   <li>通过 TaskDomainService 执行高成本状态转换</li>
  *   <li>管理 HeartbeatScheduler 心跳</li>
- *   <li>处理 Checkpoint 保存/恢复</li>
+ *   <li>处理 Checkpoint 保存/恢复（以已完成 Stage 集合为准）</li>
  *   <li>处理租户冲突管理</li>
  * </ul>
  * 
@@ -54,6 +72,12 @@ public class TaskExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(TaskExecutor.class);
 
+    static final String METRIC_STAGE_DURATION = "executor.stage.duration";
+    static final String METRIC_QUEUE_WAIT = "executor.task.queue.wait";
+    static final String METRIC_CHECKPOINT_SAVE = "executor.checkpoint.save";
+    static final String METRIC_ACK_DURATION = "executor.ack.duration";
+    static final String METRIC_ACK_ATTEMPTS = "executor.ack.attempts";
+
     private final PlanId planId;
     private final TaskAggregate task;
     private final List<TaskStage> stages;
@@ -69,10 +93,27 @@ public class TaskExecutor {
     private final TenantConflictManager conflictManager;
     private final MetricsRegistry metrics;
 
+    // 带标签指标句柄（构造时按 plan/stage 解析，执行中只记录）
+    private final MetricTimer queueWaitTimer;
+    private final MetricTimer checkpointTimer;
+    private final Map<String, StageMeters> stageMeters;
+    private volatile long queuedAtNanos;
+
     // 心跳调度器
     private final int progressIntervalSeconds;
     private volatile HeartbeatScheduler heartbeatScheduler;
 
+    // 心跳续期失败（租户已被其他任务占用）：停止提交 Stage，在 Stage 边界中止任务
+    private volatile boolean leaseLost;
+
+    // 执行结束回调（释放按 Plan 持有的资源，只触发一次）
+    private volatile Runnable finishedCallback;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    // Stage 并行执行（未设置时串行）
+    private ExecutorService stageExecutor;
+    private int maxParallelStages = 1;
+
     /**
      * RF-18: 新构造函数（完整依赖）
      */
@@ -99,12 +140,59 @@ public class TaskExecutor {
         this.conflictManager = conflictManager;
         this.progressIntervalSeconds = progressIntervalSeconds <= 0 ? 10 : progressIntervalSeconds;
         this.metrics = metrics != null ? metrics : new NoopMetricsRegistry();
+
+        MetricTags planTags = MetricTags.of("plan", planId.getValue().toString());
+        this.queueWaitTimer = this.metrics.timer(METRIC_QUEUE_WAIT, planTags);
+        this.checkpointTimer = this.metrics.timer(METRIC_CHECKPOINT_SAVE, planTags);
+        Map<String, StageMeters> meters = new HashMap<>();
+        for (TaskStage stage : this.stages) {
+            meters.put(stage.getName(), new StageMeters(
+                this.metrics.timer(METRIC_STAGE_DURATION, planTags.and("stage", stage.getName())),
+                this.metrics.timer(METRIC_ACK_DURATION, planTags.and("service", stage.getName())),
+                this.metrics.histogram(METRIC_ACK_ATTEMPTS, planTags.and("service", stage.getName()))));
+        }
+        this.stageMeters = meters;
+    }
+
+    /**
+     * 标记任务入队时间（{@link System#nanoTime()}），execute 开始时记录排队等待时长
+     */
+    public void markQueued(long nanoTime) {
+        this.queuedAtNanos = nanoTime;
     }
 
     public void setHeartbeatScheduler(HeartbeatScheduler heartbeatScheduler) {
         this.heartbeatScheduler = heartbeatScheduler;
     }
 
+    /**
+     * 设置执行结束回调
+     * <p>
+     * execute/retry/rollback 任一入口返回后触发一次（TaskExecutor 为一次性对象，结束后不再复用），
+     * 用于释放工厂按 Plan 分配的资源（如带 plan 标签的计量）。
+     */
+    public void setFinishedCallback(Runnable finishedCallback) {
+        this.finishedCallback = finishedCallback;
+    }
+
+    private void finish() {
+        Runnable callback = finishedCallback;
+        if (callback != null && finished.compareAndSet(false, true)) {
+            callback.run();
+        }
+    }
+
+    /**
+     * 设置 Stage 并行执行器
+     *
+     * @param stageExecutor 共享的 Stage 执行线程池
+     * @param maxParallelStages 单个任务同时运行的最大 Stage 数（<=1 表示串行）
+     */
+    public void setStageExecutor(ExecutorService stageExecutor, int maxParallelStages) {
+        this.stageExecutor = stageExecutor;
+        this.maxParallelStages = maxParallelStages;
+    }
+
     public String getCurrentStageName() {
         int idx = task.getCurrentStageIndex() - 1;
         if (idx >= 0 && idx < stages.size()) return stages.get(idx).getName();
@@ -115,6 +203,17 @@ public class TaskExecutor {
      * RF-18: 执行任务（基于方案C架构）
      */
     public TaskResult execute() {
+        try {
+            return runExecute(false);
+        } finally {
+            finish();
+        }
+    }
+
+    /**
+     * @param retried 由 retry 调用：任务已由 retryTask 转为 RUNNING，跳过启动前的状态转换检查
+     */
+    private TaskResult runExecute(boolean retried) {
         TaskId taskId = task.getTaskId();
         LocalDateTime startTime = LocalDateTime.now();
         List<StageResult> completedStages = new ArrayList<>();
@@ -123,12 +222,17 @@ public class TaskExecutor {
             // 注入 MDC
             context.injectMdc(null);
             metrics.incrementCounter("task_active");
+            long queuedAt = queuedAtNanos;
+            if (queuedAt != 0) {
+                queueWaitTimer.recordSince(queuedAt);
+                queuedAtNanos = 0;
+            }
             
             // 1. ✅ 前置检查：是否可以启动/恢复
             TaskStatus currentStatus = task.getStatus();
             TaskStatus targetStatus = TaskStatus.RUNNING;
             
-            if (!stateTransitionService.canTransition(task, targetStatus, context)) {
+            if (!retried && !stateTransitionService.canTransition(task, targetStatus, context)) {
                 log.error("状态转换不允许: {} -> {}, taskId: {}", currentStatus, targetStatus, taskId);
                 return TaskResult.fail(
                     planId,
@@ -140,6 +244,18 @@ public class TaskExecutor {
                 );
             }
             
+            // 1.1 获得并发许可后刷新租约（排队期间租约可能已过期并被其他任务占用）
+            if (!acquireTenantLease()) {
+                return TaskResult.fail(
+                    planId,
+                    taskId,
+                    currentStatus,
+                    "租户锁已被其他任务占用: " + task.getTenantId(),
+                    Duration.between(startTime, LocalDateTime.now()),
+                    completedStages
+                );
+            }
+
             // 2. ✅ 通过检查后才执行高成本操作
             if (currentStatus == TaskStatus.PAUSED) {
                 taskDomainService.resumeTask(task, context);
@@ -147,6 +263,8 @@ public class TaskExecutor {
             } else if (currentStatus == TaskStatus.PENDING) {
                 taskDomainService.startTask(task, context);
                 log.info("任务开始执行, taskId: {}", taskId);
+            } else if (retried) {
+                log.info("任务重试执行, taskId: {}", taskId);
             } else {
                 log.warn("任务状态异常: {}, 尝试继续执行, taskId: {}", currentStatus, taskId);
             }
@@ -154,112 +272,21 @@ public class TaskExecutor {
             // 3. 启动心跳
             startHeartbeat();
             
-            // 4. 从检查点恢复
+            // 4. 从检查点恢复（以已完成 Stage 集合为准）
             var checkpoint = checkpointService.loadCheckpoint(task);
-            int startIndex = (checkpoint != null) ? checkpoint.getLastCompletedStageIndex() + 1 : 0;
-            log.info("从 Stage 索引 {} 开始执行, taskId: {}", startIndex, taskId);
-            
-            // 5. 执行 Stages
-            for (int i = startIndex; i < stages.size(); i++) {
-                TaskStage stage = stages.get(i);
-                String stageName = stage.getName();
-                int totalSteps = stage.getSteps().size();
+            Set<String> completedNames = checkpoint != null
+                ? checkpoint.getCompletedStageSet()
+                : new LinkedHashSet<>();
+            StageGraph graph = StageGraph.of(stages);
+            log.info("已完成 Stage: {}, 待执行 {} 个, taskId: {}",
+                completedNames, graph.size() - completedNames.size(), taskId);
 
-                // RF-19-01: ✅ 通过领域服务开始 Stage（产生 TaskStageStartedEvent）
-                taskDomainService.startStage(task, stageName, totalSteps);
-
-                // 执行 Stage
-                log.info("开始执行 Stage: {}, taskId: {}", stageName, taskId);
-                context.injectMdc(stageName);
-                
-                StageResult stageResult = stage.execute(context);
-                
-                if (stageResult.isSuccess()) {
-                    // ✅ Stage 成功（产生 TaskStageCompletedEvent）
-                    Duration duration = stageResult.getDuration();
-                    taskDomainService.completeStage(task, stageName, duration, context);
-                    
-                    completedStages.add(stageResult);
-                    checkpointService.saveCheckpoint(task, extractStageNames(completedStages), i);
-                    
-                    log.info("Stage 执行成功: {}, 耗时: {}ms, taskId: {}", 
-                        stageName, stageResult.getDuration().toMillis(), taskId);
-                } else {
-                    // RF-19-01: ✅ Stage 失败：先记录 Stage 失败（产生 TaskStageFailedEvent）
-                    log.error("Stage 执行失败: {}, 原因: {}, taskId: {}",
-                        stageName, stageResult.getFailureInfo().getErrorMessage(), taskId);
-                    
-                    taskDomainService.failStage(task, stageName, stageResult.getFailureInfo());
-
-                    // 再标记 Task 失败
-                    // RF-19: 前置检查状态转换
-                    if (stateTransitionService.canTransition(task, TaskStatus.FAILED, context)) {
-                        taskDomainService.failTask(task, stageResult.getFailureInfo(), context);
-                        log.info("任务状态已更新为 FAILED, taskId: {}", taskId);
-                    } else {
-                        log.warn("当前状态不允许转换为 FAILED: {}, taskId: {}", task.getStatus(), taskId);
-                    }
-                    
-                    stopHeartbeat();
-                    releaseTenantLock();
-                    metrics.incrementCounter("task_failed");
-                    
-                    return TaskResult.fail(
-                        planId,
-                        taskId,
-                        task.getStatus(),
-                        stageResult.getFailureInfo().getErrorMessage(),
-                        Duration.between(startTime, LocalDateTime.now()),
-                        completedStages
-                    );
-                }
-                
-                // 检查暂停请求
-                if (context.isPauseRequested()) {
-                    // RF-19: 前置检查状态转换
-                    if (stateTransitionService.canTransition(task, TaskStatus.PAUSED, context)) {
-                        taskDomainService.pauseTask(task, context);
-                        log.info("任务暂停, taskId: {}", taskId);
-                        
-                        stopHeartbeat();
-                        metrics.incrementCounter("task_paused");
-                        
-                        return TaskResult.ok(
-                            planId,
-                            taskId,
-                            task.getStatus(),
-                            Duration.between(startTime, LocalDateTime.now()),
-                            completedStages
-                        );
-                    } else {
-                        log.warn("收到暂停请求但当前状态不允许暂停: {}, taskId: {}", task.getStatus(), taskId);
-                        // 继续执行，不暂停
-                    }
-                }
-                
-                // 检查取消请求
-                if (context.isCancelRequested()) {
-                    // RF-19: 前置检查状态转换
-                    if (stateTransitionService.canTransition(task, TaskStatus.CANCELLED, context)) {
-                        taskDomainService.cancelTask(task, "用户取消", context);
-                        log.info("任务取消, taskId: {}", taskId);
-                        
-                        stopHeartbeat();
-                        releaseTenantLock();
-                        metrics.incrementCounter("task_cancelled");
-                        
-                        return TaskResult.ok(
-                            planId,
-                            taskId,
-                            task.getStatus(),
-                            Duration.between(startTime, LocalDateTime.now()),
-                            completedStages
-                        );
-                    } else {
-                        log.warn("收到取消请求但当前状态不允许取消: {}, taskId: {}", task.getStatus(), taskId);
-                        // 继续执行，不取消
-                    }
-                }
+            // 5. 执行 Stages（按依赖图调度：无依赖关系的 Stage 并行，受 maxParallelStages 限制）
+            TaskResult interrupted = isParallelEnabled()
+                ? executeStagesInParallel(graph, completedNames, completedStages, startTime)
+                : executeStagesSequentially(graph, completedNames, completedStages, startTime);
+            if (interrupted != null) {
+                return interrupted;
             }
             
             // 6. 完成任务
@@ -315,6 +342,340 @@ public class TaskExecutor {
         }
     }
 
+    /**
+     * 串行执行（按拓扑序，跳过检查点中已完成的 Stage）
+     *
+     * @return 失败/暂停/取消时的结果；全部执行完成返回 null
+     */
+    private TaskResult executeStagesSequentially(StageGraph graph,
+                                                 Set<String> completedNames,
+                                                 List<StageResult> completedStages,
+                                                 LocalDateTime startTime) {
+        TaskId taskId = task.getTaskId();
+        for (TaskStage stage : graph.topologicalOrder()) {
+            String stageName = stage.getName();
+            if (completedNames.contains(stageName)) {
+                continue;
+            }
+
+            // RF-19-01: ✅ 通过领域服务开始 Stage（产生 TaskStageStartedEvent）
+            taskDomainService.startStage(task, stageName, stage.getSteps().size());
+
+            // 执行 Stage
+            log.info("开始执行 Stage: {}, taskId: {}", stageName, taskId);
+            context.injectMdc(stageName);
+
+            StageResult stageResult = executeStageAsync(stage, context).join();
+
+            if (stageResult.isSuccess()) {
+                onStageSucceeded(stageResult, completedNames, completedStages);
+            } else {
+                recordStageFailure(stageResult);
+                return failTaskOnStage(stageResult, completedStages, startTime);
+            }
+
+            TaskResult interrupted = checkPauseOrCancel(completedStages, startTime);
+            if (interrupted != null) {
+                return interrupted;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 并行执行（依赖满足即提交到 stageExecutor，同一任务最多 maxParallelStages 个 Stage 同时运行）
+     *
+     * <p>线程模型：Stage 在 stageExecutor 中使用 fork 出的私有上下文启动，遇到异步 Step（如轮询）即归还线程，
+     * Step 完成后再回到 stageExecutor 继续；Stage 结束时把结果放入完成队列。
+     * 聚合状态变更（startStage/completeStage/failStage）与 Checkpoint 只在当前协调线程进行，
+     * 协调线程是唯一等待的线程。Stage 成功后由协调线程把其私有上下文写入的变量合并回任务上下文，
+     * 之后才提交依赖它的 Stage，因此依赖方、后续重试与回滚看到的变量与串行执行一致；失败 Stage 的写入丢弃。
+     *
+     * <p>任一 Stage 失败或收到可执行的暂停/取消请求后，不再提交新 Stage，等待运行中的 Stage 结束再处理。
+     *
+     * @return 失败/暂停/取消时的结果；全部执行完成返回 null
+     */
+    private TaskResult executeStagesInParallel(StageGraph graph,
+                                               Set<String> completedNames,
+                                               List<StageResult> completedStages,
+                                               LocalDateTime startTime) throws InterruptedException {
+        TaskId taskId = task.getTaskId();
+        BlockingQueue<StageResult> finished = new LinkedBlockingQueue<>();
+        Set<String> running = new HashSet<>();
+        Map<String, TaskRuntimeContext> stageContexts = new HashMap<>();
+
+        while (completedNames.size() < graph.size()) {
+            int completedBefore = completedNames.size();
+            StageResult firstFailure = null;
+            boolean stopSubmitting = false;
+
+            do {
+                if (!stopSubmitting) {
+                    for (TaskStage stage : graph.readyStages(completedNames, running)) {
+                        if (running.size() >= maxParallelStages) {
+                            break;
+                        }
+                        String stageName = stage.getName();
+                        taskDomainService.startStage(task, stageName, stage.getSteps().size());
+                        log.info("开始执行 Stage: {}, 并行中: {}, taskId: {}", stageName, running, taskId);
+
+                        running.add(stageName);
+                        TaskRuntimeContext stageContext = context.fork();
+                        stageContexts.put(stageName, stageContext);
+                        CompletableFuture.supplyAsync(() -> startStage(stage, stageContext), stageExecutor)
+                            .thenCompose(Function.identity())
+                            .whenComplete((result, error) ->
+                                finished.add(result != null ? result : stageFailure(stage, error)));
+                    }
+                }
+                if (running.isEmpty()) {
+                    break;
+                }
+
+                StageResult stageResult = finished.take();
+                running.remove(stageResult.getStageName());
+                TaskRuntimeContext stageContext = stageContexts.remove(stageResult.getStageName());
+
+                if (stageResult.isSuccess()) {
+                    context.mergeFrom(stageContext);
+                    onStageSucceeded(stageResult, completedNames, completedStages);
+                } else {
+                    recordStageFailure(stageResult);
+                    if (firstFailure == null) {
+                        firstFailure = stageResult;
+                    }
+                }
+                stopSubmitting = firstFailure != null || isStopRequested();
+            } while (!running.isEmpty() || (!stopSubmitting && completedNames.size() < graph.size()));
+
+            if (firstFailure != null) {
+                return failTaskOnStage(firstFailure, completedStages, startTime);
+            }
+
+            TaskResult interrupted = checkPauseOrCancel(completedStages, startTime);
+            if (interrupted != null) {
+                return interrupted;
+            }
+            if (completedNames.size() == completedBefore) {
+                throw new IllegalStateException("Stage 依赖无法满足，已完成: " + completedNames);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在 stageExecutor 线程上启动单个 Stage（MDC 只覆盖启动阶段的同步部分）
+     */
+    private CompletableFuture<StageResult> startStage(TaskStage stage, TaskRuntimeContext stageContext) {
+        stageContext.injectMdc(stage.getName());
+        try {
+            return executeStageAsync(stage, stageContext);
+        } finally {
+            stageContext.clearMdc();
+        }
+    }
+
+    /**
+     * 执行 Stage 并记录耗时与 ACK 指标（ACK 结果取自本次执行写入上下文的 AckResult）
+     * <p>
+     * 异步 Step 完成后在 stageExecutor 上继续（未设置时在完成线程上继续）；异常转为失败结果
+     */
+    private CompletableFuture<StageResult> executeStageAsync(TaskStage stage, TaskRuntimeContext stageContext) {
+        StageMeters meters = stageMeters.get(stage.getName());
+        stageContext.put(StageContextKeys.ACK_RESULT, null);
+        long start = System.nanoTime();
+        CompletableFuture<StageResult> future;
+        try {
+            future = stage.executeAsync(stageContext, stageExecutor);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((result, error) -> {
+            if (meters != null) {
+                meters.duration.recordSince(start);
+                AckResult ack = stageContext.get(StageContextKeys.ACK_RESULT);
+                if (ack != null) {
+                    meters.ackAttempts.record(ack.getAttempts());
+                    if (ack.getElapsed() != null) {
+                        meters.ackDuration.record(ack.getElapsed());
+                    }
+                }
+            }
+            return error != null ? stageFailure(stage, error) : result;
+        });
+    }
+
+    private StageResult stageFailure(TaskStage stage, Throwable error) {
+        Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+        log.error("Stage 执行异常: {}, taskId: {}", stage.getName(), task.getTaskId(), cause);
+        StageResult result = StageResult.start(stage.getName());
+        result.failure(FailureInfo.of(ErrorType.SYSTEM_ERROR,
+            String.format("Stage '%s' 执行异常: %s", stage.getName(), cause.getMessage())));
+        return result;
+    }
+
+    /**
+     * 暂停/取消请求当前是否可以生效（可生效才停止提交新 Stage）
+     */
+    private boolean isStopRequested() {
+        return leaseLost
+            || (context.isPauseRequested() && stateTransitionService.canTransition(task, TaskStatus.PAUSED, context))
+            || (context.isCancelRequested() && stateTransitionService.canTransition(task, TaskStatus.CANCELLED, context));
+    }
+
+    private boolean isParallelEnabled() {
+        return stageExecutor != null && maxParallelStages > 1 && stages.size() > 1;
+    }
+
+    /**
+     * Stage 成功：推进聚合进度（产生 TaskStageCompletedEvent）并保存检查点
+     */
+    private void onStageSucceeded(StageResult stageResult, Set<String> completedNames, List<StageResult> completedStages) {
+        String stageName = stageResult.getStageName();
+        taskDomainService.completeStage(task, stageName, stageResult.getDuration(), context);
+
+        completedStages.add(stageResult);
+        completedNames.add(stageName);
+        // 最后一个 Stage 完成时聚合已自动转为 COMPLETED，检查点随后清除，无需保存
+        if (task.getStatus() == TaskStatus.RUNNING) {
+            long checkpointStart = System.nanoTime();
+            checkpointService.saveCheckpoint(task, completedNames);
+            checkpointTimer.recordSince(checkpointStart);
+        }
+
+        log.info("Stage 执行成功: {}, 耗时: {}ms, taskId: {}",
+            stageName, stageResult.getDuration().toMillis(), task.getTaskId());
+    }
+
+    /**
+     * RF-19-01: ✅ 记录 Stage 失败（产生 TaskStageFailedEvent）
+     */
+    private void recordStageFailure(StageResult stageResult) {
+        log.error("Stage 执行失败: {}, 原因: {}, taskId: {}",
+            stageResult.getStageName(), stageResult.getFailureInfo().getErrorMessage(), task.getTaskId());
+        taskDomainService.failStage(task, stageResult.getStageName(), stageResult.getFailureInfo());
+    }
+
+    /**
+     * Stage 失败后标记 Task 失败
+     */
+    private TaskResult failTaskOnStage(StageResult stageResult, List<StageResult> completedStages, LocalDateTime startTime) {
+        if (leaseLost) {
+            return abortOnLeaseLost(completedStages, startTime);
+        }
+        TaskId taskId = task.getTaskId();
+        // RF-19: 前置检查状态转换
+        if (stateTransitionService.canTransition(task, TaskStatus.FAILED, context)) {
+            taskDomainService.failTask(task, stageResult.getFailureInfo(), context);
+            log.info("任务状态已更新为 FAILED, taskId: {}", taskId);
+        } else {
+            log.warn("当前状态不允许转换为 FAILED: {}, taskId: {}", task.getStatus(), taskId);
+        }
+
+        stopHeartbeat();
+        releaseTenantLock();
+        metrics.incrementCounter("task_failed");
+
+        return TaskResult.fail(
+            planId,
+            taskId,
+            task.getStatus(),
+            stageResult.getFailureInfo().getErrorMessage(),
+            Duration.between(startTime, LocalDateTime.now()),
+            completedStages
+        );
+    }
+
+    /**
+     * 在 Stage 边界检查暂停/取消请求
+     *
+     * @return 暂停或取消生效时的结果，否则 null
+     */
+    private TaskResult checkPauseOrCancel(List<StageResult> completedStages, LocalDateTime startTime) {
+        TaskId taskId = task.getTaskId();
+
+        if (leaseLost) {
+            return abortOnLeaseLost(completedStages, startTime);
+        }
+
+        // 检查暂停请求
+        if (context.isPauseRequested()) {
+            // RF-19: 前置检查状态转换
+            if (stateTransitionService.canTransition(task, TaskStatus.PAUSED, context)) {
+                taskDomainService.pauseTask(task, context);
+                log.info("任务暂停, taskId: {}", taskId);
+
+                stopHeartbeat();
+                pinTenantLease();
+                metrics.incrementCounter("task_paused");
+
+                return TaskResult.ok(
+                    planId,
+                    taskId,
+                    task.getStatus(),
+                    Duration.between(startTime, LocalDateTime.now()),
+                    completedStages
+                );
+            } else {
+                log.warn("收到暂停请求但当前状态不允许暂停: {}, taskId: {}", task.getStatus(), taskId);
+                // 继续执行，不暂停
+            }
+        }
+
+        // 检查取消请求
+        if (context.isCancelRequested()) {
+            // RF-19: 前置检查状态转换
+            if (stateTransitionService.canTransition(task, TaskStatus.CANCELLED, context)) {
+                taskDomainService.cancelTask(task, "用户取消", context);
+                log.info("任务取消, taskId: {}", taskId);
+
+                stopHeartbeat();
+                releaseTenantLock();
+                metrics.incrementCounter("task_cancelled");
+
+                return TaskResult.ok(
+                    planId,
+                    taskId,
+                    task.getStatus(),
+                    Duration.between(startTime, LocalDateTime.now()),
+                    completedStages
+                );
+            } else {
+                log.warn("收到取消请求但当前状态不允许取消: {}, taskId: {}", task.getStatus(), taskId);
+                // 继续执行，不取消
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 租约丢失后中止任务（租户锁已归其他任务，不释放）
+     */
+    private TaskResult abortOnLeaseLost(List<StageResult> completedStages, LocalDateTime startTime) {
+        TaskId taskId = task.getTaskId();
+        // 取消标记仅用于打断运行中的 Step，不作为用户取消处理
+        context.clearCancel();
+        String message = "租户锁租约已被其他任务占用，任务中止: " + task.getTenantId();
+        if (stateTransitionService.canTransition(task, TaskStatus.FAILED, context)) {
+            taskDomainService.failTask(task, FailureInfo.of(ErrorType.SYSTEM_ERROR, message), context);
+            log.error("{}, taskId: {}", message, taskId);
+        } else {
+            log.warn("租约丢失但当前状态不允许转换为 FAILED: {}, taskId: {}", task.getStatus(), taskId);
+        }
+
+        stopHeartbeat();
+        metrics.incrementCounter("task_failed");
+
+        return TaskResult.fail(
+            planId,
+            taskId,
+            task.getStatus(),
+            message,
+            Duration.between(startTime, LocalDateTime.now()),
+            completedStages
+        );
+    }
+
     /**
      * 启动心跳调度器
      */
@@ -325,7 +686,8 @@ public class TaskExecutor {
                 task,
                 technicalEventPublisher,
                 progressIntervalSeconds,
-                metrics
+                metrics,
+                conflictManager != null ? this::renewTenantLease : null
             );
         }
         
@@ -346,24 +708,54 @@ public class TaskExecutor {
     }
 
     /**
-     * 释放租户锁
+     * 获取/刷新租户锁租约（开始执行或回滚前调用，此时已获得并发许可）
+     *
+     * @return false=租户已被其他任务占用
      */
-    private void releaseTenantLock() {
+    private boolean acquireTenantLease() {
+        if (conflictManager == null) {
+            return true;
+        }
+        if (conflictManager.renewLease(task.getTenantId(), task.getTaskId())) {
+            leaseLost = false;
+            return true;
+        }
+        log.error("租户锁已被其他任务占用, tenantId: {}, taskId: {}, 持有任务: {}",
+            task.getTenantId(), task.getTaskId(), conflictManager.getConflictingTaskId(task.getTenantId()));
+        return false;
+    }
+
+    /**
+     * 续期租户锁租约（心跳回调）
+     * <p>
+     * 续期失败说明租约已过期并被其他任务占用：标记租约丢失并请求取消以打断运行中的 Step，
+     * 任务在 Stage 边界失败
+     */
+    private void renewTenantLease() {
+        if (leaseLost || conflictManager.renewLease(task.getTenantId(), task.getTaskId())) {
+            return;
+        }
+        leaseLost = true;
+        context.requestCancel();
+        log.error("租户锁租约已被其他任务占用，中止任务, tenantId: {}, taskId: {}", task.getTenantId(), task.getTaskId());
+    }
+
+    /**
+     * 暂停期间不再心跳，固定租约防止被回收
+     */
+    private void pinTenantLease() {
         if (conflictManager != null) {
-            conflictManager.releaseTask(task.getTenantId());
-            log.debug("租户锁已释放, tenantId: {}", task.getTenantId());
+            conflictManager.pinLease(task.getTenantId(), task.getTaskId());
         }
     }
 
     /**
-     * 提取 Stage 名称列表
+     * 释放租户锁（只释放本任务持有的租约）
      */
-    private List<String> extractStageNames(List<StageResult> results) {
-        List<String> names = new ArrayList<>();
-        for (StageResult r : results) {
-            names.add(r.getStageName());
+    private void releaseTenantLock() {
+        if (conflictManager != null && conflictManager.releaseTask(task.getTenantId(), task.getTaskId())) {
+            log.debug("租户锁已释放, tenantId: {}", task.getTenantId());
         }
-        return names;
     }
 
     public int getCompletedStageCount() {
@@ -382,6 +774,14 @@ public class TaskExecutor {
      * </ol>
      */
     public TaskResult rollback() {
+        try {
+            return runRollback();
+        } finally {
+            finish();
+        }
+    }
+
+    private TaskResult runRollback() {
         TaskId taskId = task.getTaskId();
         LocalDateTime startTime = LocalDateTime.now();
         List<StageResult> rollbackStages = new ArrayList<>();
@@ -400,6 +800,17 @@ public class TaskExecutor {
                 );
             }
             
+            if (!acquireTenantLease()) {
+                return TaskResult.fail(
+                    planId,
+                    taskId,
+                    task.getStatus(),
+                    "租户锁已被其他任务占用: " + task.getTenantId(),
+                    Duration.between(startTime, LocalDateTime.now()),
+                    rollbackStages
+                );
+            }
+
             // 2. ✅ 开始回滚
             taskDomainService.startRollback(task, context);
             log.info("开始回滚任务, taskId: {}", taskId);
@@ -411,6 +822,11 @@ public class TaskExecutor {
             boolean anyFailed = false;
             for (TaskStage stage : reversedStages) {
                 String stageName = stage.getName();
+                // 回滚不心跳，逐个 Stage 续期；租约已归其他任务时停止回滚
+                if (!acquireTenantLease()) {
+                    anyFailed = true;
+                    break;
+                }
                 log.info("回滚 Stage: {}, taskId: {}", stageName, taskId);
                 
                 StageResult stageResult = new StageResult(stageName);
@@ -507,6 +923,14 @@ public class TaskExecutor {
      * @return 执行结果
      */
     public TaskResult retry(boolean fromCheckpoint) {
+        try {
+            return runRetry(fromCheckpoint);
+        } finally {
+            finish();
+        }
+    }
+
+    private TaskResult runRetry(boolean fromCheckpoint) {
         TaskId taskId = task.getTaskId();
         LocalDateTime startTime = LocalDateTime.now();
         
@@ -526,6 +950,17 @@ public class TaskExecutor {
                 );
             }
             
+            if (!acquireTenantLease()) {
+                return TaskResult.fail(
+                    planId,
+                    taskId,
+                    task.getStatus(),
+                    "租户锁已被其他任务占用: " + task.getTenantId(),
+                    Duration.between(startTime, LocalDateTime.now()),
+                    new ArrayList<>()
+                );
+            }
+
             // 2. ✅ 执行重试（会重置进度和状态）
             taskDomainService.retryTask(task, context);
             log.info("任务重试状态已更新, taskId: {}", taskId);
@@ -541,7 +976,7 @@ public class TaskExecutor {
             
             // 5. 重新执行任务
             log.info("重新执行任务, taskId: {}", taskId);
-            TaskResult result = execute();
+            TaskResult result = runExecute(true);
             
             log.info("重试完成, taskId: {}", taskId);
             return result;
@@ -566,4 +1001,10 @@ public class TaskExecutor {
     public TaskResult invokeRollback() {
         return rollback();
     }
+
+    /**
+     * 单个 Stage 的指标句柄
+     */
+    private record StageMeters(MetricTimer duration, MetricTimer ackDuration, MetricHistogram ackAttempts) {
+    }
 }
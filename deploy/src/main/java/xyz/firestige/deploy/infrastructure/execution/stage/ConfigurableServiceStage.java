@@ -12,7 +12,16 @@ import xyz.firestige.deploy.infrastructure.execution.stage.validator.ValidationR
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 可配置的服务 Stage
@@ -22,15 +31,20 @@ import java.util.stream.Collectors;
  * <pre>
  * for each StepConfig:
  *   1. DataPreparer.prepare() - 准备数据
- *   2. Step.execute() - 执行动作
+ *   2. Step.executeAsync() - 执行动作（异步 Step 等待期间不占用线程）
  *   3. ResultValidator.validate() - 验证结果
+ *
+ * for each 并行组（StepConfig.parallel）:
+ *   组内 Step 各自在 fork 出的上下文中并发执行上述 1~3，
+ *   汇合后把成功 Step 写入的变量合并回 Stage 上下文（按声明顺序，后者覆盖前者）
  * </pre>
  *
  * <p>特点：
  * <ul>
  *   <li>支持多 Step 编排</li>
- *   <li>严格按顺序执行</li>
- *   <li>任一 Step 失败即停止</li>
+ *   <li>按顺序执行，并行组内的 Step 并发执行（FAIL_FAST / COLLECT_ALL 汇合）</li>
+ *   <li>任一 Step（或并行组）失败即停止</li>
+ *   <li>每个 Step 的耗时记录在 StageResult.stepResults 中</li>
  *   <li>业务逻辑在 Preparer 和 Validator</li>
  *   <li>Step 只做技术动作</li>
  * </ul>
@@ -43,6 +57,7 @@ public class ConfigurableServiceStage implements TaskStage {
 
     private final String name;
     private final List<StepConfig> stepConfigs;
+    private final Set<String> dependencies;
 
     /**
      * Step 配置
@@ -53,6 +68,11 @@ public class ConfigurableServiceStage implements TaskStage {
         private StageStep step;
         private ResultValidator resultValidator;
 
+        // 并行组（仅 parallel() 创建的 StepConfig 使用）
+        private List<StepConfig> groupSteps;
+        private JoinPolicy joinPolicy;
+        private Executor groupExecutor;
+
         private StepConfig() {
         }
 
@@ -60,6 +80,29 @@ public class ConfigurableServiceStage implements TaskStage {
             return new Builder();
         }
 
+        /**
+         * 创建并行 Step 组：组内 Step 相互独立，并发执行后按 joinPolicy 汇合
+         *
+         * @param groupName 组名称（用于日志）
+         * @param joinPolicy 汇合策略
+         * @param executor 执行线程池（null 时组内 Step 退化为串行执行）
+         * @param steps 组内 Step（不可嵌套并行组）
+         */
+        public static StepConfig parallel(String groupName, JoinPolicy joinPolicy, Executor executor, List<StepConfig> steps) {
+            if (steps == null || steps.isEmpty()) {
+                throw new IllegalArgumentException("parallel group requires at least one step");
+            }
+            if (steps.stream().anyMatch(StepConfig::isGroup)) {
+                throw new IllegalArgumentException("nested parallel group is not supported");
+            }
+            StepConfig config = new StepConfig();
+            config.stepName = groupName;
+            config.groupSteps = List.copyOf(steps);
+            config.joinPolicy = joinPolicy != null ? joinPolicy : JoinPolicy.FAIL_FAST;
+            config.groupExecutor = executor;
+            return config;
+        }
+
         public static class Builder {
             private final StepConfig config = new StepConfig();
 
@@ -83,11 +126,17 @@ public class ConfigurableServiceStage implements TaskStage {
                 return this;
             }
 
+            /**
+             * step 与 dataPreparer 至少一个；只有 dataPreparer 时为纯数据准备 Step（常用于并行组中提前准备数据）
+             */
             public StepConfig build() {
-                if (config.step == null) {
-                    throw new IllegalArgumentException("step is required");
+                if (config.step == null && config.dataPreparer == null) {
+                    throw new IllegalArgumentException("step or dataPreparer is required");
                 }
                 if (config.stepName == null) {
+                    if (config.step == null) {
+                        throw new IllegalArgumentException("stepName is required for data-preparation-only step");
+                    }
                     config.stepName = config.step.getStepName();
                 }
                 return config;
@@ -110,11 +159,47 @@ public class ConfigurableServiceStage implements TaskStage {
         public ResultValidator getResultValidator() {
             return resultValidator;
         }
+
+        public boolean isGroup() {
+            return groupSteps != null;
+        }
+
+        public List<StepConfig> getGroupSteps() {
+            return groupSteps;
+        }
+
+        public JoinPolicy getJoinPolicy() {
+            return joinPolicy;
+        }
+    }
+
+    /**
+     * 并行组汇合策略
+     */
+    public enum JoinPolicy {
+        /** 任一 Step 失败立即汇合，未完成的 Step 结果被丢弃（其写入不合并） */
+        FAIL_FAST,
+        /** 等待全部 Step 结束，汇总所有失败信息 */
+        COLLECT_ALL
+    }
+
+    /**
+     * 单个 Step 的执行结果（failure 为 null 表示成功）
+     */
+    private record StepOutcome(StepResult stepResult, FailureInfo failure) {
     }
 
     public ConfigurableServiceStage(String name, List<StepConfig> stepConfigs) {
+        this(name, stepConfigs, null);
+    }
+
+    /**
+     * @param dependencies 依赖的 Stage 名称（null 表示串行依赖前序 Stage）
+     */
+    public ConfigurableServiceStage(String name, List<StepConfig> stepConfigs, Set<String> dependencies) {
         this.name = name;
         this.stepConfigs = stepConfigs != null ? stepConfigs : new ArrayList<>();
+        this.dependencies = dependencies != null ? Set.copyOf(dependencies) : null;
     }
 
     @Override
@@ -122,57 +207,246 @@ public class ConfigurableServiceStage implements TaskStage {
         return name;
     }
 
+    /**
+     * 同步执行：等待 {@link #executeAsync} 完成（异步 Step 完成后在其完成线程上继续后续 Step）
+     */
     @Override
     public StageResult execute(TaskRuntimeContext runtimeContext) {
+        return executeAsync(runtimeContext, null).join();
+    }
+
+    /**
+     * 异步执行：同步 Step 在调用线程上依次执行，遇到未完成的异步 Step 即返回，
+     * 由其完成回调在 continuationExecutor 上继续后续 Step，等待期间不占用任何线程
+     *
+     * @param continuationExecutor 异步 Step 完成后继续执行的线程池（null 表示在完成线程上继续）
+     */
+    @Override
+    public CompletableFuture<StageResult> executeAsync(TaskRuntimeContext runtimeContext, Executor continuationExecutor) {
         StageResult result = StageResult.start(name);
 
         log.info("开始执行 Stage: {}, 包含 {} 个 Step", name, stepConfigs.size());
 
-        // 顺序执行每个 Step
-        for (int i = 0; i < stepConfigs.size(); i++) {
-            StepConfig stepConfig = stepConfigs.get(i);
-            String stepName = stepConfig.getStepName();
+        // 顺序执行每个 Step（并行组内并发）
+        return executeSequence(stepConfigs, 0, runtimeContext, result, continuationExecutor)
+            .thenApply(failure -> {
+                if (failure != null) {
+                    result.failure(failure);
+                } else {
+                    result.success();
+                    log.info("Stage '{}' 执行成功，完成 {} 个 Step", name, stepConfigs.size());
+                }
+                return result;
+            });
+    }
 
-            log.debug("执行 Step {}/{}: {}", i + 1, stepConfigs.size(), stepName);
+    /**
+     * 从 index 开始顺序执行 Step：已完成的 Step 在循环内推进，未完成时挂接回调后立即返回
+     *
+     * @return 首个失败信息，全部成功为 null
+     */
+    private CompletableFuture<FailureInfo> executeSequence(List<StepConfig> configs, int index,
+                                                           TaskRuntimeContext runtimeContext, StageResult result,
+                                                           Executor continuationExecutor) {
+        for (int i = index; i < configs.size(); i++) {
+            StepConfig stepConfig = configs.get(i);
+            log.debug("执行 Step {}/{}: {}", i + 1, configs.size(), stepConfig.getStepName());
+
+            CompletableFuture<FailureInfo> step = stepConfig.isGroup()
+                ? executeGroup(stepConfig, runtimeContext, result, continuationExecutor)
+                : executeStepAsync(stepConfig, runtimeContext).thenApply(outcome -> recordOutcome(outcome, result));
+
+            if (!step.isDone()) {
+                int next = i + 1;
+                Function<FailureInfo, CompletableFuture<FailureInfo>> resume = failure -> failure != null
+                    ? CompletableFuture.completedFuture(failure)
+                    : executeSequence(configs, next, runtimeContext, result, continuationExecutor);
+                return continuationExecutor != null
+                    ? step.thenComposeAsync(resume, continuationExecutor)
+                    : step.thenCompose(resume);
+            }
+            FailureInfo failure = step.join();
+            if (failure != null) {
+                return CompletableFuture.completedFuture(failure);
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
 
-            try {
-                // 1. 准备数据
-                if (stepConfig.getDataPreparer() != null) {
-                    log.debug("Step '{}': 准备数据", stepName);
-                    stepConfig.getDataPreparer().prepare(runtimeContext);
-                }
+    /**
+     * 执行单个 Step：准备数据 → 执行动作 → 验证结果
+     * <p>
+     * 同步 Step 在调用线程上完成；异步 Step（如定时器驱动的轮询）在等待期间不占用线程，
+     * 验证在 Step 完成的线程上执行
+     */
+    private CompletableFuture<StepOutcome> executeStepAsync(StepConfig stepConfig, TaskRuntimeContext runtimeContext) {
+        String stepName = stepConfig.getStepName();
+        StepResult stepResult = StepResult.start(stepName);
+        CompletableFuture<Void> action;
+        try {
+            // 1. 准备数据
+            if (stepConfig.getDataPreparer() != null) {
+                log.debug("Step '{}': 准备数据", stepName);
+                stepConfig.getDataPreparer().prepare(runtimeContext);
+            }
 
-                // 2. 执行 Step
+            // 2. 执行 Step（纯数据准备 Step 跳过）
+            if (stepConfig.getStep() != null) {
                 log.debug("Step '{}': 执行动作", stepName);
-                stepConfig.getStep().execute(runtimeContext);  // ← 使用原有接口
+                action = stepConfig.getStep().executeAsync(runtimeContext);
+            } else {
+                action = CompletableFuture.completedFuture(null);
+            }
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(failedOutcome(stepName, stepResult, e));
+        }
+
+        CompletableFuture<StepOutcome> outcome = action.handle((ignored, error) -> {
+            if (error != null) {
+                return failedOutcome(stepName, stepResult, unwrap(error));
+            }
+            try {
+                return validateStep(stepConfig, runtimeContext, stepResult);
+            } catch (Exception e) {
+                return failedOutcome(stepName, stepResult, e);
+            }
+        });
+        // 调用方放弃等待（并行组快速失败）时，停止仍在进行的异步动作
+        outcome.whenComplete((ignored, error) -> {
+            if (error instanceof CancellationException) {
+                action.cancel(false);
+            }
+        });
+        return outcome;
+    }
 
-                log.debug("Step '{}': 执行成功", stepName);
+    private StepOutcome validateStep(StepConfig stepConfig, TaskRuntimeContext runtimeContext, StepResult stepResult) {
+        String stepName = stepConfig.getStepName();
+        log.debug("Step '{}': 执行成功", stepName);
 
-                // 3. 验证结果
-                if (stepConfig.getResultValidator() != null) {
-                    log.debug("Step '{}': 验证结果", stepName);
-                    ValidationResult validationResult = stepConfig.getResultValidator().validate(runtimeContext);
+        // 3. 验证结果
+        if (stepConfig.getResultValidator() != null) {
+            log.debug("Step '{}': 验证结果", stepName);
+            ValidationResult validationResult = stepConfig.getResultValidator().validate(runtimeContext);
 
-                    if (!validationResult.isSuccess()) {
-                        log.error("Step '{}' 结果验证失败: {}", stepName, validationResult.getMessage());
-                        result.failure(FailureInfo.of(ErrorType.BUSINESS_ERROR, validationResult.getMessage()));
-                        return result;
-                    }
+            if (!validationResult.isSuccess()) {
+                log.error("Step '{}' 结果验证失败: {}", stepName, validationResult.getMessage());
+                stepResult.finishFailure(validationResult.getMessage());
+                return new StepOutcome(stepResult,
+                    FailureInfo.of(ErrorType.BUSINESS_ERROR, validationResult.getMessage()));
+            }
+
+            log.debug("Step '{}': 验证通过 - {}", stepName, validationResult.getMessage());
+        }
+
+        stepResult.finishSuccess();
+        return new StepOutcome(stepResult, null);
+    }
+
+    private StepOutcome failedOutcome(String stepName, StepResult stepResult, Throwable e) {
+        log.error("Step '{}' 执行异常", stepName, e);
+        stepResult.finishFailure(e.getMessage());
+        return new StepOutcome(stepResult, FailureInfo.of(ErrorType.SYSTEM_ERROR,
+            String.format("Step '%s' 执行异常: %s", stepName, e.getMessage())));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+    }
 
-                    log.debug("Step '{}': 验证通过 - {}", stepName, validationResult.getMessage());
+    /**
+     * 执行并行组：组内 Step 各自使用 fork 出的上下文并发执行，汇合后合并成功 Step 的写入
+     *
+     * @return 失败信息，成功为 null
+     */
+    private CompletableFuture<FailureInfo> executeGroup(StepConfig group, TaskRuntimeContext runtimeContext,
+                                                        StageResult result, Executor continuationExecutor) {
+        List<StepConfig> steps = group.getGroupSteps();
+        if (group.groupExecutor == null || steps.size() == 1) {
+            log.debug("并行组 '{}' 无执行线程池或仅 1 个 Step，按顺序执行", group.getStepName());
+            return executeSequence(steps, 0, runtimeContext, result, continuationExecutor);
+        }
+
+        log.debug("并行组 '{}': 并发执行 {} 个 Step, joinPolicy={}", group.getStepName(), steps.size(), group.getJoinPolicy());
+        List<TaskRuntimeContext> forks = new ArrayList<>(steps.size());
+        List<CompletableFuture<StepOutcome>> futures = new ArrayList<>(steps.size());
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        List<AtomicReference<CompletableFuture<StepOutcome>>> running = new ArrayList<>(steps.size());
+        for (StepConfig step : steps) {
+            TaskRuntimeContext fork = runtimeContext.fork();
+            forks.add(fork);
+            AtomicReference<CompletableFuture<StepOutcome>> stepFuture = new AtomicReference<>();
+            running.add(stepFuture);
+            // 线程池线程只负责准备数据与发起动作，异步 Step 的等待不占用线程
+            CompletableFuture<StepOutcome> future = CompletableFuture.supplyAsync(() -> {
+                fork.injectMdc(name);
+                try {
+                    CompletableFuture<StepOutcome> started = executeStepAsync(step, fork);
+                    stepFuture.set(started);
+                    return started;
+                } finally {
+                    fork.clearMdc();
+                }
+            }, group.groupExecutor).thenCompose(Function.identity());
+            future.thenAccept(outcome -> {
+                if (outcome.failure() != null) {
+                    firstFailure.complete(null);
                 }
+            });
+            futures.add(future);
+        }
 
-            } catch (Exception e) {
-                log.error("Step '{}' 执行异常", stepName, e);
-                result.failure(FailureInfo.of(ErrorType.SYSTEM_ERROR,
-                    String.format("Step '%s' 执行异常: %s", stepName, e.getMessage())));
-                return result;
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        CompletableFuture<?> joined = group.getJoinPolicy() == JoinPolicy.FAIL_FAST
+            ? CompletableFuture.anyOf(all, firstFailure)
+            : all;
+        return joined.thenApply(ignored -> joinGroup(group, runtimeContext, result, forks, futures, running));
+    }
+
+    /**
+     * 并行组汇合：记录各 Step 结果，合并成功 Step 的写入，放弃未完成的 Step
+     */
+    private FailureInfo joinGroup(StepConfig group, TaskRuntimeContext runtimeContext, StageResult result,
+                                  List<TaskRuntimeContext> forks, List<CompletableFuture<StepOutcome>> futures,
+                                  List<AtomicReference<CompletableFuture<StepOutcome>>> running) {
+        List<StepConfig> steps = group.getGroupSteps();
+        List<String> failureMessages = new ArrayList<>();
+        ErrorType errorType = null;
+        for (int i = 0; i < steps.size(); i++) {
+            CompletableFuture<StepOutcome> future = futures.get(i);
+            if (!future.isDone()) {
+                // FAIL_FAST：未完成的 Step 不再等待，其写入丢弃
+                CompletableFuture<StepOutcome> started = running.get(i).get();
+                if (started != null) {
+                    started.cancel(false);
+                }
+                StepResult abandoned = StepResult.start(steps.get(i).getStepName());
+                abandoned.finishFailure("并行组快速失败，放弃等待");
+                result.addStepResult(abandoned);
+                continue;
             }
+            StepOutcome outcome = future.join();
+            result.addStepResult(outcome.stepResult());
+            if (outcome.failure() == null) {
+                runtimeContext.mergeFrom(forks.get(i));
+            } else {
+                failureMessages.add(outcome.failure().getErrorMessage());
+                if (errorType == null) {
+                    errorType = outcome.failure().getErrorType();
+                }
+            }
+        }
+
+        if (failureMessages.isEmpty()) {
+            return null;
         }
+        return FailureInfo.of(errorType, String.format("并行组 '%s' 执行失败: %s",
+            group.getStepName(), String.join("; ", failureMessages)));
+    }
 
-        result.success();
-        log.info("Stage '{}' 执行成功，完成 {} 个 Step", name, stepConfigs.size());
-        return result;
+    private FailureInfo recordOutcome(StepOutcome outcome, StageResult result) {
+        result.addStepResult(outcome.stepResult());
+        return outcome.failure();
     }
 
     @Override
@@ -184,10 +458,17 @@ public class ConfigurableServiceStage implements TaskStage {
     @Override
     public List<StageStep> getSteps() {
         return stepConfigs.stream()
+            .flatMap(config -> config.isGroup() ? config.getGroupSteps().stream() : Stream.of(config))
             .map(StepConfig::getStep)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Set<String> getDependencies() {
+        return dependencies;
+    }
+
     @Override
     public boolean canSkip(TaskRuntimeContext ctx) {
         return false;
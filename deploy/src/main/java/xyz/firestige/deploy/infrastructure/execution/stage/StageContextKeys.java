@@ -0,0 +1,58 @@
+package xyz.firestige.deploy.infrastructure.execution.stage;
+
+import xyz.firestige.deploy.domain.shared.exception.FailureInfo;
+import xyz.firestige.deploy.domain.task.ContextKey;
+import xyz.firestige.deploy.infrastructure.discovery.SelectedInstance;
+import xyz.firestige.deploy.infrastructure.execution.stage.http.HttpResponseData;
+import xyz.firestige.deploy.infrastructure.execution.stage.steps.PollingStep;
+import xyz.firestige.redis.ack.api.AckResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stage/Step 之间约定的上下文变量 Key
+ * <p>
+ * 类加载时一次性分配槽位，DataPreparer、Step、ResultValidator 共用同一组常量，
+ * 运行期读写不再经过字符串哈希。名称与原字符串约定保持一致。
+ *
+ * @since RF-19 三层抽象架构
+ */
+public final class StageContextKeys {
+
+    private StageContextKeys() {
+    }
+
+    // ---- HttpRequestStep ----
+    public static final ContextKey<String> URL = ContextKey.of("url", String.class);
+    public static final ContextKey<String> METHOD = ContextKey.of("method", String.class);
+    public static final ContextKey<Map<String, String>> HEADERS = ContextKey.of("headers", Map.class);
+    public static final ContextKey<Object> BODY = ContextKey.of("body", Object.class);
+    public static final ContextKey<SelectedInstance> SELECTED_INSTANCE = ContextKey.of("selectedInstance", SelectedInstance.class);
+    public static final ContextKey<HttpResponseData> HTTP_RESPONSE = ContextKey.of("httpResponse", HttpResponseData.class);
+
+    // ---- RedisAckStep ----
+    public static final ContextKey<String> REDIS_KEY = ContextKey.of("redisKey", String.class);
+    public static final ContextKey<String> REDIS_FIELD = ContextKey.of("redisField", String.class);
+    public static final ContextKey<Map<String, Object>> REDIS_VALUE = ContextKey.of("redisValue", Map.class);
+    public static final ContextKey<Map<String, Object>> METADATA = ContextKey.of("metadata", Map.class);
+    public static final ContextKey<String> VERSION_TAG_PATH = ContextKey.of("versionTagPath", String.class);
+    public static final ContextKey<String> PUBSUB_TOPIC = ContextKey.of("pubsubTopic", String.class);
+    public static final ContextKey<String> PUBSUB_MESSAGE = ContextKey.of("pubsubMessage", String.class);
+    public static final ContextKey<List<String>> VERIFY_URLS = ContextKey.of("verifyUrls", List.class);
+    public static final ContextKey<String> VERIFY_JSON_PATH = ContextKey.of("verifyJsonPath", String.class);
+    public static final ContextKey<Integer> RETRY_MAX_ATTEMPTS = ContextKey.of("retryMaxAttempts", Integer.class);
+    public static final ContextKey<Duration> RETRY_DELAY = ContextKey.of("retryDelay", Duration.class);
+    public static final ContextKey<Duration> TIMEOUT = ContextKey.of("timeout", Duration.class);
+    public static final ContextKey<AckResult> ACK_RESULT = ContextKey.of("ackResult", AckResult.class);
+    public static final ContextKey<FailureInfo> FAILURE_INFO = ContextKey.of("failureInfo", FailureInfo.class);
+
+    // ---- PollingStep ----
+    public static final ContextKey<Integer> POLL_INTERVAL = ContextKey.of("pollInterval", Integer.class);
+    public static final ContextKey<Integer> POLL_MAX_ATTEMPTS = ContextKey.of("pollMaxAttempts", Integer.class);
+    public static final ContextKey<PollingStep.PollCondition> POLL_CONDITION = ContextKey.of("pollCondition", PollingStep.PollCondition.class);
+    public static final ContextKey<Double> POLL_BACKOFF_MULTIPLIER = ContextKey.of("pollBackoffMultiplier", Double.class);
+    public static final ContextKey<Integer> POLL_MAX_INTERVAL = ContextKey.of("pollMaxInterval", Integer.class);
+    public static final ContextKey<Boolean> POLLING_RESULT = ContextKey.of("pollingResult", Boolean.class);
+}
@@ -0,0 +1,160 @@
+package xyz.firestige.deploy.infrastructure.execution.stage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stage 依赖图（DAG）
+ *
+ * <p>依赖解析规则：
+ * <ul>
+ *   <li>{@link TaskStage#getDependencies()} 返回 null：依赖列表中排在其前面的所有 Stage（保持串行语义）</li>
+ *   <li>返回集合：只依赖集合中且实际存在于本次列表的 Stage（未装配的 Stage 视为已满足）</li>
+ * </ul>
+ *
+ * <p>构建时校验：Stage 名称唯一、无环。
+ *
+ * @since RF-19-06 策略化重构
+ */
+public final class StageGraph {
+
+    private final List<TaskStage> stages;
+    private final Map<String, Set<String>> dependencies;
+    private final List<TaskStage> topologicalOrder;
+
+    private StageGraph(List<TaskStage> stages) {
+        this.stages = List.copyOf(stages);
+        this.dependencies = resolveDependencies(this.stages);
+        this.topologicalOrder = sort(this.stages, dependencies);
+    }
+
+    /**
+     * 从有序 Stage 列表构建依赖图
+     *
+     * @param stages 按装配顺序排列的 Stage
+     * @return 依赖图
+     * @throws IllegalArgumentException Stage 名称重复或存在循环依赖
+     */
+    public static StageGraph of(List<TaskStage> stages) {
+        return new StageGraph(stages != null ? stages : Collections.emptyList());
+    }
+
+    /**
+     * 获取可执行的 Stage（依赖均已完成，且自身未完成、未运行），按装配顺序返回
+     *
+     * @param completed 已完成的 Stage 名称
+     * @param running   运行中的 Stage 名称
+     */
+    public List<TaskStage> readyStages(Set<String> completed, Set<String> running) {
+        List<TaskStage> ready = new ArrayList<>();
+        for (TaskStage stage : stages) {
+            String name = stage.getName();
+            if (completed.contains(name) || running.contains(name)) {
+                continue;
+            }
+            if (completed.containsAll(dependencies.get(name))) {
+                ready.add(stage);
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * 拓扑序（同层按装配顺序），用于串行执行
+     */
+    public List<TaskStage> topologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * 获取 Stage 解析后的直接依赖
+     */
+    public Set<String> dependenciesOf(String stageName) {
+        Set<String> deps = dependencies.get(stageName);
+        return deps != null ? deps : Collections.emptySet();
+    }
+
+    public int size() {
+        return stages.size();
+    }
+
+    private static Map<String, Set<String>> resolveDependencies(List<TaskStage> stages) {
+        Set<String> names = new LinkedHashSet<>();
+        for (TaskStage stage : stages) {
+            if (!names.add(stage.getName())) {
+                throw new IllegalArgumentException("Stage 名称重复: " + stage.getName());
+            }
+        }
+
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        List<String> preceding = new ArrayList<>();
+        for (TaskStage stage : stages) {
+            Set<String> declared = stage.getDependencies();
+            Set<String> resolved = new LinkedHashSet<>();
+            if (declared == null) {
+                resolved.addAll(preceding);
+            } else {
+                for (String dep : declared) {
+                    if (names.contains(dep)) {
+                        resolved.add(dep);
+                    }
+                }
+            }
+            result.put(stage.getName(), Collections.unmodifiableSet(resolved));
+            preceding.add(stage.getName());
+        }
+        return result;
+    }
+
+    private static List<TaskStage> sort(List<TaskStage> stages, Map<String, Set<String>> dependencies) {
+        Map<String, Integer> inDegree = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        Map<String, TaskStage> byName = new HashMap<>();
+        for (TaskStage stage : stages) {
+            String name = stage.getName();
+            byName.put(name, stage);
+            inDegree.put(name, dependencies.get(name).size());
+            for (String dep : dependencies.get(name)) {
+                dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(name);
+            }
+        }
+
+        Deque<String> queue = new ArrayDeque<>();
+        for (TaskStage stage : stages) {
+            if (inDegree.get(stage.getName()) == 0) {
+                queue.add(stage.getName());
+            }
+        }
+
+        List<TaskStage> order = new ArrayList<>(stages.size());
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            order.add(byName.get(name));
+            for (String dependent : dependents.getOrDefault(name, Collections.emptyList())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != stages.size()) {
+            Collection<String> cyclic = new ArrayList<>();
+            inDegree.forEach((name, degree) -> {
+                if (degree > 0) {
+                    cyclic.add(name);
+                }
+            });
+            throw new IllegalArgumentException("Stage 存在循环依赖: " + cyclic);
+        }
+        return Collections.unmodifiableList(order);
+    }
+}
@@ -2,10 +2,27 @@ package xyz.firestige.deploy.infrastructure.execution.stage;
 
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Stage 内部的单个步骤定义（不再包含 rollback）。
  */
 public interface StageStep {
     String getStepName();
     void execute(TaskRuntimeContext ctx) throws Exception;
+
+    /**
+     * 异步执行（默认在调用线程同步执行 {@link #execute}）
+     * <p>
+     * 以等待为主的 Step（如轮询）可覆写为定时器驱动，等待期间不占用线程；
+     * 参数校验失败等立即可知的错误可直接抛出
+     */
+    default CompletableFuture<Void> executeAsync(TaskRuntimeContext ctx) {
+        try {
+            execute(ctx);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
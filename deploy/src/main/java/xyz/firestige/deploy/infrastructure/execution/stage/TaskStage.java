@@ -4,6 +4,9 @@ import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
 import xyz.firestige.deploy.infrastructure.execution.StageResult;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 新 Stage 接口：用于 Task 内部的服务切换动作（可多步骤）。
@@ -12,6 +15,30 @@ public interface TaskStage {
     String getName();
     boolean canSkip(TaskRuntimeContext ctx);
     StageResult execute(TaskRuntimeContext ctx);
+
+    /**
+     * 异步执行（默认在调用线程同步执行 {@link #execute}）
+     * <p>
+     * 包含异步 Step 的 Stage 可覆写：等待期间不占用线程，Step 完成后在 continuationExecutor 上继续
+     *
+     * @param continuationExecutor 异步 Step 完成后继续执行的线程池（null 表示在完成线程上继续）
+     */
+    default CompletableFuture<StageResult> executeAsync(TaskRuntimeContext ctx, Executor continuationExecutor) {
+        try {
+            return CompletableFuture.completedFuture(execute(ctx));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
     void rollback(TaskRuntimeContext ctx);
     List<StageStep> getSteps();
+
+    /**
+     * 依赖的 Stage 名称
+     *
+     * @return null 表示依赖排在其前面的所有 Stage（串行语义）；空集合表示无依赖，可与其他 Stage 并行
+     */
+    default Set<String> getDependencies() {
+        return null;
+    }
 }
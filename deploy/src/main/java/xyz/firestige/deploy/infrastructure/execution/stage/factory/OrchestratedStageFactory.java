@@ -9,9 +9,11 @@ import org.springframework.stereotype.Component;
 import xyz.firestige.deploy.application.dto.TenantConfig;
 import xyz.firestige.deploy.config.ExecutorProperties;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageFactory;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageGraph;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +22,8 @@ import java.util.stream.Collectors;
  * - 自动注入所有 StageAssembler 实现
  * - 按顺序排序（@Order 注解优先，无注解则从 defaultServiceNames 推断）
  * - 过滤条件（supports）
- * - 执行构建（buildStage）
+ * - 按租户形态（支持的 Assembler 组合）编译并缓存 Stage 模板，租户数据在执行时延迟绑定
+ * - 校验 Stage 依赖图（dependsOn 无环，每个形态一次），供 TaskExecutor 并行执行无依赖的 Stage
  *
  * @since RF-19-06 策略化重构
  * @updated T-027 迁移至 ExecutorProperties
@@ -34,6 +37,7 @@ public class OrchestratedStageFactory implements StageFactory {
     private final List<StageAssembler> sortedAssemblers;
     private final SharedStageResources resources;
     private final ExecutorProperties executorProperties;
+    private final Map<BitSet, StageTemplate> templates = new ConcurrentHashMap<>();
 
     @Autowired
     public OrchestratedStageFactory(
@@ -52,20 +56,41 @@ public class OrchestratedStageFactory implements StageFactory {
 
     @Override
     public List<TaskStage> buildStages(TenantConfig cfg) {
-        log.info("Building stages for tenant: {}", cfg.getTenantId());
-
-        List<TaskStage> stages = sortedAssemblers.stream()
-            .filter(a -> a.supports(cfg))
-            .map(a -> {
-                log.debug("Building stage: {}", a.stageName());
-                return a.buildStage(cfg, resources);
-            })
-            .collect(Collectors.toList());
+        log.debug("Building stages for tenant: {}", cfg.getTenantId());
+
+        // 1. 计算租户形态（支持的 Assembler 组合）
+        BitSet shape = new BitSet(sortedAssemblers.size());
+        for (int i = 0; i < sortedAssemblers.size(); i++) {
+            if (sortedAssemblers.get(i).supports(cfg)) {
+                shape.set(i);
+            }
+        }
+
+        // 2. 同形态复用模板（首次编译时构建原型并校验依赖图，名称重复/循环依赖直接失败）
+        StageTemplate template = templates.get(shape);
+        if (template == null) {
+            template = templates.computeIfAbsent(shape, key -> compileTemplate(key, cfg));
+        }
 
-        log.info("Built {} stages", stages.size());
+        // 3. 绑定租户配置（真实 Stage 在执行时构建）
+        List<TaskStage> stages = template.bind(cfg, resources);
+        log.debug("Bound {} stages for tenant: {}", stages.size(), cfg.getTenantId());
         return stages;
     }
 
+    private StageTemplate compileTemplate(BitSet shape, TenantConfig sample) {
+        List<StageAssembler> assemblers = shape.stream()
+            .mapToObj(sortedAssemblers::get)
+            .collect(Collectors.toList());
+        StageTemplate template = StageTemplate.compile(assemblers, sample, resources);
+
+        StageGraph graph = template.graph();
+        log.info("Compiled stage template: {}", template.prototypes().stream()
+            .map(s -> s.getName() + " dependsOn " + graph.dependenciesOf(s.getName()))
+            .collect(Collectors.joining(", ", "[", "]")));
+        return template;
+    }
+
     /**
      * 排序并缓存策略列表
      */
@@ -135,8 +160,8 @@ public class OrchestratedStageFactory implements StageFactory {
             Order orderAnnotation = a.getClass().getAnnotation(Order.class);
             String source = orderAnnotation != null ? "@Order" : "config";
 
-            log.info("  [{}] {} (order={}, source={})",
-                i + 1, a.stageName(), order, source);
+            log.info("  [{}] {} (order={}, source={}, dependsOn={})",
+                i + 1, a.stageName(), order, source, a.dependsOn() != null ? a.dependsOn() : "<preceding>");
         }
     }
 
@@ -2,16 +2,20 @@ package xyz.firestige.deploy.infrastructure.execution.stage.factory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import xyz.firestige.deploy.config.properties.InfrastructureProperties;
 import xyz.firestige.deploy.infrastructure.discovery.ServiceDiscoveryHelper;
+import xyz.firestige.deploy.infrastructure.execution.stage.polling.AgentReadinessCoordinator;
 import xyz.firestige.deploy.infrastructure.template.TemplateResolver;
 import xyz.firestige.redis.ack.api.RedisAckService;
 import xyz.firestige.service.AgentService;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * 共享 Stage 资源聚合器
@@ -38,6 +42,10 @@ public class SharedStageResources {
     private final ServiceDiscoveryHelper serviceDiscoveryHelper;
     private final InfrastructureProperties infrastructureProperties;
     private final TemplateResolver templateResolver;
+    private final AgentReadinessCoordinator agentReadinessCoordinator;
+    private final ExecutorService stepExecutor;  // 可选，并行 Step 组使用
+    private final ScheduledExecutorService pollingTimer;  // 可选，PollingStep 使用
+    private final ExecutorService pollingCheckExecutor;  // 可选，PollingStep 使用
 
     @Autowired
     public SharedStageResources(
@@ -48,7 +56,11 @@ public class SharedStageResources {
             RedisAckService redisAckService,
             ServiceDiscoveryHelper serviceDiscoveryHelper,
             InfrastructureProperties infrastructureProperties,
-            TemplateResolver templateResolver) {
+            TemplateResolver templateResolver,
+            AgentReadinessCoordinator agentReadinessCoordinator,
+            @Autowired(required = false) @Qualifier("stepExecutor") ExecutorService stepExecutor,
+            @Autowired(required = false) @Qualifier("pollingTimer") ScheduledExecutorService pollingTimer,
+            @Autowired(required = false) @Qualifier("pollingCheckExecutor") ExecutorService pollingCheckExecutor) {
 
         // 启动校验必需依赖
         Objects.requireNonNull(restTemplate, "RestTemplate cannot be null");
@@ -58,7 +70,10 @@ public class SharedStageResources {
         Objects.requireNonNull(serviceDiscoveryHelper, "ServiceDiscoveryHelper cannot be null");
         Objects.requireNonNull(infrastructureProperties, "InfrastructureProperties cannot be null (T-027)");
         Objects.requireNonNull(templateResolver, "TemplateResolver cannot be null");
+        Objects.requireNonNull(agentReadinessCoordinator, "AgentReadinessCoordinator cannot be null");
         // agentService 可选（OBService 有降级逻辑）
+        // stepExecutor 可选（缺省时并行 Step 组退化为串行）
+        // pollingTimer / pollingCheckExecutor 可选（缺省时 PollingStep 使用进程内默认实现）
 
         this.restTemplate = restTemplate;
         this.redisTemplate = redisTemplate;
@@ -68,6 +83,10 @@ public class SharedStageResources {
         this.serviceDiscoveryHelper = serviceDiscoveryHelper;
         this.infrastructureProperties = infrastructureProperties;
         this.templateResolver = templateResolver;
+        this.agentReadinessCoordinator = agentReadinessCoordinator;
+        this.stepExecutor = stepExecutor;
+        this.pollingTimer = pollingTimer;
+        this.pollingCheckExecutor = pollingCheckExecutor;
     }
 
     // 只提供 getter，无任何业务方法
@@ -116,6 +135,38 @@ public class SharedStageResources {
         return templateResolver;
     }
 
+    /**
+     * 获取 AgentReadinessCoordinator
+     * @return AgentReadinessCoordinator 实例
+     */
+    public AgentReadinessCoordinator getAgentReadinessCoordinator() {
+        return agentReadinessCoordinator;
+    }
+
+    /**
+     * 获取并行 Step 组执行线程池（可选依赖）
+     * @return ExecutorService 实例，可能为 null
+     */
+    public ExecutorService getStepExecutor() {
+        return stepExecutor;
+    }
+
+    /**
+     * 获取轮询定时器（可选依赖）
+     * @return ScheduledExecutorService 实例，可能为 null
+     */
+    public ScheduledExecutorService getPollingTimer() {
+        return pollingTimer;
+    }
+
+    /**
+     * 获取轮询条件检查线程池（可选依赖）
+     * @return ExecutorService 实例，可能为 null
+     */
+    public ExecutorService getPollingCheckExecutor() {
+        return pollingCheckExecutor;
+    }
+
 
     // ========== 防腐层便捷方法（T-027）==========
     // 已完全迁移到 InfrastructureProperties，无需降级逻辑
@@ -3,6 +3,8 @@ package xyz.firestige.deploy.infrastructure.execution.stage.factory;
 import xyz.firestige.deploy.application.dto.TenantConfig;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 
+import java.util.Set;
+
 /**
  * Stage 组装器接口
  * 职责：判断是否需要创建 Stage，并构建 Stage 实例
@@ -27,6 +29,18 @@ public interface StageAssembler {
      */
     boolean supports(TenantConfig cfg);
 
+    /**
+     * 声明依赖的 Stage 名称（用于构建 Stage DAG，无依赖关系的 Stage 可并行执行）
+     * <p>
+     * 默认 null：依赖排序在前的所有 Stage（保持串行语义）；
+     * 依赖的 Stage 未被装配（supports=false）时视为已满足
+     *
+     * @return 依赖的 Stage 名称集合，空集合表示无依赖
+     */
+    default Set<String> dependsOn() {
+        return null;
+    }
+
     /**
      * 构建 Stage 实例
      *
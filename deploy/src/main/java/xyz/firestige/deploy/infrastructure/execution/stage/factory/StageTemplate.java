@@ -0,0 +1,70 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.factory;
+
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageGraph;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stage 模板（按租户"形态"编译一次，不可变）
+ * <p>
+ * 形态 = 支持该租户的 StageAssembler 组合。同形态租户的 Stage 名称、依赖、Step 结构完全相同，
+ * 只有 DataPreparer 捕获的租户数据不同，因此：
+ * <ul>
+ *   <li>编译：用首个租户构建一次原型 Stage，校验依赖图，记录名称/依赖/Step 列表</li>
+ *   <li>绑定：为每个租户只创建轻量的 {@link TenantBoundStage}，首次执行时调用 buildStage 并在该租户的 Stage 内复用</li>
+ * </ul>
+ *
+ * @since RF-19-06 策略化重构
+ */
+final class StageTemplate {
+
+    private final List<StageAssembler> assemblers;
+    private final List<TaskStage> prototypes;
+    private final StageGraph graph;
+
+    private StageTemplate(List<StageAssembler> assemblers, List<TaskStage> prototypes, StageGraph graph) {
+        this.assemblers = assemblers;
+        this.prototypes = prototypes;
+        this.graph = graph;
+    }
+
+    /**
+     * 编译模板
+     *
+     * @param assemblers 支持该形态的 Assembler（已排序）
+     * @param sample 该形态的任一租户配置（用于构建原型）
+     * @param resources 共享基础设施依赖
+     * @throws IllegalArgumentException Stage 名称重复或存在循环依赖
+     */
+    static StageTemplate compile(List<StageAssembler> assemblers, TenantConfig sample, SharedStageResources resources) {
+        List<TaskStage> prototypes = new ArrayList<>(assemblers.size());
+        for (StageAssembler assembler : assemblers) {
+            prototypes.add(assembler.buildStage(sample, resources));
+        }
+        // 依赖图只与形态有关，编译时校验一次
+        StageGraph graph = StageGraph.of(prototypes);
+        return new StageTemplate(List.copyOf(assemblers), List.copyOf(prototypes), graph);
+    }
+
+    /**
+     * 绑定租户配置（不构建 Step/DataPreparer，执行时再构建）
+     */
+    List<TaskStage> bind(TenantConfig cfg, SharedStageResources resources) {
+        List<TaskStage> stages = new ArrayList<>(assemblers.size());
+        for (int i = 0; i < assemblers.size(); i++) {
+            stages.add(new TenantBoundStage(assemblers.get(i), prototypes.get(i), cfg, resources));
+        }
+        return stages;
+    }
+
+    List<TaskStage> prototypes() {
+        return prototypes;
+    }
+
+    StageGraph graph() {
+        return graph;
+    }
+}
@@ -0,0 +1,100 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.factory;
+
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.StageResult;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 延迟绑定的租户 Stage
+ * <p>
+ * 名称、依赖、Step 列表取自模板原型（同形态租户一致）；
+ * 首次 canSkip/execute/rollback 时才用租户配置构建真实 Stage，此后复用同一实例，
+ * 保证回滚与执行使用同一份解析结果（如 LEAST_LATENCY 选出的实例）。
+ * 不在计划创建阶段为每个租户预先分配 StepConfig/DataPreparer。
+ *
+ * @since RF-19-06 策略化重构
+ */
+final class TenantBoundStage implements TaskStage {
+
+    private final StageAssembler assembler;
+    private final TaskStage prototype;
+    private final TenantConfig cfg;
+    private final SharedStageResources resources;
+
+    /** 首次使用时构建的真实 Stage */
+    private volatile TaskStage materialized;
+
+    TenantBoundStage(StageAssembler assembler, TaskStage prototype, TenantConfig cfg, SharedStageResources resources) {
+        this.assembler = assembler;
+        this.prototype = prototype;
+        this.cfg = cfg;
+        this.resources = resources;
+    }
+
+    @Override
+    public String getName() {
+        return prototype.getName();
+    }
+
+    @Override
+    public boolean canSkip(TaskRuntimeContext ctx) {
+        return materialize().canSkip(ctx);
+    }
+
+    @Override
+    public StageResult execute(TaskRuntimeContext ctx) {
+        return materialize().execute(ctx);
+    }
+
+    @Override
+    public CompletableFuture<StageResult> executeAsync(TaskRuntimeContext ctx, Executor continuationExecutor) {
+        return materialize().executeAsync(ctx, continuationExecutor);
+    }
+
+    @Override
+    public void rollback(TaskRuntimeContext ctx) {
+        materialize().rollback(ctx);
+    }
+
+    /**
+     * 模板原型的 Step（Step 本身无租户数据，仅用于统计数量等结构信息）
+     */
+    @Override
+    public List<StageStep> getSteps() {
+        return prototype.getSteps();
+    }
+
+    @Override
+    public Set<String> getDependencies() {
+        return prototype.getDependencies();
+    }
+
+    /**
+     * 按租户配置构建真实 Stage（每个租户只构建一次）
+     */
+    private TaskStage materialize() {
+        TaskStage stage = materialized;
+        if (stage == null) {
+            synchronized (this) {
+                stage = materialized;
+                if (stage == null) {
+                    stage = assembler.buildStage(cfg, resources);
+                    materialized = stage;
+                }
+            }
+        }
+        return stage;
+    }
+
+    @Override
+    public String toString() {
+        return "TenantBoundStage[" + getName() + ", tenant=" + cfg.getTenantId() + "]";
+    }
+}
@@ -6,8 +6,10 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import xyz.firestige.deploy.application.dto.MediaRoutingConfig;
 import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.infrastructure.discovery.SelectedInstance;
 import xyz.firestige.deploy.infrastructure.discovery.SelectionStrategy;
 import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.infrastructure.execution.stage.asbc.ASBCResponse;
 import xyz.firestige.deploy.infrastructure.execution.stage.asbc.ASBCResponseData;
@@ -43,16 +45,24 @@ public class AsbcStageAssembler implements StageAssembler {
         return cfg.getMediaRoutingConfig() != null;
     }
 
+    /**
+     * 独立外部系统，无前置依赖，可与其他 Stage 并行
+     */
+    @Override
+    public Set<String> dependsOn() {
+        return Set.of();
+    }
+
     @Override
     public TaskStage buildStage(TenantConfig cfg, SharedStageResources resources) {
         ConfigurableServiceStage.StepConfig stepConfig = ConfigurableServiceStage.StepConfig.builder()
             .stepName("asbc-http-request")
             .dataPreparer(createASBCDataPreparer(cfg, resources))
-            .step(new HttpRequestStep(resources.getRestTemplate()))
+            .step(new HttpRequestStep(resources.getRestTemplate(), resources.getServiceDiscoveryHelper()))
             .resultValidator(createASBCResultValidator())
             .build();
 
-        return new ConfigurableServiceStage(stageName(), Collections.singletonList(stepConfig));
+        return new ConfigurableServiceStage(stageName(), Collections.singletonList(stepConfig), dependsOn());
     }
 
     /**
@@ -73,16 +83,16 @@ public class AsbcStageAssembler implements StageAssembler {
                 }
             }
 
-            // 2. 从 Nacos 获取 endpoint（使用 RANDOM 策略选择单实例）
+            // 2. 从 Nacos 获取 endpoint（使用 LEAST_LATENCY 策略选择单实例）
             String namespace = tenantConfig.getNacosNameSpace();
             java.util.List<String> instances = resources.getServiceDiscoveryHelper()
-                .selectInstances("asbcService", namespace, SelectionStrategy.RANDOM, false);
+                .selectInstances("asbcService", namespace, SelectionStrategy.LEAST_LATENCY, false);
 
             if (instances.isEmpty()) {
                 throw new IllegalStateException("No ASBC service instance available");
             }
 
-            String instance = instances.get(0);  // RANDOM 策略返回单实例
+            String instance = instances.get(0);  // LEAST_LATENCY 策略返回单实例
             String endpoint = "https://" + instance + "/api/sbc/traffic-switch";
 
             // 3. 构建请求数据
@@ -106,10 +116,11 @@ public class AsbcStageAssembler implements StageAssembler {
             }
 
             // 5. 放入 TaskRuntimeContext
-            ctx.addVariable("url", endpoint);
-            ctx.addVariable("method", "POST");
-            ctx.addVariable("headers", headers);
-            ctx.addVariable("body", body);
+            ctx.put(StageContextKeys.URL, endpoint);
+            ctx.put(StageContextKeys.METHOD, "POST");
+            ctx.put(StageContextKeys.HEADERS, headers);
+            ctx.put(StageContextKeys.BODY, body);
+            ctx.put(StageContextKeys.SELECTED_INSTANCE, new SelectedInstance("asbcService", namespace, instance));
 
             log.debug("ASBC 数据准备完成: endpoint={}, calledNumberMatch={}",
                 endpoint, calledNumberList);
@@ -121,7 +132,7 @@ public class AsbcStageAssembler implements StageAssembler {
      */
     private ResultValidator createASBCResultValidator() {
         return (ctx) -> {
-            HttpResponseData response = ctx.getAdditionalData("httpResponse", HttpResponseData.class);
+            HttpResponseData response = ctx.get(StageContextKeys.HTTP_RESPONSE);
 
             // 1. 检查 HTTP 状态码
             if (!response.is2xx()) {
@@ -9,6 +9,7 @@ import xyz.firestige.deploy.application.dto.TenantConfig;
 import xyz.firestige.deploy.domain.shared.exception.FailureInfo;
 import xyz.firestige.deploy.infrastructure.discovery.SelectionStrategy;
 import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.SharedStageResources;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.StageAssembler;
@@ -41,6 +42,14 @@ public class BlueGreenStageAssembler implements StageAssembler {
         return cfg.getRouteRules() != null && !cfg.getRouteRules().isEmpty();
     }
 
+    /**
+     * 独立外部系统，无前置依赖，可与其他 Stage 并行
+     */
+    @Override
+    public Set<String> dependsOn() {
+        return Set.of();
+    }
+
     @Override
     public TaskStage buildStage(TenantConfig cfg, SharedStageResources resources) {
         List<ConfigurableServiceStage.StepConfig> stepConfigs = new ArrayList<>();
@@ -53,7 +62,7 @@ public class BlueGreenStageAssembler implements StageAssembler {
             .resultValidator(createRedisAckValidator())
             .build());
 
-        return new ConfigurableServiceStage(stageName(), stepConfigs);
+        return new ConfigurableServiceStage(stageName(), stepConfigs, dependsOn());
     }
 
     // ---- RedisAck DataPreparer & Validator ----
@@ -117,18 +126,18 @@ public class BlueGreenStageAssembler implements StageAssembler {
             int intervalSec = resources.getVerifyIntervalSeconds();
 
             // 7. 放入 Context
-            ctx.addVariable("redisKey", redisKey);
-            ctx.addVariable("redisField", redisField);
-            ctx.addVariable("redisValue", redisValue);
-            ctx.addVariable("metadata", metadata);
-            ctx.addVariable("versionTagPath", versionTagPath);
-            ctx.addVariable("pubsubTopic", topic);
-            ctx.addVariable("pubsubMessage", message);
-            ctx.addVariable("verifyUrls", verifyUrls);
-            ctx.addVariable("verifyJsonPath", versionTagPath);
-            ctx.addVariable("retryMaxAttempts", maxAttempts);
-            ctx.addVariable("retryDelay", java.time.Duration.ofSeconds(intervalSec));
-            ctx.addVariable("timeout", java.time.Duration.ofSeconds(maxAttempts * intervalSec + 10));
+            ctx.put(StageContextKeys.REDIS_KEY, redisKey);
+            ctx.put(StageContextKeys.REDIS_FIELD, redisField);
+            ctx.put(StageContextKeys.REDIS_VALUE, redisValue);
+            ctx.put(StageContextKeys.METADATA, metadata);
+            ctx.put(StageContextKeys.VERSION_TAG_PATH, versionTagPath);
+            ctx.put(StageContextKeys.PUBSUB_TOPIC, topic);
+            ctx.put(StageContextKeys.PUBSUB_MESSAGE, message);
+            ctx.put(StageContextKeys.VERIFY_URLS, verifyUrls);
+            ctx.put(StageContextKeys.VERIFY_JSON_PATH, versionTagPath);
+            ctx.put(StageContextKeys.RETRY_MAX_ATTEMPTS, maxAttempts);
+            ctx.put(StageContextKeys.RETRY_DELAY, java.time.Duration.ofSeconds(intervalSec));
+            ctx.put(StageContextKeys.TIMEOUT, java.time.Duration.ofSeconds(maxAttempts * intervalSec + 10));
 
             log.debug("BG RedisAck 数据准备完成: key={}, field={}, endpoints={}, version={}",
                 redisKey, redisField, verifyUrls.size(), config.getPlanVersion());
@@ -142,14 +151,14 @@ public class BlueGreenStageAssembler implements StageAssembler {
         return (ctx) -> {
             // 1. 优先检查 FailureInfo
             FailureInfo failureInfo =
-                ctx.getAdditionalData("failureInfo", FailureInfo.class);
+                ctx.get(StageContextKeys.FAILURE_INFO);
             if (failureInfo != null) {
                 return ValidationResult.failure(failureInfo.getErrorMessage());
             }
 
             // 2. 检查 AckResult
             AckResult result =
-                ctx.getAdditionalData("ackResult", AckResult.class);
+                ctx.get(StageContextKeys.ACK_RESULT);
 
             if (result == null) {
                 return ValidationResult.failure("未获取到 ACK 结果");
@@ -8,11 +8,12 @@ import org.springframework.stereotype.Component;
 import xyz.firestige.deploy.application.dto.TenantConfig;
 import xyz.firestige.deploy.infrastructure.discovery.SelectionStrategy;
 import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.SharedStageResources;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.StageAssembler;
 import xyz.firestige.deploy.infrastructure.execution.stage.preparer.DataPreparer;
-import xyz.firestige.deploy.infrastructure.execution.stage.steps.PollingStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.steps.AgentReadinessStep;
 import xyz.firestige.deploy.infrastructure.execution.stage.steps.RedisAckStep;
 import xyz.firestige.deploy.infrastructure.execution.stage.validator.ResultValidator;
 import xyz.firestige.deploy.infrastructure.execution.stage.validator.ValidationResult;
@@ -50,18 +51,26 @@ public class ObServiceStageAssembler implements StageAssembler {
     public TaskStage buildStage(TenantConfig cfg, SharedStageResources resources) {
         List<ConfigurableServiceStage.StepConfig> stepConfigs = new ArrayList<>();
 
-        // Step 1: Polling (轮询 AgentService.judgeAgent)
-        stepConfigs.add(ConfigurableServiceStage.StepConfig.builder()
+        // Step 1: 并行组 —— Agent 轮询与 RedisAck 数据准备（含实例发现与健康检查）互不依赖
+        ConfigurableServiceStage.StepConfig polling = ConfigurableServiceStage.StepConfig.builder()
             .stepName("ob-agent-polling")
-            .dataPreparer(createOBPollingDataPreparer(cfg, resources))
-            .step(new PollingStep("ob-agent-polling"))
+            .dataPreparer(createOBPollingDataPreparer(resources))
+            .step(new AgentReadinessStep("ob-agent-polling", resources.getAgentReadinessCoordinator()))
             .resultValidator(createOBPollingValidator())
-            .build());
+            .build();
+        ConfigurableServiceStage.StepConfig ackPrepare = ConfigurableServiceStage.StepConfig.builder()
+            .stepName("ob-redis-ack-prepare")
+            .dataPreparer(createRedisAckDataPreparer(cfg, resources))
+            .build();
+        stepConfigs.add(ConfigurableServiceStage.StepConfig.parallel(
+            "ob-prepare",
+            ConfigurableServiceStage.JoinPolicy.FAIL_FAST,
+            resources.getStepExecutor(),
+            List.of(polling, ackPrepare)));
 
         // Step 2: RedisAck (Write + Pub/Sub + Verify)
         stepConfigs.add(ConfigurableServiceStage.StepConfig.builder()
             .stepName("ob-redis-ack")
-            .dataPreparer(createRedisAckDataPreparer(cfg, resources))
             .step(new RedisAckStep(resources.getRedisAckService()))
             .resultValidator(createRedisAckValidator())
             .build());
@@ -71,37 +80,13 @@ public class ObServiceStageAssembler implements StageAssembler {
 
     // ---- Polling ----
 
-    private DataPreparer createOBPollingDataPreparer(TenantConfig config, SharedStageResources resources) {
+    private DataPreparer createOBPollingDataPreparer(SharedStageResources resources) {
         return (ctx) -> {
             int intervalMs = resources.getVerifyIntervalSeconds() * 1000;
             int maxAttempts = resources.getVerifyMaxAttempts();
 
-            ctx.addVariable("pollInterval", intervalMs);
-            ctx.addVariable("pollMaxAttempts", maxAttempts);
-
-            ctx.addVariable("pollCondition", (PollingStep.PollCondition) (pollCtx) -> {
-                Object agentService = pollCtx.getAdditionalData("agentService");
-                if (agentService == null) {
-                    log.warn("AgentService 未注入，OB 轮询跳过");
-                    return true;
-                }
-
-                try {
-                    var method = agentService.getClass().getMethod("judgeAgent", String.class, Long.class);
-                    Boolean result = (Boolean) method.invoke(
-                        agentService,
-                        config.getTenantId().getValue(),
-                        config.getPlanId().getValue()
-                    );
-
-                    log.debug("AgentService.judgeAgent() 返回: {}", result);
-                    return result != null && result;
-
-                } catch (Exception e) {
-                    log.warn("调用 AgentService.judgeAgent() 异常: {}", e.getMessage());
-                    return false;
-                }
-            });
+            ctx.put(StageContextKeys.POLL_INTERVAL, intervalMs);
+            ctx.put(StageContextKeys.POLL_MAX_ATTEMPTS, maxAttempts);
 
             log.debug("OB Polling 数据准备完成: interval={}ms, maxAttempts={}", intervalMs, maxAttempts);
         };
@@ -109,7 +94,7 @@ public class ObServiceStageAssembler implements StageAssembler {
 
     private ResultValidator createOBPollingValidator() {
         return (ctx) -> {
-            Boolean isReady = ctx.getAdditionalData("pollingResult", Boolean.class);
+            Boolean isReady = ctx.get(StageContextKeys.POLLING_RESULT);
             if (isReady != null && isReady) {
                 return ValidationResult.success("Agent 就绪");
             }
@@ -185,18 +170,18 @@ public class ObServiceStageAssembler implements StageAssembler {
             int intervalSec = resources.getVerifyIntervalSeconds();
 
             // 6. 放入 Context
-            ctx.addVariable("redisKey", redisKey);
-            ctx.addVariable("redisField", redisField);
-            ctx.addVariable("redisValue", redisValue);
-            ctx.addVariable("metadata", metadata);
-            ctx.addVariable("versionTagPath", versionTagPath);
-            ctx.addVariable("pubsubTopic", topic);
-            ctx.addVariable("pubsubMessage", message);
-            ctx.addVariable("verifyUrls", verifyUrls);
-            ctx.addVariable("verifyJsonPath", versionTagPath);
-            ctx.addVariable("retryMaxAttempts", maxAttempts);
-            ctx.addVariable("retryDelay", Duration.ofSeconds(intervalSec));
-            ctx.addVariable("timeout", Duration.ofSeconds(maxAttempts * intervalSec + 10));
+            ctx.put(StageContextKeys.REDIS_KEY, redisKey);
+            ctx.put(StageContextKeys.REDIS_FIELD, redisField);
+            ctx.put(StageContextKeys.REDIS_VALUE, redisValue);
+            ctx.put(StageContextKeys.METADATA, metadata);
+            ctx.put(StageContextKeys.VERSION_TAG_PATH, versionTagPath);
+            ctx.put(StageContextKeys.PUBSUB_TOPIC, topic);
+            ctx.put(StageContextKeys.PUBSUB_MESSAGE, message);
+            ctx.put(StageContextKeys.VERIFY_URLS, verifyUrls);
+            ctx.put(StageContextKeys.VERIFY_JSON_PATH, versionTagPath);
+            ctx.put(StageContextKeys.RETRY_MAX_ATTEMPTS, maxAttempts);
+            ctx.put(StageContextKeys.RETRY_DELAY, Duration.ofSeconds(intervalSec));
+            ctx.put(StageContextKeys.TIMEOUT, Duration.ofSeconds(maxAttempts * intervalSec + 10));
 
             log.debug("OB RedisAck 数据准备完成: key={}, field={}, endpoints={}, version={}",
                 redisKey, redisField, verifyUrls.size(), config.getPlanVersion());
@@ -210,14 +195,14 @@ public class ObServiceStageAssembler implements StageAssembler {
         return (ctx) -> {
             // 1. 优先检查 FailureInfo
             xyz.firestige.deploy.domain.shared.exception.FailureInfo failureInfo =
-                ctx.getAdditionalData("failureInfo", xyz.firestige.deploy.domain.shared.exception.FailureInfo.class);
+                ctx.get(StageContextKeys.FAILURE_INFO);
             if (failureInfo != null) {
                 return ValidationResult.failure(failureInfo.getErrorMessage());
             }
 
             // 2. 检查 AckResult
             xyz.firestige.redis.ack.api.AckResult result =
-                ctx.getAdditionalData("ackResult", xyz.firestige.redis.ack.api.AckResult.class);
+                ctx.get(StageContextKeys.ACK_RESULT);
 
             if (result == null) {
                 return ValidationResult.failure("未获取到 ACK 结果");
@@ -5,8 +5,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.infrastructure.discovery.SelectedInstance;
 import xyz.firestige.deploy.infrastructure.discovery.SelectionStrategy;
 import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.SharedStageResources;
 import xyz.firestige.deploy.infrastructure.execution.stage.factory.StageAssembler;
@@ -20,6 +22,7 @@ import xyz.firestige.deploy.infrastructure.execution.stage.validator.ValidationR
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Portal Stage 组装器
@@ -42,16 +45,24 @@ public class PortalStageAssembler implements StageAssembler {
         return cfg.getDeployUnit() != null;
     }
 
+    /**
+     * 独立外部系统，无前置依赖，可与其他 Stage 并行
+     */
+    @Override
+    public Set<String> dependsOn() {
+        return Set.of();
+    }
+
     @Override
     public TaskStage buildStage(TenantConfig cfg, SharedStageResources resources) {
         ConfigurableServiceStage.StepConfig stepConfig = ConfigurableServiceStage.StepConfig.builder()
             .stepName("portal-notify")
             .dataPreparer(createPortalDataPreparer(cfg, resources))
-            .step(new HttpRequestStep(resources.getRestTemplate()))
+            .step(new HttpRequestStep(resources.getRestTemplate(), resources.getServiceDiscoveryHelper()))
             .resultValidator(createPortalResultValidator())
             .build();
 
-        return new ConfigurableServiceStage(stageName(), Collections.singletonList(stepConfig));
+        return new ConfigurableServiceStage(stageName(), Collections.singletonList(stepConfig), dependsOn());
     }
 
     /**
@@ -59,16 +70,16 @@ public class PortalStageAssembler implements StageAssembler {
      */
     private DataPreparer createPortalDataPreparer(TenantConfig tenantConfig, SharedStageResources resources) {
         return (ctx) -> {
-            // 1. 从 Nacos 获取 endpoint（使用 RANDOM 策略选择单实例）
+            // 1. 从 Nacos 获取 endpoint（使用 LEAST_LATENCY 策略选择单实例）
             String namespace = tenantConfig.getNacosNameSpace();
             java.util.List<String> instances = resources.getServiceDiscoveryHelper()
-                .selectInstances("portalService", namespace, SelectionStrategy.RANDOM, false);
+                .selectInstances("portalService", namespace, SelectionStrategy.LEAST_LATENCY, false);
 
             if (instances.isEmpty()) {
                 throw new IllegalStateException("No portal service instance available");
             }
 
-            String instance = instances.get(0);  // RANDOM 策略返回单实例
+            String instance = instances.get(0);  // LEAST_LATENCY 策略返回单实例
             String endpoint = "http://" + instance + "/icc-agent-portal/inner/v1/notify/bgSwitch";
 
             // 2. 构建请求 body
@@ -82,10 +93,11 @@ public class PortalStageAssembler implements StageAssembler {
             headers.put("Content-Type", "application/json");
 
             // 4. 放入 TaskRuntimeContext
-            ctx.addVariable("url", endpoint);
-            ctx.addVariable("method", "POST");
-            ctx.addVariable("headers", headers);
-            ctx.addVariable("body", body);
+            ctx.put(StageContextKeys.URL, endpoint);
+            ctx.put(StageContextKeys.METHOD, "POST");
+            ctx.put(StageContextKeys.HEADERS, headers);
+            ctx.put(StageContextKeys.BODY, body);
+            ctx.put(StageContextKeys.SELECTED_INSTANCE, new SelectedInstance("portalService", namespace, instance));
 
             log.debug("Portal 数据准备完成: endpoint={}, tenantId={}",
                 endpoint, tenantConfig.getTenantId().getValue());
@@ -97,7 +109,7 @@ public class PortalStageAssembler implements StageAssembler {
      */
     private ResultValidator createPortalResultValidator() {
         return (ctx) -> {
-            HttpResponseData response = ctx.getAdditionalData("httpResponse", HttpResponseData.class);
+            HttpResponseData response = ctx.get(StageContextKeys.HTTP_RESPONSE);
 
             // 1. 检查 HTTP 状态码
             if (!response.is2xx()) {
@@ -0,0 +1,231 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.polling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import xyz.firestige.service.AgentService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * OB Agent 就绪轮询协调器（计划级批量轮询）
+ *
+ * <p>职责：
+ * <ul>
+ *   <li>收集同一计划下所有等待 Agent 就绪的租户</li>
+ *   <li>每个轮询间隔对该计划发起一次批量查询（{@link AgentService#judgeAgents}）</li>
+ *   <li>租户就绪即释放其等待者，超过最大次数的等待者以 false 结束</li>
+ * </ul>
+ *
+ * <p>每个计划一个批次，批次在有等待者时自调度、无等待者时自动移除；
+ * 批次的状态迁移都在 {@code batches} 的同 key 原子操作内完成。
+ *
+ * <p>定时器只负责按间隔触发，批量查询在检查线程池上执行，慢查询不会阻塞其他计划的计时；
+ * 检查线程池满时该次查询推迟一个间隔（不计入尝试次数）。
+ *
+ * @since RF-19 三层抽象架构
+ */
+@Component
+public class AgentReadinessCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentReadinessCoordinator.class);
+
+    private final AgentService agentService;  // nullable
+    private final ScheduledExecutorService timer;
+    private final Executor checkExecutor;
+    private final Map<Long, PlanBatch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * @param agentService Agent 服务（可选，缺省时视为全部就绪）
+     * @param pollingTimer 轮询定时器（可选，缺省时使用单线程定时器）
+     */
+    public AgentReadinessCoordinator(AgentService agentService, ScheduledExecutorService pollingTimer) {
+        this(agentService, pollingTimer, null);
+    }
+
+    /**
+     * @param agentService Agent 服务（可选，缺省时视为全部就绪）
+     * @param pollingTimer 轮询定时器（可选，缺省时使用单线程定时器）
+     * @param checkExecutor 批量查询线程池（可选，缺省时使用单线程执行器）
+     */
+    @Autowired
+    public AgentReadinessCoordinator(
+            @Autowired(required = false) AgentService agentService,
+            @Autowired(required = false) @Qualifier("pollingTimer") ScheduledExecutorService pollingTimer,
+            @Autowired(required = false) @Qualifier("pollingCheckExecutor") Executor checkExecutor) {
+        this.agentService = agentService;
+        this.timer = pollingTimer != null ? pollingTimer : Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "agent-readiness-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.checkExecutor = checkExecutor != null ? checkExecutor : Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "agent-readiness-check");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 等待租户的 Agent 就绪
+     *
+     * @param planId 计划 ID（批量查询的分组维度）
+     * @param tenantId 租户 ID
+     * @param intervalMs 轮询间隔（计划批次创建时确定，后加入的等待者沿用批次间隔）
+     * @param maxAttempts 最大查询次数
+     * @param cancelled 取消判断（每次查询前检查），可为 null
+     * @return 就绪返回 true，超过最大次数返回 false；取消时以 CancellationException 结束
+     */
+    public CompletableFuture<Boolean> awaitReady(Long planId, String tenantId, long intervalMs, int maxAttempts,
+                                                 BooleanSupplier cancelled) {
+        if (agentService == null) {
+            log.warn("AgentService 未注入，OB 轮询跳过: tenantId={}", tenantId);
+            return CompletableFuture.completedFuture(true);
+        }
+        if (intervalMs <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("intervalMs and maxAttempts must be positive");
+        }
+
+        Waiter waiter = new Waiter(tenantId, maxAttempts, cancelled);
+        batches.compute(planId, (id, batch) -> {
+            PlanBatch target = batch != null ? batch : new PlanBatch(id, intervalMs);
+            target.waiters.add(waiter);
+            if (batch == null && !schedule(target, 0)) {
+                return null;
+            }
+            return target;
+        });
+        log.debug("Agent 就绪等待加入批次: planId={}, tenantId={}", planId, tenantId);
+        return waiter.future;
+    }
+
+    /**
+     * 当前等待中的租户数（监控用）
+     */
+    public int waitingCount() {
+        return batches.values().stream().mapToInt(batch -> batch.waiters.size()).sum();
+    }
+
+    /**
+     * @return 调度失败（定时器已关闭）返回 false，批次内等待者以异常结束
+     */
+    private boolean schedule(PlanBatch batch, long delayMs) {
+        try {
+            timer.schedule(() -> dispatch(batch), delayMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            batch.waiters.forEach(waiter -> waiter.future.completeExceptionally(e));
+            return false;
+        }
+    }
+
+    /**
+     * 定时器线程上执行：只把批量查询转交给检查线程池
+     */
+    private void dispatch(PlanBatch batch) {
+        try {
+            checkExecutor.execute(() -> poll(batch));
+        } catch (RejectedExecutionException e) {
+            if (checkExecutor instanceof ExecutorService executor && executor.isShutdown()) {
+                batches.remove(batch.planId, batch);
+                batch.waiters.forEach(waiter -> waiter.future.completeExceptionally(e));
+                return;
+            }
+            log.warn("Agent 查询线程池已满，推迟 {}ms 再查询: planId={}", batch.intervalMs, batch.planId);
+            if (!schedule(batch, batch.intervalMs)) {
+                batches.remove(batch.planId, batch);
+            }
+        }
+    }
+
+    /**
+     * 单次批量查询：在检查线程池执行（同一批次的查询串行，下一次在本次结束后才调度）
+     */
+    private void poll(PlanBatch batch) {
+        Set<String> tenantIds = new LinkedHashSet<>();
+        List<Waiter> active = new ArrayList<>(batch.waiters.size());
+        for (Waiter waiter : batch.waiters) {
+            if (waiter.future.isDone()) {
+                batch.waiters.remove(waiter);
+            } else if (waiter.cancelled != null && waiter.cancelled.getAsBoolean()) {
+                batch.waiters.remove(waiter);
+                waiter.future.completeExceptionally(new CancellationException("Agent 轮询已取消"));
+            } else {
+                tenantIds.add(waiter.tenantId);
+                active.add(waiter);
+            }
+        }
+
+        if (!active.isEmpty()) {
+            Set<String> ready;
+            try {
+                ready = agentService.judgeAgents(tenantIds, batch.planId);
+                log.debug("Agent 批量查询: planId={}, tenants={}, ready={}", batch.planId, tenantIds.size(), ready.size());
+            } catch (Exception e) {
+                log.warn("Agent 批量查询异常: planId={}, error={}", batch.planId, e.getMessage());
+                ready = Set.of();  // 继续轮询，不立即失败
+            }
+
+            for (Waiter waiter : active) {
+                if (ready.contains(waiter.tenantId)) {
+                    batch.waiters.remove(waiter);
+                    waiter.future.complete(true);
+                } else if (--waiter.remainingAttempts <= 0) {
+                    batch.waiters.remove(waiter);
+                    waiter.future.complete(false);
+                }
+            }
+        }
+
+        // 有等待者继续调度，否则移除批次（与 awaitReady 的加入在同一 key 上原子执行）
+        batches.computeIfPresent(batch.planId, (id, current) -> {
+            if (current != batch) {
+                return current;
+            }
+            if (batch.waiters.isEmpty()) {
+                return null;
+            }
+            return schedule(batch, batch.intervalMs) ? batch : null;
+        });
+    }
+
+    private static final class PlanBatch {
+        private final Long planId;
+        private final long intervalMs;
+        private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+        private PlanBatch(Long planId, long intervalMs) {
+            this.planId = planId;
+            this.intervalMs = intervalMs;
+        }
+    }
+
+    private static final class Waiter {
+        private final String tenantId;
+        private final BooleanSupplier cancelled;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private int remainingAttempts;  // 仅批次查询读写（同一批次串行执行）
+
+        private Waiter(String tenantId, int maxAttempts, BooleanSupplier cancelled) {
+            this.tenantId = tenantId;
+            this.remainingAttempts = maxAttempts;
+            this.cancelled = cancelled;
+        }
+    }
+}
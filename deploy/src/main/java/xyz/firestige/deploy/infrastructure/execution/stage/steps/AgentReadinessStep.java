@@ -0,0 +1,92 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.steps;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.polling.AgentReadinessCoordinator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Agent 就绪等待 Step（计划级批量轮询）
+ *
+ * <p>职责：
+ * <ul>
+ *   <li>把当前租户登记到 {@link AgentReadinessCoordinator}，由协调器按计划批量查询</li>
+ *   <li>将轮询结果放回 TaskRuntimeContext</li>
+ * </ul>
+ *
+ * <p>数据约定：
+ * <ul>
+ *   <li>输入：TaskRuntimeContext 中的 "pollInterval", "pollMaxAttempts"；租户与计划取自上下文本身</li>
+ *   <li>输出：TaskRuntimeContext 中的 "pollingResult"（Boolean）</li>
+ * </ul>
+ *
+ * @since RF-19 三层抽象架构
+ */
+public class AgentReadinessStep implements StageStep {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentReadinessStep.class);
+
+    private final String stepName;
+    private final AgentReadinessCoordinator coordinator;
+
+    public AgentReadinessStep(String stepName, AgentReadinessCoordinator coordinator) {
+        this.stepName = stepName;
+        this.coordinator = coordinator;
+    }
+
+    @Override
+    public String getStepName() {
+        return stepName;
+    }
+
+    @Override
+    public void execute(TaskRuntimeContext ctx) throws Exception {
+        CompletableFuture<Void> future = executeAsync(ctx);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> executeAsync(TaskRuntimeContext ctx) {
+        Integer intervalMs = ctx.get(StageContextKeys.POLL_INTERVAL);
+        Integer maxAttempts = ctx.get(StageContextKeys.POLL_MAX_ATTEMPTS);
+        if (intervalMs == null || intervalMs <= 0) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (maxAttempts == null || maxAttempts <= 0) {
+            throw new IllegalArgumentException("pollMaxAttempts must be positive");
+        }
+
+        Long planId = Long.valueOf(ctx.getPlanId().getValue());
+        String tenantId = ctx.getTenantId().getValue();
+        CompletableFuture<Boolean> ready = coordinator.awaitReady(planId, tenantId, intervalMs, maxAttempts, ctx::isCancelRequested);
+
+        CompletableFuture<Void> result = ready.thenAccept(isReady -> {
+            ctx.put(StageContextKeys.POLLING_RESULT, isReady);
+            if (!isReady) {
+                log.error("Agent 轮询超时: tenantId={}, maxAttempts={}", tenantId, maxAttempts);
+                throw new CompletionException(new Exception(String.format("轮询超时：已尝试 %d 次", maxAttempts)));
+            }
+            log.info("Agent 就绪: tenantId={}", tenantId);
+        });
+        // 调用方放弃等待时退出批次
+        result.whenComplete((ignored, error) -> ready.cancel(false));
+        return result;
+    }
+}
@@ -6,8 +6,12 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.discovery.SelectedInstance;
+import xyz.firestige.deploy.infrastructure.discovery.ServiceDiscoveryHelper;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
 import xyz.firestige.deploy.infrastructure.execution.stage.http.HttpRequestData;
 import xyz.firestige.deploy.infrastructure.execution.stage.http.HttpResponseData;
@@ -30,8 +34,15 @@ import java.util.Map;
  * <p>数据约定：
  * <ul>
  *   <li>输入：TaskRuntimeContext 中的 "url", "method", "headers", "body"</li>
+ *   <li>可选输入："selectedInstance"（SelectedInstance），存在时回写调用结果用于 LEAST_LATENCY 选择</li>
  *   <li>输出：TaskRuntimeContext 中的 "httpResponse"（HttpResponseData）</li>
  * </ul>
+ * Key 常量见 {@link StageContextKeys}
+ *
+ * <p>同步调用：{@link StageStep} 契约是同步的（Step 在 Task 的工作线程上顺序执行），这里仍使用阻塞的
+ * {@code RestTemplate}，不提供 CompletableFuture 路径。连接复用、HTTP/2 与连接/请求超时由注入的
+ * RestTemplate 底层的共享 JDK HttpClient 提供（见 {@code InfrastructureAutoConfiguration}）；
+ * 非阻塞接口只用于 ACK Verify 扇出（{@code JdkHttpClient}）。
  *
  * @since RF-19 三层抽象架构
  */
@@ -40,9 +51,19 @@ public class HttpRequestStep implements StageStep {
     private static final Logger log = LoggerFactory.getLogger(HttpRequestStep.class);
 
     private final RestTemplate restTemplate;
+    private final ServiceDiscoveryHelper serviceDiscoveryHelper;  // nullable
 
     public HttpRequestStep(RestTemplate restTemplate) {
+        this(restTemplate, null);
+    }
+
+    /**
+     * @param restTemplate HTTP 客户端
+     * @param serviceDiscoveryHelper 服务发现辅助类（可选，用于回写实例延迟与错误）
+     */
+    public HttpRequestStep(RestTemplate restTemplate, ServiceDiscoveryHelper serviceDiscoveryHelper) {
         this.restTemplate = restTemplate;
+        this.serviceDiscoveryHelper = serviceDiscoveryHelper;
     }
 
     @Override
@@ -59,9 +80,10 @@ public class HttpRequestStep implements StageStep {
         long startTime = System.currentTimeMillis();
         HttpResponseData responseData = executeAction(requestData);
         responseData.setDurationMs(System.currentTimeMillis() - startTime);
+        recordInstanceOutcome(ctx, responseData);
 
         // 3. 返回结果（放入 TaskRuntimeContext）
-        ctx.addVariable("httpResponse", responseData);
+        ctx.put(StageContextKeys.HTTP_RESPONSE, responseData);
 
         log.info("HTTP {} {} → {} (耗时 {}ms)",
             requestData.getMethod(),
@@ -70,12 +92,29 @@ public class HttpRequestStep implements StageStep {
             responseData.getDurationMs());
     }
 
+    /**
+     * 回写实例调用结果（连接异常或 5xx 视为实例失败，4xx 属于业务错误不计入）
+     */
+    private void recordInstanceOutcome(TaskRuntimeContext ctx, HttpResponseData responseData) {
+        if (serviceDiscoveryHelper == null) {
+            return;
+        }
+        SelectedInstance selected = ctx.get(StageContextKeys.SELECTED_INSTANCE);
+        if (selected == null) {
+            return;
+        }
+        Exception e = responseData.getException();
+        boolean success = e == null
+            || (e instanceof HttpClientErrorException);
+        serviceDiscoveryHelper.recordInstanceOutcome(selected, responseData.getDurationMs(), success);
+    }
+
     /**
      * 准备数据（从 TaskRuntimeContext 提取）
      */
     private HttpRequestData prepareData(TaskRuntimeContext ctx) {
-        String url = (String) ctx.getAdditionalData("url");
-        String method = (String) ctx.getAdditionalData("method");
+        String url = ctx.get(StageContextKeys.URL);
+        String method = ctx.get(StageContextKeys.METHOD);
 
         if (url == null || url.isEmpty()) {
             throw new IllegalArgumentException("url is required in TaskRuntimeContext");
@@ -89,14 +128,13 @@ public class HttpRequestStep implements StageStep {
             .method(method);
 
         // 可选的 headers
-        @SuppressWarnings("unchecked")
-        Map<String, String> headers = ctx.getAdditionalData("headers", Map.class);
+        Map<String, String> headers = ctx.get(StageContextKeys.HEADERS);
         if (headers != null) {
             builder.headers(headers);
         }
 
         // 可选的 body
-        Object body = ctx.getAdditionalData("body");
+        Object body = ctx.get(StageContextKeys.BODY);
         if (body != null) {
             builder.body(body);
         }
@@ -3,15 +3,29 @@ package xyz.firestige.deploy.infrastructure.execution.stage.steps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 轮询 Step（通用，支持函数注入）
  *
  * <p>职责：
  * <ul>
  *   <li>从 TaskRuntimeContext 提取轮询配置和条件函数</li>
- *   <li>定期调用条件函数检查是否就绪</li>
+ *   <li>由共享定时器按间隔触发，条件函数在有界的检查线程池上执行（两次检查之间不占用线程）</li>
  *   <li>将轮询结果放回 TaskRuntimeContext</li>
  * </ul>
  *
@@ -20,13 +34,17 @@ import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
  * <p>数据约定：
  * <ul>
  *   <li>输入：TaskRuntimeContext 中的 "pollInterval", "pollMaxAttempts", "pollCondition"</li>
+ *   <li>可选输入："pollBackoffMultiplier"（Double，默认 1.0 即固定间隔），"pollMaxInterval"（Integer，退避上限 ms）</li>
  *   <li>输出：TaskRuntimeContext 中的 "pollingResult"（Boolean）</li>
  * </ul>
  *
+ * <p>定时器线程只负责把检查转交给检查线程池，慢检查不会拖慢其他轮询的计时；
+ * 检查线程池满时该次检查推迟一个间隔（不计入尝试次数）。Task 取消时停止轮询。
+ *
  * <p>使用示例：
  * <pre>
  * // 注入轮询条件函数
- * runtimeContext.addVariable("pollCondition", (PollingStep.PollCondition) (ctx) -> {
+ * runtimeContext.put(StageContextKeys.POLL_CONDITION, (ctx) -> {
  *     return agentService.judgeAgent(ctx.getTenantId().getValue());
  * });
  * </pre>
@@ -38,6 +56,8 @@ public class PollingStep implements StageStep {
     private static final Logger log = LoggerFactory.getLogger(PollingStep.class);
 
     private final String stepName;
+    private final ScheduledExecutorService timer;
+    private final Executor checkExecutor;
 
     /**
      * 轮询条件函数式接口
@@ -54,8 +74,30 @@ public class PollingStep implements StageStep {
         boolean check(TaskRuntimeContext context) throws Exception;
     }
 
+    /**
+     * 使用进程内默认定时器
+     */
     public PollingStep(String stepName) {
+        this(stepName, null);
+    }
+
+    /**
+     * @param stepName Step 名称
+     * @param timer 轮询定时器（null 使用进程内默认定时器）
+     */
+    public PollingStep(String stepName, ScheduledExecutorService timer) {
+        this(stepName, timer, null);
+    }
+
+    /**
+     * @param stepName Step 名称
+     * @param timer 轮询定时器（null 使用进程内默认定时器）
+     * @param checkExecutor 条件检查线程池（null 使用进程内默认有界线程池）
+     */
+    public PollingStep(String stepName, ScheduledExecutorService timer, Executor checkExecutor) {
         this.stepName = stepName;
+        this.timer = timer != null ? timer : DefaultTimerHolder.TIMER;
+        this.checkExecutor = checkExecutor != null ? checkExecutor : DefaultTimerHolder.CHECK_EXECUTOR;
     }
 
     @Override
@@ -63,12 +105,34 @@ public class PollingStep implements StageStep {
         return stepName;
     }
 
+    /**
+     * 同步执行：等待异步轮询完成（兼容直接调用 Step 的场景）
+     */
     @Override
     public void execute(TaskRuntimeContext ctx) throws Exception {
+        CompletableFuture<Void> future = executeAsync(ctx);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> executeAsync(TaskRuntimeContext ctx) {
         // 1. 从 context 获取配置
-        Integer intervalMs = ctx.getAdditionalData("pollInterval", Integer.class);
-        Integer maxAttempts = ctx.getAdditionalData("pollMaxAttempts", Integer.class);
-        PollCondition condition = ctx.getAdditionalData("pollCondition", PollCondition.class);
+        Integer intervalMs = ctx.get(StageContextKeys.POLL_INTERVAL);
+        Integer maxAttempts = ctx.get(StageContextKeys.POLL_MAX_ATTEMPTS);
+        PollCondition condition = ctx.get(StageContextKeys.POLL_CONDITION);
+        double backoffMultiplier = ctx.get(StageContextKeys.POLL_BACKOFF_MULTIPLIER, 1.0);
+        Integer maxIntervalMs = ctx.get(StageContextKeys.POLL_MAX_INTERVAL);
 
         // 参数验证
         if (intervalMs == null || intervalMs <= 0) {
@@ -80,41 +144,136 @@ public class PollingStep implements StageStep {
         if (condition == null) {
             throw new IllegalArgumentException("pollCondition is required in TaskRuntimeContext");
         }
+        if (backoffMultiplier < 1.0) {
+            throw new IllegalArgumentException("pollBackoffMultiplier must be >= 1.0");
+        }
 
-        log.debug("开始轮询: interval={}ms, maxAttempts={}", intervalMs, maxAttempts);
+        log.debug("开始轮询: interval={}ms, maxAttempts={}, backoff={}", intervalMs, maxAttempts, backoffMultiplier);
 
-        // 2. 执行轮询
-        int attempts = 0;
-        while (attempts < maxAttempts) {
-            attempts++;
+        // 2. 在定时器上执行轮询
+        Poller poller = new Poller(ctx, condition, intervalMs, maxAttempts, backoffMultiplier,
+            maxIntervalMs != null ? maxIntervalMs : Integer.MAX_VALUE);
+        poller.schedule(0);
+        return poller.result;
+    }
 
+    /**
+     * 单次轮询的状态机：每次检查作为定时任务执行，未就绪时重新调度下一次检查
+     */
+    private final class Poller implements Runnable {
+        private final TaskRuntimeContext ctx;
+        private final PollCondition condition;
+        private final int maxAttempts;
+        private final double backoffMultiplier;
+        private final long maxIntervalMs;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private long nextDelayMs;
+
+        private Poller(TaskRuntimeContext ctx, PollCondition condition, int intervalMs, int maxAttempts,
+                       double backoffMultiplier, long maxIntervalMs) {
+            this.ctx = ctx;
+            this.condition = condition;
+            this.maxAttempts = maxAttempts;
+            this.backoffMultiplier = backoffMultiplier;
+            this.maxIntervalMs = maxIntervalMs;
+            this.nextDelayMs = Math.min(intervalMs, maxIntervalMs);
+        }
+
+        private void schedule(long delayMs) {
             try {
-                boolean isReady = condition.check(ctx);  // ← 调用注入的函数
+                timer.schedule(this::dispatch, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        }
 
-                if (isReady) {
-                    // 条件满足，轮询成功
-                    ctx.addVariable("pollingResult", true);
-                    log.info("轮询成功: attempts={}", attempts);
+        /**
+         * 定时器线程上执行：只把检查转交给检查线程池
+         */
+        private void dispatch() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                checkExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                if (checkExecutor instanceof ExecutorService executor && executor.isShutdown()) {
+                    result.completeExceptionally(e);
                     return;
                 }
+                log.warn("轮询检查线程池已满，推迟 {}ms 再检查", nextDelayMs);
+                schedule(nextDelayMs);
+            }
+        }
 
-                log.debug("轮询未就绪: attempts={}/{}", attempts, maxAttempts);
+        @Override
+        public void run() {
+            // 调用方已放弃（取消或快速失败）
+            if (result.isDone()) {
+                return;
+            }
+            if (ctx.isCancelRequested()) {
+                result.completeExceptionally(new CancellationException("轮询已取消"));
+                return;
+            }
 
+            int attempt = attempts.incrementAndGet();
+            ctx.injectMdc(null);
+            try {
+                boolean isReady = condition.check(ctx);  // ← 调用注入的函数
+                if (isReady) {
+                    // 条件满足，轮询成功
+                    ctx.put(StageContextKeys.POLLING_RESULT, true);
+                    log.info("轮询成功: attempts={}", attempt);
+                    result.complete(null);
+                    return;
+                }
+                log.debug("轮询未就绪: attempts={}/{}", attempt, maxAttempts);
             } catch (Exception e) {
-                log.warn("轮询检查异常: attempts={}, error={}", attempts, e.getMessage());
+                log.warn("轮询检查异常: attempts={}, error={}", attempt, e.getMessage());
                 // 继续轮询，不立即失败
+            } finally {
+                ctx.clearMdc();
             }
 
-            // 未就绪，等待后重试
-            if (attempts < maxAttempts) {
-                Thread.sleep(intervalMs);
+            if (attempt >= maxAttempts) {
+                // 3. 超过最大尝试次数，轮询失败
+                ctx.put(StageContextKeys.POLLING_RESULT, false);
+                log.error("轮询超时: maxAttempts={}", maxAttempts);
+                result.completeExceptionally(new Exception(String.format("轮询超时：已尝试 %d 次", maxAttempts)));
+                return;
             }
+
+            // 未就绪，按退避间隔调度下一次检查
+            long delayMs = nextDelayMs;
+            nextDelayMs = Math.min((long) (nextDelayMs * backoffMultiplier), maxIntervalMs);
+            schedule(delayMs);
         }
+    }
 
-        // 3. 超过最大尝试次数，轮询失败
-        ctx.addVariable("pollingResult", false);
-        log.error("轮询超时: maxAttempts={}", maxAttempts);
-        throw new Exception(String.format("轮询超时：已尝试 %d 次", maxAttempts));
+    /**
+     * 未注入定时器/检查线程池时使用的进程内默认实现（按需创建）
+     */
+    private static final class DefaultTimerHolder {
+        private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "polling-timer-default");
+            t.setDaemon(true);
+            return t;
+        });
+
+        private static final Executor CHECK_EXECUTOR = newCheckExecutor();
+
+        private static Executor newCheckExecutor() {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256), r -> {
+                    Thread t = new Thread(r, "polling-check-default-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
     }
 }
-
@@ -5,11 +5,14 @@ import org.slf4j.LoggerFactory;
 import xyz.firestige.deploy.domain.shared.exception.ErrorType;
 import xyz.firestige.deploy.domain.shared.exception.FailureInfo;
 import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
 import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
 import xyz.firestige.redis.ack.api.AckResult;
 import xyz.firestige.redis.ack.api.RedisAckService;
+import xyz.firestige.redis.ack.endpoint.EndpointKeys;
 import xyz.firestige.redis.ack.exception.AckExecutionException;
 import xyz.firestige.redis.ack.exception.AckTimeoutException;
+import xyz.firestige.redis.ack.retry.FixedDelayRetryStrategy;
 
 import java.time.Duration;
 import java.util.List;
@@ -37,8 +40,8 @@ import java.util.function.Function;
  *   <li>pubsubMessage: String - Pub/Sub Message</li>
  *   <li>verifyUrls: List&lt;String&gt; - 健康检查 URL 列表</li>
  *   <li>verifyJsonPath: String - footprint 提取 JsonPath</li>
- *   <li>retryMaxAttempts: int - 最大重试次数</li>
- *   <li>retryDelay: Duration - 重试间隔</li>
+ *   <li>retryMaxAttempts: int - 最大重试次数（收敛历史不足时的回退策略）</li>
+ *   <li>retryDelay: Duration - 重试间隔（收敛历史不足时的回退策略）</li>
  *   <li>timeout: Duration - 总超时时间</li>
  * </ul>
  *
@@ -68,18 +71,18 @@ public class RedisAckStep implements StageStep {
     public void execute(TaskRuntimeContext ctx) throws Exception {
         try {
             // 1. 提取参数
-            String redisKey = getRequired(ctx, "redisKey", String.class);
-            String redisField = getRequired(ctx, "redisField", String.class);
-            Map<String, Object> redisValue = getRequired(ctx, "redisValue", Map.class);
-            Map<String, Object> metadata = getRequired(ctx, "metadata", Map.class);
-            String versionTagPath = getRequired(ctx, "versionTagPath", String.class);
-            String pubsubTopic = getRequired(ctx, "pubsubTopic", String.class);
-            String pubsubMessage = getRequired(ctx, "pubsubMessage", String.class);
-            List<String> verifyUrls = getRequired(ctx, "verifyUrls", List.class);
-            String verifyJsonPath = getRequired(ctx, "verifyJsonPath", String.class);
-            int retryMaxAttempts = getRequired(ctx, "retryMaxAttempts", Integer.class);
-            Duration retryDelay = getRequired(ctx, "retryDelay", Duration.class);
-            Duration timeout = getRequired(ctx, "timeout", Duration.class);
+            String redisKey = ctx.require(StageContextKeys.REDIS_KEY);
+            String redisField = ctx.require(StageContextKeys.REDIS_FIELD);
+            Map<String, Object> redisValue = ctx.require(StageContextKeys.REDIS_VALUE);
+            Map<String, Object> metadata = ctx.require(StageContextKeys.METADATA);
+            String versionTagPath = ctx.require(StageContextKeys.VERSION_TAG_PATH);
+            String pubsubTopic = ctx.require(StageContextKeys.PUBSUB_TOPIC);
+            String pubsubMessage = ctx.require(StageContextKeys.PUBSUB_MESSAGE);
+            List<String> verifyUrls = ctx.require(StageContextKeys.VERIFY_URLS);
+            String verifyJsonPath = ctx.require(StageContextKeys.VERIFY_JSON_PATH);
+            int retryMaxAttempts = ctx.require(StageContextKeys.RETRY_MAX_ATTEMPTS);
+            Duration retryDelay = ctx.require(StageContextKeys.RETRY_DELAY);
+            Duration timeout = ctx.require(StageContextKeys.TIMEOUT);
 
             log.info("开始执行 RedisAck: key={}, field={}, endpoints={}",
                 redisKey, redisField, verifyUrls.size());
@@ -98,13 +101,15 @@ public class RedisAckStep implements StageStep {
                 .andVerify()
                     .httpGetMultiple(verifyUrls) // 多 URL 并发验证
                     .extractJson(verifyJsonPath)
-                    .retryFixedDelay(retryMaxAttempts, retryDelay)
+                    // 按网关实例集合（host:port）的历史收敛时间调度探测，历史不足时退化为固定间隔
+                    .retryAdaptive(EndpointKeys.of(verifyUrls),
+                        new FixedDelayRetryStrategy(retryMaxAttempts, retryDelay))
                     .timeout(timeout)
 
                 .executeAndWait(); // 同步调用
 
             // 3. 放回结果
-            ctx.addVariable("ackResult", result);
+            ctx.put(StageContextKeys.ACK_RESULT, result);
 
             log.info("RedisAck 执行完成: success={}, attempts={}, elapsed={}",
                 result.isSuccess(), result.getAttempts(), result.getElapsed());
@@ -117,7 +122,7 @@ public class RedisAckStep implements StageStep {
                 "ACK 验证超时: " + e.getMessage(),
                 true // retryable
             );
-            ctx.addVariable("failureInfo", failureInfo);
+            ctx.put(StageContextKeys.FAILURE_INFO, failureInfo);
             throw e;
 
         } catch (AckExecutionException e) {
@@ -128,7 +133,7 @@ public class RedisAckStep implements StageStep {
                 "ACK 执行失败: " + e.getMessage(),
                 false // not retryable
             );
-            ctx.addVariable("failureInfo", failureInfo);
+            ctx.put(StageContextKeys.FAILURE_INFO, failureInfo);
             throw e;
 
         } catch (Exception e) {
@@ -139,17 +144,8 @@ public class RedisAckStep implements StageStep {
                 "RedisAck 未知错误: " + e.getMessage(),
                 false
             );
-            ctx.addVariable("failureInfo", failureInfo);
+            ctx.put(StageContextKeys.FAILURE_INFO, failureInfo);
             throw e;
         }
     }
-
-    private <T> T getRequired(TaskRuntimeContext ctx, String key, Class<T> clazz) {
-        T value = ctx.getAdditionalData(key, clazz);
-        if (value == null) {
-            throw new IllegalArgumentException(key + " is required in TaskRuntimeContext");
-        }
-        return value;
-    }
 }
-
@@ -4,6 +4,9 @@ import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 租户锁管理接口（技术无关）
@@ -43,6 +46,45 @@ public interface TenantLockManager {
      */
     boolean tryAcquire(TenantId tenantId, TaskId taskId, Duration ttl);
 
+    /**
+     * 批量获取租户锁（一个 Plan 的租户集合）
+     * <p>
+     * 租户已被同一任务持有视为获取成功（刷新 TTL）。
+     * 默认实现逐个调用 {@link #tryAcquire}，全有或全无模式下冲突时回滚已获取的锁；
+     * 分布式实现应覆盖为单次原子调用
+     *
+     * @param owners       租户 → 持有任务
+     * @param ttl          锁过期时间
+     * @param allOrNothing true=任一冲突则不获取任何锁，false=获取无冲突的租户
+     * @return 冲突租户列表（为空表示全部获取成功）
+     */
+    default List<TenantId> tryAcquireAll(Map<TenantId, TaskId> owners, Duration ttl, boolean allOrNothing) {
+        List<TenantId> acquired = new ArrayList<>(owners.size());
+        List<TenantId> conflicts = new ArrayList<>();
+        for (Map.Entry<TenantId, TaskId> entry : owners.entrySet()) {
+            if (tryAcquire(entry.getKey(), entry.getValue(), ttl)) {
+                acquired.add(entry.getKey());
+            } else {
+                conflicts.add(entry.getKey());
+            }
+        }
+        if (allOrNothing && !conflicts.isEmpty()) {
+            acquired.forEach(this::release);
+        }
+        return conflicts;
+    }
+
+    /**
+     * 批量释放租户锁（只释放仍由对应任务持有的锁）
+     * <p>
+     * 默认实现逐个调用 {@link #release}；分布式实现应覆盖为单次原子调用
+     *
+     * @param owners 租户 → 持有任务
+     */
+    default void releaseAll(Map<TenantId, TaskId> owners) {
+        owners.keySet().forEach(this::release);
+    }
+
     /**
      * 释放租户锁
      * <p>
@@ -1,28 +1,109 @@
 package xyz.firestige.deploy.infrastructure.lock.redis;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.infrastructure.lock.TenantLockManager;
+import xyz.firestige.redis.renewal.KeyRenewalService;
+import xyz.firestige.redis.renewal.RenewalTask;
+import xyz.firestige.redis.renewal.selector.FunctionKeySelector;
+import xyz.firestige.redis.renewal.strategy.interval.FixedIntervalStrategy;
+import xyz.firestige.redis.renewal.strategy.ttl.FixedTtlStrategy;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 租户锁 Redis 实现（分布式锁）
  * <p>
  * 使用 Redis SET NX 实现原子获取锁
  * TTL 自动释放，防止崩溃后泄漏
+ * <p>
+ * 批量获取/释放（一个 Plan 的租户集合）通过 Lua 脚本一次往返完成；
+ * 配置了 {@link KeyRenewalService} 时，批量获取成功的锁由续期服务按 TTL/3 间隔续期。
+ * 续期任务每次只续期尚未释放的锁（按任务逐个释放后不再续期，避免延长其他实例随后获取的同名锁），
+ * 全部释放后自动取消续期任务。
+ * <p>
+ * 注意：Redis Cluster 下批量脚本要求所有 Key 位于同一槽位。
  *
  * @since T-016 投影型持久化
  */
 public class RedisTenantLockManager implements TenantLockManager {
 
+    private static final Logger log = LoggerFactory.getLogger(RedisTenantLockManager.class);
+
     private static final String KEY_PREFIX = "executor:lock:tenant:";
 
+    /**
+     * 批量获取：KEYS=租户锁，ARGV[1]=TTL 毫秒，ARGV[2]=全有或全无（1/0），ARGV[3..]=持有任务
+     * <p>
+     * 返回冲突 Key 的下标（从 1 开始）
+     */
+    static final RedisScript<List> ACQUIRE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local conflicts = {}\n" +
+            "local free = {}\n" +
+            "for i = 1, #KEYS do\n" +
+            "  local holder = redis.call('GET', KEYS[i])\n" +
+            "  if holder and holder ~= ARGV[i + 2] then\n" +
+            "    conflicts[#conflicts + 1] = i\n" +
+            "  else\n" +
+            "    free[#free + 1] = i\n" +
+            "  end\n" +
+            "end\n" +
+            "if #conflicts > 0 and ARGV[2] == '1' then\n" +
+            "  return conflicts\n" +
+            "end\n" +
+            "for _, i in ipairs(free) do\n" +
+            "  redis.call('SET', KEYS[i], ARGV[i + 2], 'PX', ARGV[1])\n" +
+            "end\n" +
+            "return conflicts\n",
+            List.class);
+
+    /**
+     * 批量释放：KEYS=租户锁，ARGV=持有任务；只删除仍由对应任务持有的锁，返回删除数量
+     */
+    static final RedisScript<Long> RELEASE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local released = 0\n" +
+            "for i = 1, #KEYS do\n" +
+            "  if redis.call('GET', KEYS[i]) == ARGV[i] then\n" +
+            "    released = released + redis.call('DEL', KEYS[i])\n" +
+            "  end\n" +
+            "end\n" +
+            "return released\n",
+            Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final KeyRenewalService renewalService;
+
+    /**
+     * 锁 Key → 续期任务 ID
+     */
+    private final Map<String, String> renewalByKey = new ConcurrentHashMap<>();
+
+    /**
+     * 续期任务 ID → 尚未释放的锁 Key
+     */
+    private final Map<String, Set<String>> keysByRenewal = new ConcurrentHashMap<>();
 
     public RedisTenantLockManager(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, null);
+    }
+
+    /**
+     * @param renewalService 续期服务（可为 null，此时锁只依赖 TTL）
+     */
+    public RedisTenantLockManager(RedisTemplate<String, String> redisTemplate, KeyRenewalService renewalService) {
         this.redisTemplate = redisTemplate;
+        this.renewalService = renewalService;
     }
 
     @Override
@@ -38,6 +119,49 @@ public class RedisTenantLockManager implements TenantLockManager {
         return Boolean.TRUE.equals(success);
     }
 
+    @Override
+    public List<TenantId> tryAcquireAll(Map<TenantId, TaskId> owners, Duration ttl, boolean allOrNothing) {
+        if (owners.isEmpty()) {
+            return List.of();
+        }
+        List<TenantId> tenants = new ArrayList<>(owners.size());
+        List<String> keys = new ArrayList<>(owners.size());
+        Object[] args = new Object[owners.size() + 2];
+        args[0] = String.valueOf(ttl.toMillis());
+        args[1] = allOrNothing ? "1" : "0";
+        int i = 2;
+        for (Map.Entry<TenantId, TaskId> entry : owners.entrySet()) {
+            tenants.add(entry.getKey());
+            keys.add(KEY_PREFIX + entry.getKey().getValue());
+            args[i++] = entry.getValue().getValue();
+        }
+
+        List<?> result = redisTemplate.execute(ACQUIRE_ALL_SCRIPT, keys, args);
+        List<TenantId> conflicts = new ArrayList<>();
+        boolean[] conflicted = new boolean[keys.size()];
+        if (result != null) {
+            for (Object index : result) {
+                int k = ((Number) index).intValue() - 1;
+                conflicted[k] = true;
+                conflicts.add(tenants.get(k));
+            }
+        }
+
+        if (conflicts.isEmpty() || !allOrNothing) {
+            List<String> acquired = new ArrayList<>(keys.size() - conflicts.size());
+            for (int k = 0; k < keys.size(); k++) {
+                if (!conflicted[k]) {
+                    acquired.add(keys.get(k));
+                }
+            }
+            startRenewal(acquired, ttl);
+        }
+        if (!conflicts.isEmpty()) {
+            log.warn("租户锁批量获取存在冲突: {}/{}, allOrNothing={}", conflicts.size(), keys.size(), allOrNothing);
+        }
+        return conflicts;
+    }
+
     @Override
     public void release(TenantId tenantId) {
         if (tenantId == null) {
@@ -45,9 +169,28 @@ public class RedisTenantLockManager implements TenantLockManager {
         }
 
         String key = KEY_PREFIX + tenantId.getValue();
+        // 先停止续期再删除，删除后不会再有本实例的 EXPIRE 落到他人新获取的锁上
+        stopRenewal(List.of(key));
         redisTemplate.delete(key);
     }
 
+    @Override
+    public void releaseAll(Map<TenantId, TaskId> owners) {
+        if (owners.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(owners.size());
+        Object[] args = new Object[owners.size()];
+        int i = 0;
+        for (Map.Entry<TenantId, TaskId> entry : owners.entrySet()) {
+            keys.add(KEY_PREFIX + entry.getKey().getValue());
+            args[i++] = entry.getValue().getValue();
+        }
+        stopRenewal(keys);
+        Long released = redisTemplate.execute(RELEASE_ALL_SCRIPT, keys, args);
+        log.debug("租户锁批量释放: {}/{}", released, keys.size());
+    }
+
     @Override
     public boolean renew(TenantId tenantId, Duration additionalTtl) {
         if (tenantId == null || additionalTtl == null) {
@@ -69,5 +212,46 @@ public class RedisTenantLockManager implements TenantLockManager {
         Boolean exists = redisTemplate.hasKey(key);
         return Boolean.TRUE.equals(exists);
     }
-}
 
+    // ========== 续期 ==========
+
+    private void startRenewal(List<String> keys, Duration ttl) {
+        if (renewalService == null || keys.isEmpty()) {
+            return;
+        }
+        // 同一任务重复获取时先解除旧的续期关联（旧续期任务不再续期这些锁）
+        stopRenewal(keys);
+        Duration interval = ttl.dividedBy(3);
+        Set<String> live = ConcurrentHashMap.newKeySet(keys.size());
+        live.addAll(keys);
+        String renewalId = renewalService.register(RenewalTask.builder()
+                .keys(List.copyOf(keys))
+                .keySelector(new FunctionKeySelector(context -> List.copyOf(live)))
+                .ttlStrategy(new FixedTtlStrategy(ttl))
+                .intervalStrategy(new FixedIntervalStrategy(interval.isZero() ? ttl : interval))
+                .build());
+        keysByRenewal.put(renewalId, live);
+        for (String key : keys) {
+            renewalByKey.put(key, renewalId);
+        }
+    }
+
+    private void stopRenewal(Collection<String> keys) {
+        if (renewalService == null) {
+            return;
+        }
+        for (String key : keys) {
+            String renewalId = renewalByKey.remove(key);
+            if (renewalId == null) {
+                continue;
+            }
+            Set<String> remaining = keysByRenewal.computeIfPresent(renewalId, (id, live) -> {
+                live.remove(key);
+                return live.isEmpty() ? null : live;
+            });
+            if (remaining == null) {
+                renewalService.cancel(renewalId);
+            }
+        }
+    }
+}
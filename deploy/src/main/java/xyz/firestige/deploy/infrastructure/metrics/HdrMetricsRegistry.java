@@ -0,0 +1,128 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 进程内实现（无 Micrometer 时使用，或用于测试/基准）
+ * <p>
+ * 计时器与直方图基于 HdrHistogram {@link Recorder}：写入端无锁、无分配（仅量程扩展时扩容），
+ * 读取端（{@link #snapshot}）切换区间直方图并累加到总直方图，保留 2 位有效数字精度。
+ */
+public class HdrMetricsRegistry implements MetricsRegistry {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentMap<MeterId, CounterImpl> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, HdrRecorder> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, Double> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public void incrementCounter(String name) {
+        counter(name, MetricTags.EMPTY).increment();
+    }
+
+    @Override
+    public void setGauge(String name, double value) {
+        setGauge(name, MetricTags.EMPTY, value);
+    }
+
+    @Override
+    public void setGauge(String name, MetricTags tags, double value) {
+        gauges.put(new MeterId(name, tags), value);
+    }
+
+    @Override
+    public void remove(String name, MetricTags tags) {
+        MeterId id = new MeterId(name, tags);
+        counters.remove(id);
+        histograms.remove(id);
+        gauges.remove(id);
+    }
+
+    @Override
+    public MetricCounter counter(String name, MetricTags tags) {
+        return counters.computeIfAbsent(new MeterId(name, tags), id -> new CounterImpl());
+    }
+
+    @Override
+    public MetricTimer timer(String name, MetricTags tags) {
+        return recorder(name, tags);
+    }
+
+    @Override
+    public MetricHistogram histogram(String name, MetricTags tags) {
+        return recorder(name, tags);
+    }
+
+    /**
+     * 计数器当前值（不存在返回 0）
+     */
+    public long count(String name, MetricTags tags) {
+        CounterImpl counter = counters.get(new MeterId(name, tags));
+        return counter != null ? counter.adder.sum() : 0;
+    }
+
+    /**
+     * 计时器/直方图累计快照（不存在返回 null）
+     */
+    public HistogramSnapshot snapshot(String name, MetricTags tags) {
+        HdrRecorder recorder = histograms.get(new MeterId(name, tags));
+        return recorder != null ? recorder.snapshot() : null;
+    }
+
+    /**
+     * Gauge 当前值（不存在返回 null）
+     */
+    public Double gauge(String name) {
+        return gauge(name, MetricTags.EMPTY);
+    }
+
+    /**
+     * 带标签 Gauge 当前值（不存在返回 null）
+     */
+    public Double gauge(String name, MetricTags tags) {
+        return gauges.get(new MeterId(name, tags));
+    }
+
+    private HdrRecorder recorder(String name, MetricTags tags) {
+        return histograms.computeIfAbsent(new MeterId(name, tags), id -> new HdrRecorder());
+    }
+
+    private static final class CounterImpl implements MetricCounter {
+        private final LongAdder adder = new LongAdder();
+
+        @Override
+        public void increment(long amount) {
+            adder.add(amount);
+        }
+    }
+
+    private static final class HdrRecorder implements MetricTimer, MetricHistogram {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        @Override
+        public void record(long value) {
+            if (value >= 0) {
+                recorder.recordValue(value);
+            }
+        }
+
+        synchronized HistogramSnapshot snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return new HistogramSnapshot(
+                    total.getTotalCount(),
+                    total.getValueAtPercentile(50),
+                    total.getValueAtPercentile(95),
+                    total.getValueAtPercentile(99),
+                    total.getMaxValue());
+        }
+    }
+}
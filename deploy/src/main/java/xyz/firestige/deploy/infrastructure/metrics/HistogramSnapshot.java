@@ -0,0 +1,7 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+/**
+ * 直方图快照（计时器单位为纳秒）
+ */
+public record HistogramSnapshot(long count, long p50, long p95, long p99, long max) {
+}
@@ -0,0 +1,7 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+/**
+ * 计量句柄缓存 key
+ */
+record MeterId(String name, MetricTags tags) {
+}
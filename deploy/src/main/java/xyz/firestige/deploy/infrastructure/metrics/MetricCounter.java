@@ -0,0 +1,15 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+/**
+ * 计数器句柄（由 {@link MetricsRegistry#counter} 获取，记录无分配）
+ */
+public interface MetricCounter {
+
+    MetricCounter NOOP = amount -> { };
+
+    void increment(long amount);
+
+    default void increment() {
+        increment(1);
+    }
+}
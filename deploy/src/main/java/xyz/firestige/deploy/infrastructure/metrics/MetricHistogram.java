@@ -0,0 +1,14 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+/**
+ * 分布直方图句柄（由 {@link MetricsRegistry#histogram} 获取，记录无分配）
+ */
+public interface MetricHistogram {
+
+    MetricHistogram NOOP = value -> { };
+
+    /**
+     * @param value 样本值（非负整数，如次数、字节数）
+     */
+    void record(long value);
+}
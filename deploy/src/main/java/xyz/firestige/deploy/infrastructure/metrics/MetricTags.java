@@ -0,0 +1,97 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * 指标标签（不可变，按 key 排序，可作为 Map key）
+ * <p>
+ * 标签在获取计量句柄时使用一次；记录数据走句柄，不再构建标签
+ */
+public final class MetricTags {
+
+    public static final MetricTags EMPTY = new MetricTags(new String[0]);
+
+    /**
+     * [key0, value0, key1, value1, ...]，按 key 升序
+     */
+    private final String[] keyValues;
+    private final int hash;
+
+    private MetricTags(String[] keyValues) {
+        this.keyValues = keyValues;
+        this.hash = Arrays.hashCode(keyValues);
+    }
+
+    /**
+     * @param keyValues 交替的 key/value
+     * @throws IllegalArgumentException 参数个数为奇数或 key 重复
+     */
+    public static MetricTags of(String... keyValues) {
+        if (keyValues.length == 0) {
+            return EMPTY;
+        }
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("标签参数必须成对出现: " + Arrays.toString(keyValues));
+        }
+        MetricTags tags = EMPTY;
+        for (int i = 0; i < keyValues.length; i += 2) {
+            tags = tags.and(keyValues[i], keyValues[i + 1]);
+        }
+        return tags;
+    }
+
+    /**
+     * 追加一个标签（返回新实例）
+     */
+    public MetricTags and(String key, String value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("标签 key/value 不能为空: " + key + "=" + value);
+        }
+        int pos = 0;
+        while (pos < keyValues.length && keyValues[pos].compareTo(key) < 0) {
+            pos += 2;
+        }
+        if (pos < keyValues.length && keyValues[pos].equals(key)) {
+            throw new IllegalArgumentException("标签 key 重复: " + key);
+        }
+        String[] merged = new String[keyValues.length + 2];
+        System.arraycopy(keyValues, 0, merged, 0, pos);
+        merged[pos] = key;
+        merged[pos + 1] = value;
+        System.arraycopy(keyValues, pos, merged, pos + 2, keyValues.length - pos);
+        return new MetricTags(merged);
+    }
+
+    public int size() {
+        return keyValues.length / 2;
+    }
+
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < keyValues.length; i += 2) {
+            action.accept(keyValues[i], keyValues[i + 1]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof MetricTags other && Arrays.equals(keyValues, other.keyValues));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keyValues[i]).append('=').append(keyValues[i + 1]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,27 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import java.time.Duration;
+
+/**
+ * 计时器句柄（由 {@link MetricsRegistry#timer} 获取，记录无分配）
+ */
+public interface MetricTimer {
+
+    MetricTimer NOOP = nanos -> { };
+
+    /**
+     * @param nanos 耗时（纳秒，负值忽略）
+     */
+    void record(long nanos);
+
+    default void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * 记录从 startNanos（{@link System#nanoTime()}）到现在的耗时
+     */
+    default void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+}
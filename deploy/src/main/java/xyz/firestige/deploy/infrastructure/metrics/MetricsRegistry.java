@@ -1,7 +1,49 @@
 package xyz.firestige.deploy.infrastructure.metrics;
 
+/**
+ * 指标注册表
+ * <p>
+ * 带标签的计数器/计时器/直方图通过句柄记录：调用方在初始化时按 (name, tags) 获取句柄并持有，
+ * 热路径上只调用句柄的 increment/record，不构建标签、不查表、不分配。
+ * 同一 (name, tags) 重复获取返回同一句柄。
+ */
 public interface MetricsRegistry {
     void incrementCounter(String name);
     void setGauge(String name, double value);
-}
 
+    /**
+     * 带标签计数器
+     */
+    default MetricCounter counter(String name, MetricTags tags) {
+        return MetricCounter.NOOP;
+    }
+
+    /**
+     * 带标签计时器（输出 p50/p95/p99）
+     */
+    default MetricTimer timer(String name, MetricTags tags) {
+        return MetricTimer.NOOP;
+    }
+
+    /**
+     * 带标签分布直方图（输出 p50/p95/p99）
+     */
+    default MetricHistogram histogram(String name, MetricTags tags) {
+        return MetricHistogram.NOOP;
+    }
+
+    /**
+     * 带标签 Gauge
+     */
+    default void setGauge(String name, MetricTags tags, double value) {
+    }
+
+    /**
+     * 移除 (name, tags) 对应的计量（计数器/计时器/直方图/Gauge）
+     * <p>
+     * 用于标签取值有生命周期的场景（如按计划、按实例打标签），在对象结束时调用，避免计量无限增长。
+     * 移除后调用方持有的旧句柄不再导出，再次获取会重新注册。
+     */
+    default void remove(String name, MetricTags tags) {
+    }
+}
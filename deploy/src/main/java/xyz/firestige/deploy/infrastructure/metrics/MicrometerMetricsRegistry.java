@@ -1,13 +1,31 @@
 package xyz.firestige.deploy.infrastructure.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Micrometer 实现
+ * <p>
+ * 计时器与直方图发布 p50/p95/p99（Micrometer 内部以 HdrHistogram 滑动窗口计算）。
+ * 句柄按 (name, tags) 缓存，标签原样透传为 Micrometer Tag。
+ */
 public class MicrometerMetricsRegistry implements MetricsRegistry {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
     private final MeterRegistry registry;
-    private final ConcurrentMap<String, DoubleHolder> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, DoubleHolder> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, MetricCounter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, MetricTimer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterId, MetricHistogram> histograms = new ConcurrentHashMap<>();
 
     public MicrometerMetricsRegistry(MeterRegistry registry) { this.registry = registry; }
 
@@ -16,14 +34,70 @@ public class MicrometerMetricsRegistry implements MetricsRegistry {
 
     @Override
     public void setGauge(String name, double value) {
-        DoubleHolder holder = gauges.computeIfAbsent(name, n -> {
+        setGauge(name, MetricTags.EMPTY, value);
+    }
+
+    @Override
+    public void setGauge(String name, MetricTags tags, double value) {
+        DoubleHolder holder = gauges.computeIfAbsent(new MeterId(name, tags), id -> {
             DoubleHolder h = new DoubleHolder();
-            registry.gauge(n, h, DoubleHolder::get);
+            registry.gauge(name, toTags(tags), h, DoubleHolder::get);
             return h;
         });
         holder.set(value);
     }
 
+    @Override
+    public MetricCounter counter(String name, MetricTags tags) {
+        return counters.computeIfAbsent(new MeterId(name, tags), id -> {
+            Counter counter = registry.counter(name, toTags(tags));
+            return counter::increment;
+        });
+    }
+
+    @Override
+    public MetricTimer timer(String name, MetricTags tags) {
+        return timers.computeIfAbsent(new MeterId(name, tags), id -> {
+            Timer timer = Timer.builder(name)
+                    .tags(toTags(tags))
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            return nanos -> timer.record(nanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    @Override
+    public MetricHistogram histogram(String name, MetricTags tags) {
+        return histograms.computeIfAbsent(new MeterId(name, tags), id -> {
+            DistributionSummary summary = DistributionSummary.builder(name)
+                    .tags(toTags(tags))
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            return summary::record;
+        });
+    }
+
+    @Override
+    public void remove(String name, MetricTags tags) {
+        MeterId id = new MeterId(name, tags);
+        counters.remove(id);
+        timers.remove(id);
+        histograms.remove(id);
+        gauges.remove(id);
+        // find().tags() 为子集匹配，按标签个数过滤出精确匹配的计量
+        for (Meter meter : registry.find(name).tags(toTags(tags)).meters()) {
+            if (meter.getId().getTags().size() == tags.size()) {
+                registry.remove(meter);
+            }
+        }
+    }
+
+    private static Tags toTags(MetricTags tags) {
+        Tags[] result = {Tags.empty()};
+        tags.forEach((k, v) -> result[0] = result[0].and(k, v));
+        return result[0];
+    }
+
     static class DoubleHolder {
         private volatile double v;
         double get() { return v; }
@@ -0,0 +1,71 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 记录带标签计量的注册表包装
+ * <p>
+ * 所有调用委托给底层注册表，同时记下经由本包装获取的 (name, tags)。
+ * 标签取值随某个对象结束而失效时（如按 Plan 打标签），由所有者调用 {@link #removeAll()}
+ * 一次性移除，调用方无需知道具体注册过哪些 stage/service 标签组合。
+ */
+public class TrackingMetricsRegistry implements MetricsRegistry {
+
+    private final MetricsRegistry delegate;
+    private final Set<MeterId> registered = ConcurrentHashMap.newKeySet();
+
+    public TrackingMetricsRegistry(MetricsRegistry delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void incrementCounter(String name) {
+        delegate.incrementCounter(name);
+    }
+
+    @Override
+    public void setGauge(String name, double value) {
+        delegate.setGauge(name, value);
+    }
+
+    @Override
+    public MetricCounter counter(String name, MetricTags tags) {
+        registered.add(new MeterId(name, tags));
+        return delegate.counter(name, tags);
+    }
+
+    @Override
+    public MetricTimer timer(String name, MetricTags tags) {
+        registered.add(new MeterId(name, tags));
+        return delegate.timer(name, tags);
+    }
+
+    @Override
+    public MetricHistogram histogram(String name, MetricTags tags) {
+        registered.add(new MeterId(name, tags));
+        return delegate.histogram(name, tags);
+    }
+
+    @Override
+    public void setGauge(String name, MetricTags tags, double value) {
+        registered.add(new MeterId(name, tags));
+        delegate.setGauge(name, tags, value);
+    }
+
+    @Override
+    public void remove(String name, MetricTags tags) {
+        registered.remove(new MeterId(name, tags));
+        delegate.remove(name, tags);
+    }
+
+    /**
+     * 从底层注册表移除经由本包装获取过的全部带标签计量
+     */
+    public void removeAll() {
+        for (MeterId id : registered) {
+            delegate.remove(id.name(), id.tags());
+            registered.remove(id);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package xyz.firestige.deploy.infrastructure.persistence.projection;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
+import java.util.Map;
+
 /**
  * TenantId → TaskId 索引存储接口（技术无关）
  * <p>
@@ -30,6 +32,17 @@ public interface TenantTaskIndexStore {
      */
     void put(TenantId tenantId, TaskId taskId);
 
+    /**
+     * 批量建立映射（性能优化，可选）
+     *
+     * @param index 租户 ID → 任务 ID
+     */
+    default void putAll(Map<TenantId, TaskId> index) {
+        if (index != null) {
+            index.forEach(this::put);
+        }
+    }
+
     /**
      * 通过租户 ID 查询任务 ID
      *
@@ -1,6 +1,8 @@
 package xyz.firestige.deploy.infrastructure.persistence.projection.redis;
 
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import xyz.firestige.deploy.domain.shared.vo.PlanId;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
@@ -38,6 +40,28 @@ public class RedisTaskStateProjectionStore implements TaskStateProjectionStore {
         redisTemplate.expire(key, TTL);
     }
 
+    /**
+     * 流水线批量写入（一次往返写完整批投影）
+     */
+    @Override
+    public void saveAll(List<TaskStateProjection> projections) {
+        if (projections == null || projections.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (TaskStateProjection projection : projections) {
+                    if (projection == null || projection.getTaskId() == null) continue;
+                    String key = KEY_PREFIX + projection.getTaskId().getValue();
+                    ops.opsForHash().putAll(key, toHash(projection));
+                    ops.expire(key, TTL);
+                }
+                return null;
+            }
+        });
+    }
+
     @Override
     public TaskStateProjection load(TaskId taskId) {
         if (taskId == null) return null;
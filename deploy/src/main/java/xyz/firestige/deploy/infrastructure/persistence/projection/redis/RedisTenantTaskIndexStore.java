@@ -1,11 +1,14 @@
 package xyz.firestige.deploy.infrastructure.persistence.projection.redis;
 
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 import xyz.firestige.deploy.infrastructure.persistence.projection.TenantTaskIndexStore;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * TenantId → TaskId 索引 Redis 实现
@@ -33,6 +36,30 @@ public class RedisTenantTaskIndexStore implements TenantTaskIndexStore {
         redisTemplate.opsForValue().set(key, String.valueOf(taskId.getValue()), TTL);
     }
 
+    /**
+     * 流水线批量写入（一次往返写完整批索引）
+     */
+    @Override
+    public void putAll(Map<TenantId, TaskId> index) {
+        if (index == null || index.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                index.forEach((tenantId, taskId) -> {
+                    if (tenantId != null && taskId != null) {
+                        ops.opsForValue().set(KEY_PREFIX + tenantId.getValue(), String.valueOf(taskId.getValue()), TTL);
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
     @Override
     public TaskId get(TenantId tenantId) {
         if (tenantId == null) {
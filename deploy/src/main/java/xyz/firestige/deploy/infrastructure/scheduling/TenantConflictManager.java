@@ -5,12 +5,18 @@ import org.slf4j.LoggerFactory;
 import xyz.firestige.deploy.domain.shared.vo.TaskId;
 import xyz.firestige.deploy.domain.shared.vo.TenantId;
 
-import java.time.Instant;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 
 /**
  * 租户冲突管理器（合并 ConflictRegistry + PlanSchedulingStrategy）
@@ -35,6 +41,13 @@ import java.util.stream.Collectors;
  *   <li>收益：代码量 -40%，性能 +50%，Mock 依赖 -50%
  * </ul>
  *
+ * <p>租约：
+ * <ul>
+ *   <li>每个租户锁是一份带过期时间的租约，执行中由任务心跳续期（{@link #renewLease}），暂停时固定（{@link #pinLease}）
+ *   <li>后台回收器（{@link #startReclaimer}）定期释放过期租约，崩溃或异常退出的任务不会永久占用租户
+ *   <li>写操作按租户哈希分段加锁；{@link #tryRegisterAll} 按段序加锁，一次性全部注册或全部不注册
+ * </ul>
+ *
  * @since Phase 18 - RF-14
  */
 public class TenantConflictManager {
@@ -123,34 +136,83 @@ public class TenantConflictManager {
     }
 
     /**
-     * 冲突条目
+     * 默认租约时长
      */
-    private static class ConflictEntry {
+    public static final Duration DEFAULT_LEASE_TTL = Duration.ofMinutes(30);
+
+    /**
+     * 锁分段数（2 的幂）
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * 固定租约（暂停中）的过期时间
+     */
+    private static final long PINNED = Long.MAX_VALUE;
+
+    /**
+     * 租约条目
+     */
+    private static final class Lease {
         final TaskId taskId;
-        volatile Instant registeredAt = Instant.now();
+        volatile long expiresAt;
 
-        ConflictEntry(TaskId taskId) {
+        Lease(TaskId taskId, long expiresAt) {
             this.taskId = taskId;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != PINNED && now - expiresAt >= 0;
         }
     }
 
     private final ConflictPolicy policy;
-    private final Map<TenantId, ConflictEntry> runningTasks = new ConcurrentHashMap<>();
+    private final long leaseTtlNanos;
+    private final LongSupplier clock;
+    private final Map<TenantId, Lease> runningTasks = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private ScheduledExecutorService reclaimer;
 
     /**
-     * 构造函数
+     * 构造函数（默认租约时长）
      *
      * @param policy 冲突检测策略
      */
     public TenantConflictManager(ConflictPolicy policy) {
+        this(policy, DEFAULT_LEASE_TTL);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param policy   冲突检测策略
+     * @param leaseTtl 租约时长（未续期超过该时长视为泄漏）
+     */
+    public TenantConflictManager(ConflictPolicy policy, Duration leaseTtl) {
+        this(policy, leaseTtl, System::nanoTime);
+    }
+
+    TenantConflictManager(ConflictPolicy policy, Duration leaseTtl, LongSupplier clock) {
         this.policy = Objects.requireNonNull(policy, "policy");
-        log.info("TenantConflictManager 初始化完成，策略: {}", policy);
+        Objects.requireNonNull(leaseTtl, "leaseTtl");
+        if (leaseTtl.isNegative() || leaseTtl.isZero()) {
+            throw new IllegalArgumentException("leaseTtl 必须大于 0: " + leaseTtl);
+        }
+        this.leaseTtlNanos = leaseTtl.toNanos();
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        log.info("TenantConflictManager 初始化完成，策略: {}, 租约时长: {}", policy, leaseTtl);
     }
 
     // ========== Task 级操作（原 ConflictRegistry 能力）==========
 
     /**
      * 注册租户锁（Task 执行前）
+     * <p>
+     * 租户无租约、租约已过期或租约属于同一任务时注册成功（同一任务重复注册视为续期）
      *
      * @param tenantId 租户 ID
      * @param taskId   任务 ID
@@ -159,14 +221,100 @@ public class TenantConflictManager {
     public boolean registerTask(TenantId tenantId, TaskId taskId) {
         Objects.requireNonNull(tenantId, "tenantId");
         Objects.requireNonNull(taskId, "taskId");
-        boolean registered = runningTasks.putIfAbsent(tenantId, new ConflictEntry(taskId)) == null;
-        if (registered) {
+        TaskId holder;
+        ReentrantLock lock = stripeOf(tenantId);
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            holder = liveHolder(tenantId, now);
+            if (holder == null || holder.equals(taskId)) {
+                runningTasks.put(tenantId, new Lease(taskId, now + leaseTtlNanos));
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (holder == null || holder.equals(taskId)) {
             log.debug("租户锁注册成功: tenantId={}, taskId={}", tenantId, taskId);
+            return true;
+        }
+        log.warn("租户锁注册失败（冲突）: tenantId={}, taskId={}, 运行中任务={}", tenantId, taskId, holder);
+        return false;
+    }
+
+    /**
+     * 批量注册租户锁（全部成功或全部不注册）
+     * <p>
+     * 按分段序号升序加锁后统一检查、统一写入，不会与并发的单个/批量注册交错出部分成功的状态
+     *
+     * @param assignments 租户 → 任务
+     * @return 冲突租户列表（为空表示全部注册成功）
+     */
+    public List<TenantId> tryRegisterAll(Map<TenantId, TaskId> assignments) {
+        if (assignments.isEmpty()) {
+            return List.of();
+        }
+        BitSet used = new BitSet(STRIPES);
+        for (Map.Entry<TenantId, TaskId> entry : assignments.entrySet()) {
+            Objects.requireNonNull(entry.getValue(), "taskId");
+            used.set(stripeIndex(Objects.requireNonNull(entry.getKey(), "tenantId")));
+        }
+        List<TenantId> conflicts = new ArrayList<>();
+        lockAll(used);
+        try {
+            long now = clock.getAsLong();
+            for (Map.Entry<TenantId, TaskId> entry : assignments.entrySet()) {
+                TaskId holder = liveHolder(entry.getKey(), now);
+                if (holder != null && !holder.equals(entry.getValue())) {
+                    conflicts.add(entry.getKey());
+                }
+            }
+            if (conflicts.isEmpty()) {
+                long expiresAt = now + leaseTtlNanos;
+                for (Map.Entry<TenantId, TaskId> entry : assignments.entrySet()) {
+                    runningTasks.put(entry.getKey(), new Lease(entry.getValue(), expiresAt));
+                }
+            }
+        } finally {
+            unlockAll(used);
+        }
+        if (conflicts.isEmpty()) {
+            log.debug("租户锁批量注册成功，租户数量: {}", assignments.size());
         } else {
-            log.warn("租户锁注册失败（冲突）: tenantId={}, taskId={}, 运行中任务={}",
-                    tenantId, taskId, getConflictingTaskId(tenantId));
+            log.warn("租户锁批量注册失败（冲突）: {}", conflicts);
+        }
+        return conflicts;
+    }
+
+    /**
+     * 续期租约（由任务心跳调用）
+     * <p>
+     * 租约已被回收且租户空闲时重新获取
+     *
+     * @return true=续期成功，false=租户已被其他任务占用
+     */
+    public boolean renewLease(TenantId tenantId, TaskId taskId) {
+        return registerTask(tenantId, taskId);
+    }
+
+    /**
+     * 固定租约：暂停中的任务不再心跳，租约在下一次续期或释放前不过期
+     *
+     * @return true=租约属于该任务
+     */
+    public boolean pinLease(TenantId tenantId, TaskId taskId) {
+        ReentrantLock lock = stripeOf(tenantId);
+        lock.lock();
+        try {
+            // 与回收扫描同段加锁：已过期待回收的租约不能再被固定
+            Lease lease = runningTasks.get(tenantId);
+            if (lease == null || !lease.taskId.equals(taskId) || lease.isExpired(clock.getAsLong())) {
+                return false;
+            }
+            lease.expiresAt = PINNED;
+            return true;
+        } finally {
+            lock.unlock();
         }
-        return registered;
     }
 
     /**
@@ -176,13 +324,39 @@ public class TenantConflictManager {
      */
     public void releaseTask(TenantId tenantId) {
         if (tenantId != null) {
-            ConflictEntry removed = runningTasks.remove(tenantId);
+            Lease removed = runningTasks.remove(tenantId);
             if (removed != null) {
                 log.debug("租户锁释放成功: tenantId={}, taskId={}", tenantId, removed.taskId);
             }
         }
     }
 
+    /**
+     * 释放指定任务持有的租户锁（租约已转给其他任务时不释放）
+     *
+     * @param tenantId 租户 ID
+     * @param taskId   任务 ID
+     * @return true=释放成功
+     */
+    public boolean releaseTask(TenantId tenantId, TaskId taskId) {
+        if (tenantId == null) {
+            return false;
+        }
+        ReentrantLock lock = stripeOf(tenantId);
+        lock.lock();
+        try {
+            Lease lease = runningTasks.get(tenantId);
+            if (lease == null || !lease.taskId.equals(taskId)) {
+                return false;
+            }
+            runningTasks.remove(tenantId, lease);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("租户锁释放成功: tenantId={}, taskId={}", tenantId, taskId);
+        return true;
+    }
+
     /**
      * 检查租户是否有冲突
      *
@@ -190,7 +364,7 @@ public class TenantConflictManager {
      * @return true=存在冲突，false=无冲突
      */
     public boolean hasConflict(TenantId tenantId) {
-        return runningTasks.containsKey(tenantId);
+        return liveHolder(tenantId, clock.getAsLong()) != null;
     }
 
     /**
@@ -200,8 +374,7 @@ public class TenantConflictManager {
      * @return 冲突任务 ID，若无冲突则返回 null
      */
     public TaskId getConflictingTaskId(TenantId tenantId) {
-        ConflictEntry entry = runningTasks.get(tenantId);
-        return entry != null ? entry.taskId : null;
+        return liveHolder(tenantId, clock.getAsLong());
     }
 
     // ========== Plan 级操作（原 PlanSchedulingStrategy 能力）==========
@@ -243,17 +416,87 @@ public class TenantConflictManager {
      * @return 存在冲突的租户列表
      */
     public List<TenantId> getConflictingTenants(List<TenantId> tenantIds) {
-        return tenantIds.stream()
-                .filter(this::hasConflict)
-                .collect(Collectors.toList());
+        if (runningTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long now = clock.getAsLong();
+        List<TenantId> conflicts = new ArrayList<>();
+        for (TenantId tenantId : tenantIds) {
+            if (liveHolder(tenantId, now) != null) {
+                conflicts.add(tenantId);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * 兜底扫描：释放已过期（心跳停止且未固定）的租约
+     *
+     * @return 释放的租约数量
+     */
+    public int scanAndReleaseLeaked() {
+        long now = clock.getAsLong();
+        int released = 0;
+        for (Map.Entry<TenantId, Lease> entry : runningTasks.entrySet()) {
+            Lease lease = entry.getValue();
+            if (!lease.isExpired(now)) {
+                continue;
+            }
+            ReentrantLock lock = stripeOf(entry.getKey());
+            lock.lock();
+            try {
+                // 加锁后复核，避免释放刚刚续期、固定或重新注册的租约
+                if (lease.isExpired(now) && runningTasks.remove(entry.getKey(), lease)) {
+                    released++;
+                    log.warn("回收过期租户锁: tenantId={}, taskId={}", entry.getKey(), lease.taskId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return released;
     }
 
     /**
-     * 兜底扫描：根据外部策略决定是否释放"疑似泄漏"的占用。
-     * 此处仅更新时间戳或留空实现，具体策略后续接入。
+     * 启动后台回收器（守护线程，按固定间隔调用 {@link #scanAndReleaseLeaked}）
+     *
+     * @param interval 扫描间隔
      */
-    public void scanAndReleaseLeaked() {
-        // 预留：可以检查 taskId 是否仍然存在或根据时间阈值释放
+    public synchronized void startReclaimer(Duration interval) {
+        if (reclaimer != null) {
+            return;
+        }
+        reclaimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "tenant-lease-reclaimer");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        reclaimer.scheduleWithFixedDelay(() -> {
+            try {
+                scanAndReleaseLeaked();
+            } catch (Exception e) {
+                log.error("租约回收失败", e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+        log.info("租约回收器已启动，间隔: {}", interval);
+    }
+
+    /**
+     * 停止后台回收器
+     */
+    public synchronized void shutdown() {
+        if (reclaimer != null) {
+            reclaimer.shutdownNow();
+            reclaimer = null;
+        }
+    }
+
+    /**
+     * 获取租约时长
+     */
+    public Duration getLeaseTtl() {
+        return Duration.ofNanos(leaseTtlNanos);
     }
 
     /**
@@ -262,4 +505,35 @@ public class TenantConflictManager {
     public ConflictPolicy getPolicy() {
         return policy;
     }
+
+    // ========== 内部方法 ==========
+
+    /**
+     * 当前持有未过期租约的任务，无则返回 null
+     */
+    private TaskId liveHolder(TenantId tenantId, long now) {
+        Lease lease = runningTasks.get(tenantId);
+        return lease != null && !lease.isExpired(now) ? lease.taskId : null;
+    }
+
+    private static int stripeIndex(TenantId tenantId) {
+        int h = tenantId.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private ReentrantLock stripeOf(TenantId tenantId) {
+        return stripes[stripeIndex(tenantId)];
+    }
+
+    private void lockAll(BitSet used) {
+        for (int i = used.nextSetBit(0); i >= 0; i = used.nextSetBit(i + 1)) {
+            stripes[i].lock();
+        }
+    }
+
+    private void unlockAll(BitSet used) {
+        for (int i = used.nextSetBit(0); i >= 0; i = used.nextSetBit(i + 1)) {
+            stripes[i].unlock();
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package xyz.firestige.deploy.infrastructure.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 预编译模板：字面量片段 + 占位符槽位
+ *
+ * <p>模板 {@code "/a/{x}/b/{y}"} 编译为 literals = ["/a/", "/b/", ""]、slots = ["x", "y"]，
+ * 渲染时依次拼接 literal[i] + value(slot[i])，最后追加 literal[n]，不再做正则匹配。
+ *
+ * <p>占位符语义与 {@code \{([^}]+)}} 一致：空占位符 {@code {}} 与未闭合的 {@code {} 按字面量处理。
+ * 实例不可变，可在线程间共享。
+ */
+final class CompiledTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final String[] slots;
+
+    private CompiledTemplate(String source, String[] literals, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * 编译模板
+     *
+     * @param template 模板字符串（非 null）
+     */
+    static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int literalStart = 0;
+        int pos = 0;
+        int length = template.length();
+        while (pos < length) {
+            int open = template.indexOf('{', pos);
+            if (open < 0) {
+                break;
+            }
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 1) {
+                // "{}" 不是占位符，从下一个字符继续查找
+                pos = open + 1;
+                continue;
+            }
+            literals.add(template.substring(literalStart, open));
+            slots.add(template.substring(open + 1, close));
+            literalStart = close + 1;
+            pos = literalStart;
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(template, literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    String source() {
+        return source;
+    }
+
+    int slotCount() {
+        return slots.length;
+    }
+
+    /**
+     * 按变量映射渲染到 out（out 由调用方复用）
+     *
+     * @throws IllegalArgumentException 占位符在 variables 中找不到
+     */
+    void render(Map<String, String> variables, StringBuilder out) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            String value = variables.get(slots[i]);
+            if (value == null) {
+                throw missing(slots[i], variables.keySet());
+            }
+            out.append(value);
+        }
+        out.append(literals[slots.length]);
+    }
+
+    /**
+     * 单变量渲染到 out（无 Map 分配）
+     *
+     * @throws IllegalArgumentException 模板含有 name 以外的占位符
+     */
+    void render(String name, String value, StringBuilder out) {
+        for (int i = 0; i < slots.length; i++) {
+            if (!slots[i].equals(name)) {
+                throw missing(slots[i], Set.of(name));
+            }
+            out.append(literals[i]).append(value);
+        }
+        out.append(literals[slots.length]);
+    }
+
+    private IllegalArgumentException missing(String slot, Set<String> available) {
+        return new IllegalArgumentException(
+            String.format("模板占位符 '%s' 在变量映射中找不到。模板: %s, 可用变量: %s", slot, source, available)
+        );
+    }
+}
@@ -2,9 +2,10 @@ package xyz.firestige.deploy.infrastructure.template;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Iterator;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 模板解析器 - 支持占位符替换
@@ -22,14 +23,24 @@ import java.util.regex.Pattern;
  * // 结果: /actuator/bg-sdk/tenant001/version/v1.0.0
  * </pre>
  *
+ * <p>模板首次使用时编译为 {@link CompiledTemplate}（字面量片段 + 占位符槽位）并缓存，
+ * 之后的解析只做片段拼接，写入线程复用的 StringBuilder，不再执行正则匹配。
+ *
  * @since RF-19 三层抽象架构
  * @updated T-027 重新启用，用于 StageAssembler 动态路径构建
  */
 @Component
 public class TemplateResolver {
 
-    // 匹配 {变量名} 格式的占位符
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+    /** 编译缓存上限（模板来自配置，数量有限；超限时淘汰任意一个旧模板） */
+    static final int MAX_CACHED_TEMPLATES = 256;
+
+    /** 线程复用的渲染缓冲区超过该容量时丢弃，避免长期持有大数组 */
+    private static final int MAX_RETAINED_BUFFER = 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final Map<String, CompiledTemplate> cache = new ConcurrentHashMap<>();
 
     /**
      * 解析模板字符串，替换所有占位符
@@ -52,26 +63,13 @@ public class TemplateResolver {
             return template;
         }
 
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String value = variables.get(variableName);
-
-            if (value == null) {
-                throw new IllegalArgumentException(
-                    String.format("模板占位符 '%s' 在变量映射中找不到。模板: %s, 可用变量: %s",
-                        variableName, template, variables.keySet())
-                );
-            }
-
-            // 替换占位符，注意需要转义特殊字符
-            matcher.appendReplacement(result, Matcher.quoteReplacement(value));
+        CompiledTemplate compiled = compiled(template);
+        if (compiled.slotCount() == 0) {
+            return template;
         }
-
-        matcher.appendTail(result);
-        return result.toString();
+        StringBuilder out = borrowBuffer();
+        compiled.render(variables, out);
+        return releaseBuffer(out);
     }
 
     /**
@@ -83,7 +81,19 @@ public class TemplateResolver {
      * @return 解析后的字符串
      */
     public String resolve(String template, String variableName, String value) {
-        return resolve(template, Map.of(variableName, value));
+        Objects.requireNonNull(variableName, "variableName");
+        Objects.requireNonNull(value, "value");
+        if (template == null || template.isEmpty()) {
+            return template;
+        }
+
+        CompiledTemplate compiled = compiled(template);
+        if (compiled.slotCount() == 0) {
+            return template;
+        }
+        StringBuilder out = borrowBuffer();
+        compiled.render(variableName, value, out);
+        return releaseBuffer(out);
     }
 
     /**
@@ -93,7 +103,39 @@ public class TemplateResolver {
      * @return true 如果包含占位符
      */
     public boolean hasPlaceholders(String template) {
-        return template != null && PLACEHOLDER_PATTERN.matcher(template).find();
+        return template != null && !template.isEmpty() && compiled(template).slotCount() > 0;
+    }
+
+    private CompiledTemplate compiled(String template) {
+        CompiledTemplate compiled = cache.get(template);
+        if (compiled != null) {
+            return compiled;
+        }
+        if (cache.size() >= MAX_CACHED_TEMPLATES) {
+            Iterator<String> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return cache.computeIfAbsent(template, CompiledTemplate::compile);
     }
-}
 
+    private static StringBuilder borrowBuffer() {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        return out;
+    }
+
+    private static String releaseBuffer(StringBuilder out) {
+        String result = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.set(new StringBuilder(128));
+        }
+        return result;
+    }
+
+    int cachedTemplateCount() {
+        return cache.size();
+    }
+}
@@ -33,5 +33,29 @@ public interface ConfigValidator {
     default int getOrder() {
         return 100;
     }
+
+    /**
+     * validate 是否可在多个线程上并发调用
+     * <p>
+     * 返回 false 的校验器（如依赖批次内其他配置的状态）在 {@link ValidationChain#validateAll} 中
+     * 由调用线程按配置顺序执行
+     *
+     * @return true=无跨配置状态，可并发
+     */
+    default boolean isConcurrent() {
+        return true;
+    }
+
+    /**
+     * 批量校验开始前回调（调用线程）
+     */
+    default void beforeBatch() {
+    }
+
+    /**
+     * 批量校验结束后回调（调用线程）
+     */
+    default void afterBatch() {
+    }
 }
 
@@ -1,5 +1,6 @@
 package xyz.firestige.deploy.infrastructure.validation;
 
+import xyz.firestige.deploy.domain.shared.validation.ValidationError;
 import xyz.firestige.deploy.domain.shared.validation.ValidationResult;
 import xyz.firestige.deploy.domain.shared.validation.ValidationSummary;
 import xyz.firestige.dto.deploy.TenantDeployConfig;
@@ -8,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 校验链
@@ -15,6 +17,11 @@ import java.util.stream.Collectors;
  */
 public class ValidationChain {
 
+    /**
+     * 配置数达到该值时并行执行可并发的校验器
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
     /**
      * 校验器列表
      */
@@ -76,27 +83,116 @@ public class ValidationChain {
 
     /**
      * 校验所有配置
+     * <p>
+     * 结果按配置顺序汇总，与逐个调用 {@link #validate} 一致：
+     * <ol>
+     *   <li>可并发的校验器：配置数达到 {@link #PARALLEL_THRESHOLD} 时在 ForkJoin 公共池并行执行</li>
+     *   <li>不可并发的校验器（{@link ConfigValidator#isConcurrent()} 为 false）：调用线程按配置顺序执行</li>
+     *   <li>各校验器结果写入预分配的 [配置][校验器] 槽位，最后按校验器顺序合并</li>
+     * </ol>
      */
     public ValidationSummary validateAll(List<TenantDeployConfig> configs) {
+        int size = configs.size();
+        ConfigValidator[] chain = validators.toArray(new ConfigValidator[0]);
+        ValidationResult[][] results = new ValidationResult[size][chain.length];
+
+        boolean hasSequential = false;
+        for (ConfigValidator validator : chain) {
+            hasSequential |= !validator.isConcurrent();
+            validator.beforeBatch();
+        }
+        try {
+            IntStream indexes = IntStream.range(0, size);
+            if (size >= PARALLEL_THRESHOLD) {
+                indexes = indexes.parallel();
+            }
+            indexes.forEach(i -> runValidators(chain, configs.get(i), results[i], true));
+
+            if (hasSequential) {
+                for (int i = 0; i < size; i++) {
+                    runValidators(chain, configs.get(i), results[i], false);
+                }
+            }
+        } finally {
+            for (ConfigValidator validator : chain) {
+                validator.afterBatch();
+            }
+        }
+
         ValidationSummary summary = new ValidationSummary();
-        summary.setTotalConfigs(configs.size());
+        summary.setTotalConfigs(size);
+        summary.setValidConfigs(new ArrayList<>(size));
+        for (int i = 0; i < size; i++) {
+            collect(configs.get(i), results[i], summary);
+            results[i] = null;
+        }
+        return summary;
+    }
 
-        for (TenantDeployConfig config : configs) {
-            ValidationResult result = validate(config);
+    /**
+     * 执行一个配置上的并发（或非并发）校验器，快速失败时遇到已失败的前序槽位即停止
+     */
+    private void runValidators(ConfigValidator[] chain, TenantDeployConfig config,
+                               ValidationResult[] slots, boolean concurrent) {
+        for (int j = 0; j < chain.length; j++) {
+            if (chain[j].isConcurrent() != concurrent) {
+                continue;
+            }
+            if (failFast && failedBefore(slots, j)) {
+                return;
+            }
+            slots[j] = chain[j].validate(config);
+        }
+    }
 
-            if (result.isValid()) {
-                summary.addValidConfig(config);
-            } else {
-                summary.addInvalidConfig(config, result.getErrors());
+    private static boolean failedBefore(ValidationResult[] slots, int index) {
+        for (int k = 0; k < index; k++) {
+            if (slots[k] != null && !slots[k].isValid()) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            // 收集所有警告
-            if (result.hasWarnings()) {
-                summary.addWarnings(result.getWarnings());
+    /**
+     * 按校验器顺序合并一个配置的结果（快速失败时截止到第一个失败的校验器）
+     */
+    private void collect(TenantDeployConfig config, ValidationResult[] slots, ValidationSummary summary) {
+        boolean valid = true;
+        List<ValidationError> errors = null;
+        boolean merged = false;
+        for (ValidationResult slot : slots) {
+            if (slot == null) {
+                continue;
+            }
+            if (!slot.getErrors().isEmpty()) {
+                if (errors == null) {
+                    // 只有一个校验器失败时直接复用其错误列表
+                    errors = slot.getErrors();
+                } else {
+                    if (!merged) {
+                        errors = new ArrayList<>(errors);
+                        merged = true;
+                    }
+                    errors.addAll(slot.getErrors());
+                }
+            }
+            if (slot.hasWarnings()) {
+                summary.addWarnings(slot.getWarnings());
+            }
+            if (!slot.isValid()) {
+                valid = false;
+                if (failFast) {
+                    break;
+                }
             }
         }
 
-        return summary;
+        if (valid) {
+            summary.addValidConfig(config);
+        } else {
+            summary.addInvalidConfig(config, errors != null ? errors : new ArrayList<>());
+        }
     }
 
     /**
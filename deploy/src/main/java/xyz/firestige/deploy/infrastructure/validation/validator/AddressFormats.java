@@ -0,0 +1,39 @@
+package xyz.firestige.deploy.infrastructure.validation.validator;
+
+/**
+ * 地址格式解析（手写扫描，无正则、无中间数组）
+ */
+final class AddressFormats {
+
+    private AddressFormats() {
+    }
+
+    /**
+     * IPv4 点分十进制：4 段，每段仅含数字且取值 0-255
+     */
+    static boolean isIpv4(String ip) {
+        int length = ip.length();
+        int dots = 0;
+        int digits = 0;
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = ip.charAt(i);
+            if (c == '.') {
+                if (digits == 0 || ++dots > 3) {
+                    return false;
+                }
+                digits = 0;
+                value = 0;
+            } else if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > 255) {
+                    return false;
+                }
+                digits++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 3 && digits > 0;
+    }
+}
@@ -31,54 +31,51 @@ public class NetworkEndpointValidator implements ConfigValidator {
         // 校验每个端点
         for (int i = 0; i < endpoints.size(); i++) {
             NetworkEndpoint endpoint = endpoints.get(i);
-            String fieldPrefix = "networkEndpoints[" + i + "]";
 
             // 校验 key
-            if (endpoint.getKey() == null || endpoint.getKey().trim().isEmpty()) {
+            if (!hasText(endpoint.getKey())) {
                 result.addError(ValidationError.of(
-                        fieldPrefix + ".key",
+                        fieldPrefix(i) + ".key",
                         "端点 key 不能为空"
                 ));
             }
 
+            String sourceIp = endpoint.getSourceIp();
+            String targetIp = endpoint.getTargetIp();
+            boolean hasSourceIp = hasText(sourceIp);
+            boolean hasTargetIp = hasText(targetIp);
+            boolean hasSourceDomain = hasText(endpoint.getSourceDomain());
+            boolean hasTargetDomain = hasText(endpoint.getTargetDomain());
+
             // 校验 sourceIp（如果存在）
-            if (endpoint.getSourceIp() != null && !endpoint.getSourceIp().trim().isEmpty()) {
-                if (!isValidIpAddress(endpoint.getSourceIp())) {
-                    result.addError(ValidationError.of(
-                            fieldPrefix + ".sourceIp",
-                            "源 IP 地址格式不正确: " + endpoint.getSourceIp(),
-                            endpoint.getSourceIp()
-                    ));
-                }
+            if (hasSourceIp && !AddressFormats.isIpv4(sourceIp)) {
+                result.addError(ValidationError.of(
+                        fieldPrefix(i) + ".sourceIp",
+                        "源 IP 地址格式不正确: " + sourceIp,
+                        sourceIp
+                ));
             }
 
             // 校验 targetIp（如果存在）
-            if (endpoint.getTargetIp() != null && !endpoint.getTargetIp().trim().isEmpty()) {
-                if (!isValidIpAddress(endpoint.getTargetIp())) {
-                    result.addError(ValidationError.of(
-                            fieldPrefix + ".targetIp",
-                            "目标 IP 地址格式不正确: " + endpoint.getTargetIp(),
-                            endpoint.getTargetIp()
-                    ));
-                }
+            if (hasTargetIp && !AddressFormats.isIpv4(targetIp)) {
+                result.addError(ValidationError.of(
+                        fieldPrefix(i) + ".targetIp",
+                        "目标 IP 地址格式不正确: " + targetIp,
+                        targetIp
+                ));
             }
 
             // 至少需要有一个有效的地址（IP 或 Domain）
-            boolean hasSource = (endpoint.getSourceIp() != null && !endpoint.getSourceIp().trim().isEmpty()) ||
-                                (endpoint.getSourceDomain() != null && !endpoint.getSourceDomain().trim().isEmpty());
-            boolean hasTarget = (endpoint.getTargetIp() != null && !endpoint.getTargetIp().trim().isEmpty()) ||
-                                (endpoint.getTargetDomain() != null && !endpoint.getTargetDomain().trim().isEmpty());
-
-            if (!hasSource) {
+            if (!hasSourceIp && !hasSourceDomain) {
                 result.addError(ValidationError.of(
-                        fieldPrefix + ".source",
+                        fieldPrefix(i) + ".source",
                         "必须指定源地址（sourceIp 或 sourceDomain）"
                 ));
             }
 
-            if (!hasTarget) {
+            if (!hasTargetIp && !hasTargetDomain) {
                 result.addError(ValidationError.of(
-                        fieldPrefix + ".target",
+                        fieldPrefix(i) + ".target",
                         "必须指定目标地址（targetIp 或 targetDomain）"
                 ));
             }
@@ -87,30 +84,23 @@ public class NetworkEndpointValidator implements ConfigValidator {
         return result;
     }
 
+    private static String fieldPrefix(int index) {
+        return "networkEndpoints[" + index + "]";
+    }
+
     /**
-     * 简单的 IP 地址格式校验
+     * 非空且含非空白字符（等价于 trim().isEmpty() 取反，不分配新字符串）
      */
-    private boolean isValidIpAddress(String ip) {
-        if (ip == null || ip.trim().isEmpty()) {
-            return false;
-        }
-
-        String[] parts = ip.split("\\.");
-        if (parts.length != 4) {
+    private static boolean hasText(String value) {
+        if (value == null) {
             return false;
         }
-
-        try {
-            for (String part : parts) {
-                int num = Integer.parseInt(part);
-                if (num < 0 || num > 255) {
-                    return false;
-                }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
             }
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
         }
+        return false;
     }
 
     @Override
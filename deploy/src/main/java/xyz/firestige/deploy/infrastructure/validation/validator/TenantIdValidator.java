@@ -36,7 +36,7 @@ public class TenantIdValidator implements ConfigValidator {
         }
 
         // 校验租户 ID 格式（只能包含字母、数字、下划线、中划线）
-        if (!tenantId.matches("^[a-zA-Z0-9_-]+$")) {
+        if (!isValidFormat(tenantId)) {
             result.addError(ValidationError.of(
                     "tenantId",
                     "租户 ID 只能包含字母、数字、下划线和中划线",
@@ -47,6 +47,18 @@ public class TenantIdValidator implements ConfigValidator {
         return result;
     }
 
+    private static boolean isValidFormat(String tenantId) {
+        for (int i = 0; i < tenantId.length(); i++) {
+            char c = tenantId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String getValidatorName() {
         return "TenantIdValidator";
@@ -1,5 +1,9 @@
 package xyz.firestige.service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Agent 服务接口（OB 服务使用）
  *
@@ -17,4 +21,23 @@ public interface AgentService {
      * @return true 表示 Agent 就绪，可以继续；false 表示需要继续轮询
      */
     boolean judgeAgent(String tenantId, Long planId);
+
+    /**
+     * 批量判断 Agent 是否就绪（同一计划下的多个租户）
+     * <p>
+     * 默认逐个调用 {@link #judgeAgent}；支持批量查询的实现应覆写为一次查询
+     *
+     * @param tenantIds 租户 ID 集合
+     * @param planId 计划 ID
+     * @return 已就绪的租户 ID
+     */
+    default Set<String> judgeAgents(Collection<String> tenantIds, Long planId) {
+        Set<String> ready = new HashSet<>();
+        for (String tenantId : tenantIds) {
+            if (judgeAgent(tenantId, planId)) {
+                ready.add(tenantId);
+            }
+        }
+        return ready;
+    }
 }
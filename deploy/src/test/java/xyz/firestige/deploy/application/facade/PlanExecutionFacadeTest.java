@@ -0,0 +1,178 @@
+package xyz.firestige.deploy.application.facade;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.checkpoint.CheckpointService;
+import xyz.firestige.deploy.application.conflict.TenantConflictCoordinator;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.application.lifecycle.PlanLifecycleService;
+import xyz.firestige.deploy.application.orchestration.TaskExecutionOrchestrator;
+import xyz.firestige.deploy.application.task.TaskOperationService;
+import xyz.firestige.deploy.config.ExecutorProperties;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.domain.task.StateTransitionService;
+import xyz.firestige.deploy.domain.task.TaskAggregate;
+import xyz.firestige.deploy.domain.task.TaskDomainService;
+import xyz.firestige.deploy.domain.task.TaskStatus;
+import xyz.firestige.deploy.infrastructure.execution.TaskExecutor;
+import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.lock.TenantLockManager;
+import xyz.firestige.deploy.infrastructure.persistence.checkpoint.InMemoryCheckpointRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
+import xyz.firestige.deploy.infrastructure.state.TaskStateManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PlanExecutionFacade 租户锁释放单元测试
+ */
+class PlanExecutionFacadeTest {
+
+    private static final TenantId TENANT = TenantId.of("tenant-1");
+
+    private final StateTransitionService stateTransitionService = new TaskStateManager();
+    private final InMemoryTaskRuntimeRepository runtimeRepository = new InMemoryTaskRuntimeRepository();
+    private final TaskDomainService taskDomainService = new TaskDomainService(
+        new InMemoryTaskRepository(), runtimeRepository, stateTransitionService, event -> { }, null);
+    private final CheckpointService checkpointService = new CheckpointService(new InMemoryCheckpointRepository());
+    private final TenantConflictManager conflictManager =
+        new TenantConflictManager(TenantConflictManager.ConflictPolicy.FINE_GRAINED);
+    private final MapTenantLockManager distributedLock = new MapTenantLockManager();
+    private final TaskOperationService taskOperationService = mock(TaskOperationService.class);
+    private final PlanExecutionFacade facade;
+
+    PlanExecutionFacadeTest() {
+        facade = newFacade(conflictManager);
+    }
+
+    private PlanExecutionFacade newFacade(TenantConflictManager manager) {
+        TaskExecutionOrchestrator orchestrator = new TaskExecutionOrchestrator(
+            context -> new TaskExecutor(context.getPlanId(), context.getTask(), context.getStages(),
+                context.getRuntimeContext(), taskDomainService, stateTransitionService, event -> { },
+                checkpointService, manager, 10, null),
+            runtimeRepository, new ExecutorProperties());
+        return new PlanExecutionFacade(mock(PlanLifecycleService.class), orchestrator,
+            new TenantConflictCoordinator(manager, distributedLock, Duration.ofMinutes(5)),
+            taskOperationService);
+    }
+
+    private TaskAggregate newPlanTask(long planId) {
+        return newPlanTasks(planId, TENANT).get(0);
+    }
+
+    private List<TaskAggregate> newPlanTasks(long planId, TenantId... tenants) {
+        PlanId id = PlanId.of(planId);
+        List<TaskAggregate> tasks = new ArrayList<>();
+        Map<TaskId, List<TaskStage>> stages = new HashMap<>();
+        for (TenantId tenant : tenants) {
+            TenantConfig cfg = new TenantConfig();
+            cfg.setTenantId(tenant.getValue());
+            cfg.setPlanId(planId);
+            TaskAggregate task = taskDomainService.newTask(id, cfg);
+            tasks.add(task);
+            stages.put(task.getTaskId(), List.of(new ConfigurableServiceStage("portal", List.of(), Set.of())));
+        }
+        taskDomainService.registerTasks(id, tasks, stages);
+        when(taskOperationService.getTasksByPlanId(id)).thenReturn(tasks);
+        return tasks;
+    }
+
+    @Test
+    void testNextPlanForSameTenantGetsLockAfterPreviousPlanFinishes() {
+        TaskAggregate first = newPlanTask(1L);
+        facade.executePlan(PlanId.of(1L));
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            first.getStatus() == TaskStatus.COMPLETED && !distributedLock.exists(TENANT));
+
+        TaskAggregate second = newPlanTask(2L);
+        facade.executePlan(PlanId.of(2L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> second.getStatus() == TaskStatus.COMPLETED);
+
+        // 两个 Plan 都结束后租户锁全部释放
+        await().atMost(Duration.ofSeconds(5)).until(() -> !distributedLock.exists(TENANT));
+        assertFalse(conflictManager.hasConflict(TENANT));
+    }
+
+    @Test
+    void testTaskSkippedByLocalConflictReleasesItsReservation() {
+        conflictManager.registerTask(TENANT, TaskId.of("task-running-elsewhere"));
+        TaskAggregate task = newPlanTask(1L);
+
+        facade.executePlan(PlanId.of(1L));
+
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertFalse(distributedLock.exists(TENANT));
+    }
+
+    @Test
+    void testCoarseGrainedPlanSkipsAllTasksWhenAnyTenantHeldLocally() {
+        TenantConflictManager coarse = new TenantConflictManager(TenantConflictManager.ConflictPolicy.COARSE_GRAINED);
+        TenantId other = TenantId.of("tenant-2");
+        coarse.registerTask(other, TaskId.of("task-running-elsewhere"));
+        List<TaskAggregate> tasks = newPlanTasks(1L, TENANT, other);
+
+        newFacade(coarse).executePlan(PlanId.of(1L));
+
+        // 全有或全无：空闲租户的任务也不执行，也不残留本实例或分布式租户锁
+        assertTrue(tasks.stream().allMatch(task -> task.getStatus() == TaskStatus.PENDING));
+        assertFalse(coarse.hasConflict(TENANT));
+        assertFalse(distributedLock.exists(TENANT));
+        assertFalse(distributedLock.exists(other));
+    }
+
+    @Test
+    void testCoarseGrainedPlanRegistersAllTenantsBeforeExecution() {
+        TenantConflictManager coarse = new TenantConflictManager(TenantConflictManager.ConflictPolicy.COARSE_GRAINED);
+        TenantId other = TenantId.of("tenant-2");
+        List<TaskAggregate> tasks = newPlanTasks(1L, TENANT, other);
+
+        newFacade(coarse).executePlan(PlanId.of(1L));
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            tasks.stream().allMatch(task -> task.getStatus() == TaskStatus.COMPLETED));
+        await().atMost(Duration.ofSeconds(5)).until(() -> !coarse.hasConflict(TENANT) && !coarse.hasConflict(other));
+    }
+
+    /**
+     * 按持有任务校验的内存分布式锁
+     */
+    private static final class MapTenantLockManager implements TenantLockManager {
+        private final Map<TenantId, TaskId> locks = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean tryAcquire(TenantId tenantId, TaskId taskId, Duration ttl) {
+            TaskId holder = locks.putIfAbsent(tenantId, taskId);
+            return holder == null || holder.equals(taskId);
+        }
+
+        @Override
+        public void releaseAll(Map<TenantId, TaskId> owners) {
+            owners.forEach(locks::remove);
+        }
+
+        @Override
+        public void release(TenantId tenantId) {
+            locks.remove(tenantId);
+        }
+
+        @Override
+        public boolean exists(TenantId tenantId) {
+            return locks.containsKey(tenantId);
+        }
+    }
+}
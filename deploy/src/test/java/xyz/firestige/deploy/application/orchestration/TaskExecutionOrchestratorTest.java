@@ -0,0 +1,160 @@
+package xyz.firestige.deploy.application.orchestration;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.checkpoint.CheckpointService;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.application.task.TaskOperationService;
+import xyz.firestige.deploy.config.ExecutorProperties;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.task.StateTransitionService;
+import xyz.firestige.deploy.domain.task.TaskAggregate;
+import xyz.firestige.deploy.domain.task.TaskDomainService;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.domain.task.TaskStatus;
+import xyz.firestige.deploy.infrastructure.execution.DefaultTaskWorkerFactory;
+import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.metrics.HdrMetricsRegistry;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTags;
+import xyz.firestige.deploy.infrastructure.persistence.checkpoint.InMemoryCheckpointRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
+import xyz.firestige.deploy.infrastructure.state.TaskStateManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按 Plan 计量释放单元测试（编排执行与租户级操作共用 TaskWorkerFactory 的引用计数）
+ */
+class TaskExecutionOrchestratorTest {
+
+    private static final String QUEUE_WAIT = "executor.task.queue.wait";
+    private static final String STAGE_DURATION = "executor.stage.duration";
+    private static final String HEARTBEAT_LAG = "executor.task.heartbeat.lag";
+
+    private final StateTransitionService stateTransitionService = new TaskStateManager();
+    private final InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+    private final InMemoryTaskRuntimeRepository runtimeRepository = new InMemoryTaskRuntimeRepository();
+    private final TaskDomainService taskDomainService = new TaskDomainService(
+        taskRepository, runtimeRepository, stateTransitionService, event -> { }, null);
+    private final HdrMetricsRegistry metrics = new HdrMetricsRegistry();
+    private final DefaultTaskWorkerFactory workerFactory = new DefaultTaskWorkerFactory(
+        taskDomainService, stateTransitionService, event -> { },
+        new CheckpointService(new InMemoryCheckpointRepository()),
+        new TenantConflictManager(TenantConflictManager.ConflictPolicy.FINE_GRAINED), 10, metrics);
+    private final TaskExecutionOrchestrator orchestrator = new TaskExecutionOrchestrator(
+        workerFactory, runtimeRepository, new ExecutorProperties());
+
+    private TaskAggregate newTask(long plan, String tenant, StageStep step) {
+        TenantConfig cfg = new TenantConfig();
+        cfg.setTenantId(tenant);
+        cfg.setPlanId(plan);
+        PlanId planId = PlanId.of(plan);
+        TaskAggregate task = taskDomainService.newTask(planId, cfg);
+        List<TaskStage> stages = List.of(new ConfigurableServiceStage("portal",
+            List.of(ConfigurableServiceStage.StepConfig.builder().stepName("wait").step(step).build()), Set.of()));
+        taskDomainService.registerTasks(planId, List.of(task), Map.of(task.getTaskId(), stages));
+        return task;
+    }
+
+    private static StageStep blockingStep(CountDownLatch release) {
+        return new StageStep() {
+            @Override
+            public String getStepName() {
+                return "wait";
+            }
+
+            @Override
+            public void execute(TaskRuntimeContext ctx) throws Exception {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+        };
+    }
+
+    @Test
+    void testPlanMetersRemovedAfterLastTaskFinishes() {
+        PlanId planId = PlanId.of(1L);
+        MetricTags planTags = MetricTags.of("plan", "1");
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch releaseSecond = new CountDownLatch(1);
+        TaskAggregate first = newTask(1L, "tenant-1", blockingStep(releaseFirst));
+        TaskAggregate second = newTask(1L, "tenant-2", blockingStep(releaseSecond));
+
+        orchestrator.orchestrate(planId, List.of(first, second),
+            (executor, task) -> executor.execute(), "执行", task -> true);
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            first.getStatus() == TaskStatus.RUNNING && second.getStatus() == TaskStatus.RUNNING);
+        assertNotNull(metrics.snapshot(QUEUE_WAIT, planTags));
+        assertNotNull(metrics.snapshot(STAGE_DURATION, planTags.and("stage", "portal")));
+        assertNotNull(metrics.snapshot(HEARTBEAT_LAG, planTags));
+
+        // 仍有任务运行时保留 Plan 计量
+        releaseFirst.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.getStatus() == TaskStatus.COMPLETED);
+        assertNotNull(metrics.snapshot(QUEUE_WAIT, planTags));
+
+        releaseSecond.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> metrics.snapshot(QUEUE_WAIT, planTags) == null);
+        assertEquals(TaskStatus.COMPLETED, second.getStatus());
+        assertNull(metrics.snapshot(STAGE_DURATION, planTags.and("stage", "portal")));
+        assertNull(metrics.snapshot(HEARTBEAT_LAG, planTags));
+    }
+
+    @Test
+    void testTenantRetryKeepsPlanMetersUntilItFinishes() {
+        PlanId planId = PlanId.of(1L);
+        MetricTags planTags = MetricTags.of("plan", "1");
+        CountDownLatch releasePlanTask = new CountDownLatch(1);
+        CountDownLatch releaseRetry = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        TaskAggregate planTask = newTask(1L, "tenant-1", blockingStep(releasePlanTask));
+        TaskAggregate retried = newTask(1L, "tenant-2", new StageStep() {
+            @Override
+            public String getStepName() {
+                return "wait";
+            }
+
+            @Override
+            public void execute(TaskRuntimeContext ctx) throws Exception {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first attempt fails");
+                }
+                assertTrue(releaseRetry.await(5, TimeUnit.SECONDS));
+            }
+        });
+        orchestrator.orchestrate(planId, List.of(retried),
+            (executor, task) -> executor.execute(), "执行", task -> true);
+        await().atMost(Duration.ofSeconds(5)).until(() -> retried.getStatus() == TaskStatus.FAILED);
+
+        // 租户级重试与 Plan 编排同时运行
+        new TaskOperationService(taskDomainService, taskRepository, runtimeRepository, workerFactory)
+            .retryTaskByTenant(retried.getTenantId(), false);
+        orchestrator.orchestrate(planId, List.of(planTask),
+            (executor, task) -> executor.execute(), "执行", task -> true);
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            planTask.getStatus() == TaskStatus.RUNNING && retried.getStatus() == TaskStatus.RUNNING);
+
+        // 编排的任务先结束：重试仍在写入，Plan 计量保留
+        releasePlanTask.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> planTask.getStatus() == TaskStatus.COMPLETED);
+        assertNotNull(metrics.snapshot(STAGE_DURATION, planTags.and("stage", "portal")));
+
+        // 重试结束后移除
+        releaseRetry.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            metrics.snapshot(STAGE_DURATION, planTags.and("stage", "portal")) == null);
+        assertEquals(TaskStatus.COMPLETED, retried.getStatus());
+        assertNull(metrics.snapshot(HEARTBEAT_LAG, planTags));
+    }
+}
@@ -0,0 +1,125 @@
+package xyz.firestige.deploy.application.plan;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.application.validation.BusinessValidator;
+import xyz.firestige.deploy.config.ExecutorProperties;
+import xyz.firestige.deploy.domain.plan.PlanAggregate;
+import xyz.firestige.deploy.domain.plan.PlanDomainService;
+import xyz.firestige.deploy.domain.plan.PlanStatus;
+import xyz.firestige.deploy.domain.plan.event.PlanStartedEvent;
+import xyz.firestige.deploy.domain.plan.event.PlanTasksAppendedEvent;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.task.TaskDomainService;
+import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.persistence.plan.InMemoryPlanRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeploymentPlanCreator 流式创建单元测试
+ */
+class DeploymentPlanCreatorTest {
+
+    private final List<Object> published = new ArrayList<>();
+    private final InMemoryPlanRepository planRepository = new InMemoryPlanRepository();
+    private final InMemoryTaskRuntimeRepository runtimeRepository = new InMemoryTaskRuntimeRepository();
+    private final PlanDomainService planDomainService = new PlanDomainService(planRepository, published::add);
+    private final DeploymentPlanCreator creator;
+
+    DeploymentPlanCreatorTest() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setIngestBatchSize(2);
+        TaskDomainService taskDomainService =
+            new TaskDomainService(new InMemoryTaskRepository(), runtimeRepository, null, published::add, null);
+        creator = new DeploymentPlanCreator(planDomainService, taskDomainService,
+            cfg -> List.of(new ConfigurableServiceStage("portal", List.of(), Set.of())),
+            new BusinessValidator(), properties, runtimeRepository);
+    }
+
+    private static TenantConfig tenant(String tenantId) {
+        TenantConfig cfg = new TenantConfig();
+        cfg.setTenantId(tenantId);
+        cfg.setPlanId(7L);
+        return cfg;
+    }
+
+    private static List<TenantConfig> tenants(int count) {
+        return IntStream.range(0, count).mapToObj(i -> tenant("t" + i)).toList();
+    }
+
+    @Test
+    void testStartsAfterFirstBatchAndAppendsTheRest() {
+        PlanCreationContext context = creator.createPlan(tenants(5).iterator());
+
+        assertTrue(context.isSuccess());
+        PlanAggregate plan = planRepository.findById(PlanId.of(7L)).orElseThrow();
+        assertEquals(PlanStatus.RUNNING, plan.getStatus());
+        assertEquals(5, plan.getTaskCount());
+        assertFalse(plan.isIngesting());
+        assertFalse(plan.isIngestionAborted());
+
+        List<PlanStartedEvent> started = published.stream()
+            .filter(PlanStartedEvent.class::isInstance).map(PlanStartedEvent.class::cast).toList();
+        assertEquals(1, started.size());
+        assertEquals(2, started.get(0).getTaskCount());
+
+        List<Integer> appended = published.stream()
+            .filter(PlanTasksAppendedEvent.class::isInstance).map(PlanTasksAppendedEvent.class::cast)
+            .map(e -> e.getTaskIds().size()).toList();
+        assertEquals(List.of(2, 1), appended);
+    }
+
+    @Test
+    void testDuplicateInLaterBatchStopsIngestion() {
+        List<TenantConfig> configs = new ArrayList<>(tenants(3));
+        configs.add(tenant("t0"));
+        configs.add(tenant("t9"));
+
+        PlanCreationContext context = creator.createPlan(configs.iterator());
+
+        assertTrue(context.hasValidationErrors());
+        assertEquals(PlanId.of(7L), context.getPlanId());
+        PlanAggregate plan = planRepository.findById(PlanId.of(7L)).orElseThrow();
+        assertEquals(2, plan.getTaskCount());
+        assertFalse(plan.isIngesting());
+        assertTrue(plan.isIngestionAborted());
+        TaskId late = TaskId.of("task-late");
+        assertThrows(IllegalStateException.class, () -> plan.addTasks(List.of(late)));
+    }
+
+    @Test
+    void testReaderFailureAbortsIngestion() {
+        Iterator<TenantConfig> source = tenants(3).iterator();
+        Iterator<TenantConfig> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public TenantConfig next() {
+                if (source.hasNext()) {
+                    return source.next();
+                }
+                throw new IllegalStateException("read error");
+            }
+        };
+
+        assertThrows(PlanCreationException.class, () -> creator.createPlan(failing));
+
+        PlanAggregate plan = planRepository.findById(PlanId.of(7L)).orElseThrow();
+        assertEquals(2, plan.getTaskCount());
+        assertFalse(plan.isIngesting());
+        assertTrue(plan.getIngestionFailure().contains("read error"));
+    }
+}
@@ -0,0 +1,83 @@
+package xyz.firestige.deploy.domain.task;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.task.event.TaskCreatedEvent;
+import xyz.firestige.deploy.domain.task.event.TasksCreatedEvent;
+import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskDomainService 批量登记单元测试
+ */
+class TaskDomainServiceTest {
+
+    private final InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+    private final InMemoryTaskRuntimeRepository runtimeRepository = new InMemoryTaskRuntimeRepository();
+    private final List<Object> published = new ArrayList<>();
+    private final TaskDomainService service =
+        new TaskDomainService(taskRepository, runtimeRepository, null, published::add, null);
+
+    private static TenantConfig tenant(String tenantId) {
+        TenantConfig cfg = new TenantConfig();
+        cfg.setTenantId(tenantId);
+        cfg.setPlanId(1L);
+        return cfg;
+    }
+
+    private static TaskStage stage(String name) {
+        return new ConfigurableServiceStage(name, List.of(), Set.of());
+    }
+
+    @Test
+    void testNewTaskIsNotPersisted() {
+        TaskAggregate task = service.newTask(PlanId.of(1L), tenant("t1"));
+
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertTrue(taskRepository.findById(task.getTaskId()).isEmpty());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void testRegisterTasksSavesAllAndPublishesOneBatchEvent() {
+        PlanId planId = PlanId.of(1L);
+        List<TaskAggregate> tasks = new ArrayList<>();
+        Map<TaskId, List<TaskStage>> stages = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            TaskAggregate task = service.newTask(planId, tenant("t" + i));
+            tasks.add(task);
+            stages.put(task.getTaskId(), List.of(stage("asbc-gateway"), stage("portal")));
+        }
+
+        service.registerTasks(planId, tasks, stages);
+
+        for (TaskAggregate task : tasks) {
+            assertTrue(taskRepository.findById(task.getTaskId()).isPresent());
+            assertEquals(2, task.getTotalStages());
+            assertEquals(2, runtimeRepository.getStages(task.getTaskId()).orElseThrow().size());
+        }
+
+        List<TasksCreatedEvent> batches = published.stream()
+            .filter(TasksCreatedEvent.class::isInstance).map(TasksCreatedEvent.class::cast).toList();
+        assertEquals(1, batches.size());
+        assertTrue(published.stream().noneMatch(TaskCreatedEvent.class::isInstance));
+
+        TasksCreatedEvent batch = batches.get(0);
+        assertEquals(planId, batch.getPlanId());
+        assertEquals(tasks.stream().map(TaskAggregate::getTaskId).toList(),
+            batch.getEvents().stream().map(TaskCreatedEvent::getTaskId).toList());
+        assertEquals(List.of("asbc-gateway", "portal"), batch.getEvents().get(0).getStageNames());
+    }
+}
@@ -0,0 +1,84 @@
+package xyz.firestige.deploy.domain.task;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskRuntimeContext 类型化槽位存储单元测试
+ */
+class TaskRuntimeContextTest {
+
+    private static final ContextKey<Integer> COUNT = ContextKey.of("test.count", Integer.class);
+    private static final ContextKey<String> NAME = ContextKey.of("test.name", String.class);
+
+    private static TaskRuntimeContext newContext() {
+        return new TaskRuntimeContext(PlanId.of("plan-1"), TaskId.of("task-1"), TenantId.of("tenant-1"));
+    }
+
+    @Test
+    void testTypedKeySharesSlotWithStringApi() {
+        TaskRuntimeContext ctx = newContext();
+
+        ctx.put(COUNT, 3);
+        assertEquals(3, ctx.getAdditionalData("test.count", Integer.class));
+        assertNull(ctx.getAdditionalData("test.count", String.class));
+
+        ctx.addVariable("test.name", "a");
+        assertEquals("a", ctx.get(NAME));
+        assertEquals(COUNT, ContextKey.of("test.count", Integer.class));
+    }
+
+    @Test
+    void testMissingValues() {
+        TaskRuntimeContext ctx = newContext();
+
+        assertNull(ctx.get(NAME));
+        assertEquals("d", ctx.get(NAME, "d"));
+        assertNull(ctx.getAdditionalData("test.never-registered"));
+        assertThrows(IllegalArgumentException.class, () -> ctx.require(NAME));
+    }
+
+    @Test
+    void testForkIsolatesWritesUntilMerged() {
+        TaskRuntimeContext ctx = newContext();
+        ctx.put(NAME, "root");
+
+        TaskRuntimeContext forked = ctx.fork();
+        forked.put(COUNT, 7);
+        assertEquals("root", forked.get(NAME));
+        assertNull(ctx.get(COUNT));
+
+        ctx.mergeFrom(forked);
+        assertEquals(7, ctx.get(COUNT));
+        assertEquals("root", ctx.get(NAME));
+    }
+
+    @Test
+    void testConcurrentWritesToDistinctKeys() throws Exception {
+        TaskRuntimeContext ctx = newContext();
+        int keys = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < keys; i++) {
+                ContextKey<Integer> key = ContextKey.of("test.concurrent." + i, Integer.class);
+                int value = i;
+                executor.execute(() -> ctx.put(key, value));
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        for (int i = 0; i < keys; i++) {
+            assertEquals(i, ctx.get(ContextKey.of("test.concurrent." + i, Integer.class)));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package xyz.firestige.deploy.facade.converter;
+
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.dto.deploy.TenantDeployConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TenantDeployConfigReader 流式读取单元测试
+ */
+class TenantDeployConfigReaderTest {
+
+    private static InputStream stream(String content, AtomicBoolean closed) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+    }
+
+    private static List<String> tenantIds(Iterator<TenantDeployConfig> configs) {
+        List<String> ids = new ArrayList<>();
+        configs.forEachRemaining(config -> ids.add(config.getTenantId()));
+        return ids;
+    }
+
+    @Test
+    void testReadsJsonArrayAndClosesAtEnd() {
+        AtomicBoolean closed = new AtomicBoolean();
+        String json = "[{\"tenantId\":\"t1\",\"planId\":7,\"unknownField\":1},{\"tenantId\":\"t2\",\"planId\":7}]";
+
+        Iterator<TenantDeployConfig> configs = TenantDeployConfigReader.json(stream(json, closed));
+
+        assertEquals(List.of("t1", "t2"), tenantIds(configs));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testReadsYamlSequence() {
+        AtomicBoolean closed = new AtomicBoolean();
+        String yaml = "- tenantId: t1\n  planId: 7\n- tenantId: t2\n  planId: 7\n  serviceNames: [portal]\n";
+
+        Iterator<TenantDeployConfig> configs = TenantDeployConfigReader.yaml(stream(yaml, closed));
+
+        TenantDeployConfig first = configs.next();
+        assertEquals("t1", first.getTenantId());
+        assertEquals(7L, first.getPlanId());
+        TenantDeployConfig second = configs.next();
+        assertEquals(List.of("portal"), second.getServiceNames());
+        assertFalse(configs.hasNext());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testParsesLazilyAndReportsErrorAtBrokenElement() {
+        // 第二个元素格式错误：第一个元素仍可读出，错误在读到第二个元素时才抛出
+        String json = "[{\"tenantId\":\"t1\"},{\"tenantId\":[}]";
+
+        Iterator<TenantDeployConfig> configs = TenantDeployConfigReader.json(stream(json, new AtomicBoolean()));
+
+        assertEquals("t1", configs.next().getTenantId());
+        assertThrows(RuntimeJsonMappingException.class, configs::next);
+    }
+}
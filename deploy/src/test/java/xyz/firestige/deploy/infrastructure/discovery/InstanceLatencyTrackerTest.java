@@ -0,0 +1,95 @@
+package xyz.firestige.deploy.infrastructure.discovery;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.infrastructure.metrics.HdrMetricsRegistry;
+import xyz.firestige.deploy.infrastructure.metrics.MetricTags;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InstanceLatencyTracker 单元测试
+ */
+class InstanceLatencyTrackerTest {
+
+    private static final String POOL = "asbcService:default";
+
+    @Test
+    void testSingleInstanceAlwaysSelected() {
+        InstanceLatencyTracker tracker = InstanceLatencyTracker.withDefaults();
+        assertEquals("10.0.0.1:8080", tracker.select(POOL, List.of("10.0.0.1:8080")));
+    }
+
+    @Test
+    void testPrefersFasterInstance() {
+        InstanceLatencyTracker tracker = InstanceLatencyTracker.withDefaults();
+        tracker.record(POOL, "fast:8080", 20, true);
+        tracker.record(POOL, "slow:8080", 800, true);
+
+        // 两个候选时 P2C 必然比较两者
+        for (int i = 0; i < 100; i++) {
+            assertEquals("fast:8080", tracker.select(POOL, List.of("fast:8080", "slow:8080")));
+        }
+    }
+
+    @Test
+    void testErrorRatePenalizesInstance() {
+        InstanceLatencyTracker tracker = InstanceLatencyTracker.withDefaults();
+        tracker.record(POOL, "flaky:8080", 50, false);
+        tracker.record(POOL, "stable:8080", 100, true);
+
+        // flaky: 50 × (1 + 4 × 1.0) = 250 > stable: 100
+        assertEquals("stable:8080", tracker.select(POOL, List.of("flaky:8080", "stable:8080")));
+    }
+
+    @Test
+    void testUnseenInstanceIsProbed() {
+        InstanceLatencyTracker tracker = InstanceLatencyTracker.withDefaults();
+        tracker.record(POOL, "known:8080", 30, true);
+
+        assertEquals("new:8080", tracker.select(POOL, List.of("known:8080", "new:8080")));
+    }
+
+    @Test
+    void testEwmaStats() {
+        InstanceLatencyTracker tracker = new InstanceLatencyTracker(0.5, 4.0, 300, null);
+        tracker.record(POOL, "a:8080", 100, true);
+        tracker.record(POOL, "a:8080", 200, false);
+
+        Map<String, InstanceLatencyTracker.InstanceSnapshot> stats = tracker.getStats().get(POOL);
+        InstanceLatencyTracker.InstanceSnapshot snapshot = stats.get("a:8080");
+        assertEquals(150.0, snapshot.latencyEwmaMs(), 0.001);
+        assertEquals(0.5, snapshot.errorRateEwma(), 0.001);
+        assertEquals(2, snapshot.samples());
+    }
+
+    @Test
+    void testMetricsTaggedByPoolAndRemovedWithInstance() {
+        HdrMetricsRegistry metrics = new HdrMetricsRegistry();
+        InstanceLatencyTracker tracker = new InstanceLatencyTracker(0.5, 4.0, 300, metrics);
+        tracker.record(POOL, "a:8080", 100, true);
+        tracker.record(POOL, "b:8080", 40, false);
+
+        MetricTags a = MetricTags.of("pool", POOL, "instance", "a:8080");
+        MetricTags b = MetricTags.of("pool", POOL, "instance", "b:8080");
+        assertEquals(100.0, metrics.gauge(InstanceLatencyTracker.LATENCY_GAUGE, a));
+        assertEquals(1, metrics.count(InstanceLatencyTracker.CALLS_COUNTER, b.and("outcome", "failure")));
+
+        // b 下线：统计与指标一并移除
+        tracker.retainInstances(POOL, List.of("a:8080"));
+
+        assertNull(metrics.gauge(InstanceLatencyTracker.LATENCY_GAUGE, b));
+        assertEquals(0, metrics.count(InstanceLatencyTracker.CALLS_COUNTER, b.and("outcome", "failure")));
+        assertEquals(100.0, metrics.gauge(InstanceLatencyTracker.LATENCY_GAUGE, a));
+        assertFalse(tracker.getStats().get(POOL).containsKey("b:8080"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InstanceLatencyTracker(0, 4.0, 300, null));
+        assertThrows(IllegalArgumentException.class, () -> new InstanceLatencyTracker(0.2, -1, 300, null));
+        assertThrows(IllegalArgumentException.class, () -> new InstanceLatencyTracker(0.2, 4.0, 0, null));
+    }
+}
@@ -0,0 +1,362 @@
+package xyz.firestige.deploy.infrastructure.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.checkpoint.CheckpointService;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.domain.shared.exception.ErrorType;
+import xyz.firestige.deploy.domain.shared.exception.FailureInfo;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.task.StateTransitionService;
+import xyz.firestige.deploy.domain.task.TaskAggregate;
+import xyz.firestige.deploy.domain.task.TaskDomainService;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.domain.task.TaskStatus;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.persistence.checkpoint.InMemoryCheckpointRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRepository;
+import xyz.firestige.deploy.infrastructure.persistence.task.InMemoryTaskRuntimeRepository;
+import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager;
+import xyz.firestige.deploy.infrastructure.state.TaskStateManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskExecutor 并行 Stage 执行单元测试
+ */
+class TaskExecutorTest {
+
+    private static final PlanId PLAN_ID = PlanId.of(1L);
+
+    private final StateTransitionService stateTransitionService = new TaskStateManager();
+    private final TaskDomainService taskDomainService = new TaskDomainService(
+        new InMemoryTaskRepository(), new InMemoryTaskRuntimeRepository(), stateTransitionService, event -> { }, null);
+    private final InMemoryCheckpointRepository checkpointRepository = new InMemoryCheckpointRepository();
+    private final CheckpointService checkpointService = new CheckpointService(checkpointRepository);
+
+    private ExecutorService stageExecutor;
+    private TaskAggregate task;
+    private TaskRuntimeContext context;
+
+    @BeforeEach
+    void setUp() {
+        stageExecutor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stageExecutor.shutdownNow();
+    }
+
+    private TaskExecutor executor(TaskStage... stages) {
+        return executor(4, stages);
+    }
+
+    private TaskExecutor executor(int stageThreads, TaskStage... stages) {
+        TaskExecutor executor = executor(null, stages);
+        executor.setStageExecutor(stageExecutor, stageThreads);
+        return executor;
+    }
+
+    /**
+     * 串行执行、带租户冲突管理的执行器（心跳间隔 1 秒）
+     */
+    private TaskExecutor executor(TenantConflictManager conflictManager, TaskStage... stages) {
+        TenantConfig cfg = new TenantConfig();
+        cfg.setTenantId("tenant-1");
+        cfg.setPlanId(1L);
+        task = taskDomainService.newTask(PLAN_ID, cfg);
+        taskDomainService.registerTasks(PLAN_ID, List.of(task), Map.of(task.getTaskId(), List.of(stages)));
+        context = new TaskRuntimeContext(PLAN_ID, task.getTaskId(), task.getTenantId());
+
+        return new TaskExecutor(PLAN_ID, task, List.of(stages), context,
+            taskDomainService, stateTransitionService, event -> { }, checkpointService, conflictManager, 1, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("等待超时");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void testIndependentStagesRunConcurrentlyAndComplete() {
+        // 三个 Stage 互相等待对方启动：串行执行必然超时失败
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Function<TaskRuntimeContext, StageResult> body = ctx -> {
+            allStarted.countDown();
+            await(allStarted);
+            return null;
+        };
+        TaskExecutor executor = executor(
+            new ScriptedStage("asbc-gateway", Set.of(), body),
+            new ScriptedStage("portal", Set.of(), body),
+            new ScriptedStage("blue-green-gateway", Set.of(), body),
+            new ScriptedStage("ob-service", null, ctx -> null));
+
+        TaskResult result = executor.execute();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+        assertEquals(4, result.getCompletedStages().size());
+        assertEquals("ob-service", result.getCompletedStages().get(3).getStageName());
+        assertNull(checkpointRepository.get(task.getTaskId()));
+    }
+
+    @Test
+    void testDependentStageSeesVariablesWrittenByParallelPredecessor() {
+        AtomicReference<Object> seen = new AtomicReference<>();
+        TaskExecutor executor = executor(
+            new ScriptedStage("config-write", Set.of(), ctx -> {
+                ctx.addVariable("configWriteResult", "written");
+                return null;
+            }),
+            new ScriptedStage("portal", Set.of(), ctx -> {
+                ctx.addVariable("portalResult", "notified");
+                return null;
+            }),
+            new ScriptedStage("ob-service", Set.of("config-write"), ctx -> {
+                seen.set(ctx.getAdditionalData("configWriteResult"));
+                return null;
+            }));
+
+        TaskResult result = executor.execute();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals("written", seen.get());
+        // 合并回任务上下文，供后续重试/回滚使用
+        assertEquals("written", context.getAdditionalData("configWriteResult"));
+        assertEquals("notified", context.getAdditionalData("portalResult"));
+    }
+
+    @Test
+    void testFailureWaitsForRunningSiblingsAndStopsSubmitting() {
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        TaskExecutor executor = executor(
+            new ScriptedStage("portal", Set.of(), ctx -> {
+                siblingStarted.countDown();
+                await(failed);
+                return null;
+            }),
+            new ScriptedStage("asbc-gateway", Set.of(), ctx -> {
+                await(siblingStarted);
+                failed.countDown();
+                StageResult result = StageResult.start("asbc-gateway");
+                result.failure(FailureInfo.of(ErrorType.BUSINESS_ERROR, "boom"));
+                return result;
+            }),
+            new ScriptedStage("ob-service", null, ctx -> {
+                dependentRan.set(true);
+                return null;
+            }));
+
+        TaskResult result = executor.execute();
+
+        assertFalse(result.isSuccess());
+        assertEquals("boom", result.getMessage());
+        assertEquals(TaskStatus.FAILED, task.getStatus());
+        // 运行中的兄弟 Stage 被等待完成并记入检查点，依赖它们的 Stage 不再提交
+        assertEquals(List.of("portal"), result.getCompletedStages().stream().map(StageResult::getStageName).toList());
+        assertEquals(Set.of("portal"), checkpointRepository.get(task.getTaskId()).getCompletedStageSet());
+        assertFalse(dependentRan.get());
+    }
+
+    @Test
+    void testPauseTakesEffectAfterRunningLevelDrains() {
+        CountDownLatch pauseRequested = new CountDownLatch(1);
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        TaskExecutor executor = executor(
+            new ScriptedStage("asbc-gateway", Set.of(), ctx -> {
+                // 与 pauseTaskByTenant 一致：聚合与运行时上下文同时标记
+                task.requestPause();
+                ctx.requestPause();
+                pauseRequested.countDown();
+                return null;
+            }),
+            new ScriptedStage("portal", Set.of(), ctx -> {
+                await(pauseRequested);
+                return null;
+            }),
+            new ScriptedStage("ob-service", null, ctx -> {
+                dependentRan.set(true);
+                return null;
+            }));
+
+        TaskResult result = executor.execute();
+
+        assertTrue(result.isSuccess());
+        assertEquals(TaskStatus.PAUSED, task.getStatus());
+        assertTrue(context.isPauseRequested());
+        assertEquals(Set.of("asbc-gateway", "portal"), checkpointRepository.get(task.getTaskId()).getCompletedStageSet());
+        assertFalse(dependentRan.get());
+    }
+
+    @Test
+    void testAsyncStageDoesNotHoldStageThread() {
+        stageExecutor.shutdownNow();
+        stageExecutor = Executors.newSingleThreadExecutor();
+        // 单线程 stageExecutor：等待中的异步 Stage 若占住线程，另一个 Stage 永远无法启动
+        CompletableFuture<StageResult> pending = new CompletableFuture<>();
+        TaskExecutor executor = executor(2,
+            new AsyncStage("asbc-gateway", pending),
+            new ScriptedStage("portal", Set.of(), ctx -> {
+                StageResult result = StageResult.start("asbc-gateway");
+                result.success();
+                pending.complete(result);
+                return null;
+            }));
+
+        TaskResult result = executor.execute();
+
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+        assertEquals(Set.of("asbc-gateway", "portal"),
+            Set.copyOf(result.getCompletedStages().stream().map(StageResult::getStageName).toList()));
+    }
+
+    @Test
+    void testLeaseTakenWhileQueuedFailsWithoutRunning() {
+        TenantConflictManager conflictManager = new TenantConflictManager(
+            TenantConflictManager.ConflictPolicy.FINE_GRAINED, Duration.ofMinutes(1));
+        AtomicBoolean ran = new AtomicBoolean();
+        TaskExecutor executor = executor(conflictManager, new ScriptedStage("portal", null, ctx -> {
+            ran.set(true);
+            return null;
+        }));
+        // 排队期间租约过期，被其他任务占用
+        TaskId other = TaskId.of("task-other");
+        conflictManager.registerTask(task.getTenantId(), other);
+
+        TaskResult result = executor.execute();
+
+        assertFalse(result.isSuccess());
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertFalse(ran.get());
+        assertEquals(other, conflictManager.getConflictingTaskId(task.getTenantId()));
+    }
+
+    @Test
+    void testLostLeaseAbortsTaskAtStageBoundary() {
+        TenantConflictManager conflictManager = new TenantConflictManager(
+            TenantConflictManager.ConflictPolicy.FINE_GRAINED, Duration.ofMinutes(1));
+        TaskId other = TaskId.of("task-other");
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        TaskExecutor executor = executor(conflictManager,
+            new ScriptedStage("portal", Set.of(), ctx -> {
+                // 租约被回收并由其他任务获取，等待心跳续期失败
+                conflictManager.releaseTask(ctx.getTenantId());
+                conflictManager.registerTask(ctx.getTenantId(), other);
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!ctx.isCancelRequested() && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                return null;
+            }),
+            new ScriptedStage("ob-service", null, ctx -> {
+                dependentRan.set(true);
+                return null;
+            }));
+
+        TaskResult result = executor.execute();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("租约"), result.getMessage());
+        assertEquals(TaskStatus.FAILED, task.getStatus());
+        assertFalse(dependentRan.get());
+        assertFalse(context.isCancelRequested());
+        // 不释放其他任务持有的租户锁
+        assertEquals(other, conflictManager.getConflictingTaskId(task.getTenantId()));
+    }
+
+    /**
+     * 返回外部控制的 future 的异步 Stage
+     */
+    private static final class AsyncStage extends ScriptedStage {
+        private final CompletableFuture<StageResult> future;
+
+        AsyncStage(String name, CompletableFuture<StageResult> future) {
+            super(name, Set.of(), ctx -> {
+                throw new UnsupportedOperationException();
+            });
+            this.future = future;
+        }
+
+        @Override
+        public CompletableFuture<StageResult> executeAsync(TaskRuntimeContext ctx, Executor continuationExecutor) {
+            return future;
+        }
+    }
+
+    /**
+     * 按脚本执行的 Stage：body 返回 null 视为成功
+     */
+    private static class ScriptedStage implements TaskStage {
+        private final String name;
+        private final Set<String> dependencies;
+        private final Function<TaskRuntimeContext, StageResult> body;
+
+        ScriptedStage(String name, Set<String> dependencies, Function<TaskRuntimeContext, StageResult> body) {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.body = body;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean canSkip(TaskRuntimeContext ctx) {
+            return false;
+        }
+
+        @Override
+        public StageResult execute(TaskRuntimeContext ctx) {
+            StageResult result = body.apply(ctx);
+            if (result == null) {
+                result = StageResult.start(name);
+                result.success();
+            }
+            return result;
+        }
+
+        @Override
+        public void rollback(TaskRuntimeContext ctx) {
+        }
+
+        @Override
+        public List<StageStep> getSteps() {
+            return List.of();
+        }
+
+        @Override
+        public Set<String> getDependencies() {
+            return dependencies;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package xyz.firestige.deploy.infrastructure.execution.stage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.StageResult;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConfigurableServiceStage 并行 Step 组单元测试
+ */
+class ConfigurableServiceStageTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static TaskRuntimeContext newContext() {
+        return new TaskRuntimeContext(PlanId.of("plan-1"), TaskId.of("task-1"), TenantId.of("tenant-1"));
+    }
+
+    private static ConfigurableServiceStage.StepConfig step(String name, StageStep action) {
+        return ConfigurableServiceStage.StepConfig.builder()
+            .stepName(name)
+            .step(action)
+            .build();
+    }
+
+    private static StageStep action(String name, ThrowingConsumer body) {
+        return new StageStep() {
+            @Override
+            public String getStepName() {
+                return name;
+            }
+
+            @Override
+            public void execute(TaskRuntimeContext ctx) throws Exception {
+                body.accept(ctx);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingConsumer {
+        void accept(TaskRuntimeContext ctx) throws Exception;
+    }
+
+    @Test
+    void testGroupRunsConcurrentlyAndMergesWrites() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ThrowingConsumer awaitPeer = ctx -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "steps should run concurrently");
+        };
+
+        ConfigurableServiceStage stage = new ConfigurableServiceStage("s", List.of(
+            ConfigurableServiceStage.StepConfig.parallel("g", ConfigurableServiceStage.JoinPolicy.FAIL_FAST, executor, List.of(
+                step("a", action("a", ctx -> { awaitPeer.accept(ctx); ctx.addVariable("a", 1); })),
+                step("b", action("b", ctx -> { awaitPeer.accept(ctx); ctx.addVariable("b", 2); })))),
+            step("c", action("c", ctx -> ctx.addVariable("sum",
+                ctx.getAdditionalData("a", Integer.class) + ctx.getAdditionalData("b", Integer.class))))));
+
+        TaskRuntimeContext ctx = newContext();
+        StageResult result = stage.execute(ctx);
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, ctx.getAdditionalData("sum", Integer.class));
+        assertEquals(List.of("a", "b", "c"),
+            result.getStepResults().stream().map(StepResult::getStepName).toList());
+        assertTrue(result.getStepResults().stream().allMatch(r -> r.getEndTime() != null));
+        assertEquals(3, stage.getSteps().size());
+    }
+
+    @Test
+    void testFailFastDoesNotWaitForSlowStep() {
+        CountDownLatch release = new CountDownLatch(1);
+        ConfigurableServiceStage stage = new ConfigurableServiceStage("s", List.of(
+            ConfigurableServiceStage.StepConfig.parallel("g", ConfigurableServiceStage.JoinPolicy.FAIL_FAST, executor, List.of(
+                step("slow", action("slow", ctx -> { release.await(5, TimeUnit.SECONDS); ctx.addVariable("slow", true); })),
+                step("broken", action("broken", ctx -> { throw new IllegalStateException("boom"); }))))));
+
+        TaskRuntimeContext ctx = newContext();
+        StageResult result = stage.execute(ctx);
+        release.countDown();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getFailureInfo().getErrorMessage().contains("boom"));
+        assertNull(ctx.getAdditionalData("slow"));
+    }
+
+    @Test
+    void testCollectAllReportsEveryFailure() {
+        ConfigurableServiceStage stage = new ConfigurableServiceStage("s", List.of(
+            ConfigurableServiceStage.StepConfig.parallel("g", ConfigurableServiceStage.JoinPolicy.COLLECT_ALL, executor, List.of(
+                step("ok", action("ok", ctx -> ctx.addVariable("ok", true))),
+                step("e1", action("e1", ctx -> { throw new IllegalStateException("first"); })),
+                step("e2", action("e2", ctx -> { throw new IllegalStateException("second"); }))))));
+
+        TaskRuntimeContext ctx = newContext();
+        StageResult result = stage.execute(ctx);
+
+        assertFalse(result.isSuccess());
+        String message = result.getFailureInfo().getErrorMessage();
+        assertTrue(message.contains("first") && message.contains("second"));
+        assertEquals(3, result.getStepResults().size());
+        assertEquals(Boolean.TRUE, ctx.getAdditionalData("ok"));
+    }
+
+    @Test
+    void testGroupWithoutExecutorRunsSequentially() {
+        ConfigurableServiceStage stage = new ConfigurableServiceStage("s", List.of(
+            ConfigurableServiceStage.StepConfig.parallel("g", null, null, List.of(
+                step("a", action("a", ctx -> ctx.addVariable("a", 1))),
+                step("b", action("b", ctx -> ctx.addVariable("b", ctx.getAdditionalData("a", Integer.class) + 1)))))));
+
+        TaskRuntimeContext ctx = newContext();
+        assertTrue(stage.execute(ctx).isSuccess());
+        assertEquals(2, ctx.getAdditionalData("b", Integer.class));
+    }
+}
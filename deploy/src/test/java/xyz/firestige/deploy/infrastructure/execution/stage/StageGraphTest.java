@@ -0,0 +1,70 @@
+package xyz.firestige.deploy.infrastructure.execution.stage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StageGraph 单元测试
+ */
+class StageGraphTest {
+
+    private static TaskStage stage(String name, Set<String> dependencies) {
+        return new ConfigurableServiceStage(name, List.of(), dependencies);
+    }
+
+    private static List<String> names(List<TaskStage> stages) {
+        return stages.stream().map(TaskStage::getName).toList();
+    }
+
+    @Test
+    void testDefaultDependenciesKeepSequentialOrder() {
+        StageGraph graph = StageGraph.of(List.of(stage("a", null), stage("b", null), stage("c", null)));
+
+        assertEquals(Set.of("a", "b"), graph.dependenciesOf("c"));
+        assertEquals(List.of("a"), names(graph.readyStages(Set.of(), Set.of())));
+        assertEquals(List.of("a", "b", "c"), names(graph.topologicalOrder()));
+    }
+
+    @Test
+    void testIndependentStagesReadyTogether() {
+        StageGraph graph = StageGraph.of(List.of(
+            stage("asbc-gateway", Set.of()),
+            stage("portal", Set.of()),
+            stage("blue-green-gateway", Set.of()),
+            stage("ob-service", null)));
+
+        assertEquals(List.of("asbc-gateway", "portal", "blue-green-gateway"),
+            names(graph.readyStages(Set.of(), Set.of())));
+        // ob-service 等待前序全部完成
+        assertEquals(List.of("blue-green-gateway"),
+            names(graph.readyStages(Set.of("asbc-gateway"), Set.of("portal"))));
+        assertEquals(List.of("ob-service"),
+            names(graph.readyStages(Set.of("asbc-gateway", "portal", "blue-green-gateway"), Set.of())));
+    }
+
+    @Test
+    void testMissingDependencyIsIgnored() {
+        StageGraph graph = StageGraph.of(List.of(stage("portal", Set.of("not-assembled"))));
+
+        assertTrue(graph.dependenciesOf("portal").isEmpty());
+        assertEquals(List.of("portal"), names(graph.readyStages(Set.of(), Set.of())));
+    }
+
+    @Test
+    void testCycleRejected() {
+        assertThrows(IllegalArgumentException.class, () -> StageGraph.of(List.of(
+            stage("a", Set.of("b")),
+            stage("b", Set.of("a")))));
+    }
+
+    @Test
+    void testDuplicateNameRejected() {
+        assertThrows(IllegalArgumentException.class, () -> StageGraph.of(List.of(
+            stage("a", Set.of()),
+            stage("a", Set.of()))));
+    }
+}
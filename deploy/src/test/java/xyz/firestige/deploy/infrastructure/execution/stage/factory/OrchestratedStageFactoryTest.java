@@ -0,0 +1,138 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.factory;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.dto.DeployUnitIdentifier;
+import xyz.firestige.deploy.application.dto.MediaRoutingConfig;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.config.ExecutorProperties;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.stage.ConfigurableServiceStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageStep;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrchestratedStageFactory 模板缓存与延迟绑定单元测试
+ */
+class OrchestratedStageFactoryTest {
+
+    /**
+     * 记录每次 buildStage 的租户，Step 在执行时写入租户 ID
+     */
+    private static final class RecordingAssembler implements StageAssembler {
+        private final String name;
+        private final Predicate<TenantConfig> supports;
+        private final List<String> builtFor = new ArrayList<>();
+
+        private RecordingAssembler(String name, Predicate<TenantConfig> supports) {
+            this.name = name;
+            this.supports = supports;
+        }
+
+        @Override
+        public String stageName() {
+            return name;
+        }
+
+        @Override
+        public boolean supports(TenantConfig cfg) {
+            return supports.test(cfg);
+        }
+
+        @Override
+        public Set<String> dependsOn() {
+            return Set.of();
+        }
+
+        @Override
+        public TaskStage buildStage(TenantConfig cfg, SharedStageResources resources) {
+            builtFor.add(cfg.getTenantId().getValue());
+            StageStep step = new StageStep() {
+                @Override
+                public String getStepName() {
+                    return name + "-step";
+                }
+
+                @Override
+                public void execute(TaskRuntimeContext ctx) {
+                    ctx.addVariable(name, cfg.getTenantId().getValue());
+                }
+            };
+            return new ConfigurableServiceStage(name, List.of(
+                ConfigurableServiceStage.StepConfig.builder().step(step).build()), dependsOn());
+        }
+    }
+
+    private final RecordingAssembler asbc = new RecordingAssembler("asbc-gateway", cfg -> cfg.getMediaRoutingConfig() != null);
+    private final RecordingAssembler portal = new RecordingAssembler("portal", cfg -> cfg.getDeployUnit() != null);
+    private final OrchestratedStageFactory factory =
+        new OrchestratedStageFactory(List.of(asbc, portal), null, new ExecutorProperties());
+
+    private static TenantConfig tenant(String tenantId, boolean withMediaRouting) {
+        TenantConfig cfg = new TenantConfig();
+        cfg.setTenantId(tenantId);
+        cfg.setPlanId(1L);
+        cfg.setDeployUnit(new DeployUnitIdentifier(1L, 1L, "unit"));
+        if (withMediaRouting) {
+            cfg.setMediaRoutingConfig(new MediaRoutingConfig("trunk", "rules"));
+        }
+        return cfg;
+    }
+
+    @Test
+    void testSameShapeCompilesOnce() {
+        for (int i = 0; i < 100; i++) {
+            List<TaskStage> stages = factory.buildStages(tenant("t" + i, true));
+            assertEquals(List.of("asbc-gateway", "portal"), stages.stream().map(TaskStage::getName).toList());
+            assertEquals(1, stages.get(0).getSteps().size());
+            assertEquals(Set.of(), stages.get(0).getDependencies());
+        }
+
+        // 只有模板编译时构建一次原型
+        assertEquals(List.of("t0"), asbc.builtFor);
+        assertEquals(List.of("t0"), portal.builtFor);
+    }
+
+    @Test
+    void testDifferentShapesGetOwnTemplate() {
+        assertEquals(2, factory.buildStages(tenant("t1", true)).size());
+        assertEquals(List.of("portal"), factory.buildStages(tenant("t2", false)).stream().map(TaskStage::getName).toList());
+        assertEquals(List.of("t1"), asbc.builtFor);
+        assertEquals(List.of("t1", "t2"), portal.builtFor);
+    }
+
+    @Test
+    void testTenantDataBoundAtExecution() {
+        factory.buildStages(tenant("t0", true));
+        List<TaskStage> stages = factory.buildStages(tenant("t1", true));
+        TaskRuntimeContext ctx = new TaskRuntimeContext(PlanId.of("1"), TaskId.of("task-1"), TenantId.of("t1"));
+
+        assertTrue(stages.get(1).execute(ctx).isSuccess());
+
+        assertEquals("t1", ctx.getAdditionalData("portal"));
+        assertEquals(List.of("t0", "t1"), portal.builtFor);
+    }
+
+    @Test
+    void testTenantStageBuiltOnceAcrossExecuteAndRollback() {
+        factory.buildStages(tenant("t0", true));
+        TaskStage stage = factory.buildStages(tenant("t1", true)).get(1);
+        TaskRuntimeContext ctx = new TaskRuntimeContext(PlanId.of("1"), TaskId.of("task-1"), TenantId.of("t1"));
+
+        assertFalse(stage.canSkip(ctx));
+        assertTrue(stage.execute(ctx).isSuccess());
+        stage.rollback(ctx);
+
+        // 执行与回滚共用同一次构建结果
+        assertEquals(List.of("t0", "t1"), portal.builtFor);
+    }
+}
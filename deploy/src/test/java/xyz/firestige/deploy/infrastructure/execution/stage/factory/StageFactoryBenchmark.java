@@ -0,0 +1,135 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.factory;
+
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.client.RestTemplate;
+import xyz.firestige.deploy.application.dto.DeployUnitIdentifier;
+import xyz.firestige.deploy.application.dto.MediaRoutingConfig;
+import xyz.firestige.deploy.application.dto.TenantConfig;
+import xyz.firestige.deploy.config.ExecutorProperties;
+import xyz.firestige.deploy.config.properties.InfrastructureProperties;
+import xyz.firestige.deploy.infrastructure.discovery.ServiceDiscoveryHelper;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageGraph;
+import xyz.firestige.deploy.infrastructure.execution.stage.TaskStage;
+import xyz.firestige.deploy.infrastructure.execution.stage.factory.assembler.AsbcStageAssembler;
+import xyz.firestige.deploy.infrastructure.execution.stage.factory.assembler.BlueGreenStageAssembler;
+import xyz.firestige.deploy.infrastructure.execution.stage.factory.assembler.ObServiceStageAssembler;
+import xyz.firestige.deploy.infrastructure.execution.stage.factory.assembler.PortalStageAssembler;
+import xyz.firestige.deploy.infrastructure.execution.stage.polling.AgentReadinessCoordinator;
+import xyz.firestige.deploy.infrastructure.template.TemplateResolver;
+import xyz.firestige.redis.ack.api.RedisAckService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 计划创建阶段 Stage 构建基准：逐租户完整构建 vs 形态模板 + 延迟绑定
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=StageFactoryBenchmark}，
+ * 关注 gc.alloc.rate.norm（每次构建整个计划的分配字节数）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageFactoryBenchmark {
+
+    @Param({"10000"})
+    private int tenants;
+
+    private List<StageAssembler> assemblers;
+    private SharedStageResources resources;
+    private OrchestratedStageFactory factory;
+    private List<TenantConfig> configs;
+
+    @Setup
+    public void setUp() {
+        assemblers = List.of(new AsbcStageAssembler(), new PortalStageAssembler(),
+            new BlueGreenStageAssembler(), new ObServiceStageAssembler());
+        // 真实的资源聚合器（避免 mock 调用的分配干扰结果），外部服务用 mock 占位
+        InfrastructureProperties properties = new InfrastructureProperties();
+        RestTemplate restTemplate = new RestTemplate();
+        resources = new SharedStageResources(
+            restTemplate,
+            new StringRedisTemplate(),
+            new ObjectMapper(),
+            null,
+            Mockito.mock(RedisAckService.class),
+            new ServiceDiscoveryHelper(properties, null, restTemplate),
+            properties,
+            new TemplateResolver(),
+            new AgentReadinessCoordinator(null, null),
+            null,
+            null,
+            null);
+        factory = new OrchestratedStageFactory(assemblers, resources, new ExecutorProperties());
+
+        configs = new ArrayList<>(tenants);
+        for (int i = 0; i < tenants; i++) {
+            TenantConfig cfg = new TenantConfig();
+            cfg.setTenantId("tenant-" + i);
+            cfg.setPlanId(1L);
+            cfg.setDeployUnit(new DeployUnitIdentifier(1L, 1L, "unit"));
+            if (i % 2 == 0) {
+                cfg.setMediaRoutingConfig(new MediaRoutingConfig("trunk-" + i, "rules"));
+            }
+            configs.add(cfg);
+        }
+    }
+
+    /**
+     * 原方式：每个租户构建完整 Stage/StepConfig/DataPreparer 并校验依赖图
+     */
+    @Benchmark
+    public void eagerBuild(Blackhole bh) {
+        for (TenantConfig cfg : configs) {
+            List<TaskStage> stages = new ArrayList<>();
+            for (StageAssembler assembler : assemblers) {
+                if (assembler.supports(cfg)) {
+                    stages.add(assembler.buildStage(cfg, resources));
+                }
+            }
+            bh.consume(StageGraph.of(stages));
+        }
+    }
+
+    /**
+     * 新方式：同形态复用模板，仅绑定租户配置
+     */
+    @Benchmark
+    public void templateBind(Blackhole bh) {
+        for (TenantConfig cfg : configs) {
+            bh.consume(factory.buildStages(cfg));
+        }
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(StageFactoryBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
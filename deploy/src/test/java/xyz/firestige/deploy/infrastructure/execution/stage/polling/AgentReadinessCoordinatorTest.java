@@ -0,0 +1,97 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.polling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.service.AgentService;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AgentReadinessCoordinator 批量轮询单元测试
+ */
+class AgentReadinessCoordinatorTest {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 第 N 次批量查询后租户 t{N} 就绪，记录每次查询的租户集合
+     */
+    private static final class StagedAgentService implements AgentService {
+        private final List<Set<String>> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean judgeAgent(String tenantId, Long planId) {
+            throw new UnsupportedOperationException("should use batch query");
+        }
+
+        @Override
+        public Set<String> judgeAgents(Collection<String> tenantIds, Long planId) {
+            queries.add(Set.copyOf(tenantIds));
+            Set<String> ready = new HashSet<>();
+            for (int i = 1; i <= queries.size(); i++) {
+                ready.add("t" + i);
+            }
+            return ready;
+        }
+    }
+
+    @Test
+    void testTenantsOfSamePlanShareOneQueryPerInterval() throws Exception {
+        StagedAgentService agentService = new StagedAgentService();
+        AgentReadinessCoordinator coordinator = new AgentReadinessCoordinator(agentService, timer);
+
+        // 先阻塞定时器，确保三个租户进入同一批次
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        timer.execute(gate::join);
+        CompletableFuture<Boolean> t1 = coordinator.awaitReady(1L, "t1", 10, 5, null);
+        CompletableFuture<Boolean> t2 = coordinator.awaitReady(1L, "t2", 10, 5, null);
+        CompletableFuture<Boolean> t3 = coordinator.awaitReady(1L, "t3", 10, 5, null);
+        gate.complete(null);
+
+        assertTrue(t1.get(5, TimeUnit.SECONDS));
+        assertTrue(t2.get(5, TimeUnit.SECONDS));
+        assertTrue(t3.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of("t1", "t2", "t3"), Set.of("t2", "t3"), Set.of("t3")), agentService.queries);
+        assertEquals(0, coordinator.waitingCount());
+    }
+
+    @Test
+    void testWaiterExhaustsAttempts() throws Exception {
+        AgentService neverReady = (tenantId, planId) -> false;
+        AgentReadinessCoordinator coordinator = new AgentReadinessCoordinator(neverReady, timer);
+
+        assertFalse(coordinator.awaitReady(1L, "t1", 5, 3, null).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancelledWaiterLeavesBatch() {
+        AgentService neverReady = (tenantId, planId) -> false;
+        AgentReadinessCoordinator coordinator = new AgentReadinessCoordinator(neverReady, timer);
+
+        CompletableFuture<Boolean> future = coordinator.awaitReady(1L, "t1", 5, 1000, () -> true);
+
+        assertThrows(java.util.concurrent.CancellationException.class, () -> future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testMissingAgentServiceTreatsAsReady() throws Exception {
+        AgentReadinessCoordinator coordinator = new AgentReadinessCoordinator(null, timer);
+
+        assertTrue(coordinator.awaitReady(1L, "t1", 10, 3, null).get(1, TimeUnit.SECONDS));
+    }
+}
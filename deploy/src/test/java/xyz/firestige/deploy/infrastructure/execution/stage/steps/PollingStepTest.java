@@ -0,0 +1,112 @@
+package xyz.firestige.deploy.infrastructure.execution.stage.steps;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.domain.shared.vo.PlanId;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.domain.task.TaskRuntimeContext;
+import xyz.firestige.deploy.infrastructure.execution.stage.StageContextKeys;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PollingStep 定时器驱动轮询单元测试
+ */
+class PollingStepTest {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    private static TaskRuntimeContext newContext(int intervalMs, int maxAttempts, PollingStep.PollCondition condition) {
+        TaskRuntimeContext ctx = new TaskRuntimeContext(PlanId.of("plan-1"), TaskId.of("task-1"), TenantId.of("tenant-1"));
+        ctx.put(StageContextKeys.POLL_INTERVAL, intervalMs);
+        ctx.put(StageContextKeys.POLL_MAX_ATTEMPTS, maxAttempts);
+        ctx.put(StageContextKeys.POLL_CONDITION, condition);
+        return ctx;
+    }
+
+    @Test
+    void testAsyncPollingReturnsBeforeConditionIsMet() throws Exception {
+        AtomicInteger checks = new AtomicInteger();
+        TaskRuntimeContext ctx = newContext(10, 10, c -> checks.incrementAndGet() >= 3);
+
+        CompletableFuture<Void> future = new PollingStep("poll", timer).executeAsync(ctx);
+
+        future.get(5, TimeUnit.SECONDS);
+        assertEquals(3, checks.get());
+        assertEquals(Boolean.TRUE, ctx.get(StageContextKeys.POLLING_RESULT));
+    }
+
+    @Test
+    void testSlowCheckDoesNotBlockTimer() throws Exception {
+        ExecutorService checkExecutor = Executors.newFixedThreadPool(2);
+        try {
+            // 单线程定时器：慢检查若在定时器线程上执行，另一个轮询无法推进
+            CountDownLatch release = new CountDownLatch(1);
+            TaskRuntimeContext slowCtx = newContext(5, 10, c -> release.await(5, TimeUnit.SECONDS));
+            AtomicInteger checks = new AtomicInteger();
+            TaskRuntimeContext fastCtx = newContext(5, 10, c -> checks.incrementAndGet() >= 3);
+
+            CompletableFuture<Void> slow = new PollingStep("slow", timer, checkExecutor).executeAsync(slowCtx);
+            CompletableFuture<Void> fast = new PollingStep("fast", timer, checkExecutor).executeAsync(fastCtx);
+
+            fast.get(2, TimeUnit.SECONDS);
+            assertFalse(slow.isDone());
+            release.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        } finally {
+            checkExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTimeoutAfterMaxAttempts() {
+        AtomicInteger checks = new AtomicInteger();
+        TaskRuntimeContext ctx = newContext(5, 3, c -> {
+            checks.incrementAndGet();
+            throw new IllegalStateException("agent not ready");
+        });
+
+        Exception e = assertThrows(Exception.class, () -> new PollingStep("poll", timer).execute(ctx));
+        assertTrue(e.getMessage().contains("3"));
+        assertEquals(3, checks.get());
+        assertEquals(Boolean.FALSE, ctx.get(StageContextKeys.POLLING_RESULT));
+    }
+
+    @Test
+    void testCancelStopsPolling() {
+        AtomicInteger checks = new AtomicInteger();
+        TaskRuntimeContext ctx = newContext(5, 1000, c -> {
+            if (checks.incrementAndGet() == 2) {
+                c.requestCancel();
+            }
+            return false;
+        });
+
+        CompletableFuture<Void> future = new PollingStep("poll", timer).executeAsync(ctx);
+
+        assertThrows(CancellationException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    void testInvalidConfigRejectedImmediately() {
+        TaskRuntimeContext ctx = newContext(0, 3, c -> true);
+
+        assertThrows(IllegalArgumentException.class, () -> new PollingStep("poll", timer).executeAsync(ctx));
+    }
+}
@@ -0,0 +1,118 @@
+package xyz.firestige.deploy.infrastructure.lock.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisTenantLockManager Lua 脚本集成测试（真实 Redis，无 Docker 时跳过）
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTenantLockManagerRedisTest {
+
+    private static final String KEY_PREFIX = "executor:lock:tenant:";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisTenantLockManager manager = new RedisTenantLockManager(redisTemplate);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    private static Map<TenantId, TaskId> owners(String taskPrefix, int... tenants) {
+        Map<TenantId, TaskId> owners = new LinkedHashMap<>();
+        for (int tenant : tenants) {
+            owners.put(TenantId.of("tenant-" + tenant), TaskId.of(taskPrefix + tenant));
+        }
+        return owners;
+    }
+
+    private static String holder(int tenant) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + "tenant-" + tenant);
+    }
+
+    @Test
+    void testAcquireAllSetsOwnersWithTtl() {
+        assertTrue(manager.tryAcquireAll(owners("a-", 0, 1, 2), Duration.ofSeconds(30), true).isEmpty());
+
+        assertEquals("a-1", holder(1));
+        Long ttl = redisTemplate.getExpire(KEY_PREFIX + "tenant-1");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 30, "ttl=" + ttl);
+        // 同一任务重复获取视为成功
+        assertTrue(manager.tryAcquireAll(owners("a-", 1), Duration.ofSeconds(30), true).isEmpty());
+    }
+
+    @Test
+    void testAllOrNothingAcquiresNothingOnConflict() {
+        manager.tryAcquireAll(owners("a-", 1), Duration.ofSeconds(30), true);
+
+        assertEquals(List.of(TenantId.of("tenant-1")),
+            manager.tryAcquireAll(owners("b-", 0, 1, 2), Duration.ofSeconds(30), true));
+        assertNull(holder(0));
+        assertNull(holder(2));
+        assertEquals("a-1", holder(1));
+
+        // 非全有或全无：获取无冲突的租户
+        assertEquals(List.of(TenantId.of("tenant-1")),
+            manager.tryAcquireAll(owners("b-", 0, 1, 2), Duration.ofSeconds(30), false));
+        assertEquals("b-0", holder(0));
+        assertEquals("a-1", holder(1));
+        assertEquals("b-2", holder(2));
+    }
+
+    @Test
+    void testReleaseAllOnlyDeletesOwnLocks() {
+        manager.tryAcquireAll(owners("a-", 0, 1), Duration.ofSeconds(30), true);
+
+        manager.releaseAll(owners("b-", 0, 1));
+        assertEquals("a-0", holder(0));
+        assertEquals("a-1", holder(1));
+
+        manager.releaseAll(owners("a-", 0));
+        assertNull(holder(0));
+        assertEquals("a-1", holder(1));
+
+        // 前一个 Plan 的任务释放后，后一个 Plan 可获取同一租户
+        manager.releaseAll(owners("a-", 1));
+        assertTrue(manager.tryAcquireAll(owners("b-", 1), Duration.ofSeconds(30), true).isEmpty());
+        assertEquals("b-1", holder(1));
+    }
+}
@@ -0,0 +1,100 @@
+package xyz.firestige.deploy.infrastructure.lock.redis;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.redis.renewal.KeyRenewalService;
+import xyz.firestige.redis.renewal.RenewalContext;
+import xyz.firestige.redis.renewal.RenewalTask;
+import xyz.firestige.redis.renewal.selector.KeySelector;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisTenantLockManager 批量获取/释放单元测试（Redis 与续期服务为 Mock）
+ */
+@SuppressWarnings("unchecked")
+class RedisTenantLockManagerTest {
+
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final KeyRenewalService renewalService = mock(KeyRenewalService.class);
+    private final RedisTenantLockManager manager = new RedisTenantLockManager(redisTemplate, renewalService);
+
+    private static Map<TenantId, TaskId> owners(int count) {
+        Map<TenantId, TaskId> owners = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            owners.put(TenantId.of("tenant-" + i), TaskId.of("task-" + i));
+        }
+        return owners;
+    }
+
+    @Test
+    void testAcquireAllIsOneScriptCallAndStartsRenewal() {
+        when(redisTemplate.execute(eq(RedisTenantLockManager.ACQUIRE_ALL_SCRIPT), anyList(), any(Object[].class)))
+            .thenReturn(List.of());
+        when(renewalService.register(any())).thenReturn("renewal-1");
+
+        List<TenantId> conflicts = manager.tryAcquireAll(owners(3), Duration.ofMinutes(3), true);
+
+        assertTrue(conflicts.isEmpty());
+        verify(redisTemplate, times(1)).execute(eq(RedisTenantLockManager.ACQUIRE_ALL_SCRIPT),
+            eq(List.of("executor:lock:tenant:tenant-0", "executor:lock:tenant:tenant-1", "executor:lock:tenant:tenant-2")),
+            eq("180000"), eq("1"), eq("task-0"), eq("task-1"), eq("task-2"));
+        verify(renewalService).register(argThat((RenewalTask task) -> task.getKeys().size() == 3));
+
+        // 部分释放不取消续期，全部释放后取消
+        manager.release(TenantId.of("tenant-0"));
+        verify(renewalService, never()).cancel(any());
+        manager.releaseAll(owners(3));
+        verify(redisTemplate, times(1)).execute(eq(RedisTenantLockManager.RELEASE_ALL_SCRIPT), anyList(), any(Object[].class));
+        verify(renewalService).cancel("renewal-1");
+    }
+
+    @Test
+    void testRenewalOnlyCoversUnreleasedLocks() {
+        when(redisTemplate.execute(eq(RedisTenantLockManager.ACQUIRE_ALL_SCRIPT), anyList(), any(Object[].class)))
+            .thenReturn(List.of());
+        when(renewalService.register(any())).thenReturn("renewal-1", "renewal-2");
+        manager.tryAcquireAll(owners(3), Duration.ofMinutes(3), true);
+        ArgumentCaptor<RenewalTask> registered = ArgumentCaptor.forClass(RenewalTask.class);
+        verify(renewalService).register(registered.capture());
+        KeySelector selector = registered.getValue().getKeySelector();
+        RenewalContext context = new RenewalContext("renewal-1");
+
+        // 按任务释放的锁不再续期
+        manager.releaseAll(Map.of(TenantId.of("tenant-0"), TaskId.of("task-0")));
+        assertEquals(Set.of("executor:lock:tenant:tenant-1", "executor:lock:tenant:tenant-2"),
+            Set.copyOf(selector.selectKeys(context)));
+
+        // 重新获取的锁转由新的续期任务负责
+        manager.tryAcquireAll(Map.of(TenantId.of("tenant-1"), TaskId.of("task-1")), Duration.ofMinutes(3), true);
+        assertEquals(Set.of("executor:lock:tenant:tenant-2"), Set.copyOf(selector.selectKeys(context)));
+        verify(renewalService, never()).cancel(any());
+    }
+
+    @Test
+    void testConflictsMapBackToTenants() {
+        when(redisTemplate.execute(eq(RedisTenantLockManager.ACQUIRE_ALL_SCRIPT), anyList(), any(Object[].class)))
+            .thenReturn(List.of(2L));
+        when(renewalService.register(any())).thenReturn("renewal-1");
+
+        assertEquals(List.of(TenantId.of("tenant-1")), manager.tryAcquireAll(owners(3), Duration.ofMinutes(3), true));
+        verify(renewalService, never()).register(any());
+
+        assertEquals(List.of(TenantId.of("tenant-1")), manager.tryAcquireAll(owners(3), Duration.ofMinutes(3), false));
+        verify(renewalService).register(argThat((RenewalTask task) ->
+            task.getKeys().equals(List.of("executor:lock:tenant:tenant-0", "executor:lock:tenant:tenant-2"))));
+    }
+}
@@ -0,0 +1,66 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HdrMetricsRegistry / MetricTags 单元测试
+ */
+class HdrMetricsRegistryTest {
+
+    private final HdrMetricsRegistry registry = new HdrMetricsRegistry();
+
+    @Test
+    void testTagOrderDoesNotAffectIdentity() {
+        MetricTags a = MetricTags.of("plan", "1", "stage", "portal");
+        MetricTags b = MetricTags.of("stage", "portal").and("plan", "1");
+
+        assertEquals(a, b);
+        assertSame(registry.counter("c", a), registry.counter("c", b));
+        assertNotSame(registry.counter("c", a), registry.counter("c", a.and("service", "gw")));
+        assertThrows(IllegalArgumentException.class, () -> a.and("plan", "2"));
+    }
+
+    @Test
+    void testCounterCountsPerTagSet() {
+        MetricCounter p1 = registry.counter("executor.test", MetricTags.of("plan", "1"));
+        MetricCounter p2 = registry.counter("executor.test", MetricTags.of("plan", "2"));
+        p1.increment();
+        p1.increment(4);
+        p2.increment();
+
+        assertEquals(5, registry.count("executor.test", MetricTags.of("plan", "1")));
+        assertEquals(1, registry.count("executor.test", MetricTags.of("plan", "2")));
+        assertEquals(0, registry.count("executor.test", MetricTags.EMPTY));
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        MetricHistogram histogram = registry.histogram("executor.ack.attempts", MetricTags.of("service", "gw"));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        HistogramSnapshot snapshot = registry.snapshot("executor.ack.attempts", MetricTags.of("service", "gw"));
+        assertEquals(100, snapshot.count());
+        assertEquals(50, snapshot.p50());
+        assertEquals(95, snapshot.p95());
+        assertEquals(99, snapshot.p99());
+        assertEquals(100, snapshot.max());
+
+        // 快照累加，不丢弃之前的区间
+        histogram.record(1000);
+        assertEquals(101, registry.snapshot("executor.ack.attempts", MetricTags.of("service", "gw")).count());
+    }
+
+    @Test
+    void testTimerRecordsNanos() {
+        MetricTimer timer = registry.timer("executor.stage.duration", MetricTags.EMPTY);
+        timer.record(java.time.Duration.ofMillis(5));
+
+        HistogramSnapshot snapshot = registry.snapshot("executor.stage.duration", MetricTags.EMPTY);
+        assertEquals(1, snapshot.count());
+        assertTrue(Math.abs(snapshot.max() - 5_000_000L) < 50_000L);
+    }
+}
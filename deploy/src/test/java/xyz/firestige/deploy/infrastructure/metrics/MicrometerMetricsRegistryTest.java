@@ -0,0 +1,35 @@
+package xyz.firestige.deploy.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MicrometerMetricsRegistry 单元测试
+ */
+class MicrometerMetricsRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerMetricsRegistry registry = new MicrometerMetricsRegistry(meterRegistry);
+
+    @Test
+    void testRemoveOnlyExactTagSet() {
+        MetricTags plan = MetricTags.of("plan", "1");
+        registry.counter("executor.test", plan).increment();
+        registry.counter("executor.test", plan.and("stage", "portal")).increment();
+        registry.setGauge("executor.gauge", plan, 3.0);
+
+        registry.remove("executor.test", plan);
+        registry.remove("executor.gauge", plan);
+
+        assertNull(meterRegistry.find("executor.gauge").gauge());
+        assertEquals(1, meterRegistry.find("executor.test").counters().size());
+        assertNotNull(meterRegistry.find("executor.test").tag("stage", "portal").counter());
+
+        // 移除后重新获取会重新注册
+        registry.counter("executor.test", plan).increment();
+        assertEquals(1.0, meterRegistry.find("executor.test").tags("plan", "1").counters().stream()
+                .filter(c -> c.getId().getTags().size() == 1).findFirst().orElseThrow().count());
+    }
+}
@@ -0,0 +1,146 @@
+package xyz.firestige.deploy.infrastructure.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager.ConflictPolicy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 租户锁竞争基准（8 线程）
+ *
+ * <ul>
+ *   <li>registerRelease：随机租户的单个注册/释放，对比原 putIfAbsent 实现</li>
+ *   <li>registerPlan：每线程一个 64 租户的 Plan，批量注册 vs 逐个注册（失败时逐个回滚）</li>
+ * </ul>
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=TenantConflictManagerBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class TenantConflictManagerBenchmark {
+
+    private static final int TENANTS = 4096;
+    private static final int PLAN_SIZE = 64;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final TenantConflictManager manager = new TenantConflictManager(ConflictPolicy.FINE_GRAINED);
+        final Map<TenantId, TaskId> baseline = new ConcurrentHashMap<>();
+        final TenantId[] tenants = new TenantId[TENANTS];
+        final TaskId[] tasks = new TaskId[TENANTS];
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < TENANTS; i++) {
+                tenants[i] = TenantId.of("tenant-" + i);
+                tasks[i] = TaskId.of("task-" + i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        int seed;
+        Map<TenantId, TaskId> plan;
+        List<TenantId> planTenants;
+
+        @Setup
+        public void setUp(Shared shared, ThreadParams params) {
+            seed = params.getThreadIndex() * 0x9E3779B9;
+            plan = new LinkedHashMap<>();
+            int base = params.getThreadIndex() * PLAN_SIZE;
+            for (int i = 0; i < PLAN_SIZE; i++) {
+                plan.put(shared.tenants[base + i], shared.tasks[base + i]);
+            }
+            planTenants = List.copyOf(plan.keySet());
+        }
+
+        int next() {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            return seed & (TENANTS - 1);
+        }
+    }
+
+    @Benchmark
+    public boolean registerReleaseBaseline(Shared shared, PerThread thread) {
+        int i = thread.next();
+        boolean registered = shared.baseline.putIfAbsent(shared.tenants[i], shared.tasks[i]) == null;
+        if (registered) {
+            shared.baseline.remove(shared.tenants[i]);
+        }
+        return registered;
+    }
+
+    @Benchmark
+    public boolean registerReleaseLease(Shared shared, PerThread thread) {
+        int i = thread.next();
+        boolean registered = shared.manager.registerTask(shared.tenants[i], shared.tasks[i]);
+        if (registered) {
+            shared.manager.releaseTask(shared.tenants[i]);
+        }
+        return registered;
+    }
+
+    @Benchmark
+    public boolean registerPlanOneByOne(Shared shared, PerThread thread) {
+        int registered = 0;
+        for (Map.Entry<TenantId, TaskId> entry : thread.plan.entrySet()) {
+            if (!shared.manager.registerTask(entry.getKey(), entry.getValue())) {
+                break;
+            }
+            registered++;
+        }
+        for (int i = 0; i < registered; i++) {
+            shared.manager.releaseTask(thread.planTenants.get(i));
+        }
+        return registered == PLAN_SIZE;
+    }
+
+    @Benchmark
+    public boolean registerPlanBulk(Shared shared, PerThread thread) {
+        boolean registered = shared.manager.tryRegisterAll(thread.plan).isEmpty();
+        if (registered) {
+            for (TenantId tenantId : thread.planTenants) {
+                shared.manager.releaseTask(tenantId);
+            }
+        }
+        return registered;
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(TenantConflictManagerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
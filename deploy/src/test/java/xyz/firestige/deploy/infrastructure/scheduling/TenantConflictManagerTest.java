@@ -0,0 +1,112 @@
+package xyz.firestige.deploy.infrastructure.scheduling;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.domain.shared.vo.TaskId;
+import xyz.firestige.deploy.domain.shared.vo.TenantId;
+import xyz.firestige.deploy.infrastructure.scheduling.TenantConflictManager.ConflictPolicy;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TenantConflictManager 租约单元测试
+ */
+class TenantConflictManagerTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final TenantConflictManager manager =
+        new TenantConflictManager(ConflictPolicy.COARSE_GRAINED, TTL, now::get);
+
+    private static TenantId tenant(int i) {
+        return TenantId.of("tenant-" + i);
+    }
+
+    private static TaskId task(int i) {
+        return TaskId.of("task-" + i);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void testExpiredLeaseIsReclaimed() {
+        assertTrue(manager.registerTask(tenant(1), task(1)));
+        assertFalse(manager.registerTask(tenant(1), task(2)));
+
+        advance(TTL.minusSeconds(1));
+        assertEquals(0, manager.scanAndReleaseLeaked());
+        assertTrue(manager.hasConflict(tenant(1)));
+
+        advance(Duration.ofSeconds(1));
+        assertFalse(manager.hasConflict(tenant(1)));
+        assertEquals(1, manager.scanAndReleaseLeaked());
+        assertTrue(manager.registerTask(tenant(1), task(2)));
+        assertEquals(task(2), manager.getConflictingTaskId(tenant(1)));
+    }
+
+    @Test
+    void testRenewAndPinKeepLeaseAlive() {
+        manager.registerTask(tenant(1), task(1));
+        advance(TTL.minusSeconds(1));
+        assertTrue(manager.renewLease(tenant(1), task(1)));
+        advance(TTL.minusSeconds(1));
+        assertEquals(0, manager.scanAndReleaseLeaked());
+
+        assertTrue(manager.pinLease(tenant(1), task(1)));
+        assertFalse(manager.pinLease(tenant(1), task(2)));
+        advance(TTL.multipliedBy(100));
+        assertEquals(0, manager.scanAndReleaseLeaked());
+        assertFalse(manager.renewLease(tenant(1), task(2)));
+
+        manager.releaseTask(tenant(1));
+        assertFalse(manager.hasConflict(tenant(1)));
+    }
+
+    @Test
+    void testReleaseAndPinOnlyAffectOwnLiveLease() {
+        manager.registerTask(tenant(1), task(1));
+        advance(TTL);
+        // 已过期的租约不能再固定，回收后由其他任务持有
+        assertFalse(manager.pinLease(tenant(1), task(1)));
+        assertTrue(manager.registerTask(tenant(1), task(2)));
+
+        assertFalse(manager.releaseTask(tenant(1), task(1)));
+        assertEquals(task(2), manager.getConflictingTaskId(tenant(1)));
+        assertTrue(manager.releaseTask(tenant(1), task(2)));
+        assertFalse(manager.hasConflict(tenant(1)));
+    }
+
+    @Test
+    void testTryRegisterAllIsAllOrNothing() {
+        manager.registerTask(tenant(3), task(99));
+        Map<TenantId, TaskId> plan = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            plan.put(tenant(i), task(i));
+        }
+
+        assertEquals(List.of(tenant(3)), manager.tryRegisterAll(plan));
+        assertFalse(manager.hasConflict(tenant(0)));
+        assertEquals(List.of(tenant(3)), manager.canCreatePlan(List.copyOf(plan.keySet())).getConflictingTenants()
+            .stream().map(TenantId::of).toList());
+
+        manager.releaseTask(tenant(3));
+        assertTrue(manager.tryRegisterAll(plan).isEmpty());
+        assertEquals(task(150), manager.getConflictingTaskId(tenant(150)));
+        // 同一任务重复注册视为续期
+        assertTrue(manager.tryRegisterAll(Map.of(tenant(7), task(7))).isEmpty());
+    }
+
+    @Test
+    void testRejectsNonPositiveTtl() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TenantConflictManager(ConflictPolicy.FINE_GRAINED, Duration.ZERO));
+    }
+}
@@ -0,0 +1,108 @@
+package xyz.firestige.deploy.infrastructure.template;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 模板解析基准：原正则实现 vs 预编译模板
+ *
+ * <p>模板组合取自装配器实际用法：默认健康检查路径（单变量，占多数）、带版本的多变量路径、无占位符的静态路径。
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=TemplateResolverBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateResolverBenchmark {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    private static final String[] SINGLE_VARIABLE = {
+        "/actuator/bg-sdk/{tenantId}",
+        "/actuator/bg-sdk/{tenantId}",
+        "/actuator/bg-sdk/{tenantId}",
+        "/actuator/ob-service/{tenantId}/health",
+    };
+    private static final String MULTI_VARIABLE = "/actuator/bg-sdk/{tenantId}/version/{version}";
+    private static final String STATIC = "/health";
+
+    private TemplateResolver resolver;
+    private Map<String, String> variables;
+    private String[] tenants;
+
+    @Setup
+    public void setUp() {
+        resolver = new TemplateResolver();
+        variables = Map.of("tenantId", "tenant-001", "version", "20240101");
+        tenants = new String[64];
+        for (int i = 0; i < tenants.length; i++) {
+            tenants[i] = "tenant-" + i;
+        }
+    }
+
+    /**
+     * 原实现：每次解析执行正则并构建 StringBuffer
+     */
+    private static String regexResolve(String template, Map<String, String> variables) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException(matcher.group(1));
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    @Benchmark
+    public void regexMix(Blackhole bh) {
+        for (int i = 0; i < tenants.length; i++) {
+            bh.consume(regexResolve(SINGLE_VARIABLE[i & 3], Map.of("tenantId", tenants[i])));
+        }
+        bh.consume(regexResolve(MULTI_VARIABLE, variables));
+        bh.consume(regexResolve(STATIC, variables));
+    }
+
+    @Benchmark
+    public void compiledMix(Blackhole bh) {
+        for (int i = 0; i < tenants.length; i++) {
+            bh.consume(resolver.resolve(SINGLE_VARIABLE[i & 3], "tenantId", tenants[i]));
+        }
+        bh.consume(resolver.resolve(MULTI_VARIABLE, variables));
+        bh.consume(resolver.resolve(STATIC, variables));
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(TemplateResolverBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,74 @@
+package xyz.firestige.deploy.infrastructure.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TemplateResolver 预编译模板单元测试（以原正则实现为参照）
+ */
+class TemplateResolverTest {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    private final TemplateResolver resolver = new TemplateResolver();
+
+    private static String regexResolve(String template, Map<String, String> variables) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(variables.get(matcher.group(1))));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    @Test
+    void testMatchesRegexSemantics() {
+        Map<String, String> vars = Map.of("tenantId", "t$1\\x", "version", "v1", "a{b", "nested");
+        String[] templates = {
+            "/actuator/bg-sdk/{tenantId}",
+            "/actuator/bg-sdk/{tenantId}/version/{version}",
+            "{tenantId}{version}",
+            "/static/path",
+            "/empty/{}/{tenantId}",
+            "/unclosed/{tenantId}/{oops",
+            "/nested/{a{b}/end",
+            "}{tenantId}{",
+        };
+        for (String template : templates) {
+            assertEquals(regexResolve(template, vars), resolver.resolve(template, vars), template);
+        }
+    }
+
+    @Test
+    void testSingleVariableShortcut() {
+        assertEquals("/actuator/bg-sdk/t1", resolver.resolve("/actuator/bg-sdk/{tenantId}", "tenantId", "t1"));
+        assertEquals("/t1/t1", resolver.resolve("/{tenantId}/{tenantId}", "tenantId", "t1"));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> resolver.resolve("/{tenantId}/{version}", "tenantId", "t1"));
+        assertTrue(e.getMessage().contains("'version'"));
+    }
+
+    @Test
+    void testMissingVariableAndNoVariables() {
+        assertThrows(IllegalArgumentException.class,
+            () -> resolver.resolve("/{tenantId}/{version}", Map.of("tenantId", "t1")));
+        assertThrows(IllegalArgumentException.class, () -> resolver.resolve("/{tenantId}", Map.of()));
+        assertEquals("/plain", resolver.resolve("/plain", (Map<String, String>) null));
+        assertTrue(resolver.hasPlaceholders("/{tenantId}"));
+        assertFalse(resolver.hasPlaceholders("/{}/plain"));
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i < TemplateResolver.MAX_CACHED_TEMPLATES * 2; i++) {
+            assertEquals("/" + i + "/t", resolver.resolve("/" + i + "/{tenantId}", "tenantId", "t"));
+        }
+        assertTrue(resolver.cachedTemplateCount() <= TemplateResolver.MAX_CACHED_TEMPLATES);
+    }
+}
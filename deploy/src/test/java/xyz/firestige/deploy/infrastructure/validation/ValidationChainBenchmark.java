@@ -0,0 +1,85 @@
+package xyz.firestige.deploy.infrastructure.validation;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xyz.firestige.deploy.application.validation.ConflictValidator;
+import xyz.firestige.deploy.domain.shared.validation.ValidationSummary;
+import xyz.firestige.deploy.infrastructure.validation.validator.BusinessRuleValidator;
+import xyz.firestige.deploy.infrastructure.validation.validator.NetworkEndpointValidator;
+import xyz.firestige.deploy.infrastructure.validation.validator.TenantIdValidator;
+import xyz.firestige.dto.deploy.TenantDeployConfig;
+import xyz.firestige.entity.deploy.NetworkEndpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量校验基准：50k 租户配置走完整校验链（含不可并发的 ConflictValidator）
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=ValidationChainBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationChainBenchmark {
+
+    private static final int CONFIGS = 50_000;
+
+    private ValidationChain chain;
+    private List<TenantDeployConfig> configs;
+
+    @Setup
+    public void setUp() {
+        chain = new ValidationChain()
+            .addValidator(new TenantIdValidator())
+            .addValidator(new NetworkEndpointValidator())
+            .addValidator(new ConflictValidator())
+            .addValidator(new BusinessRuleValidator());
+        configs = new ArrayList<>(CONFIGS);
+        for (int i = 0; i < CONFIGS; i++) {
+            List<NetworkEndpoint> endpoints = new ArrayList<>(2);
+            for (int j = 0; j < 2; j++) {
+                NetworkEndpoint endpoint = new NetworkEndpoint();
+                endpoint.setKey("endpoint-" + j);
+                endpoint.setSourceIp("10." + (i >>> 16 & 255) + "." + (i >>> 8 & 255) + "." + (i & 255));
+                endpoint.setTargetDomain("gw" + j + ".tenant-" + i + ".example.com");
+                endpoints.add(endpoint);
+            }
+            TenantDeployConfig config = new TenantDeployConfig();
+            config.setTenantId("tenant-" + i);
+            config.setNetworkEndpoints(endpoints);
+            configs.add(config);
+        }
+    }
+
+    @Benchmark
+    public ValidationSummary validateAll() {
+        return chain.validateAll(configs);
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(ValidationChainBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,123 @@
+package xyz.firestige.deploy.infrastructure.validation;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.deploy.application.validation.ConflictValidator;
+import xyz.firestige.deploy.domain.shared.validation.ValidationError;
+import xyz.firestige.deploy.domain.shared.validation.ValidationSummary;
+import xyz.firestige.deploy.infrastructure.validation.validator.NetworkEndpointValidator;
+import xyz.firestige.deploy.infrastructure.validation.validator.TenantIdValidator;
+import xyz.firestige.dto.deploy.TenantDeployConfig;
+import xyz.firestige.entity.deploy.NetworkEndpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ValidationChain 批量校验单元测试
+ */
+class ValidationChainTest {
+
+    private static TenantDeployConfig config(String tenantId, String sourceIp, String targetDomain) {
+        NetworkEndpoint endpoint = new NetworkEndpoint();
+        endpoint.setKey("sip");
+        endpoint.setSourceIp(sourceIp);
+        endpoint.setTargetDomain(targetDomain);
+        TenantDeployConfig config = new TenantDeployConfig();
+        config.setTenantId(tenantId);
+        config.setNetworkEndpoints(List.of(endpoint));
+        return config;
+    }
+
+    private static List<TenantDeployConfig> mixedConfigs(int count) {
+        List<TenantDeployConfig> configs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            switch (i % 5) {
+                case 1 -> configs.add(config("t" + i, "10.0.0.256", "gw.example.com"));
+                case 2 -> configs.add(config("t" + i, "10.0.0.1", " "));
+                case 3 -> configs.add(config("bad id " + i, "1.2.3", "gw.example.com"));
+                default -> configs.add(config("t" + i, "10.0." + (i % 256) + ".1", "gw" + i + ".example.com"));
+            }
+        }
+        return configs;
+    }
+
+    private static ValidationChain chain(boolean failFast) {
+        return new ValidationChain(failFast)
+                .addValidator(new NetworkEndpointValidator())
+                .addValidator(new TenantIdValidator());
+    }
+
+    @Test
+    void testParallelResultMatchesPerConfigValidation() {
+        List<TenantDeployConfig> configs = mixedConfigs(ValidationChain.PARALLEL_THRESHOLD * 4);
+        for (boolean failFast : new boolean[]{false, true}) {
+            ValidationChain chain = chain(failFast);
+
+            ValidationSummary summary = chain.validateAll(configs);
+
+            List<TenantDeployConfig> expectedValid = new ArrayList<>();
+            for (TenantDeployConfig config : configs) {
+                var expected = chain.validate(config);
+                if (expected.isValid()) {
+                    expectedValid.add(config);
+                } else {
+                    assertEquals(messages(expected.getErrors()), messages(summary.getInvalidConfigs().get(config)));
+                }
+            }
+            assertEquals(expectedValid, summary.getValidConfigs());
+            assertEquals(configs.size(), summary.getTotalConfigs());
+            assertEquals(configs.size() - expectedValid.size(), summary.getInvalidCount());
+        }
+    }
+
+    @Test
+    void testFailFastStopsAtFirstFailingValidator() {
+        TenantDeployConfig config = config("bad id", "300.1.1.1", "gw.example.com");
+
+        ValidationSummary failFast = chain(true).validateAll(List.of(config));
+        ValidationSummary full = chain(false).validateAll(List.of(config));
+
+        assertEquals(List.of("租户 ID 只能包含字母、数字、下划线和中划线"),
+                messages(failFast.getInvalidConfigs().get(config)));
+        assertEquals(2, full.getInvalidConfigs().get(config).size());
+    }
+
+    @Test
+    void testConflictValidatorDetectsDuplicatesInLargeBatch() {
+        List<TenantDeployConfig> configs = new ArrayList<>(mixedConfigs(ValidationChain.PARALLEL_THRESHOLD * 2));
+        configs.add(config("t0", "10.0.0.1", "gw.example.com"));
+        ValidationChain chain = new ValidationChain().addValidator(new ConflictValidator());
+
+        ValidationSummary summary = chain.validateAll(configs);
+
+        assertEquals(1, summary.getInvalidCount());
+        assertTrue(summary.getInvalidConfigs().containsKey(configs.get(configs.size() - 1)));
+
+        // 批次状态在结束后清理，重复校验同一批次结果一致
+        assertEquals(1, chain.validateAll(configs).getInvalidCount());
+    }
+
+    @Test
+    void testAddressFormats() {
+        NetworkEndpointValidator validator = new NetworkEndpointValidator();
+        for (String ip : List.of("0.0.0.0", "255.255.255.255", "10.010.0.1")) {
+            assertTrue(validator.validate(config("t", ip, "gw.example.com")).isValid(), ip);
+        }
+        for (String ip : List.of("256.0.0.1", "1.2.3", "1.2.3.4.", "1..2.3", "+1.2.3.4", "a.b.c.d", "1.2.3.4.5")) {
+            assertFalse(validator.validate(config("t", ip, "gw.example.com")).isValid(), ip);
+        }
+        // 域名只要求非空，不校验格式
+        for (String domain : List.of("gw.example.com", "sip_gw-1.local", "-gw.example.com")) {
+            assertTrue(validator.validate(config("t", "10.0.0.1", domain)).isValid(), domain);
+        }
+        for (String domain : List.of("", " ")) {
+            assertFalse(validator.validate(config("t", "10.0.0.1", domain)).isValid(), domain);
+        }
+    }
+
+    private static List<String> messages(List<ValidationError> errors) {
+        return errors.stream().map(ValidationError::getMessage).toList();
+    }
+}
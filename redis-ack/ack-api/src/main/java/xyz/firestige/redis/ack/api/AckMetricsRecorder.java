@@ -18,6 +18,19 @@ public interface AckMetricsRecorder {
      */
     void record(AckResult result);
 
+    /**
+     * 记录一次 ACK 执行结果，并标注校验端点
+     * <p>
+     * 默认忽略端点直接委托 {@link #record(AckResult)}；分阶段耗时见 {@link AckResult#getPhaseDurations()}
+     *
+     * @param result ACK 执行结果
+     * @param endpoint 校验端点标识（如网关 host:port 集合），未知时为 null
+     * @since 2.1
+     */
+    default void record(AckResult result, String endpoint) {
+        record(result);
+    }
+
     /**
      * 空操作实现（默认）
      *
@@ -0,0 +1,24 @@
+package xyz.firestige.redis.ack.api;
+
+/**
+ * ACK 执行阶段（用于分阶段耗时统计）
+ *
+ * @since 2.1
+ */
+public enum AckPhase {
+
+    /**
+     * 写入 Redis（含序列化与通知消息构建；TTL 与 PUBLISH 在同一管道往返中提交，Redis 耗时都计入此阶段）
+     */
+    WRITE,
+
+    /**
+     * 首次校验请求（查询端点 + 提取版本）
+     */
+    FIRST_VERIFY,
+
+    /**
+     * 发布 → 校验成功（含首探等待与重试间隔，仅成功时记录）
+     */
+    CONVERGE
+}
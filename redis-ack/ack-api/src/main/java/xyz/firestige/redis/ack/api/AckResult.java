@@ -1,6 +1,9 @@
 package xyz.firestige.redis.ack.api;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * ACK 执行结果
@@ -12,6 +15,8 @@ import java.time.Duration;
  *   <li>新增 isVersionTagMismatch() 方法</li>
  * </ul>
  *
+ * <p><b>版本 2.1 更新</b>：新增分阶段耗时（{@link #getPhaseDurations()}）
+ *
  * @author AI
  * @since 1.0
  */
@@ -33,9 +38,16 @@ public class AckResult {
     private final Duration elapsed;
     private final String reason;
     private final Throwable error;
+    private final Map<AckPhase, Duration> phaseDurations;
 
     private AckResult(boolean success, String expectedVersionTag, String actualVersionTag,
                      int attempts, Duration elapsed, String reason, Throwable error) {
+        this(success, expectedVersionTag, actualVersionTag, attempts, elapsed, reason, error, Collections.emptyMap());
+    }
+
+    private AckResult(boolean success, String expectedVersionTag, String actualVersionTag,
+                     int attempts, Duration elapsed, String reason, Throwable error,
+                     Map<AckPhase, Duration> phaseDurations) {
         this.success = success;
         // 新字段
         this.expectedVersionTag = expectedVersionTag;
@@ -47,6 +59,7 @@ public class AckResult {
         this.elapsed = elapsed;
         this.reason = reason;
         this.error = error;
+        this.phaseDurations = phaseDurations;
     }
 
     // ========== Status Getters ==========
@@ -148,6 +161,41 @@ public class AckResult {
         return error;
     }
 
+    /**
+     * 获取各阶段耗时（只包含实际执行到的阶段）
+     *
+     * @return 不可变的阶段耗时
+     * @since 2.1
+     */
+    public Map<AckPhase, Duration> getPhaseDurations() {
+        return phaseDurations;
+    }
+
+    /**
+     * 获取指定阶段耗时
+     *
+     * @param phase 阶段
+     * @return 耗时，未执行到该阶段时为 null
+     * @since 2.1
+     */
+    public Duration getPhaseDuration(AckPhase phase) {
+        return phaseDurations.get(phase);
+    }
+
+    /**
+     * 附带分阶段耗时的副本
+     *
+     * @param phaseDurations 阶段耗时
+     * @return 新结果（其余字段不变）
+     * @since 2.1
+     */
+    public AckResult withPhaseDurations(Map<AckPhase, Duration> phaseDurations) {
+        Map<AckPhase, Duration> copy = phaseDurations.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new EnumMap<>(phaseDurations));
+        return new AckResult(success, expectedVersionTag, actualVersionTag, attempts, elapsed, reason, error, copy);
+    }
+
     // ========== Factory Methods（新 API）==========
 
     /**
@@ -216,6 +264,7 @@ public class AckResult {
                 ", attempts=" + attempts +
                 ", elapsed=" + elapsed +
                 ", reason='" + reason + '\'' +
+                ", phases=" + phaseDurations +
                 '}';
     }
 }
@@ -1,10 +1,16 @@
 package xyz.firestige.redis.ack.api;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * HTTP 客户端抽象接口
  *
  * <p>用于隔离 ack-core 对具体 HTTP 客户端实现的依赖
  *
+ * <p>异步方法默认在调用线程上同步执行；非阻塞实现应覆盖异步方法并让
+ * {@link #isNonBlocking()} 返回 true，以便多端点并发验证直接复用其连接池，
+ * 而无需为每个请求占用一个线程。
+ *
  * @author AI
  * @since 1.0
  */
@@ -28,5 +34,43 @@ public interface HttpClient {
      * @throws HttpClientException 请求失败时抛出
      */
     HttpResponse post(String url, String body) throws HttpClientException;
+
+    /**
+     * 异步执行 HTTP GET 请求
+     *
+     * @param url 请求 URL
+     * @return HTTP 响应 Future，失败时以 HttpClientException 异常完成
+     */
+    default CompletableFuture<HttpResponse> getAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(get(url));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 异步执行 HTTP POST 请求
+     *
+     * @param url 请求 URL
+     * @param body 请求体（JSON 格式）
+     * @return HTTP 响应 Future，失败时以 HttpClientException 异常完成
+     */
+    default CompletableFuture<HttpResponse> postAsync(String url, String body) {
+        try {
+            return CompletableFuture.completedFuture(post(url, body));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 异步方法是否为真正的非阻塞实现
+     *
+     * @return true 表示 getAsync/postAsync 不阻塞调用线程
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
 }
 
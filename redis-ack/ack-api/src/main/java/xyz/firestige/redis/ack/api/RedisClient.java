@@ -1,7 +1,9 @@
 package xyz.firestige.redis.ack.api;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Redis 客户端抽象接口
@@ -13,6 +15,8 @@ import java.util.Map;
  *   <li>新增 {@link #hmset(String, Map)} 支持多字段原子写入</li>
  * </ul>
  *
+ * <p><b>版本 2.1 更新</b>：新增 {@link #pipeline(Consumer)} 批量提交多条命令
+ *
  * <h3>设计目标</h3>
  * <ul>
  *   <li>抽象 Redis 操作，核心逻辑不依赖具体客户端</li>
@@ -123,5 +127,35 @@ public interface RedisClient {
      * @param message 消息内容
      */
     void publish(String channel, String message);
+
+    /**
+     * 管道批量操作 - 在一次网络往返中提交多条命令
+     *
+     * <p>回调中对传入客户端的调用按顺序排队，回调结束后一次性发送并等待全部完成。
+     * 命令按提交顺序在同一连接上执行（如先写入再 PUBLISH），但不是事务，某条命令失败不影响其他命令。
+     *
+     * <p>单条命令失败不抛出异常，而是在结果中该命令的位置返回其异常，由调用方决定哪些失败可以容忍；
+     * 成功且只返回状态（如 HMSET 的 OK）的命令可能不占结果位置，有返回值的命令（如 PUBLISH）总占一个位置。
+     * 整个管道无法提交或等待超时时抛出异常。
+     *
+     * <p>示例:
+     * <pre>{@code
+     * List<Object> results = redisClient.pipeline(pipe -> {
+     *     pipe.hset("deployment:tenant:123", "config", configJson);
+     *     pipe.expire("deployment:tenant:123", Duration.ofHours(1));
+     *     pipe.publish("deployment:changed", "tenant:123");
+     * });
+     * }</pre>
+     *
+     * <p>默认实现逐条执行（无管道），命令失败时在调用处直接抛出异常并返回空列表，实现类应按底层客户端能力覆盖。
+     *
+     * @param commands 在管道客户端上执行的命令（不要读取返回值或嵌套管道）
+     * @return 各命令的结果（按提交顺序，失败的命令为其异常）
+     * @since 2.1
+     */
+    default List<Object> pipeline(Consumer<RedisClient> commands) {
+        commands.accept(this);
+        return List.of();
+    }
 }
 
@@ -22,5 +22,37 @@ public interface RetryStrategy {
      * @return 延迟时间，null 表示停止重试
      */
     Duration nextDelay(int attempt, Throwable lastError, AckContext context);
+
+    /**
+     * 首次探测前的等待时间（发布完成后调用一次）
+     *
+     * @param context ACK 上下文
+     * @return 等待时间，默认立即探测
+     * @since 2.1
+     */
+    default Duration initialDelay(AckContext context) {
+        return Duration.ZERO;
+    }
+
+    /**
+     * 版本不匹配时是否视为尚未收敛并继续重试
+     * <p>
+     * 默认 false：首次拿到的版本即为最终结果，不匹配直接返回 MISMATCH
+     *
+     * @since 2.1
+     */
+    default boolean retryOnMismatch() {
+        return false;
+    }
+
+    /**
+     * 校验成功回调
+     *
+     * @param convergence 从发布完成到校验成功的耗时
+     * @param context ACK 上下文
+     * @since 2.1
+     */
+    default void onConverged(Duration convergence, AckContext context) {
+    }
 }
 
@@ -76,6 +76,18 @@ public interface VerifyStageBuilder {
      */
     VerifyStageBuilder extractRegex(String pattern);
 
+    /**
+     * 使用正则表达式从响应的前 scanLimit 个字符中提取 footprint
+     * <p>
+     * 适用于版本号位于响应开头的大响应体，窗口内未命中视为提取失败
+     *
+     * @param pattern 正则表达式
+     * @param scanLimit 最多扫描的字符数（0 表示扫描全文）
+     * @return this
+     * @since 2.1
+     */
+    VerifyStageBuilder extractRegex(String pattern, int scanLimit);
+
     /**
      * 使用自定义函数提取 footprint
      *
@@ -121,6 +133,18 @@ public interface VerifyStageBuilder {
      */
     VerifyStageBuilder retryCustom(BiFunction<Integer, Throwable, Duration> retryDecider);
 
+    /**
+     * 使用自适应重试（按端点历史收敛时间调度探测，版本不匹配视为尚未收敛）
+     * <p>
+     * 未配置收敛统计时等价于直接使用 fallback
+     *
+     * @param endpointKey 端点标识（收敛时间按此 Key 统计，如网关实例集合）
+     * @param fallback 历史不足或超出观测窗口时使用的策略
+     * @return this
+     * @since 2.1
+     */
+    VerifyStageBuilder retryAdaptive(String endpointKey, RetryStrategy fallback);
+
     // ========== 超时配置 ==========
 
     /**
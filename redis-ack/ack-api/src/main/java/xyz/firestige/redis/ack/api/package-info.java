@@ -21,6 +21,7 @@
  *   <li>{@link xyz.firestige.redis.ack.api.AckResult} - 执行结果</li>
  *   <li>{@link xyz.firestige.redis.ack.api.AckContext} - 执行上下文</li>
  *   <li>{@link xyz.firestige.redis.ack.api.RedisOperation} - Redis 操作类型枚举</li>
+ *   <li>{@link xyz.firestige.redis.ack.api.AckPhase} - 执行阶段枚举（分阶段耗时）</li>
  * </ul>
  *
  * @author AI
@@ -0,0 +1,124 @@
+package xyz.firestige.redis.ack.core;
+
+import xyz.firestige.redis.ack.api.AckMetricsRecorder;
+import xyz.firestige.redis.ack.endpoint.VerifyPollCoalescer;
+import xyz.firestige.redis.ack.retry.ConvergenceTracker;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * ACK 构建器跨任务共享的协作对象
+ * <p>
+ * 由 RedisAckService 创建一次，传给每个 {@link WriteStageBuilderImpl}。
+ * 除指标记录器（默认 noop）外均可不设置，含义见各 Builder 方法。
+ *
+ * @since 2.1
+ */
+public final class AckCollaborators {
+
+    private final AckMetricsRecorder metricsRecorder;
+    private final ExecutorService executorService;
+    private final VerifyPollCoalescer pollCoalescer;
+    private final ConvergenceTracker convergenceTracker;
+    private final AckExecutor ackExecutor;
+
+    private AckCollaborators(Builder builder) {
+        this.metricsRecorder = builder.metricsRecorder != null ? builder.metricsRecorder : AckMetricsRecorder.noop();
+        this.executorService = builder.executorService;
+        this.pollCoalescer = builder.pollCoalescer;
+        this.convergenceTracker = builder.convergenceTracker;
+        this.ackExecutor = builder.ackExecutor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 以当前取值为起点构建新的协作对象
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .metricsRecorder(metricsRecorder)
+            .executorService(executorService)
+            .pollCoalescer(pollCoalescer)
+            .convergenceTracker(convergenceTracker)
+            .ackExecutor(ackExecutor);
+    }
+
+    public AckMetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public VerifyPollCoalescer getPollCoalescer() {
+        return pollCoalescer;
+    }
+
+    public ConvergenceTracker getConvergenceTracker() {
+        return convergenceTracker;
+    }
+
+    public AckExecutor getAckExecutor() {
+        return ackExecutor;
+    }
+
+    public static final class Builder {
+
+        private AckMetricsRecorder metricsRecorder;
+        private ExecutorService executorService;
+        private VerifyPollCoalescer pollCoalescer;
+        private ConvergenceTracker convergenceTracker;
+        private AckExecutor ackExecutor;
+
+        private Builder() {
+        }
+
+        /**
+         * 指标记录器（为 null 时不记录）
+         */
+        public Builder metricsRecorder(AckMetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        /**
+         * 多端点并发校验使用的线程池（阻塞 HttpClient 调用 httpGetMultiple 时必需）
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * 跨任务共享的 Verify 轮询合并器（为 null 时不合并）
+         */
+        public Builder pollCoalescer(VerifyPollCoalescer pollCoalescer) {
+            this.pollCoalescer = pollCoalescer;
+            return this;
+        }
+
+        /**
+         * 跨任务共享的收敛时间统计（为 null 时 retryAdaptive 退化为回退策略）
+         */
+        public Builder convergenceTracker(ConvergenceTracker convergenceTracker) {
+            this.convergenceTracker = convergenceTracker;
+            return this;
+        }
+
+        /**
+         * 跨任务复用的执行器（为 null 时每个构建器按 RedisClient 创建，使用默认异步线程池）
+         */
+        public Builder ackExecutor(AckExecutor ackExecutor) {
+            this.ackExecutor = ackExecutor;
+            return this;
+        }
+
+        public AckCollaborators build() {
+            return new AckCollaborators(this);
+        }
+    }
+}
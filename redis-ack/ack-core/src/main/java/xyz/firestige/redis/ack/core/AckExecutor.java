@@ -4,19 +4,35 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import xyz.firestige.redis.ack.api.AckContext;
+import xyz.firestige.redis.ack.api.AckPhase;
 import xyz.firestige.redis.ack.api.AckResult;
 import xyz.firestige.redis.ack.api.RedisClient;
 import xyz.firestige.redis.ack.api.RedisOperation;
+import xyz.firestige.redis.ack.api.RetryStrategy;
 import xyz.firestige.redis.ack.core.exception.AckExecutionException;
+import xyz.firestige.redis.ack.endpoint.VerifyPollCoalescer;
 import xyz.firestige.redis.ack.exception.AckTimeoutException;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * ACK 执行器
  * <p>
- * 协调 Write → Pub/Sub → Verify 三阶段的执行
+ * 协调 Write → Pub/Sub → Verify 三阶段的执行，并在结果中附带分阶段耗时（见 {@link AckPhase}）
+ * <p>
+ * 无状态、线程安全，应在多次执行间复用。异步执行使用有界线程池（重试等待会阻塞线程，
+ * 不能放到 {@code ForkJoinPool.commonPool}）。
  *
  * @author AI
  * @since 1.0
@@ -24,12 +40,28 @@ import java.time.Instant;
 public class AckExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(AckExecutor.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final PayloadSerializer serializer = new PayloadSerializer(new ObjectMapper());
 
     private final RedisClient redisClient;
+    private final Executor asyncExecutor;
 
     public AckExecutor(RedisClient redisClient) {
+        this(redisClient, null);
+    }
+
+    /**
+     * @param asyncExecutor {@link #executeAsync} 使用的有界线程池（为 null 时使用共享的默认线程池）
+     */
+    public AckExecutor(RedisClient redisClient, Executor asyncExecutor) {
         this.redisClient = redisClient;
+        this.asyncExecutor = asyncExecutor != null ? asyncExecutor : DefaultAsyncExecutor.INSTANCE;
+    }
+
+    /**
+     * 在异步线程池上执行完整的 ACK 流程
+     */
+    public CompletableFuture<AckResult> executeAsync(AckTask task) {
+        return CompletableFuture.supplyAsync(() -> execute(task), asyncExecutor);
     }
 
     /**
@@ -38,121 +70,169 @@ public class AckExecutor {
     public AckResult execute(AckTask task) {
         Instant startTime = Instant.now();
         AckContext context = new AckContext(task.getTaskId());
+        Map<AckPhase, Duration> phases = new EnumMap<>(AckPhase.class);
 
         try {
             log.debug("[ACK] 开始执行任务: {}", task.getTaskId());
 
-            // 1️⃣ Write Phase
-            log.debug("[ACK] Phase 1: Write to Redis");
-            String footprint = writeToRedis(task, context);
+            // 1️⃣ 2️⃣ Write + Publish Phase：写入、TTL、通知在一次管道往返中提交
+            log.debug("[ACK] Phase 1/2: Write to Redis and publish (pipelined)");
+            long phaseStart = System.nanoTime();
+            String footprint = writeToRedis(task, context, buildNotification(task));
             context.setFootprint(footprint);
+            // 此后发起的校验请求才能反映本次写入，供跨任务轮询合并判断新鲜度
+            long publishedAt = System.nanoTime();
+            phases.put(AckPhase.WRITE, Duration.ofNanos(publishedAt - phaseStart));
+            context.setAttribute(VerifyPollCoalescer.NOT_BEFORE_ATTRIBUTE, publishedAt);
             log.debug("[ACK] Footprint extracted: {}", footprint);
 
-            // 2️⃣ Pub/Sub Phase
-            log.debug("[ACK] Phase 2: Publish to Pub/Sub");
-            publishNotification(task, context);
-
             // 3️⃣ Verify Phase
             log.debug("[ACK] Phase 3: Verify with retry");
-            String actualFootprint = verifyWithRetry(task, context);
+            String actualFootprint = verifyWithRetry(task, context, footprint, phases);
 
             // 比对
             Duration elapsed = Duration.between(startTime, Instant.now());
             int attempts = (int) context.getAttribute("attempts");
 
             if (footprint.equals(actualFootprint)) {
+                Duration convergence = Duration.ofNanos(System.nanoTime() - publishedAt);
+                phases.put(AckPhase.CONVERGE, convergence);
+                task.getRetryStrategy().onConverged(convergence, context);
                 log.info("[ACK] 验证成功: taskId={}, footprint={}, attempts={}, elapsed={}ms",
                         task.getTaskId(), footprint, attempts, elapsed.toMillis());
-                return AckResult.success(footprint, actualFootprint, attempts, elapsed);
+                return AckResult.success(footprint, actualFootprint, attempts, elapsed)
+                        .withPhaseDurations(phases);
             } else {
                 log.warn("[ACK] Footprint 不匹配: expected={}, actual={}", footprint, actualFootprint);
-                return AckResult.mismatch(footprint, actualFootprint, attempts, elapsed);
+                return AckResult.mismatch(footprint, actualFootprint, attempts, elapsed)
+                        .withPhaseDurations(phases);
             }
 
         } catch (AckTimeoutException e) {
             Duration elapsed = Duration.between(startTime, Instant.now());
-            int attempts = (int) context.getAttribute("attempts");
+            int attempts = attempts(context);
             log.error("[ACK] 验证超时: taskId={}, attempts={}", task.getTaskId(), attempts);
-            return AckResult.timeout(context.getFootprint(), attempts, elapsed);
+            return AckResult.timeout(context.getFootprint(), attempts, elapsed).withPhaseDurations(phases);
 
         } catch (Exception e) {
             Duration elapsed = Duration.between(startTime, Instant.now());
-            int attempts = (int) context.getAttribute("attempts");
+            int attempts = attempts(context);
             log.error("[ACK] 执行失败: taskId=" + task.getTaskId(), e);
-            return AckResult.error(context.getFootprint(), attempts, elapsed, e);
+            return AckResult.error(context.getFootprint(), attempts, elapsed, e).withPhaseDurations(phases);
         }
     }
 
     /**
-     * 写入 Redis（支持多字段模式）
+     * 已进行的校验次数（写入阶段失败时尚未校验，为 0）
      */
-    private String writeToRedis(AckTask task, AckContext context) {
-        try {
-            String versionTag;
+    private static int attempts(AckContext context) {
+        Object attempts = context.getAttribute("attempts");
+        return attempts != null ? (int) attempts : 0;
+    }
 
+    /**
+     * 写入 Redis（支持多字段模式），TTL 与通知在同一管道中提交
+     * <p>
+     * 写入或 TTL 失败时整体失败；PUBLISH 失败只记录警告（Pub/Sub 失败不中断流程）
+     *
+     * @param message 通知消息，为 null 时不发布
+     */
+    private String writeToRedis(AckTask task, AckContext context, String message) {
+        PreparedWrite write;
+        List<Object> results;
+        try {
             // Phase 2: 判断是否多字段模式
-            if (task.isMultiFieldMode()) {
-                // 多字段模式：使用 HMSET
-                versionTag = writeMultiField(task);
-            } else {
-                // 单字段模式：原有逻辑
-                versionTag = writeSingleField(task);
-            }
+            write = task.isMultiFieldMode()
+                ? prepareMultiField(task)   // 多字段模式：使用 HMSET
+                : prepareSingleField(task); // 单字段模式：原有逻辑
 
-            // 设置 TTL（如果有）
-            if (task.getTtl() != null) {
-                redisClient.expire(task.getKey(), task.getTtl());
-                log.debug("[ACK] Set TTL: {} ms", task.getTtl().toMillis());
-            }
+            results = redisClient.pipeline(pipe -> {
+                write.command().accept(pipe);
+
+                // 设置 TTL（如果有）
+                if (task.getTtl() != null) {
+                    pipe.expire(task.getKey(), task.getTtl());
+                    log.debug("[ACK] Set TTL: {} ms", task.getTtl().toMillis());
+                }
 
-            return versionTag;
+                // PUBLISH 必须最后排队，见 checkPipelineResults
+                if (message != null) {
+                    publishNotification(pipe, task, message);
+                }
+            });
 
         } catch (Exception e) {
             throw new AckExecutionException("Failed to write to Redis", e);
         }
+        checkPipelineResults(task, results, message != null);
+        return write.versionTag();
+    }
+
+    /**
+     * 检查管道中各命令的结果
+     * <p>
+     * PUBLISH 排在最后且总有返回值（订阅者数量），结果末尾为异常即发布失败，只记录警告；
+     * 其他位置的异常来自写入或 TTL，整体失败。
+     */
+    private void checkPipelineResults(AckTask task, List<Object> results, boolean published) {
+        int last = results.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            if (!(results.get(i) instanceof Throwable error)) {
+                continue;
+            }
+            if (published && i == last) {
+                log.warn("[ACK] Pub/Sub failed (continuing): topic={}, error={}",
+                        task.getTopic(), error.getMessage());
+            } else {
+                throw new AckExecutionException("Failed to write to Redis", error);
+            }
+        }
+    }
+
+    /**
+     * 已提取 versionTag、已序列化的写入命令
+     */
+    private record PreparedWrite(String versionTag, Consumer<RedisClient> command) {
     }
 
     /**
      * 单字段模式写入（原有逻辑）
      */
-    private String writeSingleField(AckTask task) throws Exception {
+    private PreparedWrite prepareSingleField(AckTask task) throws Exception {
         // 提取 versionTag
         String versionTag = task.getFootprintExtractor().extract(task.getValue());
 
         // 序列化 value
         String valueStr = serializeValue(task.getValue());
+        String preview = valueStr.substring(0, Math.min(50, valueStr.length()));
 
         // 根据操作类型写入
         RedisOperation operation = task.getOperation();
+        Consumer<RedisClient> command;
         if (operation == RedisOperation.HSET) {
-            redisClient.hset(task.getKey(), task.getField(), valueStr);
-            log.debug("[ACK] HSET {} {} {}", task.getKey(), task.getField(),
-                valueStr.substring(0, Math.min(50, valueStr.length())));
+            command = pipe -> pipe.hset(task.getKey(), task.getField(), valueStr);
+            log.debug("[ACK] HSET {} {} {}", task.getKey(), task.getField(), preview);
         } else if (operation == RedisOperation.SET) {
-            redisClient.set(task.getKey(), valueStr);
-            log.debug("[ACK] SET {} {}", task.getKey(),
-                valueStr.substring(0, Math.min(50, valueStr.length())));
+            command = pipe -> pipe.set(task.getKey(), valueStr);
+            log.debug("[ACK] SET {} {}", task.getKey(), preview);
         } else if (operation == RedisOperation.LPUSH) {
-            redisClient.lpush(task.getKey(), valueStr);
-            log.debug("[ACK] LPUSH {} {}", task.getKey(),
-                valueStr.substring(0, Math.min(50, valueStr.length())));
+            command = pipe -> pipe.lpush(task.getKey(), valueStr);
+            log.debug("[ACK] LPUSH {} {}", task.getKey(), preview);
         } else if (operation == RedisOperation.SADD) {
-            redisClient.sadd(task.getKey(), valueStr);
-            log.debug("[ACK] SADD {} {}", task.getKey(),
-                valueStr.substring(0, Math.min(50, valueStr.length())));
+            command = pipe -> pipe.sadd(task.getKey(), valueStr);
+            log.debug("[ACK] SADD {} {}", task.getKey(), preview);
         } else if (operation == RedisOperation.ZADD) {
             Double score = task.getZsetScore();
             if (score == null) {
                 throw new AckExecutionException("ZADD requires score");
             }
-            redisClient.zadd(task.getKey(), valueStr, score);
-            log.debug("[ACK] ZADD {} {} score={}", task.getKey(),
-                valueStr.substring(0, Math.min(50, valueStr.length())), score);
+            command = pipe -> pipe.zadd(task.getKey(), valueStr, score);
+            log.debug("[ACK] ZADD {} {} score={}", task.getKey(), preview, score);
         } else {
             throw new UnsupportedOperationException("Operation not yet supported: " + operation);
         }
 
-        return versionTag;
+        return new PreparedWrite(versionTag, command);
     }
 
     /**
@@ -160,7 +240,7 @@ public class AckExecutor {
      * <p>
      * 使用 HMSET 原子写入多个 fields
      */
-    private String writeMultiField(AckTask task) throws Exception {
+    private PreparedWrite prepareMultiField(AckTask task) throws Exception {
         // 1. 提取 versionTag
         String versionTag;
         if (task.getVersionTagSourceField() != null && task.getFieldLevelExtractor() != null) {
@@ -188,20 +268,34 @@ public class AckExecutor {
         }
 
         // 3. 原子批量写入（HMSET）
-        redisClient.hmset(task.getKey(), serializedFields);
         log.debug("[ACK] HMSET {} with {} fields (versionTag: {})",
             task.getKey(), serializedFields.size(), versionTag);
+        return new PreparedWrite(versionTag, pipe -> pipe.hmset(task.getKey(), serializedFields));
+    }
 
-        return versionTag;
+    /**
+     * 构建 Pub/Sub 通知消息，失败时返回 null（不发布）
+     */
+    private String buildNotification(AckTask task) {
+        try {
+            return task.getMessageBuilder().apply(task.getValue());
+        } catch (Exception e) {
+            // Pub/Sub 失败不中断流程，仅记录警告
+            log.warn("[ACK] Pub/Sub failed (continuing): topic={}, error={}",
+                    task.getTopic(), e.getMessage());
+            return null;
+        }
     }
 
     /**
      * 发布 Pub/Sub 通知
+     * <p>
+     * 逐条执行的客户端（{@link RedisClient#pipeline} 默认实现）在此直接抛出发布异常；
+     * 管道客户端的命令在提交时才执行，其发布失败由 {@link #checkPipelineResults} 从结果中识别。
      */
-    private void publishNotification(AckTask task, AckContext context) {
+    private void publishNotification(RedisClient pipe, AckTask task, String message) {
         try {
-            String message = task.getMessageBuilder().apply(task.getValue());
-            redisClient.publish(task.getTopic(), message);
+            pipe.publish(task.getTopic(), message);
             log.debug("[ACK] Published to topic {}: {}", task.getTopic(), message);
 
         } catch (Exception e) {
@@ -213,16 +307,35 @@ public class AckExecutor {
 
     /**
      * 带重试的验证
+     * <p>
+     * 查询或提取失败时按重试策略重试；策略声明 {@link RetryStrategy#retryOnMismatch()} 时，
+     * 版本不匹配同样视为尚未收敛继续重试，重试结束仍不匹配则返回最后一次的版本。
      */
-    private String verifyWithRetry(AckTask task, AckContext context) {
+    private String verifyWithRetry(AckTask task, AckContext context, String expected,
+                                   Map<AckPhase, Duration> phases) {
+        RetryStrategy strategy = task.getRetryStrategy();
         Instant deadline = Instant.now().plus(task.getTimeout());
         int attempt = 0;
-        Throwable lastError = null;
+        long lastAttemptAt = 0;
+
+        // 首次探测前等待（自适应策略按历史收敛时间推迟首探），最多等待超时的一半，保证至少探测一次
+        Duration initialDelay = strategy.initialDelay(context);
+        if (initialDelay != null && !initialDelay.isNegative() && !initialDelay.isZero()) {
+            Duration limit = task.getTimeout().dividedBy(2);
+            sleep(initialDelay.compareTo(limit) < 0 ? initialDelay : limit);
+        }
 
         while (Instant.now().isBefore(deadline)) {
             attempt++;
             context.setAttribute("attempts", attempt);
+            if (attempt > 1) {
+                // 重试只复用上次尝试之后发起的请求，避免拿回同一个失败结果
+                context.setAttribute(VerifyPollCoalescer.NOT_BEFORE_ATTRIBUTE, lastAttemptAt + 1);
+            }
+            lastAttemptAt = System.nanoTime();
 
+            String mismatch = null;
+            Exception error = null;
             try {
                 // 查询端点
                 String response = task.getEndpoint().query(context);
@@ -233,42 +346,54 @@ public class AckExecutor {
                 String actualFootprint = task.getResponseExtractor().apply(response);
                 log.debug("[ACK] Extracted footprint: {}", actualFootprint);
 
-                return actualFootprint;
+                if (!strategy.retryOnMismatch() || expected.equals(actualFootprint)) {
+                    return actualFootprint;
+                }
+                mismatch = actualFootprint;
+                log.debug("[ACK] Not converged yet (attempt {}): expected={}, actual={}",
+                        attempt, expected, actualFootprint);
 
             } catch (Exception e) {
-                lastError = e;
+                error = e;
                 log.debug("[ACK] Verify attempt {} failed: {}", attempt, e.getMessage());
+            } finally {
+                if (attempt == 1) {
+                    phases.put(AckPhase.FIRST_VERIFY, Duration.ofNanos(System.nanoTime() - lastAttemptAt));
+                }
+            }
 
-                // 询问重试策略
-                Duration nextDelay = task.getRetryStrategy().nextDelay(attempt, e, context);
+            // 询问重试策略
+            Duration nextDelay = strategy.nextDelay(attempt, error, context);
 
-                if (nextDelay == null) {
-                    log.warn("[ACK] Retry strategy stopped after {} attempts", attempt);
-                    throw new AckExecutionException("Verification failed after " + attempt + " attempts", e);
+            if (nextDelay == null) {
+                log.warn("[ACK] Retry strategy stopped after {} attempts", attempt);
+                if (mismatch != null) {
+                    return mismatch;
                 }
+                throw new AckExecutionException("Verification failed after " + attempt + " attempts", error);
+            }
 
-                // 检查是否会超时
-                if (Instant.now().plus(nextDelay).isAfter(deadline)) {
-                    log.warn("[ACK] Next retry would exceed timeout");
-                    throw new AckTimeoutException("Timeout after " + attempt + " attempts");
+            // 检查是否会超时
+            if (Instant.now().plus(nextDelay).isAfter(deadline)) {
+                log.warn("[ACK] Next retry would exceed timeout");
+                if (mismatch != null) {
+                    return mismatch;
                 }
-
-                // 等待后重试
-                sleep(nextDelay);
+                throw new AckTimeoutException("Timeout after " + attempt + " attempts");
             }
+
+            // 等待后重试
+            sleep(nextDelay);
         }
 
         throw new AckTimeoutException("Timeout after " + attempt + " attempts");
     }
 
     /**
-     * 序列化值为字符串
+     * 序列化值为字符串（同一值对象只序列化一次，见 {@link PayloadSerializer}）
      */
     private String serializeValue(Object value) throws Exception {
-        if (value instanceof String) {
-            return (String) value;
-        }
-        return objectMapper.writeValueAsString(value);
+        return serializer.serialize(value);
     }
 
     /**
@@ -282,4 +407,30 @@ public class AckExecutor {
             throw new AckExecutionException("Sleep interrupted", e);
         }
     }
+
+    /**
+     * 未注入线程池时的默认异步线程池（懒加载，守护线程，队列满时由调用方执行）
+     */
+    private static final class DefaultAsyncExecutor {
+
+        private static final int QUEUE_CAPACITY = 1024;
+
+        static final ThreadPoolExecutor INSTANCE = create();
+
+        private static ThreadPoolExecutor create() {
+            int size = Math.max(4, Runtime.getRuntime().availableProcessors());
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ack-async-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
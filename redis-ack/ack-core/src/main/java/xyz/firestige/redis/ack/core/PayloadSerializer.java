@@ -0,0 +1,110 @@
+package xyz.firestige.redis.ack.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ACK 负载序列化器
+ * <p>
+ * 使用预构建的 {@link ObjectWriter} 序列化，并按值对象<b>身份</b>缓存结果（弱引用，值对象被回收后条目自动清理）：
+ * 同一个配置对象在阶段重试、重复写入时只序列化一次。
+ * <p>
+ * 约定：值对象交给 ACK 写入后不应再修改，修改后的对象不会重新序列化；需要变更时构建新对象，
+ * 或直接传入序列化好的字符串。字符串、数字、布尔值、枚举不缓存（字符串原样返回）。
+ * <p>
+ * 线程安全。
+ */
+final class PayloadSerializer {
+
+    private final ObjectWriter writer;
+    private final ConcurrentMap<IdentityKey, String> cache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+
+    PayloadSerializer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    String serialize(Object value) throws JsonProcessingException {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (!isCacheable(value)) {
+            return writer.writeValueAsString(value);
+        }
+        purge();
+        String cached = cache.get(new IdentityKey(value, null));
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        String serialized = writer.writeValueAsString(value);
+        cache.put(new IdentityKey(value, collected), serialized);
+        return serialized;
+    }
+
+    long getCacheHits() {
+        return hits.sum();
+    }
+
+    int getCacheSize() {
+        purge();
+        return cache.size();
+    }
+
+    private static boolean isCacheable(Object value) {
+        return value != null
+            && !(value instanceof Number)
+            && !(value instanceof Boolean)
+            && !(value instanceof Character)
+            && !(value instanceof Enum);
+    }
+
+    /**
+     * 清理值对象已被回收的条目
+     */
+    private void purge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    /**
+     * 按身份比较的弱引用 Key（查找时使用不入队的临时 Key）
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+}
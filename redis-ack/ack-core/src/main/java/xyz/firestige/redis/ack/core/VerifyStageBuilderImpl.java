@@ -1,10 +1,13 @@
 package xyz.firestige.redis.ack.core;
 
 import xyz.firestige.redis.ack.api.*;
+import xyz.firestige.redis.ack.endpoint.EndpointKeys;
 import xyz.firestige.redis.ack.endpoint.HttpGetEndpoint;
 import xyz.firestige.redis.ack.endpoint.HttpPostEndpoint;
+import xyz.firestige.redis.ack.endpoint.VerifyPollCoalescer;
 import xyz.firestige.redis.ack.extractor.JsonFieldExtractor;
 import xyz.firestige.redis.ack.extractor.RegexFootprintExtractor;
+import xyz.firestige.redis.ack.retry.ConvergenceTracker;
 import xyz.firestige.redis.ack.retry.ExponentialBackoffRetryStrategy;
 import xyz.firestige.redis.ack.retry.FixedDelayRetryStrategy;
 
@@ -30,6 +33,7 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
 
     // Verify 配置
     private AckEndpoint endpoint;
+    private String endpointTag; // 指标端点标识（host:port 集合），自定义端点为 null
     private Function<String, String> responseExtractor;
     private RetryStrategy retryStrategy;
     private Duration timeout = Duration.ofSeconds(60); // 默认超时
@@ -41,29 +45,33 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
 
     @Override
     public VerifyStageBuilder httpGet(String url) {
-        this.endpoint = new HttpGetEndpoint(url, writeStage.getHttpClient());
+        this.endpoint = new HttpGetEndpoint(url, writeStage.getHttpClient(), writeStage.getPollCoalescer());
+        this.endpointTag = EndpointKeys.of(List.of(url));
         return this;
     }
 
     @Override
     public VerifyStageBuilder httpGetMultiple(List<String> urls) {
+        HttpClient httpClient = writeStage.getHttpClient();
         ExecutorService executorService = writeStage.getExecutorService();
-        if (executorService == null) {
+        VerifyPollCoalescer coalescer = writeStage.getPollCoalescer();
+        // 非阻塞客户端直接复用其连接池异步发起请求，无需额外线程池
+        boolean nonBlocking = httpClient.isNonBlocking();
+        if (!nonBlocking && executorService == null) {
             throw new IllegalStateException("ExecutorService is required for httpGetMultiple. Please configure ack-verify executor.");
         }
 
+        List<HttpGetEndpoint> endpoints = urls.stream()
+            .map(url -> new HttpGetEndpoint(url, httpClient, coalescer))
+            .collect(java.util.stream.Collectors.toList());
+        this.endpointTag = EndpointKeys.of(urls);
+
         // 创建匿名 AckEndpoint 实现，内部并发调用多个 HttpGetEndpoint
         this.endpoint = (context) -> {
-            // 为每个 URL 创建一个 HttpGetEndpoint
-            List<CompletableFuture<String>> futures = urls.stream()
-                .map(url -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        HttpGetEndpoint endpoint = new HttpGetEndpoint(url, writeStage.getHttpClient());
-                        return endpoint.query(context);
-                    } catch (Exception e) {
-                        throw new CompletionException("Failed to query URL: " + url, e);
-                    }
-                }, executorService))
+            List<CompletableFuture<String>> futures = endpoints.stream()
+                .map(endpoint -> nonBlocking
+                    ? endpoint.queryAsync(context)
+                    : CompletableFuture.supplyAsync(() -> endpoint.query(context), executorService))
                 .collect(java.util.stream.Collectors.toList());
 
             // 等待所有请求完成
@@ -95,27 +103,35 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
             writeStage.getHttpClient(),
             writeStage.getObjectMapper()
         );
+        this.endpointTag = EndpointKeys.of(List.of(url));
         return this;
     }
 
     @Override
     public VerifyStageBuilder endpoint(AckEndpoint endpoint) {
         this.endpoint = endpoint;
+        this.endpointTag = null;
         return this;
     }
 
     @Override
     public VerifyStageBuilder extractJson(String jsonPath) {
-        this.responseExtractor = response -> {
-            FootprintExtractor extractor = new JsonFieldExtractor(jsonPath, writeStage.getObjectMapper());
-            return extractor.extract(response);
-        };
+        // 提取器（含预编译路径）只创建一次，每次校验复用
+        FootprintExtractor extractor = new JsonFieldExtractor(jsonPath, writeStage.getObjectMapper());
+        this.responseExtractor = extractor::extract;
         return this;
     }
 
     @Override
     public VerifyStageBuilder extractRegex(String pattern) {
-        this.responseExtractor = response -> new RegexFootprintExtractor(pattern).extract(response);
+        return extractRegex(pattern, RegexFootprintExtractor.UNLIMITED);
+    }
+
+    @Override
+    public VerifyStageBuilder extractRegex(String pattern, int scanLimit) {
+        // 提取器（含缓存的 Pattern）只创建一次，每次校验复用
+        FootprintExtractor extractor = new RegexFootprintExtractor(pattern, 1, scanLimit);
+        this.responseExtractor = extractor::extract;
         return this;
     }
 
@@ -151,6 +167,13 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
         return this;
     }
 
+    @Override
+    public VerifyStageBuilder retryAdaptive(String endpointKey, RetryStrategy fallback) {
+        ConvergenceTracker tracker = writeStage.getConvergenceTracker();
+        this.retryStrategy = tracker != null ? tracker.strategy(endpointKey, fallback) : fallback;
+        return this;
+    }
+
     @Override
     public VerifyStageBuilder timeout(Duration timeout) {
         this.timeout = timeout;
@@ -165,8 +188,7 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
         AckTask task = buildTask();
 
         // 执行
-        AckExecutor executor = new AckExecutor(writeStage.getRedisClient());
-        return executor.execute(task);
+        return writeStage.getAckExecutor().execute(task);
     }
 
     @Override
@@ -174,9 +196,8 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
         validate();
 
         AckTask task = buildTask();
-        AckExecutor executor = new AckExecutor(writeStage.getRedisClient());
-
-        return CompletableFuture.supplyAsync(() -> executor.execute(task));
+        // 在有界的 ACK 线程池上执行，重试等待不占用 commonPool
+        return writeStage.getAckExecutor().executeAsync(task);
     }
 
     private void validate() {
@@ -221,6 +242,7 @@ public class VerifyStageBuilderImpl implements VerifyStageBuilder {
     public WriteStageBuilderImpl getWriteStage() { return writeStage; }
     public PubSubStageBuilderImpl getPubSubStage() { return pubSubStage; }
     public AckEndpoint getEndpoint() { return endpoint; }
+    public String getEndpointTag() { return endpointTag; }
     public Function<String, String> getResponseExtractor() { return responseExtractor; }
     public RetryStrategy getRetryStrategy() { return retryStrategy; }
     public Duration getTimeout() { return timeout; }
@@ -10,10 +10,12 @@ import xyz.firestige.redis.ack.api.RedisOperation;
 import xyz.firestige.redis.ack.api.WriteStageBuilder;
 import xyz.firestige.redis.ack.api.HashFieldsBuilder;
 import xyz.firestige.redis.ack.api.VersionTagExtractor;
+import xyz.firestige.redis.ack.endpoint.VerifyPollCoalescer;
 import xyz.firestige.redis.ack.extractor.FunctionFootprintExtractor;
 import xyz.firestige.redis.ack.extractor.FunctionVersionTagExtractor;
 import xyz.firestige.redis.ack.extractor.JsonFieldExtractor;
 import xyz.firestige.redis.ack.extractor.JsonFieldVersionTagExtractor;
+import xyz.firestige.redis.ack.retry.ConvergenceTracker;
 
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
@@ -30,8 +32,8 @@ public class WriteStageBuilderImpl implements WriteStageBuilder {
     private final RedisClient redisClient;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
-    private final AckMetricsRecorder metricsRecorder;
-    private final ExecutorService executorService; // 用于并发验证
+    private final AckCollaborators collaborators; // 跨任务共享的协作对象
+    private final AckExecutor ackExecutor; // 跨任务复用的执行器
 
     // Write 配置
     private String key;
@@ -68,11 +70,25 @@ public class WriteStageBuilderImpl implements WriteStageBuilder {
                                  ObjectMapper objectMapper,
                                  AckMetricsRecorder metricsRecorder,
                                  ExecutorService executorService) {
+        this(redisClient, httpClient, objectMapper, AckCollaborators.builder()
+            .metricsRecorder(metricsRecorder)
+            .executorService(executorService)
+            .build());
+    }
+
+    /**
+     * @param collaborators 跨任务共享的协作对象（未设置执行器时按 redisClient 创建，使用默认异步线程池）
+     */
+    public WriteStageBuilderImpl(RedisClient redisClient,
+                                 HttpClient httpClient,
+                                 ObjectMapper objectMapper,
+                                 AckCollaborators collaborators) {
         this.redisClient = redisClient;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
-        this.metricsRecorder = metricsRecorder;
-        this.executorService = executorService;
+        this.collaborators = collaborators;
+        this.ackExecutor = collaborators.getAckExecutor() != null
+            ? collaborators.getAckExecutor() : new AckExecutor(redisClient);
     }
 
     @Override
@@ -188,10 +204,13 @@ public class WriteStageBuilderImpl implements WriteStageBuilder {
     RedisClient getRedisClient() { return redisClient; }
     HttpClient getHttpClient() { return httpClient; }
     ObjectMapper getObjectMapper() { return objectMapper; }
-    ExecutorService getExecutorService() { return executorService; }
+    ExecutorService getExecutorService() { return collaborators.getExecutorService(); }
+    VerifyPollCoalescer getPollCoalescer() { return collaborators.getPollCoalescer(); }
+    ConvergenceTracker getConvergenceTracker() { return collaborators.getConvergenceTracker(); }
+    AckExecutor getAckExecutor() { return ackExecutor; }
     public WriteStageBuilder zsetScore(double score) { this.zsetScore = score; return this; }
     Double getZsetScore() { return zsetScore; }
-    AckMetricsRecorder getMetricsRecorder() { return metricsRecorder; }
+    AckMetricsRecorder getMetricsRecorder() { return collaborators.getMetricsRecorder(); }
 
     @Override
     public HashFieldsBuilder hashKey(String key) {
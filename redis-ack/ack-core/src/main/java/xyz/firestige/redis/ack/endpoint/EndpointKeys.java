@@ -0,0 +1,40 @@
+package xyz.firestige.redis.ack.endpoint;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * 端点标识工具
+ * <p>
+ * 将校验 URL 归一为 host:port 集合（去重排序，逗号分隔），同一批网关实例得到相同标识，
+ * 用作指标的端点 Tag 与收敛统计的 Key；路径、查询参数不参与，避免按租户膨胀。
+ *
+ * @since 2.1
+ */
+public final class EndpointKeys {
+
+    private EndpointKeys() {
+    }
+
+    /**
+     * @param urls 校验 URL
+     * @return host:port 集合；无法解析的 URL 原样保留
+     */
+    public static String of(Collection<String> urls) {
+        return urls.stream()
+            .map(EndpointKeys::authority)
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+
+    private static String authority(String url) {
+        try {
+            String authority = URI.create(url).getAuthority();
+            return authority != null ? authority : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
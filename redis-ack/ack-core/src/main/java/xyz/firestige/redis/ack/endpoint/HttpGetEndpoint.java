@@ -6,6 +6,8 @@ import xyz.firestige.redis.ack.api.HttpClient;
 import xyz.firestige.redis.ack.api.HttpResponse;
 import xyz.firestige.redis.ack.exception.AckEndpointException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * HTTP GET 端点实现
  *
@@ -16,16 +18,25 @@ public class HttpGetEndpoint implements AckEndpoint {
 
     private final String url;
     private final HttpClient httpClient;
+    private final VerifyPollCoalescer coalescer;
 
     public HttpGetEndpoint(String url, HttpClient httpClient) {
+        this(url, httpClient, null);
+    }
+
+    /**
+     * @param coalescer 跨任务共享的轮询合并器（可为 null，此时每次直接请求）
+     */
+    public HttpGetEndpoint(String url, HttpClient httpClient, VerifyPollCoalescer coalescer) {
         this.url = url;
         this.httpClient = httpClient;
+        this.coalescer = coalescer;
     }
 
     @Override
     public String query(AckContext context) throws AckEndpointException {
         try {
-            HttpResponse response = httpClient.get(url);
+            HttpResponse response = coalescer != null ? coalescer.get(url, context) : httpClient.get(url);
 
             if (!response.isSuccess()) {
                 throw new AckEndpointException("HTTP GET failed with status: " + response.getStatusCode());
@@ -37,5 +48,26 @@ public class HttpGetEndpoint implements AckEndpoint {
             throw new AckEndpointException("HTTP GET request failed: " + url, e);
         }
     }
+
+    /**
+     * 异步查询（依赖 HttpClient 的异步实现，非阻塞客户端不占用调用线程）
+     *
+     * @param context ACK 上下文
+     * @return 响应体 Future，失败时以 AckEndpointException 异常完成
+     */
+    public CompletableFuture<String> queryAsync(AckContext context) {
+        CompletableFuture<HttpResponse> future = coalescer != null
+            ? coalescer.getAsync(url, context)
+            : httpClient.getAsync(url);
+        return future.handle((response, error) -> {
+            if (error != null) {
+                throw new AckEndpointException("HTTP GET request failed: " + url, error);
+            }
+            if (!response.isSuccess()) {
+                throw new AckEndpointException("HTTP GET failed with status: " + response.getStatusCode());
+            }
+            return response.getBody();
+        });
+    }
 }
 
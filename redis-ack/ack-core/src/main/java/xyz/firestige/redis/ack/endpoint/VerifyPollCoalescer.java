@@ -0,0 +1,183 @@
+package xyz.firestige.redis.ack.endpoint;
+
+import xyz.firestige.redis.ack.api.AckContext;
+import xyz.firestige.redis.ack.api.HttpClient;
+import xyz.firestige.redis.ack.api.HttpResponse;
+import xyz.firestige.redis.ack.exception.AckEndpointException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verify 轮询合并器（跨租户共享）
+ * <p>
+ * 多个校验方并发轮询同一 URL 时，共享同一个在途请求及其响应；每个校验方用自己的提取器
+ * 与 versionTag 比对共享结果。成功响应在 {@code resultTtl} 内继续复用，失败响应不缓存。
+ * <p>
+ * 新鲜度约束：校验方只会复用<b>在其写入/发布之后才发起</b>的请求（见 {@link #NOT_BEFORE_ATTRIBUTE}），
+ * 不会拿到写入前的旧响应。上下文中没有该属性时按调用时刻处理，即不复用任何已有请求。
+ * <p>
+ * 线程安全，应作为单例在所有 ACK 任务间共享。
+ *
+ * @since 2.1
+ */
+public final class VerifyPollCoalescer {
+
+    /**
+     * AckContext 属性：允许复用的请求最早发起时间（{@link System#nanoTime()}），由执行器在发布后写入
+     */
+    public static final String NOT_BEFORE_ATTRIBUTE = "verifyNotBeforeNanos";
+
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private final HttpClient httpClient;
+    private final long resultTtlNanos;
+    private final ConcurrentMap<String, Poll> polls = new ConcurrentHashMap<>();
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * @param httpClient 实际发起请求的客户端
+     * @param resultTtl  成功响应的复用时长（ZERO 表示只合并在途请求）
+     */
+    public VerifyPollCoalescer(HttpClient httpClient, Duration resultTtl) {
+        this.httpClient = httpClient;
+        this.resultTtlNanos = resultTtl.toNanos();
+    }
+
+    /**
+     * 同步 GET：复用在途/新鲜的请求，否则由当前线程发起
+     */
+    public HttpResponse get(String url, AckContext context) {
+        Poll poll = acquire(url, notBefore(context));
+        if (poll.claim()) {
+            try {
+                poll.complete(httpClient.get(url));
+            } catch (Throwable e) {
+                poll.fail(e);
+            }
+        }
+        try {
+            return poll.future.join();
+        } catch (CompletionException e) {
+            throw new AckEndpointException("HTTP GET request failed: " + url, e.getCause());
+        }
+    }
+
+    /**
+     * 异步 GET：复用在途/新鲜的请求，否则通过客户端异步接口发起
+     */
+    public CompletableFuture<HttpResponse> getAsync(String url, AckContext context) {
+        Poll poll = acquire(url, notBefore(context));
+        if (poll.claim()) {
+            httpClient.getAsync(url).whenComplete((response, error) -> {
+                if (error != null) {
+                    poll.fail(error);
+                } else {
+                    poll.complete(response);
+                }
+            });
+        }
+        return poll.future;
+    }
+
+    /**
+     * 实际发起的请求数
+     */
+    public long getIssuedCount() {
+        return issued.sum();
+    }
+
+    /**
+     * 复用已有请求的次数
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    private Poll acquire(String url, long notBefore) {
+        if (polls.size() > PURGE_THRESHOLD) {
+            long now = System.nanoTime();
+            polls.values().removeIf(p -> p.isExpired(now));
+        }
+        return polls.compute(url, (key, current) -> {
+            if (current != null && current.isReusable(notBefore, System.nanoTime())) {
+                return current;
+            }
+            return new Poll(url, System.nanoTime());
+        });
+    }
+
+    private static long notBefore(AckContext context) {
+        Object value = context != null ? context.getAttribute(NOT_BEFORE_ATTRIBUTE) : null;
+        return value instanceof Long ? (Long) value : System.nanoTime();
+    }
+
+    /**
+     * 单个 URL 的一次请求
+     */
+    private final class Poll {
+
+        private final String url;
+        private final long startedAt;
+        private final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile long completedAt;
+
+        private Poll(String url, long startedAt) {
+            this.url = url;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 认领发起权：只有第一个认领者实际发起请求，其余等待共享结果
+         */
+        boolean claim() {
+            if (claimed.compareAndSet(false, true)) {
+                issued.increment();
+                return true;
+            }
+            shared.increment();
+            return false;
+        }
+
+        /**
+         * 请求在 notBefore 之后发起，且仍在途或成功完成未超过复用时长
+         */
+        boolean isReusable(long notBefore, long now) {
+            if (startedAt - notBefore < 0) {
+                return false;
+            }
+            if (!future.isDone()) {
+                return true;
+            }
+            return !isExpired(now);
+        }
+
+        /**
+         * 已完成且失败或超过复用时长
+         */
+        boolean isExpired(long now) {
+            return future.isDone() && (future.isCompletedExceptionally() || now - completedAt > resultTtlNanos);
+        }
+
+        void complete(HttpResponse response) {
+            completedAt = System.nanoTime();
+            if (!response.isSuccess()) {
+                // 非 2xx 不复用
+                polls.remove(url, this);
+            }
+            future.complete(response);
+        }
+
+        void fail(Throwable error) {
+            polls.remove(url, this);
+            future.completeExceptionally(error);
+        }
+    }
+}
@@ -5,6 +5,7 @@
  * <ul>
  *   <li>{@link xyz.firestige.redis.ack.endpoint.HttpGetEndpoint} - HTTP GET 请求</li>
  *   <li>{@link xyz.firestige.redis.ack.endpoint.HttpPostEndpoint} - HTTP POST 请求</li>
+ *   <li>{@link xyz.firestige.redis.ack.endpoint.EndpointKeys} - 端点标识（host:port 集合）</li>
  * </ul>
  * <p>
  * 使用者可实现 {@link xyz.firestige.redis.ack.api.AckEndpoint} 接口以支持其他协议。
@@ -0,0 +1,138 @@
+package xyz.firestige.redis.ack.extractor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import xyz.firestige.redis.ack.exception.VersionTagExtractionException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的 JSON 字段路径
+ * <p>
+ * 路径（{@code "field"} 或 {@code "$.a.b.c"}）只在编译时拆分一次；对 JSON 文本使用流式
+ * {@link JsonParser} 逐层匹配字段名，跳过无关子树，命中目标字段即停止，不构建整棵树。
+ * <p>
+ * 语义与 {@code readTree} + 逐层 {@code get} + {@code asText} 一致：只能穿越对象，
+ * 中间或目标为 null/缺失时报错；目标为字符串时直接返回文本，其余值只对该子树构建节点后取 {@code asText}。
+ * 差异：重复字段名取第一个（树模型取最后一个）；目标之后的 JSON 语法错误不再被发现。
+ * <p>
+ * 实例不可变，可在线程间共享。
+ */
+final class CompiledJsonPath {
+
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, CompiledJsonPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final String[] segments;
+
+    private CompiledJsonPath(String path) {
+        this.path = path;
+        // 移除 JSONPath 前缀 "$."，按 "." 分割路径
+        String normalizedPath = path.startsWith("$.") ? path.substring(2) : path;
+        this.segments = normalizedPath.split("\\.");
+    }
+
+    /**
+     * 编译路径（相同路径复用同一实例，缓存满后不再缓存新路径）
+     */
+    static CompiledJsonPath compile(String path) {
+        CompiledJsonPath compiled = CACHE.get(path);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = new CompiledJsonPath(path);
+        if (CACHE.size() < CACHE_LIMIT) {
+            CompiledJsonPath existing = CACHE.putIfAbsent(path, compiled);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return compiled;
+    }
+
+    String path() {
+        return path;
+    }
+
+    /**
+     * 流式提取 JSON 文本中的字段
+     */
+    String extract(String json, ObjectMapper objectMapper) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            for (String segment : segments) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw notFound(segment);
+                }
+                token = seekField(parser, segment);
+                if (token == null || token == JsonToken.VALUE_NULL) {
+                    throw notFound(segment);
+                }
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            return node.asText();
+        }
+    }
+
+    /**
+     * 从树节点提取字段
+     */
+    String extract(JsonNode root) {
+        JsonNode currentNode = root;
+        for (String segment : segments) {
+            currentNode = currentNode.get(segment);
+            if (currentNode == null || currentNode.isNull()) {
+                throw notFound(segment);
+            }
+        }
+        return currentNode.asText();
+    }
+
+    /**
+     * 从嵌套 Map 提取字段
+     */
+    String extract(Map<?, ?> map) {
+        Object currentValue = map;
+        for (String segment : segments) {
+            if (!(currentValue instanceof Map)) {
+                throw new VersionTagExtractionException(
+                    "Cannot traverse non-map object at path: " + path + " (segment: " + segment + ")"
+                );
+            }
+            currentValue = ((Map<?, ?>) currentValue).get(segment);
+            if (currentValue == null) {
+                throw notFound(segment);
+            }
+        }
+        return currentValue.toString();
+    }
+
+    /**
+     * 在当前对象内查找字段，命中时返回其值的 token；对象结束仍未命中返回 null
+     */
+    private static JsonToken seekField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(fieldName)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private VersionTagExtractionException notFound(String segment) {
+        return new VersionTagExtractionException(
+            "Field not found or null at path: " + path + " (segment: " + segment + ")"
+        );
+    }
+}
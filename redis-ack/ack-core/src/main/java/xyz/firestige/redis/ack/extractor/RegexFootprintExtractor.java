@@ -3,20 +3,64 @@ package xyz.firestige.redis.ack.extractor;
 import xyz.firestige.redis.ack.api.FootprintExtractor;
 import xyz.firestige.redis.ack.exception.FootprintExtractionException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * 正则表达式 Footprint 提取器
+ * <p>
+ * 编译后的 {@link Pattern} 按正则文本缓存，所有实例共享（Pattern 线程安全）。
+ * 可选扫描窗口：只在输入的前 scanLimit 个字符内查找，版本号位于响应开头时避免扫描整个大响应体；
+ * 窗口内未命中即报错，不会继续扫描剩余部分。
  */
 public class RegexFootprintExtractor implements FootprintExtractor {
+
+    /**
+     * 不限制扫描范围
+     */
+    public static final int UNLIMITED = 0;
+
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>();
+
     private final Pattern pattern;
     private final int group;
+    private final int scanLimit;
 
     public RegexFootprintExtractor(String regex) { this(regex, 1); }
-    public RegexFootprintExtractor(String regex, int group) {
-        this.pattern = Pattern.compile(regex);
+    public RegexFootprintExtractor(String regex, int group) { this(regex, group, UNLIMITED); }
+
+    /**
+     * @param scanLimit 最多扫描的字符数（{@link #UNLIMITED} 表示扫描全文）
+     * @since 2.1
+     */
+    public RegexFootprintExtractor(String regex, int group, int scanLimit) {
+        if (scanLimit < 0) {
+            throw new IllegalArgumentException("scanLimit must be >= 0");
+        }
+        this.pattern = compile(regex);
         this.group = group;
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * 编译正则（相同文本复用同一实例，缓存满后不再缓存新正则）
+     */
+    static Pattern compile(String regex) {
+        Pattern compiled = CACHE.get(regex);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = Pattern.compile(regex);
+        if (CACHE.size() < CACHE_LIMIT) {
+            Pattern existing = CACHE.putIfAbsent(regex, compiled);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return compiled;
     }
 
     @Override
@@ -24,8 +68,12 @@ public class RegexFootprintExtractor implements FootprintExtractor {
         if (value == null) throw new FootprintExtractionException("value is null");
         String str = value.toString();
         Matcher matcher = pattern.matcher(str);
+        if (scanLimit != UNLIMITED && str.length() > scanLimit) {
+            matcher.region(0, scanLimit);
+        }
         if (!matcher.find()) {
-            throw new FootprintExtractionException("pattern not matched: " + pattern);
+            throw new FootprintExtractionException("pattern not matched: " + pattern
+                + (scanLimit != UNLIMITED ? " (within first " + scanLimit + " chars)" : ""));
         }
         if (group > matcher.groupCount()) {
             throw new FootprintExtractionException("group index out of range: " + group);
@@ -35,4 +83,3 @@ public class RegexFootprintExtractor implements FootprintExtractor {
         return g;
     }
 }
-
@@ -0,0 +1,89 @@
+package xyz.firestige.redis.ack.retry;
+
+import xyz.firestige.redis.ack.api.AckContext;
+import xyz.firestige.redis.ack.api.RetryStrategy;
+
+import java.time.Duration;
+
+/**
+ * 自适应重试策略（按端点历史收敛时间调度探测）
+ * <p>
+ * 有足够且新鲜的历史时：
+ * <ul>
+ *   <li>首次探测推迟到中位数的 90%（略早于中位数，避免样本被探测时刻抬高后逐轮漂移）</li>
+ *   <li>之后在 p99 之前以 (p90 - p50) / 4（至少 100ms）的紧凑间隔探测</li>
+ *   <li>超过 p99 仍未收敛时交给回退策略（其尝试次数从 1 重新计）</li>
+ * </ul>
+ * 历史不足或过期时完全使用回退策略。版本不匹配视为尚未收敛继续探测；校验成功的耗时回写到
+ * {@link ConvergenceTracker}。
+ * <p>
+ * 探测进度记录在 AckContext 中，实例本身无状态，但应按任务通过 {@link ConvergenceTracker#strategy} 创建。
+ *
+ * @since 2.1
+ */
+public class AdaptiveRetryStrategy implements RetryStrategy {
+
+    static final double FIRST_PROBE_FACTOR = 0.9;
+    static final Duration MIN_SPACING = Duration.ofMillis(100);
+
+    private static final String STARTED_AT = "adaptiveRetryStartedAt";
+    private static final String TIGHT_ATTEMPTS = "adaptiveRetryTightAttempts";
+
+    private final ConvergenceTracker tracker;
+    private final String endpointKey;
+    private final RetryStrategy fallback;
+
+    public AdaptiveRetryStrategy(ConvergenceTracker tracker, String endpointKey, RetryStrategy fallback) {
+        if (tracker == null || endpointKey == null || fallback == null) {
+            throw new IllegalArgumentException("tracker, endpointKey and fallback are required");
+        }
+        this.tracker = tracker;
+        this.endpointKey = endpointKey;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Duration initialDelay(AckContext context) {
+        context.setAttribute(STARTED_AT, tracker.now());
+        ConvergenceTracker.Stats stats = tracker.stats(endpointKey);
+        if (stats == null) {
+            return fallback.initialDelay(context);
+        }
+        return Duration.ofNanos((long) (stats.p50().toNanos() * FIRST_PROBE_FACTOR));
+    }
+
+    @Override
+    public Duration nextDelay(int attempt, Throwable lastError, AckContext context) {
+        Object tightValue = context.getAttribute(TIGHT_ATTEMPTS);
+        int tight = tightValue instanceof Integer ? (Integer) tightValue : 0;
+
+        ConvergenceTracker.Stats stats = tracker.stats(endpointKey);
+        Object startedAt = context.getAttribute(STARTED_AT);
+        if (stats != null && startedAt instanceof Long
+                && tracker.now() - (Long) startedAt < stats.p99().toNanos()) {
+            context.setAttribute(TIGHT_ATTEMPTS, tight + 1);
+            return spacing(stats);
+        }
+        return fallback.nextDelay(Math.max(1, attempt - tight), lastError, context);
+    }
+
+    @Override
+    public boolean retryOnMismatch() {
+        return true;
+    }
+
+    @Override
+    public void onConverged(Duration convergence, AckContext context) {
+        tracker.record(endpointKey, convergence);
+        fallback.onConverged(convergence, context);
+    }
+
+    public String getEndpointKey() {
+        return endpointKey;
+    }
+
+    static Duration spacing(ConvergenceTracker.Stats stats) {
+        Duration spread = stats.p90().minus(stats.p50()).dividedBy(4);
+        return spread.compareTo(MIN_SPACING) > 0 ? spread : MIN_SPACING;
+    }
+}
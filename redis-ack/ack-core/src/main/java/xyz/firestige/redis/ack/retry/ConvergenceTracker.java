@@ -0,0 +1,132 @@
+package xyz.firestige.redis.ack.retry;
+
+import xyz.firestige.redis.ack.api.RetryStrategy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 收敛时间统计
+ * <p>
+ * 按端点 Key 记录最近 N 次「发布 → 校验成功」的耗时，给出分位数供 {@link AdaptiveRetryStrategy} 调度探测。
+ * 样本不足或最新样本已过期时返回 null，调用方应回退到静态策略。
+ * <p>
+ * 线程安全，应作为单例在所有 ACK 任务间共享。
+ *
+ * @since 2.1
+ */
+public class ConvergenceTracker {
+
+    public static final int DEFAULT_HISTORY_SIZE = 64;
+    public static final int DEFAULT_MIN_SAMPLES = 5;
+    public static final Duration DEFAULT_STALE_AFTER = Duration.ofMinutes(30);
+
+    private final int historySize;
+    private final int minSamples;
+    private final long staleAfterNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ConvergenceTracker() {
+        this(DEFAULT_HISTORY_SIZE, DEFAULT_MIN_SAMPLES, DEFAULT_STALE_AFTER);
+    }
+
+    /**
+     * @param historySize 每个端点保留的样本数
+     * @param minSamples  给出分位数所需的最少样本数
+     * @param staleAfter  最新样本超过该时长未更新则视为过期
+     */
+    public ConvergenceTracker(int historySize, int minSamples, Duration staleAfter) {
+        this(historySize, minSamples, staleAfter, System::nanoTime);
+    }
+
+    ConvergenceTracker(int historySize, int minSamples, Duration staleAfter, LongSupplier clock) {
+        if (historySize <= 0 || minSamples <= 0 || minSamples > historySize) {
+            throw new IllegalArgumentException("require 0 < minSamples <= historySize");
+        }
+        this.historySize = historySize;
+        this.minSamples = minSamples;
+        this.staleAfterNanos = staleAfter.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * 记录一次收敛耗时
+     */
+    public void record(String endpointKey, Duration convergence) {
+        windows.computeIfAbsent(endpointKey, key -> new Window(historySize))
+            .add(convergence.toNanos(), clock.getAsLong());
+    }
+
+    /**
+     * 当前分位数；样本不足或已过期返回 null
+     */
+    public Stats stats(String endpointKey) {
+        Window window = windows.get(endpointKey);
+        return window != null ? window.stats(minSamples, staleAfterNanos, clock.getAsLong()) : null;
+    }
+
+    /**
+     * 创建绑定到该端点的自适应策略（每个 ACK 任务一个实例）
+     *
+     * @param fallback 历史不足/过期及超出观测窗口后使用的静态策略
+     */
+    public AdaptiveRetryStrategy strategy(String endpointKey, RetryStrategy fallback) {
+        return new AdaptiveRetryStrategy(this, endpointKey, fallback);
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * 收敛耗时分位数
+     */
+    public record Stats(Duration p50, Duration p90, Duration p99, int samples) {
+    }
+
+    /**
+     * 单个端点的环形样本窗口
+     */
+    private static final class Window {
+
+        private final long[] samples;
+        private int count;
+        private int next;
+        private long lastRecordedAt;
+
+        Window(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long nanos, long now) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            lastRecordedAt = now;
+        }
+
+        synchronized Stats stats(int minSamples, long staleAfterNanos, long now) {
+            if (count < minSamples || now - lastRecordedAt > staleAfterNanos) {
+                return null;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return new Stats(
+                Duration.ofNanos(percentile(sorted, 0.50)),
+                Duration.ofNanos(percentile(sorted, 0.90)),
+                Duration.ofNanos(percentile(sorted, 0.99)),
+                count);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
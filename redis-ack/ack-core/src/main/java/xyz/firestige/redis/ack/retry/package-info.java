@@ -5,6 +5,8 @@
  * <ul>
  *   <li>{@link xyz.firestige.redis.ack.retry.FixedDelayRetryStrategy} - 固定延迟重试</li>
  *   <li>{@link xyz.firestige.redis.ack.retry.ExponentialBackoffRetryStrategy} - 指数退避重试</li>
+ *   <li>{@link xyz.firestige.redis.ack.retry.AdaptiveRetryStrategy} - 按端点历史收敛时间自适应探测
+ *       （配合共享的 {@link xyz.firestige.redis.ack.retry.ConvergenceTracker}）</li>
  * </ul>
  * <p>
  * 使用者可实现 {@link xyz.firestige.redis.ack.api.RetryStrategy} 接口以定义自定义重试逻辑。
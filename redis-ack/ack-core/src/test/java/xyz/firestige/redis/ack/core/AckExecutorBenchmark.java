@@ -0,0 +1,178 @@
+package xyz.firestige.redis.ack.core;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xyz.firestige.redis.ack.api.AckResult;
+import xyz.firestige.redis.ack.api.HttpClient;
+import xyz.firestige.redis.ack.api.HttpResponse;
+import xyz.firestige.redis.ack.api.RedisClient;
+import xyz.firestige.redis.ack.api.RedisOperation;
+import xyz.firestige.redis.ack.endpoint.HttpGetEndpoint;
+import xyz.firestige.redis.ack.extractor.JsonFieldExtractor;
+import xyz.firestige.redis.ack.extractor.RegexFootprintExtractor;
+import xyz.firestige.redis.ack.retry.FixedDelayRetryStrategy;
+import xyz.firestige.redis.ack.support.AckPayloads;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AckExecutor 完整周期基准：Write（HSET + EXPIRE）→ Publish → Verify（HTTP GET + 提取比对）
+ *
+ * <p>Redis 与 HTTP 使用内存替身，不含网络耗时，测得的是执行器自身的序列化、提取与编排开销。
+ * 替身端点返回最近一次发布的版本号，校验首次即成功（不触发重试等待）。
+ * valueForm=map 为同一 Map 对象重复写入（首次序列化后按对象身份复用，见 PayloadSerializer）；
+ * valueForm=string 为预序列化输入。
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=AckExecutorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AckExecutorBenchmark {
+
+    private static final String STATUS_REGEX = "\"version\":\"([^\"]+)\"";
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    @Param({"map", "string"})
+    public String valueForm;
+
+    private AckExecutor executor;
+    private AckTask task;
+
+    @Setup
+    public void setUp() {
+        InMemoryRedisClient redis = new InMemoryRedisClient();
+        HttpClient http = new StatusHttpClient(redis);
+        RegexFootprintExtractor statusExtractor = new RegexFootprintExtractor(STATUS_REGEX);
+
+        Object value = "map".equals(valueForm) ? AckPayloads.map(payloadSize) : AckPayloads.json(payloadSize);
+        JsonFieldExtractor footprint = new JsonFieldExtractor(AckPayloads.VERSION_PATH);
+
+        executor = new AckExecutor(redis);
+        task = new AckTask(
+            "bench",
+            "deploy:config:tenant-001", "gateway", value, Duration.ofMinutes(10), RedisOperation.HSET,
+            footprint,
+            "deploy:config:changed", footprint::extract,
+            new HttpGetEndpoint("http://gateway/actuator/version", http), statusExtractor::extract,
+            new FixedDelayRetryStrategy(3, Duration.ofMillis(10)), Duration.ofSeconds(5),
+            null, redis,
+            null, false, null, null, null);
+
+        AckResult result = executor.execute(task);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("基准任务未校验成功: " + result);
+        }
+    }
+
+    @Benchmark
+    public AckResult executeCycle() {
+        return executor.execute(task);
+    }
+
+    /**
+     * 内存 Redis 替身：记录写入值与最近发布的消息
+     */
+    static class InMemoryRedisClient implements RedisClient {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private volatile String lastMessage;
+
+        @Override
+        public void set(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void setWithTtl(String key, String value, Duration ttl) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void hset(String key, String field, String value) {
+            values.put(key + '#' + field, value);
+        }
+
+        @Override
+        public void hmset(String key, Map<String, String> fields) {
+            fields.forEach((field, value) -> values.put(key + '#' + field, value));
+        }
+
+        @Override
+        public void expire(String key, Duration ttl) {
+        }
+
+        @Override
+        public void lpush(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void sadd(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void zadd(String key, String value, double score) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void publish(String channel, String message) {
+            lastMessage = message;
+        }
+    }
+
+    /**
+     * 内存 HTTP 替身：状态端点返回服务已加载的版本（即最近发布的版本号）
+     */
+    static final class StatusHttpClient implements HttpClient {
+
+        private final InMemoryRedisClient redis;
+
+        StatusHttpClient(InMemoryRedisClient redis) {
+            this.redis = redis;
+        }
+
+        @Override
+        public HttpResponse get(String url) {
+            return new HttpResponse(200, "{\"status\":\"UP\",\"version\":\"" + redis.lastMessage + "\"}");
+        }
+
+        @Override
+        public HttpResponse post(String url, String body) {
+            return get(url);
+        }
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(AckExecutorBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
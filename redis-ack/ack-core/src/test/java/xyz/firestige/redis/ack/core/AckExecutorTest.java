@@ -0,0 +1,162 @@
+package xyz.firestige.redis.ack.core;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.api.AckResult;
+import xyz.firestige.redis.ack.api.RedisClient;
+import xyz.firestige.redis.ack.api.RedisOperation;
+import xyz.firestige.redis.ack.endpoint.HttpGetEndpoint;
+import xyz.firestige.redis.ack.extractor.JsonFieldExtractor;
+import xyz.firestige.redis.ack.extractor.RegexFootprintExtractor;
+import xyz.firestige.redis.ack.retry.FixedDelayRetryStrategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AckExecutorTest {
+
+    private static AckTask task(AckExecutorBenchmark.InMemoryRedisClient redis, AtomicReference<String> verifyThread) {
+        return task(redis, verifyThread, null);
+    }
+
+    private static AckTask task(AckExecutorBenchmark.InMemoryRedisClient redis, AtomicReference<String> verifyThread,
+                                Duration ttl) {
+        AckExecutorBenchmark.StatusHttpClient http = new AckExecutorBenchmark.StatusHttpClient(redis);
+        RegexFootprintExtractor statusExtractor = new RegexFootprintExtractor("\"version\":\"([^\"]+)\"");
+        JsonFieldExtractor footprint = new JsonFieldExtractor("version");
+        return new AckTask(
+            "t",
+            "deploy:config:tenant-001", "gateway", Map.of("version", "v1"), ttl, RedisOperation.HSET,
+            footprint,
+            "deploy:config:changed", footprint::extract,
+            new HttpGetEndpoint("http://gateway/actuator/version", http), response -> {
+                verifyThread.set(Thread.currentThread().getName());
+                return statusExtractor.extract(response);
+            },
+            new FixedDelayRetryStrategy(3, Duration.ofMillis(10)), Duration.ofSeconds(5),
+            null, redis,
+            null, false, null, null, null);
+    }
+
+    @Test
+    void executeAsyncRunsOnProvidedExecutor() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor(r -> new Thread(r, "ack-test-pool"));
+        try {
+            AckExecutorBenchmark.InMemoryRedisClient redis = new AckExecutorBenchmark.InMemoryRedisClient();
+            AtomicReference<String> verifyThread = new AtomicReference<>();
+
+            AckResult result = new AckExecutor(redis, pool).executeAsync(task(redis, verifyThread))
+                .get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isSuccess(), result.toString());
+            assertEquals("ack-test-pool", verifyThread.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeAsyncDefaultsToDedicatedPool() throws Exception {
+        AckExecutorBenchmark.InMemoryRedisClient redis = new AckExecutorBenchmark.InMemoryRedisClient();
+        AtomicReference<String> verifyThread = new AtomicReference<>();
+
+        AckResult result = new AckExecutor(redis).executeAsync(task(redis, verifyThread)).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess(), result.toString());
+        assertTrue(verifyThread.get().startsWith("ack-async-"), verifyThread.get());
+    }
+
+    @Test
+    void writeTtlAndPublishShareOnePipeline() {
+        List<String> commands = new ArrayList<>();
+        AckExecutorBenchmark.InMemoryRedisClient redis = new AckExecutorBenchmark.InMemoryRedisClient() {
+            @Override
+            public List<Object> pipeline(Consumer<RedisClient> batch) {
+                commands.add("pipeline");
+                return super.pipeline(batch);
+            }
+
+            @Override
+            public void hset(String key, String field, String value) {
+                commands.add("hset");
+                super.hset(key, field, value);
+            }
+
+            @Override
+            public void expire(String key, Duration ttl) {
+                commands.add("expire");
+            }
+
+            @Override
+            public void publish(String channel, String message) {
+                commands.add("publish");
+                super.publish(channel, message);
+            }
+        };
+
+        AckResult result = new AckExecutor(redis).execute(task(redis, new AtomicReference<>(), Duration.ofMinutes(10)));
+
+        assertTrue(result.isSuccess(), result.toString());
+        assertEquals(List.of("pipeline", "hset", "expire", "publish"), commands);
+    }
+
+    /**
+     * 模拟管道客户端：命令照常执行，按给定结果返回（异常表示该位置的命令失败）
+     */
+    private static AckExecutorBenchmark.InMemoryRedisClient pipelinedRedis(Object... results) {
+        return new AckExecutorBenchmark.InMemoryRedisClient() {
+            @Override
+            public List<Object> pipeline(Consumer<RedisClient> batch) {
+                super.pipeline(batch);
+                return List.of(results);
+            }
+        };
+    }
+
+    @Test
+    void pipelinedPublishFailureDoesNotFailAck() {
+        AckExecutorBenchmark.InMemoryRedisClient redis =
+            pipelinedRedis(1L, true, new IllegalStateException("publish rejected"));
+
+        AckResult result = new AckExecutor(redis).execute(task(redis, new AtomicReference<>(), Duration.ofMinutes(10)));
+
+        assertTrue(result.isSuccess(), result.toString());
+    }
+
+    @Test
+    void pipelinedWriteFailureFailsAck() {
+        AckExecutorBenchmark.InMemoryRedisClient redis =
+            pipelinedRedis(new IllegalStateException("OOM command not allowed"), true, 1L);
+
+        AckResult result = new AckExecutor(redis).execute(task(redis, new AtomicReference<>(), Duration.ofMinutes(10)));
+
+        assertFalse(result.isSuccess(), result.toString());
+        assertEquals("Failed to write to Redis", result.getError().getMessage());
+    }
+
+    @Test
+    void sequentialPublishFailureDoesNotFailAck() {
+        AckExecutorBenchmark.InMemoryRedisClient redis = new AckExecutorBenchmark.InMemoryRedisClient() {
+            @Override
+            public void publish(String channel, String message) {
+                // 消息已送达，客户端随后报错（如等待回复超时）
+                super.publish(channel, message);
+                throw new IllegalStateException("publish reply timed out");
+            }
+        };
+
+        AckResult result = new AckExecutor(redis).execute(task(redis, new AtomicReference<>()));
+
+        assertTrue(result.isSuccess(), result.toString());
+    }
+}
@@ -0,0 +1,51 @@
+package xyz.firestige.redis.ack.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PayloadSerializerTest {
+
+    private final PayloadSerializer serializer = new PayloadSerializer(new ObjectMapper());
+
+    private static Map<String, Object> config(String tenant) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("tenantId", tenant);
+        value.put("version", "v1");
+        return value;
+    }
+
+    @Test
+    void sameValueObjectIsSerializedOnce() throws Exception {
+        Map<String, Object> value = config("tenant-001");
+
+        String first = serializer.serialize(value);
+        String second = serializer.serialize(value);
+
+        assertEquals("{\"tenantId\":\"tenant-001\",\"version\":\"v1\"}", first);
+        assertSame(first, second);
+        assertEquals(1, serializer.getCacheHits());
+    }
+
+    @Test
+    void cacheIsKeyedByIdentityNotEquality() throws Exception {
+        serializer.serialize(config("tenant-001"));
+        serializer.serialize(config("tenant-001"));
+
+        assertEquals(0, serializer.getCacheHits());
+    }
+
+    @Test
+    void stringsAndScalarsBypassCache() throws Exception {
+        String json = "{\"version\":\"v1\"}";
+
+        assertSame(json, serializer.serialize(json));
+        assertEquals("42", serializer.serialize(42));
+        assertEquals(0, serializer.getCacheSize());
+    }
+}
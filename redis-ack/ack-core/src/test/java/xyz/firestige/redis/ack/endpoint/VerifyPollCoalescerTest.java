@@ -0,0 +1,131 @@
+package xyz.firestige.redis.ack.endpoint;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.api.AckContext;
+import xyz.firestige.redis.ack.api.HttpClient;
+import xyz.firestige.redis.ack.api.HttpClientException;
+import xyz.firestige.redis.ack.api.HttpResponse;
+import xyz.firestige.redis.ack.exception.AckEndpointException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifyPollCoalescerTest {
+
+    private static final String URL = "http://gw-1/actuator/version";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private static AckContext publishedAt(long nanos) {
+        AckContext context = new AckContext("t");
+        context.setAttribute(VerifyPollCoalescer.NOT_BEFORE_ATTRIBUTE, nanos);
+        return context;
+    }
+
+    private HttpClient counting(HttpResponse response) {
+        return new HttpClient() {
+            @Override
+            public HttpResponse get(String url) {
+                calls.incrementAndGet();
+                return response;
+            }
+
+            @Override
+            public HttpResponse post(String url, String body) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Test
+    void concurrentVerifiersShareInFlightRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpResponse response = new HttpResponse(200, "{\"version\":\"v1\"}");
+        VerifyPollCoalescer coalescer = new VerifyPollCoalescer(new HttpClient() {
+            @Override
+            public HttpResponse get(String url) {
+                calls.incrementAndGet();
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return response;
+            }
+
+            @Override
+            public HttpResponse post(String url, String body) {
+                throw new UnsupportedOperationException();
+            }
+        }, Duration.ZERO);
+
+        long published = System.nanoTime();
+        CompletableFuture<HttpResponse> leader =
+            CompletableFuture.supplyAsync(() -> coalescer.get(URL, publishedAt(published)));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<HttpResponse> follower = coalescer.getAsync(URL, publishedAt(published));
+        release.countDown();
+
+        assertSame(response, leader.get(5, TimeUnit.SECONDS));
+        assertSame(response, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getIssuedCount());
+        assertEquals(1, coalescer.getSharedCount());
+    }
+
+    @Test
+    void requestStartedBeforePublishIsNotReused() {
+        VerifyPollCoalescer coalescer =
+            new VerifyPollCoalescer(counting(new HttpResponse(200, "ok")), Duration.ofMinutes(1));
+
+        coalescer.get(URL, publishedAt(System.nanoTime()));
+        coalescer.get(URL, publishedAt(System.nanoTime()));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void successfulResponseReusedWithinWindow() {
+        VerifyPollCoalescer coalescer =
+            new VerifyPollCoalescer(counting(new HttpResponse(200, "ok")), Duration.ofMinutes(1));
+        long published = System.nanoTime();
+
+        coalescer.get(URL, publishedAt(published));
+        coalescer.get(URL, publishedAt(published));
+        coalescer.get("http://gw-2/actuator/version", publishedAt(published));
+
+        assertEquals(2, calls.get());
+        assertEquals(1, coalescer.getSharedCount());
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        VerifyPollCoalescer coalescer = new VerifyPollCoalescer(new HttpClient() {
+            @Override
+            public HttpResponse get(String url) {
+                calls.incrementAndGet();
+                throw new HttpClientException("connection refused");
+            }
+
+            @Override
+            public HttpResponse post(String url, String body) {
+                throw new UnsupportedOperationException();
+            }
+        }, Duration.ofMinutes(1));
+        long published = System.nanoTime();
+
+        assertThrows(AckEndpointException.class, () -> coalescer.get(URL, publishedAt(published)));
+        assertThrows(AckEndpointException.class, () -> coalescer.get(URL, publishedAt(published)));
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,86 @@
+package xyz.firestige.redis.ack.extractor;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xyz.firestige.redis.ack.support.AckPayloads;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ACK 提取器基准：JSON 路径提取（字符串 / Map 输入）与正则提取
+ *
+ * <p>负载 1 KB ~ 1 MB，版本号位于文档末尾（见 {@link AckPayloads}）。
+ * SampleTime 模式同时给出吞吐与 p99，GC profiler 给出每次操作的分配量（gc.alloc.rate.norm）。
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=AckExtractionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AckExtractionBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    private String json;
+    private Map<String, Object> map;
+    private JsonFieldVersionTagExtractor jsonExtractor;
+    private RegexFootprintExtractor regexExtractor;
+
+    @Setup
+    public void setUp() throws Exception {
+        json = AckPayloads.json(payloadSize);
+        map = AckPayloads.map(payloadSize);
+        jsonExtractor = new JsonFieldVersionTagExtractor(AckPayloads.VERSION_PATH);
+        regexExtractor = new RegexFootprintExtractor(AckPayloads.VERSION_REGEX);
+
+        // 三种方式结果一致，避免测到错误路径
+        if (!AckPayloads.VERSION.equals(jsonExtractor.extractTag(json))
+                || !AckPayloads.VERSION.equals(jsonExtractor.extractTag(map))
+                || !AckPayloads.VERSION.equals(regexExtractor.extract(json))) {
+            throw new IllegalStateException("提取结果与负载版本号不一致");
+        }
+    }
+
+    @Benchmark
+    public String jsonFieldFromString() throws Exception {
+        return jsonExtractor.extractTag(json);
+    }
+
+    @Benchmark
+    public String jsonFieldFromMap() throws Exception {
+        return jsonExtractor.extractTag(map);
+    }
+
+    @Benchmark
+    public String regexFootprint() throws Exception {
+        return regexExtractor.extract(json);
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(AckExtractionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
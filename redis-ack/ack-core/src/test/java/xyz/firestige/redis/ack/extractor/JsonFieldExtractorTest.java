@@ -103,5 +103,36 @@ class JsonFieldExtractorTest {
             fail("Extraction failed: " + e.getMessage());
         }
     }
-}
 
+    @Test
+    void extractSkipsUnrelatedSubtrees() {
+        // 目标字段前的嵌套对象/数组中含同名字段，不应误命中
+        FootprintExtractor extractor = new JsonFieldExtractor("$.metadata.version");
+        String jsonStr = "{\"routes\":[{\"version\":\"x\"},{\"metadata\":{\"version\":\"y\"}}],"
+                + "\"other\":{\"metadata\":{\"version\":\"z\"}},\"metadata\":{\"version\":\"5.0.0\"}}";
+
+        assertEquals("5.0.0", extractor.extract(jsonStr));
+    }
+
+    @Test
+    void extractNonTextualValues() {
+        // 非字符串值与树模型 asText 结果一致
+        String jsonStr = "{\"build\":42,\"ratio\":1.50,\"enabled\":true,\"tags\":[\"a\"]}";
+
+        assertEquals("42", new JsonFieldExtractor("build").extract(jsonStr));
+        assertEquals("1.5", new JsonFieldExtractor("ratio").extract(jsonStr));
+        assertEquals("true", new JsonFieldExtractor("enabled").extract(jsonStr));
+        assertEquals("", new JsonFieldExtractor("tags").extract(jsonStr));
+    }
+
+    @Test
+    void extractNullOrNonObjectPathFails() {
+        FootprintExtractor extractor = new JsonFieldExtractor("$.metadata.version");
+
+        assertThrows(FootprintExtractionException.class, () -> extractor.extract("{\"metadata\":null}"));
+        assertThrows(FootprintExtractionException.class, () -> extractor.extract("{\"metadata\":{\"version\":null}}"));
+        assertThrows(FootprintExtractionException.class, () -> extractor.extract("{\"metadata\":[{\"version\":\"1\"}]}"));
+        assertThrows(FootprintExtractionException.class, () -> extractor.extract("[]"));
+        assertThrows(FootprintExtractionException.class, () -> extractor.extract("{\"metadata\":"));
+    }
+}
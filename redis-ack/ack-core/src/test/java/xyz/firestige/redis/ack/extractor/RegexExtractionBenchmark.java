@@ -0,0 +1,115 @@
+package xyz.firestige.redis.ack.extractor;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xyz.firestige.redis.ack.exception.FootprintExtractionException;
+import xyz.firestige.redis.ack.support.AckPayloads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 正则提取基准：每次编译（原 extractRegex 行为）vs 共享 Pattern vs 共享 Pattern + 扫描窗口
+ *
+ * <p>响应体版本号位于开头（状态端点常见形态，见 {@link AckPayloads#jsonVersionFirst(int)}），
+ * 窗口 {@value #SCAN_LIMIT} 字符。*Miss 用例查找不存在的字段（如错误页、尚未带版本的响应），
+ * 无窗口时必须扫描全文才能确认未命中。全文扫描命中的最坏情况（版本号在末尾）见 {@link AckExtractionBenchmark}。
+ *
+ * <p>运行：{@code mvn test -P benchmark -Dtest=RegexExtractionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexExtractionBenchmark {
+
+    private static final int SCAN_LIMIT = 4096;
+    private static final String MISSING_REGEX = "\"revision\"\\s*:\\s*\"([^\"]+)\"";
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    private String body;
+    private RegexFootprintExtractor cached;
+    private RegexFootprintExtractor windowed;
+    private RegexFootprintExtractor cachedMiss;
+    private RegexFootprintExtractor windowedMiss;
+
+    @Setup
+    public void setUp() {
+        body = AckPayloads.jsonVersionFirst(payloadSize);
+        cached = new RegexFootprintExtractor(AckPayloads.VERSION_REGEX);
+        windowed = new RegexFootprintExtractor(AckPayloads.VERSION_REGEX, 1, SCAN_LIMIT);
+        cachedMiss = new RegexFootprintExtractor(MISSING_REGEX);
+        windowedMiss = new RegexFootprintExtractor(MISSING_REGEX, 1, SCAN_LIMIT);
+
+        if (!AckPayloads.VERSION.equals(compilePerCall())
+                || !AckPayloads.VERSION.equals(cached.extract(body))
+                || !AckPayloads.VERSION.equals(windowed.extract(body))) {
+            throw new IllegalStateException("提取结果与负载版本号不一致");
+        }
+    }
+
+    /**
+     * 原行为：每个响应都重新编译正则
+     */
+    @Benchmark
+    public String compilePerCall() {
+        Matcher matcher = Pattern.compile(AckPayloads.VERSION_REGEX).matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    @Benchmark
+    public String cachedPattern() {
+        return cached.extract(body);
+    }
+
+    @Benchmark
+    public String cachedPatternWithWindow() {
+        return windowed.extract(body);
+    }
+
+    @Benchmark
+    public String cachedPatternMiss() {
+        return extractOrNull(cachedMiss);
+    }
+
+    @Benchmark
+    public String cachedPatternWithWindowMiss() {
+        return extractOrNull(windowedMiss);
+    }
+
+    private String extractOrNull(RegexFootprintExtractor extractor) {
+        try {
+            return extractor.extract(body);
+        } catch (FootprintExtractionException e) {
+            return null;
+        }
+    }
+
+    @Test
+    void runBenchmark() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(RegexExtractionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,30 @@
+package xyz.firestige.redis.ack.extractor;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.exception.FootprintExtractionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegexFootprintExtractorTest {
+
+    private static final String REGEX = "\"version\"\\s*:\\s*\"([^\"]+)\"";
+
+    @Test
+    void patternIsSharedAcrossInstances() {
+        assertSame(RegexFootprintExtractor.compile(REGEX), RegexFootprintExtractor.compile(REGEX));
+        assertEquals("v1", new RegexFootprintExtractor(REGEX).extract("{\"version\":\"v1\"}"));
+    }
+
+    @Test
+    void scanWindowOnlySearchesPrefix() {
+        String body = "{\"version\":\"v1\",\"details\":\"" + "x".repeat(10_000) + "\"}";
+        assertEquals("v1", new RegexFootprintExtractor(REGEX, 1, 64).extract(body));
+
+        String tail = "{\"details\":\"" + "x".repeat(10_000) + "\",\"version\":\"v1\"}";
+        assertThrows(FootprintExtractionException.class,
+            () -> new RegexFootprintExtractor(REGEX, 1, 64).extract(tail));
+        assertEquals("v1", new RegexFootprintExtractor(REGEX).extract(tail));
+    }
+}
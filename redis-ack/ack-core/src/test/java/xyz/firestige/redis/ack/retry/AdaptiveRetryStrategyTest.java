@@ -0,0 +1,92 @@
+package xyz.firestige.redis.ack.retry;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.api.AckContext;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveRetryStrategyTest {
+
+    private static final String KEY = "gw-1:8080,gw-2:8080";
+    private static final Duration FALLBACK_DELAY = Duration.ofSeconds(3);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ConvergenceTracker tracker =
+        new ConvergenceTracker(64, 5, Duration.ofMinutes(30), clock::get);
+    private final AdaptiveRetryStrategy strategy =
+        tracker.strategy(KEY, new FixedDelayRetryStrategy(3, FALLBACK_DELAY));
+
+    /**
+     * 记录 1..10 秒共 10 个样本：p50=5s, p90=9s, p99=10s
+     */
+    private void recordHistory() {
+        for (int i = 1; i <= 10; i++) {
+            tracker.record(KEY, Duration.ofSeconds(i));
+        }
+    }
+
+    @Test
+    void sparseHistoryFallsBackToStaticStrategy() {
+        tracker.record(KEY, Duration.ofSeconds(1));
+        AckContext context = new AckContext("t");
+
+        assertNull(tracker.stats(KEY));
+        assertEquals(Duration.ZERO, strategy.initialDelay(context));
+        assertEquals(FALLBACK_DELAY, strategy.nextDelay(1, null, context));
+        assertNull(strategy.nextDelay(3, null, context));
+    }
+
+    @Test
+    void firstProbeIsJustBeforeMedian() {
+        recordHistory();
+
+        assertEquals(Duration.ofMillis(4500), strategy.initialDelay(new AckContext("t")));
+    }
+
+    @Test
+    void probesTightlyUntilP99ThenFallsBack() {
+        recordHistory();
+        AckContext context = new AckContext("t");
+        strategy.initialDelay(context);
+
+        // (p90 - p50) / 4 = 1s
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(Duration.ofSeconds(1), strategy.nextDelay(1, null, context));
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(Duration.ofSeconds(1), strategy.nextDelay(2, null, context));
+
+        // 超过 p99：回退策略从第 1 次重新计数
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(FALLBACK_DELAY, strategy.nextDelay(3, null, context));
+        assertEquals(FALLBACK_DELAY, strategy.nextDelay(4, null, context));
+        assertNull(strategy.nextDelay(5, null, context));
+    }
+
+    @Test
+    void staleHistoryIsIgnored() {
+        recordHistory();
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+
+        assertNull(tracker.stats(KEY));
+        assertEquals(Duration.ZERO, strategy.initialDelay(new AckContext("t")));
+    }
+
+    @Test
+    void convergenceIsRecordedAndMismatchRetried() {
+        AckContext context = new AckContext("t");
+        for (int i = 0; i < 5; i++) {
+            strategy.onConverged(Duration.ofMillis(200), context);
+        }
+
+        ConvergenceTracker.Stats stats = tracker.stats(KEY);
+        assertEquals(5, stats.samples());
+        assertEquals(Duration.ofMillis(200), stats.p50());
+        assertEquals(AdaptiveRetryStrategy.MIN_SPACING, AdaptiveRetryStrategy.spacing(stats));
+        assertTrue(strategy.retryOnMismatch());
+    }
+}
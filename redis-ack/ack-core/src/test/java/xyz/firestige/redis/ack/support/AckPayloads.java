@@ -0,0 +1,87 @@
+package xyz.firestige.redis.ack.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试用 ACK 负载
+ * <p>
+ * 结构模拟网关路由配置：tenantId + routes 数组（按目标大小填充）+ metadata.version。
+ * metadata 默认放在最后，提取器必须扫描完整文档才能拿到版本号（最坏情况，结果随大小稳定变化）；
+ * {@link #jsonVersionFirst(int)} 将 metadata 放在最前，模拟状态端点先返回版本再返回明细。
+ */
+public final class AckPayloads {
+
+    public static final String VERSION = "v-20240101-001";
+    public static final String VERSION_PATH = "$.metadata.version";
+    public static final String VERSION_REGEX = "\"version\"\\s*:\\s*\"([^\"]+)\"";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private AckPayloads() {
+    }
+
+    /**
+     * 构建序列化后约 targetBytes 字节的负载（Map 形式，保持字段顺序）
+     */
+    public static Map<String, Object> map(int targetBytes) {
+        return map(targetBytes, false);
+    }
+
+    private static Map<String, Object> map(int targetBytes, boolean metadataFirst) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("version", VERSION);
+        metadata.put("author", "executor");
+
+        List<Map<String, Object>> routes = new ArrayList<>();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        if (metadataFirst) {
+            payload.put("metadata", metadata);
+        }
+        payload.put("tenantId", "tenant-001");
+        payload.put("routes", routes);
+        if (!metadataFirst) {
+            payload.put("metadata", metadata);
+        }
+
+        // 单条路由序列化约 100 字节
+        int count = Math.max(1, (targetBytes - 120) / 100);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> route = new LinkedHashMap<>();
+            route.put("id", "route-" + i);
+            route.put("host", "10.0." + (i >> 8 & 255) + "." + (i & 255));
+            route.put("port", 8080 + (i % 16));
+            route.put("weight", 100);
+            route.put("path", "/api/v1/service-" + (i % 64) + "/**");
+            routes.add(route);
+        }
+        return payload;
+    }
+
+    /**
+     * 构建序列化后约 targetBytes 字节的 JSON 字符串
+     */
+    public static String json(int targetBytes) {
+        return write(map(targetBytes, false));
+    }
+
+    /**
+     * 构建序列化后约 targetBytes 字节、版本号位于开头的 JSON 字符串
+     */
+    public static String jsonVersionFirst(int targetBytes) {
+        return write(map(targetBytes, true));
+    }
+
+    private static String write(Map<String, Object> payload) {
+        try {
+            return MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
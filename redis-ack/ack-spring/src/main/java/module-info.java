@@ -23,6 +23,7 @@ module xyz.firestige.redis.ack.spring {
     requires spring.web;
     requires spring.beans;
     requires com.fasterxml.jackson.databind;
+    requires java.net.http;
 
     // Micrometer（可选）
     requires static micrometer.core;
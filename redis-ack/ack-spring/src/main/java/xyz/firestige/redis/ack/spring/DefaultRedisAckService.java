@@ -9,6 +9,8 @@ import xyz.firestige.redis.ack.api.RedisAckService;
 import xyz.firestige.redis.ack.api.RedisClient;
 import xyz.firestige.redis.ack.api.VerifyStageBuilder;
 import xyz.firestige.redis.ack.api.WriteStageBuilder;
+import xyz.firestige.redis.ack.core.AckCollaborators;
+import xyz.firestige.redis.ack.core.AckExecutor;
 import xyz.firestige.redis.ack.core.PubSubStageBuilderImpl;
 import xyz.firestige.redis.ack.core.VerifyStageBuilderImpl;
 import xyz.firestige.redis.ack.core.WriteStageBuilderImpl;
@@ -27,8 +29,7 @@ public class DefaultRedisAckService implements RedisAckService {
     private final RedisClient redisClient;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
-    private final AckMetricsRecorder metricsRecorder;
-    private final ExecutorService executorService;
+    private final AckCollaborators collaborators;
 
     public DefaultRedisAckService(RedisClient redisClient,
                                   HttpClient httpClient,
@@ -48,16 +49,30 @@ public class DefaultRedisAckService implements RedisAckService {
                                   ObjectMapper objectMapper,
                                   AckMetricsRecorder metricsRecorder,
                                   ExecutorService executorService) {
+        this(redisClient, httpClient, objectMapper, AckCollaborators.builder()
+            .metricsRecorder(metricsRecorder)
+            .executorService(executorService)
+            .build());
+    }
+
+    /**
+     * @param collaborators 跨任务共享的协作对象；未设置执行器时创建一个供所有任务复用
+     *                      （使用 ack-core 的默认异步线程池）
+     */
+    public DefaultRedisAckService(RedisClient redisClient,
+                                  HttpClient httpClient,
+                                  ObjectMapper objectMapper,
+                                  AckCollaborators collaborators) {
         this.redisClient = redisClient;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
-        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : AckMetricsRecorder.noop();
-        this.executorService = executorService;
+        this.collaborators = collaborators.getAckExecutor() != null ? collaborators
+            : collaborators.toBuilder().ackExecutor(new AckExecutor(redisClient)).build();
     }
 
     @Override
     public WriteStageBuilder write() {
-        return new InstrumentedWriteStageBuilder(redisClient, httpClient, objectMapper, metricsRecorder, executorService);
+        return new InstrumentedWriteStageBuilder(redisClient, httpClient, objectMapper, collaborators);
     }
 
     /**
@@ -69,10 +84,9 @@ public class DefaultRedisAckService implements RedisAckService {
         InstrumentedWriteStageBuilder(RedisClient redisClient,
                                       HttpClient httpClient,
                                       ObjectMapper objectMapper,
-                                      AckMetricsRecorder metricsRecorder,
-                                      ExecutorService executorService) {
-            super(redisClient, httpClient, objectMapper, metricsRecorder, executorService);
-            this.metricsRecorder = metricsRecorder;
+                                      AckCollaborators collaborators) {
+            super(redisClient, httpClient, objectMapper, collaborators);
+            this.metricsRecorder = collaborators.getMetricsRecorder();
         }
 
         @Override
@@ -120,14 +134,14 @@ public class DefaultRedisAckService implements RedisAckService {
         @Override
         public AckResult executeAndWait() {
             AckResult result = super.executeAndWait();
-            metricsRecorder.record(result);
+            metricsRecorder.record(result, getEndpointTag());
             return result;
         }
 
         @Override
         public CompletableFuture<AckResult> executeAsync() {
             return super.executeAsync().thenApply(result -> {
-                metricsRecorder.record(result);
+                metricsRecorder.record(result, getEndpointTag());
                 return result;
             });
         }
@@ -2,6 +2,8 @@ package xyz.firestige.redis.ack.spring.autoconfigure;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -13,18 +15,25 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import xyz.firestige.redis.ack.api.AckMetricsRecorder;
 import xyz.firestige.redis.ack.api.HttpClient;
 import xyz.firestige.redis.ack.api.RedisAckService;
 import xyz.firestige.redis.ack.api.RedisClient;
+import xyz.firestige.redis.ack.core.AckCollaborators;
+import xyz.firestige.redis.ack.core.AckExecutor;
+import xyz.firestige.redis.ack.endpoint.VerifyPollCoalescer;
+import xyz.firestige.redis.ack.retry.ConvergenceTracker;
 import xyz.firestige.redis.ack.spring.DefaultRedisAckService;
 import xyz.firestige.redis.ack.spring.config.AckExecutorConfig;
+import xyz.firestige.redis.ack.spring.http.JdkHttpClient;
 import xyz.firestige.redis.ack.spring.http.RestTemplateHttpClient;
 import xyz.firestige.redis.ack.spring.metrics.MicrometerAckMetricsRecorder;
 import xyz.firestige.redis.ack.spring.redis.SpringRedisClient;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Redis ACK 服务自动配置
@@ -49,11 +58,21 @@ public class RedisAckAutoConfiguration {
     }
 
     /**
-     * HttpClient Bean（基于 RestTemplate）
+     * HttpClient Bean
+     * <p>
+     * 默认基于 RestTemplate；配置 redis.ack.http.engine=jdk 时使用 JDK HttpClient（共享连接池、非阻塞异步）
      */
     @Bean(name = "ackHttpClient")
     @ConditionalOnMissingBean(name = "ackHttpClient")
-    public HttpClient ackHttpClient(@Qualifier("ackRestTemplate") RestTemplate ackRestTemplate) {
+    public HttpClient ackHttpClient(@Qualifier("ackRestTemplate") RestTemplate ackRestTemplate,
+                                    RedisAckProperties properties) {
+        RedisAckProperties.HttpConfig http = properties.getHttp();
+        if ("jdk".equalsIgnoreCase(http.getEngine())) {
+            return new JdkHttpClient(
+                JdkHttpClient.newClient(http.getConnectTimeout(), http.isHttp2Enabled()),
+                http.getReadTimeout()
+            );
+        }
         return new RestTemplateHttpClient(ackRestTemplate);
     }
 
@@ -67,21 +86,63 @@ public class RedisAckAutoConfiguration {
             @Qualifier("ackHttpClient") HttpClient ackHttpClient,
             ObjectMapper objectMapper,
             ObjectProvider<MeterRegistry> meterRegistryProvider,
-            @Qualifier("ackVerifyExecutor") Executor ackVerifyExecutor) {
+            @Qualifier("ackVerifyExecutor") Executor ackVerifyExecutor,
+            @Qualifier("ackAsyncExecutor") Executor ackAsyncExecutor,
+            RedisAckProperties properties) {
         MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        RedisAckProperties.MetricsConfig metrics = properties.getMetrics();
         AckMetricsRecorder metricsRecorder = registry != null
-            ? new MicrometerAckMetricsRecorder(registry)
+            ? new MicrometerAckMetricsRecorder(registry, metrics.getMaxEndpointTags(), metrics.getEndpointIdleTimeout())
             : AckMetricsRecorder.noop();
 
+        ExecutorService verifyExecutor = toExecutorService(ackVerifyExecutor);
+        ExecutorService asyncExecutor = toExecutorService(ackAsyncExecutor);
+        if (registry != null) {
+            // 线程池指标：executor.queued / executor.active / executor.pool.size 等，name=ack-verify|ack-async
+            new ExecutorServiceMetrics(verifyExecutor, "ack-verify", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(asyncExecutor, "ack-async", Tags.empty()).bindTo(registry);
+        }
+
+        // 多租户校验同一网关实例时合并轮询：每轮请求数从 租户 × 实例 降为 实例
+        RedisAckProperties.HttpConfig http = properties.getHttp();
+        VerifyPollCoalescer pollCoalescer = http.isCoalesceEnabled()
+            ? new VerifyPollCoalescer(ackHttpClient, http.getCoalesceWindow())
+            : null;
+
+        // 收敛时间统计：供 retryAdaptive 按端点历史调度探测
+        RedisAckProperties.RetryConfig retry = properties.getDefaultRetry();
+        ConvergenceTracker convergenceTracker = new ConvergenceTracker(
+            retry.getHistorySize(), retry.getMinSamples(), retry.getStaleAfter());
+
+        // executeAsync 使用的有界线程池与 verifyExecutor 分开，避免 ACK 任务与其内部的并发校验互相等待
         return new DefaultRedisAckService(
             ackRedisClient,
             ackHttpClient,
             objectMapper,
-            metricsRecorder,
-            (java.util.concurrent.ExecutorService) ackVerifyExecutor
+            AckCollaborators.builder()
+                .metricsRecorder(metricsRecorder)
+                .executorService(verifyExecutor)
+                .pollCoalescer(pollCoalescer)
+                .convergenceTracker(convergenceTracker)
+                .ackExecutor(new AckExecutor(ackRedisClient, asyncExecutor))
+                .build()
         );
     }
 
+    /**
+     * ThreadPoolTaskExecutor 取其底层 ThreadPoolExecutor（本身不是 ExecutorService）
+     */
+    private static ExecutorService toExecutorService(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            return taskExecutor.getThreadPoolExecutor();
+        }
+        if (executor instanceof ExecutorService executorService) {
+            return executorService;
+        }
+        throw new IllegalStateException("ACK executor must be a ThreadPoolTaskExecutor or ExecutorService: "
+            + executor.getClass().getName());
+    }
+
     /**
      * ACK 专用的 RestTemplate
      */
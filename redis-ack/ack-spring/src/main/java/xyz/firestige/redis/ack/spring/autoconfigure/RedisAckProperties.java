@@ -98,7 +98,8 @@ public class RedisAckProperties {
      */
     public static class RetryConfig {
         /**
-         * 重试策略类型：fixed-delay, exponential-backoff
+         * 重试策略类型：fixed-delay, exponential-backoff（adaptive 由调用方通过 retryAdaptive 指定，
+         * 以上述策略作为回退）
          */
         private String type = "fixed-delay";
 
@@ -122,6 +123,21 @@ public class RedisAckProperties {
          */
         private double multiplier = 2.0;
 
+        /**
+         * 每个端点保留的收敛时间样本数（自适应策略）
+         */
+        private int historySize = 64;
+
+        /**
+         * 启用自适应调度所需的最少样本数（自适应策略）
+         */
+        private int minSamples = 5;
+
+        /**
+         * 样本过期时长，超过后回退到静态策略（自适应策略）
+         */
+        private Duration staleAfter = Duration.ofMinutes(30);
+
         // Getters and Setters
 
         public String getType() {
@@ -163,6 +179,30 @@ public class RedisAckProperties {
         public void setMultiplier(double multiplier) {
             this.multiplier = multiplier;
         }
+
+        public int getHistorySize() {
+            return historySize;
+        }
+
+        public void setHistorySize(int historySize) {
+            this.historySize = historySize;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public Duration getStaleAfter() {
+            return staleAfter;
+        }
+
+        public void setStaleAfter(Duration staleAfter) {
+            this.staleAfter = staleAfter;
+        }
     }
 
     /**
@@ -180,10 +220,31 @@ public class RedisAckProperties {
         private Duration readTimeout = Duration.ofSeconds(10);
 
         /**
-         * 最大连接数
+         * 最大连接数（仅对 rest-template 引擎的底层连接池有意义；
+         * jdk 引擎的连接池由 jdk.httpclient.connectionPoolSize 系统属性控制）
          */
         private int maxConnections = 50;
 
+        /**
+         * HTTP 引擎：rest-template（默认）或 jdk（共享连接池 + 非阻塞异步）
+         */
+        private String engine = "rest-template";
+
+        /**
+         * 是否优先协商 HTTP/2（仅 jdk 引擎）
+         */
+        private boolean http2Enabled = true;
+
+        /**
+         * 是否合并跨任务的 Verify 轮询（同一 URL 共享在途请求与响应）
+         */
+        private boolean coalesceEnabled = true;
+
+        /**
+         * 合并后成功响应的复用时长（ZERO 表示只合并在途请求）
+         */
+        private Duration coalesceWindow = Duration.ofMillis(500);
+
         // Getters and Setters
 
         public Duration getConnectTimeout() {
@@ -209,6 +270,38 @@ public class RedisAckProperties {
         public void setMaxConnections(int maxConnections) {
             this.maxConnections = maxConnections;
         }
+
+        public String getEngine() {
+            return engine;
+        }
+
+        public void setEngine(String engine) {
+            this.engine = engine;
+        }
+
+        public boolean isHttp2Enabled() {
+            return http2Enabled;
+        }
+
+        public void setHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+        }
+
+        public boolean isCoalesceEnabled() {
+            return coalesceEnabled;
+        }
+
+        public void setCoalesceEnabled(boolean coalesceEnabled) {
+            this.coalesceEnabled = coalesceEnabled;
+        }
+
+        public Duration getCoalesceWindow() {
+            return coalesceWindow;
+        }
+
+        public void setCoalesceWindow(Duration coalesceWindow) {
+            this.coalesceWindow = coalesceWindow;
+        }
     }
 
     /**
@@ -245,6 +338,16 @@ public class RedisAckProperties {
          */
         private Duration reportInterval = Duration.ofSeconds(60);
 
+        /**
+         * 分阶段指标同时保留的 endpoint 标签取值上限（超出后记入 endpoint=other）
+         */
+        private int maxEndpointTags = 100;
+
+        /**
+         * endpoint 超过该时长未记录，达到上限时移除其指标
+         */
+        private Duration endpointIdleTimeout = Duration.ofMinutes(30);
+
         // Getters and Setters
 
         public boolean isEnabled() {
@@ -262,6 +365,22 @@ public class RedisAckProperties {
         public void setReportInterval(Duration reportInterval) {
             this.reportInterval = reportInterval;
         }
+
+        public int getMaxEndpointTags() {
+            return maxEndpointTags;
+        }
+
+        public void setMaxEndpointTags(int maxEndpointTags) {
+            this.maxEndpointTags = maxEndpointTags;
+        }
+
+        public Duration getEndpointIdleTimeout() {
+            return endpointIdleTimeout;
+        }
+
+        public void setEndpointIdleTimeout(Duration endpointIdleTimeout) {
+            this.endpointIdleTimeout = endpointIdleTimeout;
+        }
     }
 }
 
@@ -20,7 +20,14 @@ import java.util.concurrent.ThreadPoolExecutor;
  *       max-pool-size: 20
  *       queue-capacity: 100
  *       thread-name-prefix: "ack-verify-"
+ *       async-core-pool-size: 4
+ *       async-max-pool-size: 16
+ *       async-queue-capacity: 200
+ *       async-thread-name-prefix: "ack-async-"
  * </pre>
+ * <p>
+ * ackVerifyExecutor 用于单个 ACK 内的多 URL 并发校验；ackAsyncExecutor 用于 executeAsync 执行整个 ACK
+ * （含阻塞的重试等待）。两者分开，避免 ACK 任务占满线程后等待排在其后的校验请求。
  *
  * @author AI
  * @since 1.0
@@ -34,14 +41,27 @@ public class AckExecutorConfig {
     private int queueCapacity = 100;
     private String threadNamePrefix = "ack-verify-";
     private int keepAliveSeconds = 60;
+    private int asyncCorePoolSize = 4;
+    private int asyncMaxPoolSize = 16;
+    private int asyncQueueCapacity = 200;
+    private String asyncThreadNamePrefix = "ack-async-";
 
     @Bean("ackVerifyExecutor")
     public Executor ackVerifyExecutor() {
+        return createExecutor(corePoolSize, maxPoolSize, queueCapacity, threadNamePrefix);
+    }
+
+    @Bean("ackAsyncExecutor")
+    public Executor ackAsyncExecutor() {
+        return createExecutor(asyncCorePoolSize, asyncMaxPoolSize, asyncQueueCapacity, asyncThreadNamePrefix);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(int core, int max, int queue, String namePrefix) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(corePoolSize);
-        executor.setMaxPoolSize(maxPoolSize);
-        executor.setQueueCapacity(queueCapacity);
-        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(core);
+        executor.setMaxPoolSize(max);
+        executor.setQueueCapacity(queue);
+        executor.setThreadNamePrefix(namePrefix);
         executor.setKeepAliveSeconds(keepAliveSeconds);
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -91,5 +111,37 @@ public class AckExecutorConfig {
     public void setKeepAliveSeconds(int keepAliveSeconds) {
         this.keepAliveSeconds = keepAliveSeconds;
     }
+
+    public int getAsyncCorePoolSize() {
+        return asyncCorePoolSize;
+    }
+
+    public void setAsyncCorePoolSize(int asyncCorePoolSize) {
+        this.asyncCorePoolSize = asyncCorePoolSize;
+    }
+
+    public int getAsyncMaxPoolSize() {
+        return asyncMaxPoolSize;
+    }
+
+    public void setAsyncMaxPoolSize(int asyncMaxPoolSize) {
+        this.asyncMaxPoolSize = asyncMaxPoolSize;
+    }
+
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    public String getAsyncThreadNamePrefix() {
+        return asyncThreadNamePrefix;
+    }
+
+    public void setAsyncThreadNamePrefix(String asyncThreadNamePrefix) {
+        this.asyncThreadNamePrefix = asyncThreadNamePrefix;
+    }
 }
 
@@ -0,0 +1,120 @@
+package xyz.firestige.redis.ack.spring.http;
+
+import xyz.firestige.redis.ack.api.HttpClient;
+import xyz.firestige.redis.ack.api.HttpClientException;
+import xyz.firestige.redis.ack.api.HttpResponse;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 基于 JDK {@link java.net.http.HttpClient} 的 HttpClient 实现
+ *
+ * <p>特点：
+ * <ul>
+ *   <li>单实例共享，内部按 host 复用 keep-alive 连接（HTTP/1.1 连接池 / HTTP/2 多路复用）</li>
+ *   <li>异步方法基于 {@code sendAsync}，不为每个请求占用调用线程</li>
+ *   <li>连接池大小与空闲超时由 JDK 系统属性 {@code jdk.httpclient.connectionPoolSize}、
+ *       {@code jdk.httpclient.keepalive.timeout} 控制</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+public class JdkHttpClient implements HttpClient {
+
+    private final java.net.http.HttpClient client;
+    private final Duration requestTimeout;
+
+    public JdkHttpClient(java.net.http.HttpClient client, Duration requestTimeout) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 使用默认参数构建共享的 JDK HttpClient
+     *
+     * @param connectTimeout 连接超时
+     * @param http2Enabled 是否优先协商 HTTP/2
+     */
+    public static java.net.http.HttpClient newClient(Duration connectTimeout, boolean http2Enabled) {
+        return java.net.http.HttpClient.newBuilder()
+            .version(http2Enabled ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    @Override
+    public HttpResponse get(String url) throws HttpClientException {
+        return join(getAsync(url), "GET", url);
+    }
+
+    @Override
+    public HttpResponse post(String url, String body) throws HttpClientException {
+        return join(postAsync(url, body), "POST", url);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> getAsync(String url) {
+        HttpRequest request;
+        try {
+            request = newRequest(url).GET().build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new HttpClientException("HTTP GET request failed: " + url, e));
+        }
+        return send(request, "GET", url);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(String url, String body) {
+        HttpRequest request;
+        try {
+            request = newRequest(url)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body != null ? body : ""))
+                .build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new HttpClientException("HTTP POST request failed: " + url, e));
+        }
+        return send(request, "POST", url);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    private HttpRequest.Builder newRequest(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(requestTimeout);
+    }
+
+    private CompletableFuture<HttpResponse> send(HttpRequest request, String method, String url) {
+        return client.sendAsync(request, java.net.http.HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    throw new HttpClientException("HTTP " + method + " request failed: " + url, cause);
+                }
+                return new HttpResponse(response.statusCode(), response.body());
+            });
+    }
+
+    private HttpResponse join(CompletableFuture<HttpResponse> future, String method, String url) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpClientException("HTTP " + method + " request interrupted: " + url, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof HttpClientException hce) {
+                throw hce;
+            }
+            throw new HttpClientException("HTTP " + method + " request failed: " + url, e.getCause());
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package xyz.firestige.redis.ack.spring.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import xyz.firestige.redis.ack.api.AckMetricsRecorder;
+import xyz.firestige.redis.ack.api.AckPhase;
 import xyz.firestige.redis.ack.api.AckResult;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
 /**
  * 基于 Micrometer 的 ACK 指标记录器
  * <p>
@@ -16,20 +26,59 @@ import xyz.firestige.redis.ack.api.AckResult;
  * - redis_ack_timeout: 超时次数
  * - redis_ack_error: 错误次数
  * - redis_ack_duration: 执行耗时分布
+ * - redis_ack_phase_duration{phase, endpoint}: 分阶段耗时分布（write / first_verify / converge）
+ * - redis_ack_attempts{endpoint}: 每次 ACK 的校验尝试次数分布
+ * <p>
+ * endpoint 为校验端点的 host:port 集合（自定义端点为 {@value #UNKNOWN_ENDPOINT}），
+ * 用于区分慢在 Redis（write，含管道中的 TTL 与 PUBLISH）还是网关（first_verify/converge）。
+ * <p>
+ * 网关实例会扩缩容、换地址，endpoint 取值没有上界：同时保留的 endpoint 数达到上限时，先移除空闲超时的
+ * endpoint 及其 Meter，仍满则记入 {@value #OVERFLOW_ENDPOINT}，Meter 数量有界。
  *
  * @author AI
  * @since 1.0
  */
 public class MicrometerAckMetricsRecorder implements AckMetricsRecorder {
 
+    static final String UNKNOWN_ENDPOINT = "unknown";
+    static final String OVERFLOW_ENDPOINT = "other";
+    static final int DEFAULT_MAX_ENDPOINTS = 100;
+    static final Duration DEFAULT_ENDPOINT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final MeterRegistry registry;
     private final Counter executions;
     private final Counter success;
     private final Counter mismatch;
     private final Counter timeout;
     private final Counter error;
     private final Timer executionTimer;
+    private final ConcurrentMap<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+    private final int maxEndpoints;
+    private final long endpointIdleTimeoutNanos;
+    private final LongSupplier clock;
+    private EndpointMeters overflowMeters; // 懒创建，guarded by this
 
     public MicrometerAckMetricsRecorder(MeterRegistry registry) {
+        this(registry, DEFAULT_MAX_ENDPOINTS, DEFAULT_ENDPOINT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param maxEndpoints        同时保留的 endpoint 标签取值上限
+     * @param endpointIdleTimeout 超过该时长未记录的 endpoint 在达到上限时被移除
+     */
+    public MicrometerAckMetricsRecorder(MeterRegistry registry, int maxEndpoints, Duration endpointIdleTimeout) {
+        this(registry, maxEndpoints, endpointIdleTimeout, System::nanoTime);
+    }
+
+    MicrometerAckMetricsRecorder(MeterRegistry registry, int maxEndpoints, Duration endpointIdleTimeout,
+                                 LongSupplier clock) {
+        if (maxEndpoints < 1) {
+            throw new IllegalArgumentException("maxEndpoints must be positive: " + maxEndpoints);
+        }
+        this.registry = registry;
+        this.maxEndpoints = maxEndpoints;
+        this.endpointIdleTimeoutNanos = endpointIdleTimeout.toNanos();
+        this.clock = clock;
         this.executions = Counter.builder("redis_ack_executions")
             .description("Total ACK executions")
             .register(registry);
@@ -53,6 +102,11 @@ public class MicrometerAckMetricsRecorder implements AckMetricsRecorder {
 
     @Override
     public void record(AckResult result) {
+        record(result, null);
+    }
+
+    @Override
+    public void record(AckResult result, String endpoint) {
         executions.increment();
         if (result.isSuccess()) {
             success.increment();
@@ -64,6 +118,91 @@ public class MicrometerAckMetricsRecorder implements AckMetricsRecorder {
             error.increment();
         }
         executionTimer.record(result.getElapsed());
+
+        EndpointMeters meters = endpointMeters(endpoint != null ? endpoint : UNKNOWN_ENDPOINT);
+        meters.attempts.record(result.getAttempts());
+        for (Map.Entry<AckPhase, Duration> phase : result.getPhaseDurations().entrySet()) {
+            meters.phases.get(phase.getKey()).record(phase.getValue());
+        }
+    }
+
+    private EndpointMeters endpointMeters(String endpoint) {
+        long now = clock.getAsLong();
+        EndpointMeters meters = endpointMeters.get(endpoint);
+        if (meters == null) {
+            meters = admit(endpoint, now);
+        }
+        meters.lastRecordedAt = now;
+        return meters;
+    }
+
+    /**
+     * 新 endpoint：未达上限时注册；达到上限先移除空闲的 endpoint，仍满则并入溢出标签
+     */
+    private synchronized EndpointMeters admit(String endpoint, long now) {
+        EndpointMeters meters = endpointMeters.get(endpoint);
+        if (meters != null) {
+            return meters;
+        }
+        if (endpointMeters.size() >= maxEndpoints) {
+            evictIdle(now);
+        }
+        if (endpointMeters.size() < maxEndpoints) {
+            meters = createEndpointMeters(endpoint);
+            endpointMeters.put(endpoint, meters);
+            return meters;
+        }
+        if (overflowMeters == null) {
+            overflowMeters = createEndpointMeters(OVERFLOW_ENDPOINT);
+        }
+        return overflowMeters;
+    }
+
+    /**
+     * 移除空闲 endpoint 的 Meter（与之并发的记录可能落到已移除的 Meter 上，只丢失这一条样本）
+     */
+    private void evictIdle(long now) {
+        endpointMeters.values().removeIf(meters -> {
+            if (now - meters.lastRecordedAt <= endpointIdleTimeoutNanos) {
+                return false;
+            }
+            meters.phases.values().forEach(registry::remove);
+            registry.remove(meters.attempts);
+            return true;
+        });
+    }
+
+    private EndpointMeters createEndpointMeters(String endpoint) {
+        Map<AckPhase, Timer> phases = new EnumMap<>(AckPhase.class);
+        for (AckPhase phase : AckPhase.values()) {
+            phases.put(phase, Timer.builder("redis_ack_phase_duration")
+                .description("ACK phase duration")
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        DistributionSummary attempts = DistributionSummary.builder("redis_ack_attempts")
+            .description("Verify attempts per ACK")
+            .tag("endpoint", endpoint)
+            .publishPercentileHistogram()
+            .register(registry);
+        return new EndpointMeters(phases, attempts);
+    }
+
+    /**
+     * 单个端点的分阶段指标
+     */
+    private static final class EndpointMeters {
+
+        private final Map<AckPhase, Timer> phases;
+        private final DistributionSummary attempts;
+        private volatile long lastRecordedAt;
+
+        EndpointMeters(Map<AckPhase, Timer> phases, DistributionSummary attempts) {
+            this.phases = phases;
+            this.attempts = attempts;
+        }
     }
 }
 
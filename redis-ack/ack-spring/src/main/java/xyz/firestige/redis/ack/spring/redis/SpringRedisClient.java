@@ -1,24 +1,38 @@
 package xyz.firestige.redis.ack.spring.redis;
 
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import xyz.firestige.redis.ack.api.RedisClient;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 基于 Spring StringRedisTemplate 的 RedisClient 实现
+ * <p>
+ * {@link #pipeline(Consumer)} 使用 {@code executePipelined}，回调内的命令在同一连接上一次发送；
+ * 单条命令失败时从 {@link RedisPipelineException} 中取回各命令结果，不整体抛出。
  *
  * @author AI
  * @since 1.0
  */
 public class SpringRedisClient implements RedisClient {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisOperations<String, String> redisTemplate;
+    private final boolean pipelined;
 
     public SpringRedisClient(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, false);
+    }
+
+    private SpringRedisClient(RedisOperations<String, String> redisTemplate, boolean pipelined) {
         this.redisTemplate = redisTemplate;
+        this.pipelined = pipelined;
     }
 
     @Override
@@ -65,4 +79,30 @@ public class SpringRedisClient implements RedisClient {
     public void publish(String channel, String message) {
         redisTemplate.convertAndSend(channel, message);
     }
+
+    @Override
+    public List<Object> pipeline(Consumer<RedisClient> commands) {
+        if (pipelined) {
+            // 已在管道中：直接排队，不再嵌套
+            commands.accept(this);
+            return List.of();
+        }
+        try {
+            return redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    commands.accept(new SpringRedisClient((RedisOperations<String, String>) operations, true));
+                    return null; // executePipelined 要求回调返回 null
+                }
+            });
+        } catch (RedisPipelineException e) {
+            // 单条命令失败：异常按提交顺序出现在结果中；结果为空表示整个管道失败（如超时）
+            List<Object> results = e.getPipelineResult();
+            if (results == null || results.isEmpty()) {
+                throw e;
+            }
+            return results;
+        }
+    }
 }
@@ -0,0 +1,197 @@
+package xyz.firestige.redis.ack.spring.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.api.HttpClientException;
+import xyz.firestige.redis.ack.api.HttpResponse;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 验证 JdkHttpClient 的超时、异步错误映射与非阻塞声明（本地 Socket 服务端）
+ */
+class JdkHttpClientTest {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final StubServer server = new StubServer();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.port() + path;
+    }
+
+    private static JdkHttpClient client(Duration requestTimeout) {
+        return new JdkHttpClient(JdkHttpClient.newClient(CONNECT_TIMEOUT, false), requestTimeout);
+    }
+
+    @Test
+    void shouldReturnStatusAndBody() {
+        HttpResponse response = client(Duration.ofSeconds(2)).get(url("/version"));
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("{\"version\":\"v1\"}");
+    }
+
+    @Test
+    void shouldPostJsonBodyAsync() throws Exception {
+        HttpResponse response = client(Duration.ofSeconds(2)).postAsync(url("/echo"), "{\"a\":1}")
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).isEqualTo(201);
+        assertThat(server.receivedBody.get()).isEqualTo("{\"a\":1}");
+        assertThat(server.receivedContentType.get()).isEqualTo("application/json");
+    }
+
+    @Test
+    void shouldFailWithTimeoutWhenResponseExceedsRequestTimeout() {
+        assertThatThrownBy(() -> client(Duration.ofMillis(200)).get(url("/slow")))
+            .isInstanceOf(HttpClientException.class)
+            .hasMessageContaining("GET")
+            .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void shouldMapAsyncConnectFailureToHttpClientException() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        CompletableFuture<HttpResponse> future =
+            client(Duration.ofSeconds(2)).getAsync("http://127.0.0.1:" + closedPort + "/version");
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOf(HttpClientException.class)
+            .hasMessageContaining("127.0.0.1:" + closedPort)
+            .hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    void shouldReturnFailedFutureForInvalidUrl() {
+        CompletableFuture<HttpResponse> future = client(Duration.ofSeconds(2)).getAsync("not a url");
+
+        // 构建请求失败时不在调用线程抛出，而是返回失败的 Future
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(HttpClientException.class);
+    }
+
+    @Test
+    void shouldDeclareNonBlockingAndApplyConnectTimeout() {
+        java.net.http.HttpClient jdk = JdkHttpClient.newClient(CONNECT_TIMEOUT, true);
+
+        assertThat(new JdkHttpClient(jdk, Duration.ofSeconds(2)).isNonBlocking()).isTrue();
+        assertThat(jdk.connectTimeout()).contains(CONNECT_TIMEOUT);
+        assertThat(jdk.version()).isEqualTo(java.net.http.HttpClient.Version.HTTP_2);
+    }
+
+    /**
+     * 最小 HTTP/1.1 服务端替身（模块路径下不可用 jdk.httpserver）：
+     * /version 返回版本，/echo 记录请求体，/slow 不响应直到关闭
+     */
+    private static final class StubServer implements Closeable {
+
+        private final AtomicReference<String> receivedBody = new AtomicReference<>();
+        private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+        private final ExecutorService pool = Executors.newCachedThreadPool();
+        private ServerSocket socket;
+
+        void start() throws IOException {
+            socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            pool.execute(() -> {
+                while (!socket.isClosed()) {
+                    try {
+                        Socket connection = socket.accept();
+                        pool.execute(() -> handle(connection));
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        int port() {
+            return socket.getLocalPort();
+        }
+
+        private void handle(Socket connection) {
+            try (connection) {
+                BufferedReader in = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                String path = in.readLine().split(" ")[1];
+                Map<String, String> headers = new HashMap<>();
+                for (String line = in.readLine(); line != null && !line.isEmpty(); line = in.readLine()) {
+                    int colon = line.indexOf(':');
+                    headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+                }
+                char[] body = new char[Integer.parseInt(headers.getOrDefault("content-length", "0"))];
+                for (int read = 0; read < body.length; ) {
+                    read += in.read(body, read, body.length - read);
+                }
+                switch (path) {
+                    case "/version" -> respond(connection, 200, "{\"version\":\"v1\"}");
+                    case "/echo" -> {
+                        receivedBody.set(new String(body));
+                        receivedContentType.set(headers.get("content-type"));
+                        respond(connection, 201, "ok");
+                    }
+                    default -> in.read(); // /slow：阻塞到客户端超时断开或服务端关闭
+                }
+            } catch (IOException | RuntimeException ignored) {
+                // 客户端超时断开
+            }
+        }
+
+        private static void respond(Socket connection, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            OutputStream out = connection.getOutputStream();
+            out.write(("HTTP/1.1 " + status + " OK\r\nContent-Length: " + bytes.length
+                + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+            pool.shutdownNow();
+        }
+    }
+}
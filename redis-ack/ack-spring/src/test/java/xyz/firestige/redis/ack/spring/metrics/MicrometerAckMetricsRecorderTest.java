@@ -0,0 +1,94 @@
+package xyz.firestige.redis.ack.spring.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.ack.api.AckPhase;
+import xyz.firestige.redis.ack.api.AckResult;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 验证分阶段耗时与尝试次数按端点打 Tag 记录，端点标签取值有界
+ */
+class MicrometerAckMetricsRecorderTest {
+
+    private static final String ENDPOINT = "gw-1:8080,gw-2:8080";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerAckMetricsRecorder recorder = new MicrometerAckMetricsRecorder(registry);
+
+    @Test
+    void shouldRecordPhaseDurationsAndAttemptsPerEndpoint() {
+        Map<AckPhase, Duration> phases = new EnumMap<>(AckPhase.class);
+        phases.put(AckPhase.WRITE, Duration.ofMillis(3));
+        phases.put(AckPhase.FIRST_VERIFY, Duration.ofMillis(40));
+        phases.put(AckPhase.CONVERGE, Duration.ofMillis(900));
+        AckResult result = AckResult.success("v1", "v1", 3, Duration.ofMillis(905)).withPhaseDurations(phases);
+
+        recorder.record(result, ENDPOINT);
+
+        Timer write = registry.get("redis_ack_phase_duration")
+            .tags("phase", "write", "endpoint", ENDPOINT).timer();
+        Timer converge = registry.get("redis_ack_phase_duration")
+            .tags("phase", "converge", "endpoint", ENDPOINT).timer();
+        assertThat(write.count()).isEqualTo(1);
+        assertThat(write.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+        assertThat(converge.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(900);
+
+        DistributionSummary attempts = registry.get("redis_ack_attempts").tag("endpoint", ENDPOINT).summary();
+        assertThat(attempts.totalAmount()).isEqualTo(3);
+        assertThat(registry.get("redis_ack_success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipPhasesNotReachedAndTagUnknownEndpoint() {
+        Map<AckPhase, Duration> phases = new EnumMap<>(AckPhase.class);
+        phases.put(AckPhase.WRITE, Duration.ofMillis(2));
+        AckResult result = AckResult.error("v1", 0, Duration.ofMillis(2), new IllegalStateException("redis down"))
+            .withPhaseDurations(phases);
+
+        recorder.record(result);
+
+        String endpoint = MicrometerAckMetricsRecorder.UNKNOWN_ENDPOINT;
+        assertThat(registry.get("redis_ack_phase_duration")
+            .tags("phase", "write", "endpoint", endpoint).timer().count()).isEqualTo(1);
+        assertThat(registry.get("redis_ack_phase_duration")
+            .tags("phase", "converge", "endpoint", endpoint).timer().count()).isZero();
+        assertThat(registry.get("redis_ack_error").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundEndpointTagsAndEvictIdleEndpoints() {
+        AtomicLong now = new AtomicLong();
+        MicrometerAckMetricsRecorder bounded =
+            new MicrometerAckMetricsRecorder(registry, 2, Duration.ofMinutes(30), now::get);
+        AckResult result = AckResult.success("v1", "v1", 1, Duration.ofMillis(5));
+
+        bounded.record(result, "gw-1:8080");
+        bounded.record(result, "gw-2:8080");
+        // 达到上限且无空闲 endpoint：新取值记入溢出标签
+        bounded.record(result, "gw-3:8080");
+        assertThat(registry.find("redis_ack_attempts").tag("endpoint", "gw-3:8080").summary()).isNull();
+        assertThat(registry.get("redis_ack_attempts")
+            .tag("endpoint", MicrometerAckMetricsRecorder.OVERFLOW_ENDPOINT).summary().count()).isEqualTo(1);
+
+        // gw-1 空闲超时后被移除，为新的 endpoint 腾出位置
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        bounded.record(result, "gw-2:8080");
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        bounded.record(result, "gw-3:8080");
+
+        assertThat(registry.find("redis_ack_attempts").tag("endpoint", "gw-1:8080").summary()).isNull();
+        assertThat(registry.find("redis_ack_phase_duration").tag("endpoint", "gw-1:8080").timers()).isEmpty();
+        assertThat(registry.get("redis_ack_attempts").tag("endpoint", "gw-2:8080").summary().count()).isEqualTo(2);
+        assertThat(registry.get("redis_ack_attempts").tag("endpoint", "gw-3:8080").summary().count()).isEqualTo(1);
+    }
+}
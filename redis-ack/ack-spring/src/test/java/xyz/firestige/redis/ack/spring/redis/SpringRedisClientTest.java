@@ -0,0 +1,77 @@
+package xyz.firestige.redis.ack.spring.redis;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 验证管道回调内的命令走 executePipelined 的会话连接，单条命令失败按位置返回
+ */
+class SpringRedisClientTest {
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void pipelineRoutesCommandsThroughSessionOperations() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        RedisOperations<String, String> session = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+        when(session.opsForHash()).thenReturn(hashOps);
+        when(template.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback) invocation.getArgument(0)).execute(session);
+            return List.of();
+        });
+
+        new SpringRedisClient(template).pipeline(pipe -> {
+            pipe.hset("deploy:config:tenant-001", "gateway", "{}");
+            pipe.expire("deploy:config:tenant-001", Duration.ofMinutes(10));
+            // 嵌套管道直接在当前管道中排队
+            pipe.pipeline(inner -> inner.publish("deploy:config:changed", "v1"));
+        });
+
+        verify(template, times(1)).executePipelined(any(SessionCallback.class));
+        verify(hashOps).put("deploy:config:tenant-001", "gateway", "{}");
+        verify(session).expire("deploy:config:tenant-001", 600_000L, TimeUnit.MILLISECONDS);
+        verify(session).convertAndSend("deploy:config:changed", "v1");
+        verify(template, never()).opsForHash();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pipelineReturnsPerCommandFailuresInsteadOfThrowing() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        RuntimeException publishError = new IllegalStateException("publish rejected");
+        when(template.executePipelined(any(SessionCallback.class))).thenThrow(
+            new RedisPipelineException(publishError, List.of(1L, true, publishError)));
+
+        List<Object> results = new SpringRedisClient(template).pipeline(pipe -> { });
+
+        assertEquals(List.of(1L, true, publishError), results);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pipelineWithoutResultsStillThrows() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        when(template.executePipelined(any(SessionCallback.class))).thenThrow(
+            new RedisPipelineException(new QueryTimeoutException("Redis command timed out")));
+
+        assertThrows(RedisPipelineException.class, () -> new SpringRedisClient(template).pipeline(pipe -> { }));
+    }
+}
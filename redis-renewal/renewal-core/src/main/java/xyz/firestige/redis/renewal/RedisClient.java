@@ -94,6 +94,25 @@ public interface RedisClient {
      */
     Collection<String> scan(String pattern, int count);
 
+    /**
+     * 从指定游标执行一步 SCAN
+     *
+     * <p>用于把一次完整的 SCAN 迭代分摊到多次调用中：调用方保存返回的游标，
+     * 下次从该游标继续，直到返回的游标为 {@code "0"}。
+     *
+     * <p>默认实现退化为一次完整的 {@link #scan(String, int)}，并返回已完成的结果页；
+     * 支持游标续扫的客户端应覆盖此方法。
+     *
+     * @param pattern 匹配模式（如 "prefix:*"）
+     * @param cursor 起始游标，{@code "0"} 表示开始新一轮迭代
+     * @param count 本步扫描数量（建议值）
+     * @return 本步扫描到的 Key 与下一次的游标
+     * @since 1.1.0
+     */
+    default ScanPage scanStep(String pattern, String cursor, int count) {
+        return ScanPage.complete(scan(pattern, count));
+    }
+
     /**
      * 检查 Key 是否存在
      *
@@ -0,0 +1,48 @@
+package xyz.firestige.redis.renewal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 单步 SCAN 的结果页
+ *
+ * <p>{@link #getCursor()} 为下一次 SCAN 的游标，{@code "0"} 表示本轮迭代已完成。
+ *
+ * @since 1.1.0
+ */
+public final class ScanPage {
+
+    /** Redis SCAN 的起始/结束游标 */
+    public static final String START_CURSOR = "0";
+
+    private final String cursor;
+    private final Collection<String> keys;
+
+    public ScanPage(String cursor, Collection<String> keys) {
+        this.cursor = Objects.requireNonNull(cursor);
+        this.keys = keys != null ? keys : List.of();
+    }
+
+    /**
+     * 构造表示迭代已完成的结果页
+     */
+    public static ScanPage complete(Collection<String> keys) {
+        return new ScanPage(START_CURSOR, keys);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Collection<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return {@code true} 本轮迭代已完成
+     */
+    public boolean isComplete() {
+        return START_CURSOR.equals(cursor);
+    }
+}
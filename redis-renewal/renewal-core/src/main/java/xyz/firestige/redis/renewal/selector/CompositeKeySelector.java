@@ -31,6 +31,15 @@ public class CompositeKeySelector implements KeySelector {
         return merged;
     }
 
+    @Override
+    public Collection<String> currentKeys(RenewalContext context) {
+        Set<String> merged = new LinkedHashSet<>();
+        for (KeySelector k : delegates) {
+            merged.addAll(k.currentKeys(context));
+        }
+        return merged;
+    }
+
     @Override
     public String getName() { return "CompositeKeySelector"; }
 }
@@ -11,4 +11,14 @@ import java.util.Collection;
 @FunctionalInterface
 public interface KeySelector extends Named {
     Collection<String> selectKeys(RenewalContext context);
+
+    /**
+     * 返回当前已知的 Key，供停止条件等只读场景使用
+     *
+     * <p>与 {@link #selectKeys} 不同，不推进增量扫描等有状态的选择过程，
+     * 避免同一次续期内选择状态被推进两次。默认等同 {@link #selectKeys}。
+     */
+    default Collection<String> currentKeys(RenewalContext context) {
+        return selectKeys(context);
+    }
 }
@@ -1,29 +1,137 @@
 package xyz.firestige.redis.renewal.selector;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import xyz.firestige.redis.renewal.RedisClient;
 import xyz.firestige.redis.renewal.RenewalContext;
+import xyz.firestige.redis.renewal.ScanPage;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
+/**
+ * 按匹配模式选择 Key
+ *
+ * <p>维护一份缓存的 Key 集合，并把 SCAN 分摊到多次续期中：每次 {@link #selectKeys}
+ * 最多从上次的游标继续执行 {@code maxStepsPerTick} 步 SCAN。一轮迭代完成后用本轮扫描到的
+ * Key 替换缓存（已删除的 Key 随之移除），距上一轮开始满 {@code fullRefreshInterval}
+ * 后再开始下一轮。两轮之间直接返回缓存，不访问 Redis。
+ *
+ * <p>首次选择时缓存为空，会一次扫完整个键空间，避免尚未发现的 Key 漏续期。
+ * {@code maxStepsPerTick <= 0} 时每次都执行完整扫描（旧行为）。
+ *
+ * <p>{@link #currentKeys} 只返回已知的 Key、不推进扫描。已删除的 Key 要等所在一轮迭代完成后
+ * 才会移出缓存，因此依赖它的停止条件（如 {@code KeyNotExistsStopStrategy}）最多滞后
+ * {@code fullRefreshInterval} 加一轮迭代的时间。
+ */
 public class PatternKeySelector implements KeySelector {
 
+    private static final Logger log = LoggerFactory.getLogger(PatternKeySelector.class);
+
     private final String pattern;
 
     private final RedisClient client;
 
     private final int scanCount;
 
+    private final int maxStepsPerTick;
+
+    private final long fullRefreshIntervalNanos;
+
+    /** 上一轮完整迭代得到的 Key（不可变，供并发读取） */
+    private volatile Set<String> cachedKeys;
+
+    /** 当前轮迭代已扫描到的 Key */
+    private Set<String> scanningKeys = new HashSet<>();
+
+    private String cursor = ScanPage.START_CURSOR;
+
+    private boolean scanning;
+
+    private long cycleStartedAt;
+
     public PatternKeySelector(String pattern, RedisClient client, int scanCount) {
+        this(pattern, client, scanCount, 0, Duration.ZERO);
+    }
+
+    /**
+     * @param maxStepsPerTick 每次选择最多执行的 SCAN 步数，{@code <= 0} 表示每次完整扫描
+     * @param fullRefreshInterval 两轮完整迭代开始时间的最小间隔
+     */
+    public PatternKeySelector(String pattern, RedisClient client, int scanCount,
+                              int maxStepsPerTick, Duration fullRefreshInterval) {
         this.pattern = Objects.requireNonNull(pattern);
         this.client = Objects.requireNonNull(client);
         this.scanCount = scanCount;
+        this.maxStepsPerTick = maxStepsPerTick;
+        this.fullRefreshIntervalNanos = Objects.requireNonNull(fullRefreshInterval).toNanos();
     }
 
 
     @Override
     public Collection<String> selectKeys(RenewalContext context) {
-        return client.scan(pattern, scanCount);
+        if (maxStepsPerTick <= 0) {
+            return client.scan(pattern, scanCount);
+        }
+        return refresh();
+    }
+
+    @Override
+    public Collection<String> currentKeys(RenewalContext context) {
+        if (maxStepsPerTick <= 0) {
+            return client.scan(pattern, scanCount);
+        }
+        synchronized (this) {
+            // 尚未完成过一轮迭代时没有可用的缓存，先完成首轮扫描
+            return cachedKeys == null ? refresh() : knownKeys();
+        }
+    }
+
+    private synchronized Collection<String> refresh() {
+        long now = System.nanoTime();
+        if (!scanning && (cachedKeys == null || now - cycleStartedAt >= fullRefreshIntervalNanos)) {
+            scanning = true;
+            cycleStartedAt = now;
+            cursor = ScanPage.START_CURSOR;
+            scanningKeys = new HashSet<>();
+        }
+
+        // 首轮不限步数，保证第一次选择即返回完整的 Key 集合
+        int steps = cachedKeys == null ? Integer.MAX_VALUE : maxStepsPerTick;
+        try {
+            for (int i = 0; scanning && i < steps; i++) {
+                ScanPage page = client.scanStep(pattern, cursor, scanCount);
+                scanningKeys.addAll(page.getKeys());
+                cursor = page.getCursor();
+                if (page.isComplete()) {
+                    cachedKeys = Collections.unmodifiableSet(scanningKeys);
+                    scanningKeys = new HashSet<>();
+                    scanning = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 保留游标，下次从失败处继续
+            log.warn("增量扫描 Key 失败: pattern={}, cursor={}, error={}", pattern, cursor, e.getMessage());
+        }
+        return knownKeys();
+    }
+
+    /**
+     * 缓存的 Key 加上本轮迭代已扫描到的 Key
+     */
+    private Collection<String> knownKeys() {
+        Set<String> cached = cachedKeys != null ? cachedKeys : Set.of();
+        if (scanningKeys.isEmpty()) {
+            return cached;
+        }
+        // 迭代进行中：新发现的 Key 立即参与续期
+        Set<String> merged = new HashSet<>(cached);
+        merged.addAll(scanningKeys);
+        return merged;
     }
 
     @Override public String getName() {
@@ -31,4 +139,3 @@ public class PatternKeySelector implements KeySelector {
     }
 
 }
-
@@ -7,6 +7,9 @@ import java.util.Collection;
 
 /**
  * 当选定的键不存在时停止续期的策略实现
+ *
+ * <p>通过 {@link KeySelector#currentKeys} 读取 Key，不会在续期之外再推进一次增量扫描。
+ * 选择器缓存 Key 时（如增量模式的 {@code PatternKeySelector}），Key 删除后要等缓存刷新才会停止。
  */
 public class KeyNotExistsStopStrategy implements StopStrategy {
 
@@ -17,7 +20,7 @@ public class KeyNotExistsStopStrategy implements StopStrategy {
     }
     @Override
     public boolean shouldStop(RenewalContext context) {
-        Collection<String> keys = selector.selectKeys(context);
+        Collection<String> keys = selector.currentKeys(context);
         return keys.isEmpty();
     }
 
@@ -0,0 +1,181 @@
+package xyz.firestige.redis.renewal.selector;
+
+import org.junit.jupiter.api.Test;
+import xyz.firestige.redis.renewal.RedisClient;
+import xyz.firestige.redis.renewal.RenewalContext;
+import xyz.firestige.redis.renewal.ScanPage;
+import xyz.firestige.redis.renewal.strategy.stop.KeyNotExistsStopStrategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PatternKeySelector 增量扫描单元测试
+ */
+class PatternKeySelectorTest {
+
+    private static final String PATTERN = "lock:*";
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final ScriptedRedisClient client = new ScriptedRedisClient();
+    private final RenewalContext context = new RenewalContext("task-1");
+
+    /**
+     * 键空间分三页：0 → 7 → 9 → 0
+     */
+    private void threePages(String first, String second, String third) {
+        client.page("0", "7", first);
+        client.page("7", "9", second);
+        client.page("9", "0", third);
+    }
+
+    @Test
+    void testFirstSelectionScansWholeKeyspace() {
+        threePages("a", "b", "c");
+        PatternKeySelector selector = new PatternKeySelector(PATTERN, client, 100, 1, NEVER);
+
+        assertEquals(Set.of("a", "b", "c"), Set.copyOf(selector.selectKeys(context)));
+        assertEquals(List.of("0", "7", "9"), client.cursors);
+
+        // 两轮之间直接返回缓存，不访问 Redis
+        assertEquals(Set.of("a", "b", "c"), Set.copyOf(selector.selectKeys(context)));
+        assertEquals(3, client.cursors.size());
+    }
+
+    @Test
+    void testResumesFromCursorAcrossSelections() {
+        threePages("a", "b", "c");
+        PatternKeySelector selector = new PatternKeySelector(PATTERN, client, 100, 1, Duration.ZERO);
+        selector.selectKeys(context);
+        client.cursors.clear();
+
+        selector.selectKeys(context);
+        selector.selectKeys(context);
+        selector.selectKeys(context);
+
+        // 每次只走一步，从上次的游标继续
+        assertEquals(List.of("0", "7", "9"), client.cursors);
+    }
+
+    @Test
+    void testCacheSwappedOnlyWhenPassCompletes() {
+        threePages("a", "b", "c");
+        PatternKeySelector selector = new PatternKeySelector(PATTERN, client, 100, 1, Duration.ZERO);
+        selector.selectKeys(context);
+
+        // a 被删除、d 新增
+        threePages("d", "b", "c");
+        Collection<String> inProgress = selector.selectKeys(context);
+        assertEquals(Set.of("a", "b", "c", "d"), Set.copyOf(inProgress), "迭代中保留旧缓存并合并新发现的 Key");
+
+        selector.selectKeys(context);
+        Collection<String> swapped = selector.selectKeys(context);
+        assertEquals(Set.of("b", "c", "d"), Set.copyOf(swapped));
+    }
+
+    @Test
+    void testScanErrorKeepsCacheAndRetriesSameCursor() {
+        threePages("a", "b", "c");
+        PatternKeySelector selector = new PatternKeySelector(PATTERN, client, 100, 1, Duration.ZERO);
+        selector.selectKeys(context);
+        selector.selectKeys(context);
+        client.cursors.clear();
+
+        client.failOnce("7");
+        assertEquals(Set.of("a", "b", "c"), Set.copyOf(selector.selectKeys(context)));
+        selector.selectKeys(context);
+
+        assertEquals(List.of("7", "7"), client.cursors);
+    }
+
+    @Test
+    void testStopStrategyDoesNotAdvanceScan() {
+        threePages("a", "b", "c");
+        PatternKeySelector selector = new PatternKeySelector(PATTERN, client, 100, 1, Duration.ZERO);
+        KeyNotExistsStopStrategy stopStrategy = new KeyNotExistsStopStrategy(selector);
+
+        // 首次由停止条件触发时完成首轮扫描
+        assertFalse(stopStrategy.shouldStop(context));
+        client.cursors.clear();
+
+        selector.selectKeys(context);
+        assertFalse(stopStrategy.shouldStop(context));
+        selector.selectKeys(context);
+
+        assertEquals(List.of("0", "7"), client.cursors);
+    }
+
+    /**
+     * 按游标返回预置结果页的 RedisClient
+     */
+    private static final class ScriptedRedisClient implements RedisClient {
+        private final Map<String, ScanPage> pages = new HashMap<>();
+        private final Set<String> failing = new HashSet<>();
+        private final List<String> cursors = new ArrayList<>();
+
+        void page(String cursor, String next, String... keys) {
+            pages.put(cursor, new ScanPage(next, List.of(keys)));
+        }
+
+        void failOnce(String cursor) {
+            failing.add(cursor);
+        }
+
+        @Override
+        public ScanPage scanStep(String pattern, String cursor, int count) {
+            cursors.add(cursor);
+            if (failing.remove(cursor)) {
+                throw new IllegalStateException("connection reset");
+            }
+            return pages.get(cursor);
+        }
+
+        @Override
+        public Collection<String> scan(String pattern, int count) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean expire(String key, long ttlSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Boolean> batchExpire(Collection<String> keys, long ttlSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Boolean> expireAsync(String key, long ttlSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Map<String, Boolean>> batchExpireAsync(Collection<String> keys, long ttlSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean exists(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long ttl(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package xyz.firestige.redis.renewal.spring.client;
 
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.ArrayOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.ClassUtils;
 import xyz.firestige.redis.renewal.RedisClient;
+import xyz.firestige.redis.renewal.ScanPage;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -39,6 +46,9 @@ public class SpringRedisClient implements RedisClient {
 
     private static final Logger log = LoggerFactory.getLogger(SpringRedisClient.class);
 
+    private static final boolean LETTUCE_PRESENT =
+        ClassUtils.isPresent("io.lettuce.core.output.ArrayOutput", SpringRedisClient.class.getClassLoader());
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public SpringRedisClient(RedisTemplate<String, String> redisTemplate) {
@@ -141,6 +151,63 @@ public class SpringRedisClient implements RedisClient {
         return keys;
     }
 
+    /**
+     * 从指定游标执行一步 SCAN
+     *
+     * <p>Spring Data Redis 的 {@link Cursor} 不支持从任意游标续扫，因此这里直接下发原生
+     * {@code SCAN cursor MATCH pattern COUNT count} 命令并解析回复。Lettuce 连接不带输出类型时
+     * 只返回第一个 bulk 回复（游标），必须显式指定 {@link ArrayOutput} 才能拿到
+     * {@code [cursor, [keys...]]} 的完整结构；其他驱动（如 Jedis）原样返回嵌套列表。
+     * 若回复结构仍无法识别，退化为一次完整扫描。
+     */
+    @Override
+    public ScanPage scanStep(String pattern, String cursor, int count) {
+        byte[][] args = {bytes(cursor), bytes("MATCH"), bytes(pattern), bytes("COUNT"), bytes(String.valueOf(count))};
+        // exposeConnection=true：拿到原始连接而非代理，才能识别 LettuceConnection
+        Object reply = redisTemplate.execute((RedisCallback<Object>) connection -> LETTUCE_PRESENT
+            ? LettuceScan.execute(connection, args)
+            : connection.execute("SCAN", args), true);
+
+        ScanPage page = parseScanReply(reply);
+        if (page != null) {
+            return page;
+        }
+
+        log.warn("无法解析 SCAN 回复，退化为完整扫描: pattern={}, reply={}", pattern, reply);
+        return ScanPage.complete(scan(pattern, count));
+    }
+
+    /**
+     * 解析 {@code [cursor, [keys...]]} 结构的 SCAN 回复，无法识别时返回 {@code null}
+     */
+    static ScanPage parseScanReply(Object reply) {
+        if (reply instanceof List<?> parts && parts.size() == 2 && parts.get(1) instanceof List<?> elements) {
+            String next = string(parts.get(0));
+            if (next != null) {
+                List<String> keys = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    String key = string(element);
+                    if (key != null) {
+                        keys.add(key);
+                    }
+                }
+                return new ScanPage(next, keys);
+            }
+        }
+        return null;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(Object value) {
+        if (value instanceof byte[] raw) {
+            return new String(raw, StandardCharsets.UTF_8);
+        }
+        return value != null ? value.toString() : null;
+    }
+
     @Override
     public boolean exists(String key) {
         try {
@@ -163,6 +230,19 @@ public class SpringRedisClient implements RedisClient {
         }
     }
 
+    /**
+     * Lettuce 专用的 SCAN 下发（独立类，Lettuce 不在类路径上时不会被加载）
+     */
+    private static final class LettuceScan {
+
+        static Object execute(RedisConnection connection, byte[][] args) {
+            if (connection instanceof LettuceConnection lettuce) {
+                return lettuce.execute("SCAN", new ArrayOutput<>(ByteArrayCodec.INSTANCE), args);
+            }
+            return connection.execute("SCAN", args);
+        }
+    }
+
     @Override
     public void close() {
         // Spring 管理 RedisTemplate 生命周期，不需要手动关闭
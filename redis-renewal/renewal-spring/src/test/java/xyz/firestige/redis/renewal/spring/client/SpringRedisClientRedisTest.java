@@ -0,0 +1,68 @@
+package xyz.firestige.redis.renewal.spring.client;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.firestige.redis.renewal.ScanPage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpringRedisClient 增量 SCAN 集成测试（真实 Redis + Lettuce，无 Docker 时跳过）
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SpringRedisClientRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void testScanStepWalksKeyspaceByCursor() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            redisTemplate.opsForValue().set("lock:" + i, "1");
+            expected.add("lock:" + i);
+        }
+        redisTemplate.opsForValue().set("other", "1");
+
+        SpringRedisClient client = new SpringRedisClient(redisTemplate);
+        Set<String> scanned = new HashSet<>();
+        String cursor = ScanPage.START_CURSOR;
+        int steps = 0;
+        do {
+            ScanPage page = client.scanStep("lock:*", cursor, 10);
+            scanned.addAll(page.getKeys());
+            cursor = page.getCursor();
+            steps++;
+        } while (!ScanPage.START_CURSOR.equals(cursor) && steps < 1000);
+
+        assertEquals(expected, scanned);
+        // 按游标分多步完成，而非退化为一次完整扫描
+        assertTrue(steps > 1, "steps=" + steps);
+    }
+}
@@ -0,0 +1,59 @@
+package xyz.firestige.redis.renewal.spring.client;
+
+import io.lettuce.core.output.ArrayOutput;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import xyz.firestige.redis.renewal.ScanPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SpringRedisClient 增量 SCAN 单元测试
+ */
+class SpringRedisClientTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScanStepOnLettuceRequestsArrayOutput() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        LettuceConnection connection = mock(LettuceConnection.class);
+        when(redisTemplate.execute(any(RedisCallback.class), eq(true)))
+            .thenAnswer(invocation -> invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection));
+        when(connection.execute(eq("SCAN"), any(ArrayOutput.class), any(byte[][].class)))
+            .thenReturn(List.of(bytes("17"), List.of(bytes("lock:a"), bytes("lock:b"))));
+
+        ScanPage page = new SpringRedisClient(redisTemplate).scanStep("lock:*", "5", 100);
+
+        assertEquals("17", page.getCursor());
+        assertEquals(List.of("lock:a", "lock:b"), List.copyOf(page.getKeys()));
+        ArgumentCaptor<byte[][]> args = ArgumentCaptor.forClass(byte[][].class);
+        verify(connection).execute(eq("SCAN"), any(ArrayOutput.class), args.capture());
+        assertEquals("5", new String(args.getValue()[0], StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testParseScanReply() {
+        ScanPage page = SpringRedisClient.parseScanReply(List.of(bytes("0"), List.of(bytes("lock:a"))));
+        assertTrue(page.isComplete());
+        assertEquals(List.of("lock:a"), List.copyOf(page.getKeys()));
+
+        // 未指定输出类型时 Lettuce 只返回游标
+        assertNull(SpringRedisClient.parseScanReply(bytes("17")));
+        assertNull(SpringRedisClient.parseScanReply(null));
+    }
+}